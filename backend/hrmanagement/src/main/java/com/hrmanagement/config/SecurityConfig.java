@@ -12,10 +12,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.hrmanagement.services.SessionTokenService;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -36,12 +39,14 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, SessionTokenService sessionTokenService) throws Exception {
         http
             // CORS yapılandırması
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             // 1. CSRF korumasını kapatıyoruz (REST API için gerekli)
             .csrf(AbstractHttpConfigurer::disable)
+            // Bearer token veritabanına gitmeden doğrulanır, kimlik SecurityContext'e konur
+            .addFilterBefore(new SessionTokenFilter(sessionTokenService), UsernamePasswordAuthenticationFilter.class)
             
             // 2. Tüm API endpoint'lerini açık hale getiriyoruz (geliştirme aşaması)
             .authorizeHttpRequests(auth -> auth
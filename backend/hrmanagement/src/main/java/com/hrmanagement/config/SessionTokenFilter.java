@@ -0,0 +1,76 @@
+package com.hrmanagement.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.hrmanagement.services.SessionTokenService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * "Authorization: Bearer {erişim token'ı}" başlığını veritabanına gitmeden doğrular ve
+ * kimliği SecurityContext'e koyar (principal: SessionTokenService.Session).
+ * Başlık yoksa istek olduğu gibi geçer; geçersiz ya da süresi dolmuş token 401 döner.
+ * Oturum açan uçlar (giriş, kayıt, yenileme) filtrelenmez: süresi dolmuş token taşıyan
+ * istemci yine giriş yapabilmeli ve token'ını yenileyebilmeli.
+ */
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private static final Set<String> AUTH_PATHS =
+            Set.of("/api/employees/login", "/api/employees/register", "/api/employees/refresh");
+
+    private final SessionTokenService tokenService;
+
+    public SessionTokenFilter(SessionTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return AUTH_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<SessionTokenService.Session> session =
+                tokenService.verify(header.substring(BEARER.length()).trim(), SessionTokenService.Type.ACCESS);
+        if (session.isEmpty()) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write("{\"message\":\"Oturum geçersiz veya süresi dolmuş\",\"error\":\"Unauthorized\"}");
+            return;
+        }
+
+        SessionTokenService.Session principal = session.get();
+        List<SimpleGrantedAuthority> authorities = principal.role() == null
+                ? List.of()
+                : List.of(new SimpleGrantedAuthority("ROLE_" + principal.role().name()));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities));
+        chain.doFilter(request, response);
+    }
+}
@@ -1,16 +1,27 @@
 package com.hrmanagement.controller;
 
+import com.hrmanagement.dto.DtoPayroll;
 import com.hrmanagement.dto.DtoPayrollGenerateRequest;
-import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.dto.DtoPayrollRecompute;
+import com.hrmanagement.dto.DtoPayrollRun;
+import com.hrmanagement.dto.DtoPayrollSimulation;
+import com.hrmanagement.dto.DtoPayrollSimulationRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 public interface IPayrollController {
-    ResponseEntity<Payroll> generate(DtoPayrollGenerateRequest req);
-    ResponseEntity<Payroll> getById(Long id);
-    ResponseEntity<Payroll> getByEmployeeAndPeriod(Long employeeId, int year, int month);
-    ResponseEntity<List<Payroll>> listByEmployeeYear(Long employeeId, int year);
-    ResponseEntity<List<Payroll>> getAllByEmployee(Long employeeId);
+    ResponseEntity<DtoPayroll> generate(DtoPayrollGenerateRequest req);
+    ResponseEntity<DtoPayroll> getById(Long id);
+    ResponseEntity<DtoPayroll> getByEmployeeAndPeriod(Long employeeId, int year, int month);
+    ResponseEntity<List<DtoPayroll>> listByEmployeeYear(Long employeeId, int year);
+    ResponseEntity<List<DtoPayroll>> getAllByEmployee(Long employeeId);
     ResponseEntity<Void> deletePayroll(Long id, Long requesterId);
+    ResponseEntity<DtoPayrollRecompute> recomputeStale(Integer year, Integer month, Long requesterId);
+    ResponseEntity<StreamingResponseBody> exportPayslips(int year, int month, Long requesterId);
+    ResponseEntity<DtoPayrollSimulation> simulate(DtoPayrollSimulationRequest req, Long requesterId);
+    ResponseEntity<DtoPayrollRun> startRun(DtoPayrollGenerateRequest req, Long requesterId);
+    ResponseEntity<DtoPayrollRun> getRun(Long id);
+    ResponseEntity<DtoPayrollRun> resumeRun(Long id, Long requesterId);
 }
@@ -1,21 +1,34 @@
 package com.hrmanagement.controller.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hrmanagement.controller.IAttandanceController;
 import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandanceEvent;
+import com.hrmanagement.dto.DtoAttandanceEventResult;
+import com.hrmanagement.dto.DtoAttandancePage;
+import com.hrmanagement.dto.DtoAttandanceTotalHours;
+import com.hrmanagement.services.AttendanceExportService;
 import com.hrmanagement.services.IAttandanceServices;
 
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("api/attandance")
@@ -48,6 +61,12 @@ public class AttandanceControllerImpl implements IAttandanceController {
         return iAttandanceServices.checkOutByQr(qrCode);
     }
 
+    @Override
+    @PostMapping(path = "/bulk")
+    public List<DtoAttandanceEventResult> processBulk(@RequestBody List<DtoAttandanceEvent> events) {
+        return iAttandanceServices.processBulk(events);
+    }
+
     @Override
     @PostMapping(path = "/save")
     public DtoAttandance saveRecord(@RequestBody DtoAttandance dtoAttandance) {
@@ -55,9 +74,13 @@ public class AttandanceControllerImpl implements IAttandanceController {
     }
 
     @Override
-    @GetMapping(path = "/totalhours")
-    public DtoAttandance getTotalHoursAttandance(@RequestBody DtoAttandance dtoAttandance) {
-        return iAttandanceServices.getTotalHoursAttandance(dtoAttandance);
+    @GetMapping(path = "/totalhours/{employeeId}")
+    public DtoAttandanceTotalHours getTotalHoursAttandance(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String groupBy) {
+        return iAttandanceServices.getTotalHoursAttandance(employeeId, startDate, endDate, groupBy);
     }
 
     @Override
@@ -101,6 +124,69 @@ public class AttandanceControllerImpl implements IAttandanceController {
         return iAttandanceServices.getAllRecordsByDate(date);
     }
 
+    @Override
+    @GetMapping(path = "/board/stats")
+    public Map<String, Object> getTodayBoardStats() {
+        return iAttandanceServices.getTodayBoardStats();
+    }
+
+    @Override
+    @GetMapping(path = "/recent/stats")
+    public Map<String, Object> getRecentCacheStats() {
+        return iAttandanceServices.getRecentCacheStats();
+    }
+
+    @Override
+    @PostMapping(path = "/summary/rebuild")
+    public Map<String, Object> rebuildMonthlySummary(@RequestParam Long requesterId) {
+        return iAttandanceServices.rebuildMonthlySummary(requesterId);
+    }
+
+    // Canlı akış: EventSource yeniden bağlanırken Last-Event-ID başlığını kendisi gönderir.
+    // Sadece bu sunucudaki değişiklikleri taşır; "reset" gelince (düzenli aralıkla da gelir) liste yeniden yüklenmeli.
+    @Override
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeFeed(
+            @RequestParam Long requesterId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return iAttandanceServices.subscribeFeed(requesterId, lastEventId);
+    }
+
+    @Override
+    @GetMapping(path = "/stream/stats")
+    public Map<String, Object> getFeedStats() {
+        return iAttandanceServices.getFeedStats();
+    }
+
+    // Dışa aktarım: satırlar okundukça yanıta yazılır; istemci kabul ediyorsa gzip ile sıkıştırılır
+    @Override
+    @GetMapping(path = "/export")
+    public ResponseEntity<StreamingResponseBody> exportRecords(
+            @RequestParam Long requesterId,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String department,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        AttendanceExportService.Format exportFormat = AttendanceExportService.Format.parse(format);
+        StreamingResponseBody body = iAttandanceServices.exportRecords(
+                requesterId, exportFormat, startDate, endDate, department);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.contentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"attendance." + exportFormat.extension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) {
+            return response.body(body);
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+            body.writeTo(gzip);
+            gzip.finish();
+        });
+    }
+
     @Override
     @PutMapping(path = "/{id}")
     public DtoAttandance updateRecord(@PathVariable Long id, @RequestBody DtoAttandance dtoAttandance, @RequestParam Long requesterId) {
@@ -115,11 +201,13 @@ public class AttandanceControllerImpl implements IAttandanceController {
 
     @Override
     @GetMapping(path = "/search")
-    public List<DtoAttandance> searchRecords(
+    public DtoAttandancePage searchRecords(
             @RequestParam(required = false) Long employeeId,
             @RequestParam(required = false) String employeeName,
             @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate) {
-        return iAttandanceServices.searchRecords(employeeId, employeeName, startDate, endDate);
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return iAttandanceServices.searchRecords(employeeId, employeeName, startDate, endDate, cursor, size);
     }
 }
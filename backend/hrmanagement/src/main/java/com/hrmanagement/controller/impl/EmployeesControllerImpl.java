@@ -1,8 +1,11 @@
 package com.hrmanagement.controller.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.hrmanagement.controller.IEmployeesController;
 import com.hrmanagement.dto.DtoEmployees;
@@ -32,10 +36,16 @@ public class EmployeesControllerImpl implements IEmployeesController {
 
     @Override
     @PostMapping(path = "/login")
-    public DtoEmployees loginEmployees(@RequestBody DtoEmployees dtoEmployees) {
+    public CompletableFuture<DtoEmployees> loginEmployees(@RequestBody DtoEmployees dtoEmployees) {
         return employeesServices.loginEmployees(dtoEmployees);
     }
 
+    @Override
+    @PostMapping(path = "/refresh")
+    public DtoEmployees refreshSession(@RequestBody DtoEmployees dtoEmployees) {
+        return employeesServices.refreshSession(dtoEmployees);
+    }
+
     @Override
     @GetMapping(path = "/all")
     public List<DtoEmployees> getAllEmployees() {
@@ -95,4 +105,28 @@ public class EmployeesControllerImpl implements IEmployeesController {
     public DtoEmployees regenerateQrCode(@PathVariable Long id) {
         return employeesServices.regenerateQrCode(id);
     }
+
+    @Override
+    @GetMapping(path = "/{id}/qr-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeQrCode(@PathVariable Long id) {
+        return employeesServices.subscribeQrCode(id);
+    }
+
+    @Override
+    @GetMapping(path = "/qr-stream/stats")
+    public Map<String, Object> getQrChannelStats() {
+        return employeesServices.getQrChannelStats();
+    }
+
+    @Override
+    @GetMapping(path = "/auth-cache/stats")
+    public Map<String, Object> getAuthorizationCacheStats() {
+        return employeesServices.getAuthorizationCacheStats();
+    }
+
+    @Override
+    @GetMapping(path = "/entity-cache/stats")
+    public Map<String, Object> getEntityCacheStats() {
+        return employeesServices.getEntityCacheStats();
+    }
 }
@@ -2,11 +2,19 @@
 package com.hrmanagement.controller.impl;
 
 import com.hrmanagement.controller.IPayrollController;
+import com.hrmanagement.dto.DtoPayroll;
 import com.hrmanagement.dto.DtoPayrollGenerateRequest;
-import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.dto.DtoPayrollRecompute;
+import com.hrmanagement.dto.DtoPayrollRun;
+import com.hrmanagement.dto.DtoPayrollSimulation;
+import com.hrmanagement.dto.DtoPayrollSimulationRequest;
+import com.hrmanagement.services.IPayrollRunServices;
 import com.hrmanagement.services.IPayrollServices;
+import com.hrmanagement.services.IPayrollSimulationServices;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,31 +23,36 @@ import java.util.List;
 public class PayrollControllerImpl implements IPayrollController {
 
     private final IPayrollServices payrollServices;
+    private final IPayrollRunServices payrollRunServices;
+    private final IPayrollSimulationServices payrollSimulationServices;
 
-    public PayrollControllerImpl(IPayrollServices payrollServices) {
+    public PayrollControllerImpl(IPayrollServices payrollServices, IPayrollRunServices payrollRunServices,
+                                 IPayrollSimulationServices payrollSimulationServices) {
         this.payrollServices = payrollServices;
+        this.payrollRunServices = payrollRunServices;
+        this.payrollSimulationServices = payrollSimulationServices;
     }
 
     @Override
     @PostMapping("/generate")
-    public ResponseEntity<Payroll> generate(@RequestBody DtoPayrollGenerateRequest req) {
+    public ResponseEntity<DtoPayroll> generate(@RequestBody DtoPayrollGenerateRequest req) {
         return ResponseEntity.ok(payrollServices.generatePayroll(req));
     }
 
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<Payroll> getById(@PathVariable Long id) {
+    public ResponseEntity<DtoPayroll> getById(@PathVariable Long id) {
         return ResponseEntity.ok(payrollServices.getById(id));
     }
 
     @Override
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<Payroll> getByEmployeeAndPeriod(
+    public ResponseEntity<DtoPayroll> getByEmployeeAndPeriod(
         @PathVariable Long employeeId,
         @RequestParam int year,
         @RequestParam int month
     ) {
-        Payroll payroll = payrollServices.getByEmployeeAndPeriod(employeeId, year, month);
+        DtoPayroll payroll = payrollServices.getByEmployeeAndPeriod(employeeId, year, month);
         if (payroll == null) {
             return ResponseEntity.notFound().build();
         }
@@ -48,13 +61,13 @@ public class PayrollControllerImpl implements IPayrollController {
 
     @Override
     @GetMapping("/employee/{employeeId}/year/{year}")
-    public ResponseEntity<List<Payroll>> listByEmployeeYear(@PathVariable Long employeeId, @PathVariable int year) {
+    public ResponseEntity<List<DtoPayroll>> listByEmployeeYear(@PathVariable Long employeeId, @PathVariable int year) {
         return ResponseEntity.ok(payrollServices.listByEmployeeYear(employeeId, year));
     }
 
     @Override
     @GetMapping("/employee/{employeeId}/all")
-    public ResponseEntity<List<Payroll>> getAllByEmployee(@PathVariable Long employeeId) {
+    public ResponseEntity<List<DtoPayroll>> getAllByEmployee(@PathVariable Long employeeId) {
         System.out.println("getAllByEmployee called with employeeId=" + employeeId);
         return ResponseEntity.ok(payrollServices.getAllByEmployee(employeeId));
     }
@@ -66,4 +79,52 @@ public class PayrollControllerImpl implements IPayrollController {
         payrollServices.deletePayroll(id, requesterId);
         return ResponseEntity.noContent().build();
     }
+
+    // Devam kaydı değişmiş bordroları yeniden hesaplar; year/month verilmezse tüm dönemler
+    @Override
+    @PostMapping("/recompute-stale")
+    public ResponseEntity<DtoPayrollRecompute> recomputeStale(@RequestParam(required = false) Integer year,
+                                                              @RequestParam(required = false) Integer month,
+                                                              @RequestParam Long requesterId) {
+        return ResponseEntity.ok(payrollServices.recomputeStale(year, month, requesterId));
+    }
+
+    // Dönemin tüm pusulaları (çalışan başına CSV + HTML) tek zip; yanıt üretildikçe gönderilir
+    @Override
+    @GetMapping("/payslips")
+    public ResponseEntity<StreamingResponseBody> exportPayslips(@RequestParam int year, @RequestParam int month,
+                                                                @RequestParam Long requesterId) {
+        StreamingResponseBody body = payrollServices.exportPayslips(year, month, requesterId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, "application/zip")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"payslips-" + year + "-" + String.format("%02d", month) + ".zip\"")
+                .body(body);
+    }
+
+    // Parametre setlerinin dönem maliyetini hesaplar; hiçbir bordro yazılmaz
+    @Override
+    @PostMapping("/simulate")
+    public ResponseEntity<DtoPayrollSimulation> simulate(@RequestBody DtoPayrollSimulationRequest req, @RequestParam Long requesterId) {
+        return ResponseEntity.ok(payrollSimulationServices.simulate(req, requesterId));
+    }
+
+    // Toplu bordro: dönemdeki tüm onaylı çalışanlar, arka planda parça parça
+    @Override
+    @PostMapping("/runs")
+    public ResponseEntity<DtoPayrollRun> startRun(@RequestBody DtoPayrollGenerateRequest req, @RequestParam Long requesterId) {
+        return ResponseEntity.accepted().body(payrollRunServices.startRun(req, requesterId));
+    }
+
+    @Override
+    @GetMapping("/runs/{id}")
+    public ResponseEntity<DtoPayrollRun> getRun(@PathVariable Long id) {
+        return ResponseEntity.ok(payrollRunServices.getRun(id));
+    }
+
+    @Override
+    @PostMapping("/runs/{id}/resume")
+    public ResponseEntity<DtoPayrollRun> resumeRun(@PathVariable Long id, @RequestParam Long requesterId) {
+        return ResponseEntity.accepted().body(payrollRunServices.resumeRun(id, requesterId));
+    }
 }
@@ -21,4 +21,10 @@ public class DtoAttandance {
     private String employeeName;
     private String status;
     private String newQrCode; // Giriş/çıkış sonrası yeni QR kodu
+
+    // Liste sorgularındaki JPQL constructor projection için (tek sorguda çalışan adıyla birlikte)
+    public DtoAttandance(Long id, LocalDate date, LocalTime checkInTime, LocalTime checkOutTime,
+                         Double hoursWorked, Long employeeId, String employeeName, String status) {
+        this(id, date, checkInTime, checkOutTime, hoursWorked, employeeId, employeeName, status, null);
+    }
 }
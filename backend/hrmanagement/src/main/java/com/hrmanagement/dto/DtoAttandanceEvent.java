@@ -0,0 +1,24 @@
+package com.hrmanagement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DtoAttandanceEvent {
+
+    public enum Type {
+        CHECK_IN, CHECK_OUT
+    }
+
+    private Type type;
+    private Long employeeId; // employeeId veya qrCode'dan biri gönderilmeli
+    private String qrCode;
+    private LocalDate date;  // Boşsa bugün
+    private LocalTime time;  // Boşsa şu an
+}
@@ -0,0 +1,16 @@
+package com.hrmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DtoAttandanceEventResult {
+
+    private int index;      // İstek dizisindeki sıra
+    private boolean success;
+    private String message; // Hata durumunda sebep
+    private DtoAttandance record; // İlgili gün kaydının toplu işlem sonundaki hali
+}
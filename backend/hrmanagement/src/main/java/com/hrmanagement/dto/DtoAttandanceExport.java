@@ -0,0 +1,25 @@
+package com.hrmanagement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Dışa aktarım satırı: JPQL constructor projection ile doğrudan okunur, entity yüklenmez
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DtoAttandanceExport {
+
+    private Long id;
+    private LocalDate date;
+    private LocalTime checkInTime;
+    private LocalTime checkOutTime;
+    private Double hoursWorked;
+    private String status;
+    private Long employeeId;
+    private String employeeName;
+    private String department;
+}
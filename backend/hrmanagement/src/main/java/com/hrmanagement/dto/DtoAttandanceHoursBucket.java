@@ -0,0 +1,19 @@
+package com.hrmanagement.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DtoAttandanceHoursBucket {
+
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Double hours;
+    private Long records;
+
+}
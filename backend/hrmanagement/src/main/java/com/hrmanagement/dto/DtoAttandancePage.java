@@ -0,0 +1,18 @@
+package com.hrmanagement.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DtoAttandancePage {
+
+    private List<DtoAttandance> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // Sonraki sayfa için search?cursor=... olarak gönderilir
+}
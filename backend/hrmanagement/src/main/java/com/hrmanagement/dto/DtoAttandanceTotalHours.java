@@ -0,0 +1,27 @@
+package com.hrmanagement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DtoAttandanceTotalHours {
+
+    private Long employeeId;
+    private LocalDate startDate; // null: tüm kayıtlar
+    private LocalDate endDate;
+    private String groupBy;      // none, day, week, month
+    private Double totalHours;
+    private Long records;
+    private LocalDate lastDate;
+    private LocalTime lastCheckInTime;
+    private LocalTime lastCheckOutTime;
+    private List<DtoAttandanceHoursBucket> buckets;
+
+}
@@ -27,4 +27,9 @@ public class DtoEmployees {
     private LocalDateTime approvedAt;
     private Long approvedBy;
 
+    // Giriş/yenileme yanıtında dolu gelir; /refresh isteğinde refreshToken gönderilir
+    private String accessToken;
+    private String refreshToken;
+    private Long accessTokenExpiresAt;
+
 }
@@ -0,0 +1,30 @@
+package com.hrmanagement.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Bordro okuma yanıtı: bordro kolonları + çalışan id/adı (Payroll entity'si ve çalışan grafiği yerine)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DtoPayroll {
+
+    private Long id;
+    private Long employeeId;
+    private String employeeName;
+    private int year;
+    private int month;
+    private BigDecimal baseSalary;
+    private BigDecimal totalWorkHours;
+    private BigDecimal overtimeHours;
+    private BigDecimal overtimePay;
+    private BigDecimal bonus;
+    private BigDecimal grossSalary;
+    private BigDecimal deductions;
+    private BigDecimal netSalary;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package com.hrmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DtoPayrollRecompute {
+
+    private Integer year;
+    private Integer month;
+
+    // Kapsamdaki bordrolar: bayat olanlar yeniden hesaplanır, güncel olanlar atlanır
+    private int stale;
+    private int recomputed;
+    private int upToDate;
+    private int failed;
+
+    // Revision'ı olmayan (bu özellikten önce üretilmiş) bordrolar; toplu bordro ile yeniden üretilmeli
+    private int untracked;
+
+    private List<String> errors = new ArrayList<>();
+
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+
+    public int getStale() { return stale; }
+    public void setStale(int stale) { this.stale = stale; }
+
+    public int getRecomputed() { return recomputed; }
+    public void setRecomputed(int recomputed) { this.recomputed = recomputed; }
+
+    public int getUpToDate() { return upToDate; }
+    public void setUpToDate(int upToDate) { this.upToDate = upToDate; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public int getUntracked() { return untracked; }
+    public void setUntracked(int untracked) { this.untracked = untracked; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+}
@@ -0,0 +1,67 @@
+package com.hrmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DtoPayrollRun {
+
+    private Long id;
+    private int year;
+    private int month;
+    private String status;
+
+    // Bu sunucuda şu an işleniyor mu (false + RUNNING: yarıda kalmış, devam ettirilebilir)
+    private boolean active;
+
+    private int employeeCount;
+    private int processedEmployees;
+
+    private int chunkCount;
+    private int completedChunks;
+    private int failedChunks;
+
+    private List<String> errors = new ArrayList<>();
+
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+
+    public int getMonth() { return month; }
+    public void setMonth(int month) { this.month = month; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+
+    public int getEmployeeCount() { return employeeCount; }
+    public void setEmployeeCount(int employeeCount) { this.employeeCount = employeeCount; }
+
+    public int getProcessedEmployees() { return processedEmployees; }
+    public void setProcessedEmployees(int processedEmployees) { this.processedEmployees = processedEmployees; }
+
+    public int getChunkCount() { return chunkCount; }
+    public void setChunkCount(int chunkCount) { this.chunkCount = chunkCount; }
+
+    public int getCompletedChunks() { return completedChunks; }
+    public void setCompletedChunks(int completedChunks) { this.completedChunks = completedChunks; }
+
+    public int getFailedChunks() { return failedChunks; }
+    public void setFailedChunks(int failedChunks) { this.failedChunks = failedChunks; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
@@ -0,0 +1,32 @@
+package com.hrmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DtoPayrollSimulation {
+
+    private int year;
+    private int month;
+    private int employeeCount;
+
+    // İstekteki sırayla; ilki taban
+    private List<DtoPayrollSimulationScenario> scenarios = new ArrayList<>();
+
+    // includeEmployees=false ise boş
+    private List<DtoPayrollSimulationEmployee> employees = new ArrayList<>();
+
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+
+    public int getMonth() { return month; }
+    public void setMonth(int month) { this.month = month; }
+
+    public int getEmployeeCount() { return employeeCount; }
+    public void setEmployeeCount(int employeeCount) { this.employeeCount = employeeCount; }
+
+    public List<DtoPayrollSimulationScenario> getScenarios() { return scenarios; }
+    public void setScenarios(List<DtoPayrollSimulationScenario> scenarios) { this.scenarios = scenarios; }
+
+    public List<DtoPayrollSimulationEmployee> getEmployees() { return employees; }
+    public void setEmployees(List<DtoPayrollSimulationEmployee> employees) { this.employees = employees; }
+}
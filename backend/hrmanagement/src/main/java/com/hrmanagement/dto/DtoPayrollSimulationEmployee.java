@@ -0,0 +1,37 @@
+package com.hrmanagement.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DtoPayrollSimulationEmployee {
+
+    private Long employeeId;
+    private BigDecimal totalWorkHours;
+
+    // Taban senaryodaki tutarlar
+    private BigDecimal baselineGross;
+    private BigDecimal baselineNet;
+
+    // Senaryo sırasıyla tabana göre farklar (ilk eleman 0)
+    private List<BigDecimal> grossDeltas = new ArrayList<>();
+    private List<BigDecimal> netDeltas = new ArrayList<>();
+
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+
+    public BigDecimal getTotalWorkHours() { return totalWorkHours; }
+    public void setTotalWorkHours(BigDecimal totalWorkHours) { this.totalWorkHours = totalWorkHours; }
+
+    public BigDecimal getBaselineGross() { return baselineGross; }
+    public void setBaselineGross(BigDecimal baselineGross) { this.baselineGross = baselineGross; }
+
+    public BigDecimal getBaselineNet() { return baselineNet; }
+    public void setBaselineNet(BigDecimal baselineNet) { this.baselineNet = baselineNet; }
+
+    public List<BigDecimal> getGrossDeltas() { return grossDeltas; }
+    public void setGrossDeltas(List<BigDecimal> grossDeltas) { this.grossDeltas = grossDeltas; }
+
+    public List<BigDecimal> getNetDeltas() { return netDeltas; }
+    public void setNetDeltas(List<BigDecimal> netDeltas) { this.netDeltas = netDeltas; }
+}
@@ -0,0 +1,28 @@
+package com.hrmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DtoPayrollSimulationRequest {
+
+    private int year;
+    private int month;
+
+    // İlki karşılaştırma tabanıdır; farklar ona göre hesaplanır. year/month/employeeId alanları kullanılmaz.
+    private List<DtoPayrollGenerateRequest> scenarios = new ArrayList<>();
+
+    // Çalışan bazında farklar da dönülsün mü (büyük şirketlerde yanıt büyür)
+    private boolean includeEmployees;
+
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+
+    public int getMonth() { return month; }
+    public void setMonth(int month) { this.month = month; }
+
+    public List<DtoPayrollGenerateRequest> getScenarios() { return scenarios; }
+    public void setScenarios(List<DtoPayrollGenerateRequest> scenarios) { this.scenarios = scenarios; }
+
+    public boolean isIncludeEmployees() { return includeEmployees; }
+    public void setIncludeEmployees(boolean includeEmployees) { this.includeEmployees = includeEmployees; }
+}
@@ -0,0 +1,47 @@
+package com.hrmanagement.dto;
+
+import java.math.BigDecimal;
+
+public class DtoPayrollSimulationScenario {
+
+    private int index;
+
+    // Tüm çalışanların toplamı
+    private BigDecimal totalOvertimePay;
+    private BigDecimal totalGross;
+    private BigDecimal totalDeductions;
+    private BigDecimal totalNet;
+
+    // Taban senaryoya göre fark (taban için 0)
+    private BigDecimal overtimePayDelta;
+    private BigDecimal grossDelta;
+    private BigDecimal deductionsDelta;
+    private BigDecimal netDelta;
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public BigDecimal getTotalOvertimePay() { return totalOvertimePay; }
+    public void setTotalOvertimePay(BigDecimal totalOvertimePay) { this.totalOvertimePay = totalOvertimePay; }
+
+    public BigDecimal getTotalGross() { return totalGross; }
+    public void setTotalGross(BigDecimal totalGross) { this.totalGross = totalGross; }
+
+    public BigDecimal getTotalDeductions() { return totalDeductions; }
+    public void setTotalDeductions(BigDecimal totalDeductions) { this.totalDeductions = totalDeductions; }
+
+    public BigDecimal getTotalNet() { return totalNet; }
+    public void setTotalNet(BigDecimal totalNet) { this.totalNet = totalNet; }
+
+    public BigDecimal getOvertimePayDelta() { return overtimePayDelta; }
+    public void setOvertimePayDelta(BigDecimal overtimePayDelta) { this.overtimePayDelta = overtimePayDelta; }
+
+    public BigDecimal getGrossDelta() { return grossDelta; }
+    public void setGrossDelta(BigDecimal grossDelta) { this.grossDelta = grossDelta; }
+
+    public BigDecimal getDeductionsDelta() { return deductionsDelta; }
+    public void setDeductionsDelta(BigDecimal deductionsDelta) { this.deductionsDelta = deductionsDelta; }
+
+    public BigDecimal getNetDelta() { return netDelta; }
+    public void setNetDelta(BigDecimal netDelta) { this.netDelta = netDelta; }
+}
@@ -0,0 +1,34 @@
+package com.hrmanagement.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Bordro pusulası satırı: dönem dışa aktarımında JPQL constructor projection ile okunur, entity yüklenmez
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DtoPayslip {
+
+    private Long payrollId;
+    private Long employeeId;
+    private String employeeName;
+    private String department;
+    private String position;
+    private int year;
+    private int month;
+    private Integer standardMonthlyHours;
+    private BigDecimal overtimeMultiplier;
+    private BigDecimal incomeTaxRate;
+    private BigDecimal baseSalary;
+    private BigDecimal totalWorkHours;
+    private BigDecimal overtimeHours;
+    private BigDecimal overtimePay;
+    private BigDecimal bonus;
+    private BigDecimal grossSalary;
+    private BigDecimal extraDeduction;
+    private BigDecimal deductions;
+    private BigDecimal netSalary;
+}
@@ -0,0 +1,64 @@
+package com.hrmanagement.entities;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Çalışan + ay bazında devam özeti. AttandanceServicesImpl'in her yazma/silme
+ * işleminde aynı transaction içinde artımlı güncellenir.
+ *
+ * totalHours, ayın hoursWorked değerlerinin BigDecimal.valueOf ile birebir
+ * toplamıdır. workedSeconds aynı sürenin tam saniye toplamıdır; bordro bunu kullanır.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "attendance_monthly_summary",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "year", "month"})
+)
+public class AttendanceMonthlySummary {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.SEQUENCE, generator = "attendance_monthly_summary_seq")
+    @SequenceGenerator(name = "attendance_monthly_summary_seq", sequenceName = "attendance_monthly_summary_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "year", nullable = false)
+    private int year;
+
+    @Column(name = "month", nullable = false)
+    private int month;
+
+    @Column(name = "total_hours", precision = 40, scale = 20, nullable = false)
+    private BigDecimal totalHours = BigDecimal.ZERO;
+
+    // Aynı süre tam saniye olarak (kayıt başına round(hoursWorked * 3600)); bordro hesabı bunu kullanır
+    @Column(name = "worked_seconds", nullable = false)
+    private long workedSeconds;
+
+    @Column(name = "days_present", nullable = false)
+    private int daysPresent;
+
+    // Çıkışı yapılmamış kayıt sayısı
+    @Column(name = "open_records", nullable = false)
+    private int openRecords;
+
+    // Her yazma/silmede artar; bordro hangi revision ile hesaplandığını saklar (Payroll.attendanceRevision)
+    @Column(name = "revision", nullable = false)
+    private long revision = 1;
+}
@@ -3,8 +3,12 @@ package com.hrmanagement.entities;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,8 +17,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -24,7 +30,14 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "employees")
+// Hemen her istekte okunur, nadiren değişir: ikinci seviye önbellekte tutulur. Önbellek düğüme
+// özeldir; başka düğümün değişiklikleri en geç 60 sn sonra görünür (bkz. hibernate-cache.conf)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+@Table(
+    name = "employees",
+    indexes = @Index(name = "idx_employees_status_created_at", columnList = "status, created_at")
+)
 public class Employees {
 
     public enum Role {
@@ -36,7 +49,8 @@ public class Employees {
     }
 
     @Id
-    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "first_name", nullable = false)
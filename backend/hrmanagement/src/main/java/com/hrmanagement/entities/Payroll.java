@@ -1,7 +1,6 @@
 
 package com.hrmanagement.entities;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 
 import java.math.BigDecimal;
@@ -12,17 +11,16 @@ import java.time.LocalDateTime;
     name = "payrolls",
     uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "year", "month"})
 )
-@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Payroll {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payrolls_seq")
+    @SequenceGenerator(name = "payrolls_seq", sequenceName = "payrolls_seq", allocationSize = 50)
     private Long id;
 
-    // Employees entity'nizdeki ilişki alanına göre uyarlayın:
-    @ManyToOne(fetch = FetchType.EAGER)
+    // Okuma uç noktaları DtoPayroll döner (PayrolRepository projeksiyonları); çalışan sadece gerektiğinde yüklenir
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
-    @JsonIgnoreProperties({"payroll", "attendance", "reviews", "password"})
     private Employees employee;
 
     @Column(nullable = false)
@@ -56,6 +54,21 @@ public class Payroll {
     @Column(precision = 19, scale = 2, nullable = false)
     private BigDecimal netSalary = BigDecimal.ZERO;
 
+    // Hesapta kullanılan parametreler; bayat bordro aynı değerlerle yeniden hesaplanır
+    private Integer standardMonthlyHours;
+
+    @Column(precision = 25, scale = 6)
+    private BigDecimal overtimeMultiplier;
+
+    @Column(precision = 25, scale = 6)
+    private BigDecimal incomeTaxRate;
+
+    @Column(precision = 25, scale = 6)
+    private BigDecimal extraDeduction;
+
+    // Hesap anındaki AttendanceMonthlySummary.revision (özet yoksa 0); eski bordrolarda null
+    private Long attendanceRevision;
+
     private LocalDateTime createdAt;
 
     @PrePersist
@@ -95,4 +108,21 @@ public class Payroll {
 
     public BigDecimal getNetSalary() { return netSalary; }
     public void setNetSalary(BigDecimal netSalary) { this.netSalary = netSalary; }
+
+    public Integer getStandardMonthlyHours() { return standardMonthlyHours; }
+    public void setStandardMonthlyHours(Integer standardMonthlyHours) { this.standardMonthlyHours = standardMonthlyHours; }
+
+    public BigDecimal getOvertimeMultiplier() { return overtimeMultiplier; }
+    public void setOvertimeMultiplier(BigDecimal overtimeMultiplier) { this.overtimeMultiplier = overtimeMultiplier; }
+
+    public BigDecimal getIncomeTaxRate() { return incomeTaxRate; }
+    public void setIncomeTaxRate(BigDecimal incomeTaxRate) { this.incomeTaxRate = incomeTaxRate; }
+
+    public BigDecimal getExtraDeduction() { return extraDeduction; }
+    public void setExtraDeduction(BigDecimal extraDeduction) { this.extraDeduction = extraDeduction; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public Long getAttendanceRevision() { return attendanceRevision; }
+    public void setAttendanceRevision(Long attendanceRevision) { this.attendanceRevision = attendanceRevision; }
 }
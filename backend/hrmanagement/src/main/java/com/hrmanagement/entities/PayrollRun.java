@@ -0,0 +1,73 @@
+package com.hrmanagement.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Bir dönem için tüm onaylı çalışanların bordrosunu üreten toplu çalıştırma.
+ * Parametre seti burada saklanır; kaldığı yerden devam ederken aynı değerler kullanılır.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "payroll_runs")
+public class PayrollRun {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_runs_seq")
+    @SequenceGenerator(name = "payroll_runs_seq", sequenceName = "payroll_runs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private int month;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.RUNNING;
+
+    // Parametreler (DtoPayrollGenerateRequest ile aynı)
+    private int standardMonthlyHours;
+
+    @Column(precision = 25, scale = 6)
+    private BigDecimal overtimeMultiplier;
+
+    @Column(precision = 25, scale = 6)
+    private BigDecimal incomeTaxRate;
+
+    @Column(precision = 25, scale = 6)
+    private BigDecimal bonus;
+
+    @Column(precision = 25, scale = 6)
+    private BigDecimal extraDeduction;
+
+    @Column(precision = 25, scale = 6)
+    private BigDecimal baseSalary;
+
+    private int chunkCount;
+
+    private int employeeCount;
+
+    private Long requestedBy;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    public void prePersist() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,56 @@
+package com.hrmanagement.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Toplu bordro çalıştırmasının bir parçası: [firstEmployeeId, lastEmployeeId] aralığındaki
+ * onaylı çalışanlar. Parçanın bordroları ve DONE durumu aynı transaction'da yazılır;
+ * bu yüzden devam ederken sadece DONE olmayan parçalar yeniden işlenir.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "payroll_run_chunks",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "chunk_index"})
+)
+public class PayrollRunChunk {
+
+    public enum Status {
+        PENDING, DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_run_chunks_seq")
+    @SequenceGenerator(name = "payroll_run_chunks_seq", sequenceName = "payroll_run_chunks_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(nullable = false)
+    private Long firstEmployeeId;
+
+    @Column(nullable = false)
+    private Long lastEmployeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    private int processedCount;
+
+    @Column(length = 1000)
+    private String error;
+
+    private LocalDateTime finishedAt;
+}
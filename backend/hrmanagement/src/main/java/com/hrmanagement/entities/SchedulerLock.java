@@ -0,0 +1,33 @@
+package com.hrmanagement.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Zamanlanmış işler için küme genelinde kira (lease) satırı; iş adı başına bir satır.
+ * lockedUntil geçene kadar iş sadece lockedBy düğümünde çalışır.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private Instant lockedUntil;
+
+    @Column(nullable = false)
+    private Instant lockedAt;
+
+    @Column(nullable = false)
+    private String lockedBy;
+}
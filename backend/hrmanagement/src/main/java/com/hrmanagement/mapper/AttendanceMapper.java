@@ -0,0 +1,37 @@
+package com.hrmanagement.mapper;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.entities.Attendance;
+
+/**
+ * Attendance <-> DtoAttandance dönüşümleri. Alanlar elle kopyalanır; BeanUtils'in her satırda
+ * yaptığı property descriptor taraması ve reflection çağrıları liste uç noktalarında pahalıydı
+ * (bkz. DtoMapperBenchmark).
+ */
+public final class AttendanceMapper {
+
+    private AttendanceMapper() {
+    }
+
+    public static DtoAttandance toDto(Attendance attendance) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setId(attendance.getId());
+        dto.setDate(attendance.getDate());
+        dto.setCheckInTime(attendance.getCheckInTime());
+        dto.setCheckOutTime(attendance.getCheckOutTime());
+        dto.setHoursWorked(attendance.getHoursWorked());
+        dto.setStatus(attendance.getStatus());
+        // Lazy ilişkide id proxy'den okunur, çalışan yüklenmez
+        if (attendance.getEmployee() != null) {
+            dto.setEmployeeId(attendance.getEmployee().getId());
+        }
+        return dto;
+    }
+
+    /** Önbellek/olaylarda paylaşılan DTO'nun bağımsız kopyası. */
+    public static DtoAttandance copy(DtoAttandance source) {
+        return new DtoAttandance(source.getId(), source.getDate(), source.getCheckInTime(),
+                source.getCheckOutTime(), source.getHoursWorked(), source.getEmployeeId(),
+                source.getEmployeeName(), source.getStatus(), source.getNewQrCode());
+    }
+}
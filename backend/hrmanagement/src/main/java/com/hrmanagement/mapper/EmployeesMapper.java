@@ -0,0 +1,53 @@
+package com.hrmanagement.mapper;
+
+import com.hrmanagement.dto.DtoEmployees;
+import com.hrmanagement.entities.Employees;
+
+/**
+ * Employees <-> DtoEmployees dönüşümleri. Şifre DTO'ya hiç kopyalanmaz; zaman tabanlı QR kodu
+ * servis katmanında doldurulur.
+ */
+public final class EmployeesMapper {
+
+    private EmployeesMapper() {
+    }
+
+    public static DtoEmployees toDto(Employees employee) {
+        DtoEmployees dto = new DtoEmployees();
+        dto.setId(employee.getId());
+        dto.setFirstname(employee.getFirstname());
+        dto.setLastname(employee.getLastname());
+        dto.setPosition(employee.getPosition());
+        dto.setDepartment(employee.getDepartment());
+        dto.setEmail(employee.getEmail());
+        dto.setPhoneNumber(employee.getPhoneNumber());
+        dto.setTcNo(employee.getTcNo());
+        dto.setQrCode(employee.getQrCode());
+        dto.setCreatedAt(employee.getCreatedAt());
+        dto.setApprovedAt(employee.getApprovedAt());
+        dto.setApprovedBy(employee.getApprovedBy());
+        if (employee.getRole() != null) {
+            dto.setRole(employee.getRole().name());
+        }
+        if (employee.getStatus() != null) {
+            dto.setStatus(employee.getStatus().name());
+        }
+        return dto;
+    }
+
+    /**
+     * Kayıt formundan yeni çalışan. Yalnızca başvuru sahibinin girdiği alanlar alınır;
+     * id, rol, durum, onay ve QR alanları istemciden kabul edilmez. Şifre çağıran tarafından hashlenir.
+     */
+    public static Employees toNewEntity(DtoEmployees dto) {
+        Employees employee = new Employees();
+        employee.setFirstname(dto.getFirstname());
+        employee.setLastname(dto.getLastname());
+        employee.setPosition(dto.getPosition());
+        employee.setDepartment(dto.getDepartment());
+        employee.setEmail(dto.getEmail());
+        employee.setPhoneNumber(dto.getPhoneNumber());
+        employee.setTcNo(dto.getTcNo());
+        return employee;
+    }
+}
@@ -0,0 +1,37 @@
+package com.hrmanagement.mapper;
+
+import com.hrmanagement.dto.DtoPayroll;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.entities.Payroll;
+
+/**
+ * Payroll entity'sinden DtoPayroll'a elle yazılmış dönüşüm. Okuma sorguları DTO'yu doğrudan
+ * üretir (PayrolRepository); bu sadece yeni yazılmış bordroyu döndürmek için kullanılır.
+ */
+public final class PayrollMapper {
+
+    private PayrollMapper() {
+    }
+
+    public static DtoPayroll toDto(Payroll payroll) {
+        DtoPayroll dto = new DtoPayroll();
+        dto.setId(payroll.getId());
+        Employees employee = payroll.getEmployee();
+        if (employee != null) {
+            dto.setEmployeeId(employee.getId());
+            dto.setEmployeeName(employee.getFirstname() + " " + employee.getLastname());
+        }
+        dto.setYear(payroll.getYear());
+        dto.setMonth(payroll.getMonth());
+        dto.setBaseSalary(payroll.getBaseSalary());
+        dto.setTotalWorkHours(payroll.getTotalWorkHours());
+        dto.setOvertimeHours(payroll.getOvertimeHours());
+        dto.setOvertimePay(payroll.getOvertimePay());
+        dto.setBonus(payroll.getBonus());
+        dto.setGrossSalary(payroll.getGrossSalary());
+        dto.setDeductions(payroll.getDeductions());
+        dto.setNetSalary(payroll.getNetSalary());
+        dto.setCreatedAt(payroll.getCreatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,38 @@
+package com.hrmanagement.mapper;
+
+import com.hrmanagement.dto.DtoReviews;
+import com.hrmanagement.dto.DtoReviewsIU;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.entities.Reviews;
+
+/** Reviews <-> DtoReviews / DtoReviewsIU dönüşümleri. */
+public final class ReviewsMapper {
+
+    private ReviewsMapper() {
+    }
+
+    public static DtoReviews toDto(Reviews reviews) {
+        return new DtoReviews(reviews.getId(), reviews.getReviewDate(), reviews.getReviewerName(),
+                reviews.getComments(), reviews.getRating(), employeeId(reviews), reviews.getReviewerId());
+    }
+
+    public static DtoReviewsIU toDtoIU(Reviews reviews) {
+        return new DtoReviewsIU(reviews.getId(), reviews.getReviewDate(), reviews.getReviewerName(),
+                reviews.getComments(), reviews.getRating(), employeeId(reviews), reviews.getReviewerId());
+    }
+
+    /** Yeni değerlendirme; tarih ve çalışan çağıran tarafından verilir. */
+    public static Reviews toNewEntity(DtoReviewsIU dto, Employees employee) {
+        Reviews reviews = new Reviews();
+        reviews.setReviewerName(dto.getReviewerName());
+        reviews.setComments(dto.getComments());
+        reviews.setRating(dto.getRating());
+        reviews.setEmployee(employee);
+        reviews.setReviewerId(dto.getReviewerId());
+        return reviews;
+    }
+
+    private static Long employeeId(Reviews reviews) {
+        return reviews.getEmployee() == null ? null : reviews.getEmployee().getId();
+    }
+}
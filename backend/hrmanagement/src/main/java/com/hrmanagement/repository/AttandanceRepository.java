@@ -1,16 +1,28 @@
 package com.hrmanagement.repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandanceExport;
 import com.hrmanagement.entities.Attendance;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface AttandanceRepository extends JpaRepository<Attendance, Long> {
+public interface AttandanceRepository extends JpaRepository<Attendance, Long>, JpaSpecificationExecutor<Attendance> {
 
     List<Attendance> findByEmployeeId(Long id);
 
@@ -21,10 +33,76 @@ public interface AttandanceRepository extends JpaRepository<Attendance, Long> {
     );
     
     Optional<Attendance> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
+
+    List<Attendance> findByEmployeeIdInAndDateIn(Collection<Long> employeeIds, Collection<LocalDate> dates);
     
-    List<Attendance> findByEmployeeIdOrderByDateDesc(Long employeeId);
+
+    Optional<Attendance> findFirstByEmployeeIdOrderByDateDescIdDesc(Long employeeId);
+
+    // Toplam saat: (employee_id, date) indeksinde aralık taraması, satırlar uygulamaya gelmez.
+    // date = aralıktaki son kayıt tarihi
+    @Query("select max(a.date) as date, sum(a.hoursWorked) as hours, count(a) as records from Attendance a "
+            + "where a.employee.id = :employeeId and a.date between :start and :end")
+    AttendanceHoursTotalView sumHours(Long employeeId, LocalDate start, LocalDate end);
+
+    // Günlük toplamlar (haftalık gruplama bunların üzerinden yapılır)
+    @Query("select a.date as date, sum(a.hoursWorked) as hours, count(a) as records from Attendance a "
+            + "where a.employee.id = :employeeId and a.date between :start and :end "
+            + "group by a.date order by a.date")
+    List<AttendanceHoursTotalView> sumHoursByDay(Long employeeId, LocalDate start, LocalDate end);
+
+    // Aylık toplamlar; date = ayın ilk kayıt tarihi
+    @Query("select min(a.date) as date, sum(a.hoursWorked) as hours, count(a) as records from Attendance a "
+            + "where a.employee.id = :employeeId and a.date between :start and :end "
+            + "group by year(a.date), month(a.date) order by min(a.date)")
+    List<AttendanceHoursTotalView> sumHoursByMonth(Long employeeId, LocalDate start, LocalDate end);
+
+    // Çıkış: kayıt hâlâ açıksa ve giriş saati hesapta kullanılanla aynıysa kapatır.
+    // Eşzamanlı iki çıkıştan sadece biri 1 satır etkiler.
+    @Modifying
+    @Query("update Attendance a set a.checkOutTime = :checkOutTime, a.hoursWorked = :hoursWorked "
+            + "where a.employee.id = :employeeId and a.date = :date "
+            + "and a.checkOutTime is null and a.checkInTime = :checkInTime")
+    int checkOutIfOpen(Long employeeId, LocalDate date, LocalTime checkInTime, LocalTime checkOutTime, Double hoursWorked);
     
     List<Attendance> findAllByOrderByDateDesc();
     
     List<Attendance> findByDateOrderByCheckInTimeDesc(LocalDate date);
-}
+
+    // Liste ekranları: çalışan adı join ile tek sorguda, entity yüklemeden DTO'ya
+    @Query("select new com.hrmanagement.dto.DtoAttandance(a.id, a.date, a.checkInTime, a.checkOutTime, "
+            + "a.hoursWorked, e.id, concat(e.firstname, ' ', e.lastname), a.status) "
+            + "from Attendance a join a.employee e order by a.date desc")
+    List<DtoAttandance> findAllDtoOrderByDateDesc();
+
+    @Query("select new com.hrmanagement.dto.DtoAttandance(a.id, a.date, a.checkInTime, a.checkOutTime, "
+            + "a.hoursWorked, e.id, concat(e.firstname, ' ', e.lastname), a.status) "
+            + "from Attendance a join a.employee e where a.date = :date order by a.checkInTime desc")
+    List<DtoAttandance> findDtoByDateOrderByCheckInTimeDesc(LocalDate date);
+
+    // Son kayıtlar: (employee_id, date) tekil indeksi geriye taranır, sadece ilk N satır okunur
+    @Query("select new com.hrmanagement.dto.DtoAttandance(a.id, a.date, a.checkInTime, a.checkOutTime, "
+            + "a.hoursWorked, e.id, concat(e.firstname, ' ', e.lastname), a.status) "
+            + "from Attendance a join a.employee e where a.employee.id = :employeeId order by a.date desc, a.id desc")
+    List<DtoAttandance> findRecentDto(Long employeeId, Pageable pageable);
+
+    @Query("select distinct year(a.date), month(a.date) from Attendance a")
+    List<Object[]> findDistinctMonths();
+
+    // Aylık özet yeniden hesaplama (ay ay): satırlar entity'ye dönüştürülmeden akış olarak okunur
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select a.employee.id as employeeId, a.date as date, a.hoursWorked as hoursWorked, "
+            + "a.checkOutTime as checkOutTime from Attendance a where a.date between :start and :end")
+    Stream<AttendanceHoursView> streamHoursBetween(LocalDate start, LocalDate end);
+
+    // Dışa aktarım: filtreler veritabanında, satırlar imleçle 1000'er okunur (bkz. useCursorFetch).
+    // Sıralama (date, check_in_time) indeksiyle aynıdır; sonucun tamamı sıralama için beklenmez
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new com.hrmanagement.dto.DtoAttandanceExport(a.id, a.date, a.checkInTime, a.checkOutTime, "
+            + "a.hoursWorked, a.status, e.id, concat(e.firstname, ' ', e.lastname), e.department) "
+            + "from Attendance a join a.employee e "
+            + "where (:start is null or a.date >= :start) and (:end is null or a.date <= :end) "
+            + "and (:department is null or e.department = :department) "
+            + "order by a.date, a.checkInTime, a.id")
+    Stream<DtoAttandanceExport> streamForExport(LocalDate start, LocalDate end, String department);
+}
\ No newline at end of file
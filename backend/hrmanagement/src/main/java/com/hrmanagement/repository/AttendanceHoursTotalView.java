@@ -0,0 +1,13 @@
+package com.hrmanagement.repository;
+
+import java.time.LocalDate;
+
+// Toplam saat sorgularının sonucu: tek satır (toplam) ya da grup başına bir satır
+public interface AttendanceHoursTotalView {
+
+    LocalDate getDate();
+
+    Double getHours();
+
+    Long getRecords();
+}
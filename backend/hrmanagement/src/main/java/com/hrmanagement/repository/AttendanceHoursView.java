@@ -0,0 +1,16 @@
+package com.hrmanagement.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Aylık özetin yeniden hesaplanması için devam kaydının sadece gereken kolonları
+public interface AttendanceHoursView {
+
+    Long getEmployeeId();
+
+    LocalDate getDate();
+
+    Double getHoursWorked();
+
+    LocalTime getCheckOutTime();
+}
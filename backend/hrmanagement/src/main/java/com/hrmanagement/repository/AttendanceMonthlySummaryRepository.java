@@ -0,0 +1,86 @@
+package com.hrmanagement.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hrmanagement.entities.AttendanceMonthlySummary;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface AttendanceMonthlySummaryRepository extends JpaRepository<AttendanceMonthlySummary, Long> {
+
+    Optional<AttendanceMonthlySummary> findByEmployeeIdAndYearAndMonth(Long employeeId, int year, int month);
+
+    List<AttendanceMonthlySummary> findByYearAndMonthAndEmployeeIdIn(int year, int month, Collection<Long> employeeIds);
+
+    @Query("select sum(s.totalHours) from AttendanceMonthlySummary s where s.employeeId = :employeeId")
+    BigDecimal sumTotalHoursByEmployeeId(Long employeeId);
+
+    @Query("select coalesce(sum(s.daysPresent), 0) from AttendanceMonthlySummary s where s.employeeId = :employeeId")
+    long sumDaysPresentByEmployeeId(Long employeeId);
+
+    List<AttendanceMonthlySummary> findByEmployeeIdOrderByYearAscMonthAsc(Long employeeId);
+
+    @Query("select s.employeeId, s.workedSeconds from AttendanceMonthlySummary s where s.year = :year and s.month = :month")
+    List<Object[]> findWorkedSecondsByYearAndMonth(int year, int month);
+
+    // Dönem özeti değişti mi kontrolü: her yazma revision'ı artırır. Sorgu önbelleğine alınmaz;
+    // başka düğümün yazmaları görünmeli
+    @Query("select count(s), coalesce(sum(s.revision), 0), coalesce(sum(s.employeeId), 0) "
+            + "from AttendanceMonthlySummary s where s.year = :year and s.month = :month")
+    List<Object[]> fingerprintByYearAndMonth(int year, int month);
+
+    @Query("select distinct s.year, s.month from AttendanceMonthlySummary s")
+    List<Object[]> findDistinctMonths();
+
+    // Ayın satırlarını yeniden hesaplama bitene kadar kilitler (select ... for update); aynı satırları
+    // artıran addDelta/upsertDelta transaction'ı kilit bırakılana kadar bekler
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AttendanceMonthlySummary s where s.year = :year and s.month = :month")
+    List<AttendanceMonthlySummary> lockByYearAndMonth(int year, int month);
+
+    // Tek satırlık atomik artırım; eşzamanlı yazmalarda kayıp güncelleme olmaz
+    @Transactional
+    @Modifying
+    @Query("update AttendanceMonthlySummary s set s.totalHours = s.totalHours + :hours, "
+            + "s.workedSeconds = s.workedSeconds + :seconds, s.daysPresent = s.daysPresent + :days, s.openRecords = s.openRecords + :open, "
+            + "s.revision = s.revision + 1 "
+            + "where s.employeeId = :employeeId and s.year = :year and s.month = :month")
+    int addDelta(Long employeeId, int year, int month, BigDecimal hours, long seconds, int days, int open);
+
+    // (çalışan, ay) satırı yoksa ekler, varsa addDelta gibi artırır. addDelta 0 satır
+    // güncellediğinde kullanılır: iki transaction aynı anda ilk satırı eklemeye çalışırsa
+    // ikincisi duplicate hatası almaz, bekleyip diğerinin satırını artırır.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "attendance_monthly_summary"))
+    @Query(value = "insert into attendance_monthly_summary "
+            + "(id, employee_id, year, month, total_hours, worked_seconds, days_present, open_records, revision) "
+            + "values (:id, :employeeId, :year, :month, :hours, :seconds, :days, :open, 1) "
+            + "on duplicate key update total_hours = total_hours + :hours, worked_seconds = worked_seconds + :seconds, "
+            + "days_present = days_present + :days, open_records = open_records + :open, "
+            + "revision = revision + 1", nativeQuery = true)
+    int upsertDelta(Long id, Long employeeId, int year, int month, BigDecimal hours, long seconds, int days, int open);
+
+    @Transactional
+    @Modifying
+    @Query("delete from AttendanceMonthlySummary s where s.employeeId = :employeeId")
+    int deleteByEmployeeId(Long employeeId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from AttendanceMonthlySummary s")
+    int deleteAllRows();
+}
@@ -0,0 +1,88 @@
+package com.hrmanagement.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.Employees;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Devam kaydı araması için dinamik sorgu parçaları.
+ * Filtre boş gelirse Specification.unrestricted() döner, böylece allOf ile serbestçe birleştirilebilir.
+ */
+public final class AttendanceSpecifications {
+
+    private AttendanceSpecifications() {
+    }
+
+    /**
+     * Çalışanı aynı sorguda fetch join ile getirir (satır başına ek SELECT olmaz).
+     * Count sorgularında fetch yapılamayacağı için atlanır.
+     */
+    public static Specification<Attendance> fetchEmployee() {
+        return (root, query, cb) -> {
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                root.fetch("employee");
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Attendance> hasEmployee(Long employeeId) {
+        if (employeeId == null) return Specification.unrestricted();
+        return (root, query, cb) -> cb.equal(root.get("employee").get("id"), employeeId);
+    }
+
+    public static Specification<Attendance> employeeNameContains(String employeeName) {
+        if (employeeName == null || employeeName.isBlank()) return Specification.unrestricted();
+        String pattern = "%" + employeeName + "%";
+        // Her iki taraf da veritabanında küçültülür: JVM yereline bağlı toLowerCase (İ/ı) eşleşmeyi bozmaz
+        return (root, query, cb) -> {
+            Join<Attendance, Employees> employee = employeeJoin(root);
+            Expression<String> fullName = cb.concat(
+                    cb.concat(employee.<String>get("firstname"), " "),
+                    employee.<String>get("lastname"));
+            return cb.like(cb.lower(fullName), cb.lower(cb.literal(pattern)));
+        };
+    }
+
+    public static Specification<Attendance> dateFrom(LocalDate start) {
+        if (start == null) return Specification.unrestricted();
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), start);
+    }
+
+    public static Specification<Attendance> dateTo(LocalDate end) {
+        if (end == null) return Specification.unrestricted();
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), end);
+    }
+
+    /**
+     * Keyset (seek) koşulu: (date, id) sıralamasında imlecin gösterdiği kayıttan sonrakiler.
+     * Sıralama date DESC, id DESC olduğu için "sonraki" = daha küçük anahtar.
+     */
+    public static Specification<Attendance> after(LocalDate cursorDate, Long cursorId) {
+        if (cursorDate == null || cursorId == null) return Specification.unrestricted();
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("date"), cursorDate),
+                cb.and(
+                        cb.equal(root.get("date"), cursorDate),
+                        cb.lessThan(root.get("id"), cursorId)));
+    }
+
+    // fetchEmployee() daha önce eklendiyse aynı join'i kullan, ikinci bir join açma
+    @SuppressWarnings("unchecked")
+    private static Join<Attendance, Employees> employeeJoin(Root<Attendance> root) {
+        for (Fetch<Attendance, ?> fetch : root.getFetches()) {
+            if ("employee".equals(fetch.getAttribute().getName()) && fetch instanceof Join<?, ?> join) {
+                return (Join<Attendance, Employees>) join;
+            }
+        }
+        return root.join("employee");
+    }
+}
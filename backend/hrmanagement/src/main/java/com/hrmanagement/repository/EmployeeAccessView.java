@@ -0,0 +1,14 @@
+package com.hrmanagement.repository;
+
+import com.hrmanagement.entities.Employees.Role;
+import com.hrmanagement.entities.Employees.Status;
+
+// Yetki kontrolü için çalışanın sadece rol, departman ve durum kolonları
+public interface EmployeeAccessView {
+
+    Role getRole();
+
+    String getDepartment();
+
+    Status getStatus();
+}
@@ -2,24 +2,51 @@ package com.hrmanagement.repository;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.hrmanagement.entities.Employees;
 import com.hrmanagement.entities.Employees.Status;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
 
 @Repository
 public interface EmployeesRepository extends JpaRepository<Employees, Long> {
 
     Optional<Employees> findByEmail(String email);
     
+    // Sorgu önbelleğine alınmaz: önbellek düğüme özeldir, başka düğümde yenilenen eski kod
+    // burada süre dolana kadar çözülmeye devam ederdi (tekrar oynatma)
     Optional<Employees> findFirstByQrCode(String qrCode);
+
+    List<Employees> findByQrCodeIn(Collection<String> qrCodes);
+
+    // QR kanalı: bağlı çalışanların saklanan kodları, başka düğümde yapılan yenilemeleri görmek için
+    @Query("select e.id, e.qrCode from Employees e where e.id in :ids")
+    List<Object[]> findQrCodesByIdIn(Collection<Long> ids);
     
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Employees> findByStatus(Status status);
     
     List<Employees> findByStatusOrderByCreatedAtDesc(Status status);
 
+    @Query("select e.id from Employees e where e.status = :status order by e.id")
+    List<Long> findIdsByStatus(Status status);
+
+    // Küme değişti mi kontrolü (PayrollSimulationServicesImpl): sayı ve id toplamı. Sorgu önbelleğine
+    // alınmaz; başka düğümün yazmaları görünmeli
+    @Query("select count(e), coalesce(sum(e.id), 0) from Employees e where e.status = :status")
+    List<Object[]> fingerprintByStatus(Status status);
+
+    List<Employees> findByStatusAndIdBetweenOrderById(Status status, Long firstId, Long lastId);
+
+    @Query("select e.role as role, e.department as department, e.status as status from Employees e where e.id = :id")
+    Optional<EmployeeAccessView> findAccessById(Long id);
+
 }
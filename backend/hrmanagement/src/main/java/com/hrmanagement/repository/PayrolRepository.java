@@ -1,14 +1,21 @@
 
 package com.hrmanagement.repository;
 
+import com.hrmanagement.dto.DtoPayroll;
+import com.hrmanagement.dto.DtoPayslip;
 import com.hrmanagement.entities.Payroll;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PayrolRepository extends JpaRepository<Payroll, Long> {
 
@@ -18,8 +25,57 @@ public interface PayrolRepository extends JpaRepository<Payroll, Long> {
 
     List<Payroll> findAllByYearAndMonth(int year, int month);
 
+    List<Payroll> findAllByYearAndMonthAndEmployee_IdIn(int year, int month, Collection<Long> employeeIds);
+
     List<Payroll> findAllByEmployee_IdOrderByYearDescMonthDesc(Long employeeId);
 
+    // Bayat bordrolar: hesaplandığı revision ile dönemin güncel özet revision'ı farklı (özet yoksa 0)
+    @Query("select p.id from Payroll p left join AttendanceMonthlySummary s "
+            + "on s.employeeId = p.employee.id and s.year = p.year and s.month = p.month "
+            + "where p.attendanceRevision is not null and coalesce(s.revision, 0) <> p.attendanceRevision "
+            + "and (:year is null or p.year = :year) and (:month is null or p.month = :month) "
+            + "order by p.id")
+    List<Long> findStaleIds(Integer year, Integer month);
+
+    @Query("select count(p), sum(case when p.attendanceRevision is null then 1 else 0 end) from Payroll p "
+            + "where (:year is null or p.year = :year) and (:month is null or p.month = :month)")
+    List<Object[]> countTracked(Integer year, Integer month);
+
+    @Query("select p from Payroll p join fetch p.employee where p.id in :ids")
+    List<Payroll> findAllWithEmployeeByIdIn(Collection<Long> ids);
+
+    // Okuma uç noktaları: bordro kolonları ve çalışan id/adı tek sorguda, entity yüklemeden DTO'ya
+    @Query("select new com.hrmanagement.dto.DtoPayroll(p.id, e.id, concat(e.firstname, ' ', e.lastname), p.year, p.month, "
+            + "p.baseSalary, p.totalWorkHours, p.overtimeHours, p.overtimePay, p.bonus, p.grossSalary, p.deductions, "
+            + "p.netSalary, p.createdAt) from Payroll p join p.employee e where p.id = :id")
+    Optional<DtoPayroll> findDtoById(Long id);
+
+    @Query("select new com.hrmanagement.dto.DtoPayroll(p.id, e.id, concat(e.firstname, ' ', e.lastname), p.year, p.month, "
+            + "p.baseSalary, p.totalWorkHours, p.overtimeHours, p.overtimePay, p.bonus, p.grossSalary, p.deductions, "
+            + "p.netSalary, p.createdAt) from Payroll p join p.employee e "
+            + "where e.id = :employeeId and p.year = :year and p.month = :month")
+    Optional<DtoPayroll> findDtoByEmployeeAndPeriod(Long employeeId, int year, int month);
+
+    @Query("select new com.hrmanagement.dto.DtoPayroll(p.id, e.id, concat(e.firstname, ' ', e.lastname), p.year, p.month, "
+            + "p.baseSalary, p.totalWorkHours, p.overtimeHours, p.overtimePay, p.bonus, p.grossSalary, p.deductions, "
+            + "p.netSalary, p.createdAt) from Payroll p join p.employee e "
+            + "where e.id = :employeeId and p.year = :year order by p.month")
+    List<DtoPayroll> findDtoByEmployeeAndYear(Long employeeId, int year);
+
+    @Query("select new com.hrmanagement.dto.DtoPayroll(p.id, e.id, concat(e.firstname, ' ', e.lastname), p.year, p.month, "
+            + "p.baseSalary, p.totalWorkHours, p.overtimeHours, p.overtimePay, p.bonus, p.grossSalary, p.deductions, "
+            + "p.netSalary, p.createdAt) from Payroll p join p.employee e "
+            + "where e.id = :employeeId order by p.year desc, p.month desc")
+    List<DtoPayroll> findDtoByEmployeeOrderByYearDescMonthDesc(Long employeeId);
+
+    // Pusula dışa aktarımı: dönemin bordroları imleçle 1000'er okunur (bkz. useCursorFetch); zip'teki sıra çalışan id'sidir
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new com.hrmanagement.dto.DtoPayslip(p.id, e.id, concat(e.firstname, ' ', e.lastname), e.department, "
+            + "e.position, p.year, p.month, p.standardMonthlyHours, p.overtimeMultiplier, p.incomeTaxRate, p.baseSalary, "
+            + "p.totalWorkHours, p.overtimeHours, p.overtimePay, p.bonus, p.grossSalary, p.extraDeduction, p.deductions, "
+            + "p.netSalary) from Payroll p join p.employee e where p.year = :year and p.month = :month order by e.id")
+    Stream<DtoPayslip> streamPayslips(int year, int month);
+
     @Transactional
     @Modifying
     @Query("delete from Payroll p where p.id = :id")
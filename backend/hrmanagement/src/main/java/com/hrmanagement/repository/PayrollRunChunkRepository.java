@@ -0,0 +1,19 @@
+package com.hrmanagement.repository;
+
+import com.hrmanagement.entities.PayrollRunChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PayrollRunChunkRepository extends JpaRepository<PayrollRunChunk, Long> {
+
+    List<PayrollRunChunk> findByRunIdAndStatusNotOrderByChunkIndex(Long runId, PayrollRunChunk.Status status);
+
+    // İlerleme: durum başına parça sayısı ve işlenen çalışan sayısı
+    @Query("select c.status, count(c), sum(c.processedCount) from PayrollRunChunk c "
+            + "where c.runId = :runId group by c.status")
+    List<Object[]> summarizeByRunId(Long runId);
+
+    List<PayrollRunChunk> findByRunIdAndStatusOrderByChunkIndex(Long runId, PayrollRunChunk.Status status);
+}
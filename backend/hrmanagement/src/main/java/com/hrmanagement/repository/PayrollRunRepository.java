@@ -0,0 +1,7 @@
+package com.hrmanagement.repository;
+
+import com.hrmanagement.entities.PayrollRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+}
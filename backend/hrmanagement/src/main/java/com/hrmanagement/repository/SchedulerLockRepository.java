@@ -0,0 +1,32 @@
+package com.hrmanagement.repository;
+
+import com.hrmanagement.entities.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+import java.time.Instant;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // Kira boştaysa (süresi dolmuşsa) ya da zaten bu düğümdeyse al/uzat; tek satırlık koşullu update
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :node "
+            + "where l.name = :name and (l.lockedUntil <= :now or l.lockedBy = :node)")
+    int acquire(String name, String node, Instant now, Instant until);
+
+    // Satır yoksa ilk alan düğüm ekler; aynı anda ekleyenlerden biri birincil anahtara takılır
+    // Native sorgunun etkilediği tablo belirtilmezse Hibernate tüm ikinci seviye önbelleği boşaltır
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "scheduler_locks"))
+    @Query(value = "insert into scheduler_locks (name, locked_until, locked_at, locked_by) "
+            + "values (:name, :until, :now, :node)", nativeQuery = true)
+    int insert(String name, String node, Instant now, Instant until);
+
+    @Modifying
+    @Query("update SchedulerLock l set l.lockedUntil = :now where l.name = :name and l.lockedBy = :node")
+    int release(String name, String node, Instant now);
+}
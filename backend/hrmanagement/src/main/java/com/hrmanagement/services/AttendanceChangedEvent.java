@@ -0,0 +1,23 @@
+package com.hrmanagement.services;
+
+import com.hrmanagement.dto.DtoAttandance;
+
+/**
+ * AttandanceServicesImpl bir devam kaydını yazdığında/sildiğinde yayınlanır.
+ * record, kaydın yazma sonrası (silmede silinmeden önceki) halidir;
+ * previous, güncellenen kaydın yazma öncesi halidir (yeni kayıt ve silmede null).
+ */
+public record AttendanceChangedEvent(Type type, DtoAttandance record, DtoAttandance previous) {
+
+    public enum Type {
+        SAVED, DELETED
+    }
+
+    public static AttendanceChangedEvent saved(DtoAttandance record, DtoAttandance previous) {
+        return new AttendanceChangedEvent(Type.SAVED, record, previous);
+    }
+
+    public static AttendanceChangedEvent deleted(DtoAttandance record) {
+        return new AttendanceChangedEvent(Type.DELETED, record, null);
+    }
+}
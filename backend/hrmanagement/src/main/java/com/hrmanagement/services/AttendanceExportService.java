@@ -0,0 +1,148 @@
+package com.hrmanagement.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrmanagement.dto.DtoAttandanceExport;
+import com.hrmanagement.repository.AttandanceRepository;
+
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Devam kayıtlarını NDJSON ya da CSV olarak doğrudan çıkış akışına yazar.
+ *
+ * Satırlar salt okunur bir transaction içinde imleçle okunur ve okundukça yazılır;
+ * bellekte tüm tablo değil, sadece fetch size kadar satır ve yazma tamponu bulunur.
+ * Yanıt boyunca bir bağlantı tutulduğundan aynı anda çalışan dışa aktarımlar ExportLimiter
+ * ile sınırlıdır.
+ */
+@Service
+public class AttendanceExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            if (value == null || value.isBlank()) {
+                return NDJSON;
+            }
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new RuntimeException("Geçersiz dışa aktarım formatı: " + value + " (ndjson veya csv)");
+        }
+    }
+
+    private static final String CSV_HEADER =
+            "id,date,checkInTime,checkOutTime,hoursWorked,status,employeeId,employeeName,department";
+
+    private static final int WRITE_BUFFER_CHARS = 64 * 1024;
+
+    private final AttandanceRepository attandanceRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter rowWriter;
+    private final ExportLimiter exportLimiter;
+
+    public AttendanceExportService(AttandanceRepository attandanceRepository,
+                                   PlatformTransactionManager transactionManager, JsonMapper jsonMapper,
+                                   ExportLimiter exportLimiter) {
+        this.attandanceRepository = attandanceRepository;
+        this.exportLimiter = exportLimiter;
+        this.readOnlyTransaction = ExportSupport.readOnlyTransaction(transactionManager);
+        // Her satır aynı Writer'a yazılır; satır sonunda akış kapatılmamalı
+        this.rowWriter = jsonMapper.writerFor(DtoAttandanceExport.class)
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Filtreye uyan satırları tarih, giriş saati sırasıyla yazar ve yazılan satır sayısını döner.
+     * Sınırda başka dışa aktarımlar çalışıyorsa hiçbir şey yazmadan reddeder.
+     */
+    public long export(Format format, LocalDate start, LocalDate end, String department, OutputStream out)
+            throws IOException {
+        exportLimiter.acquire();
+        try {
+            return write(format, start, end, department, out);
+        } finally {
+            exportLimiter.release();
+        }
+    }
+
+    private long write(Format format, LocalDate start, LocalDate end, String department, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        long rows = ExportSupport.inTransaction(readOnlyTransaction, () -> {
+            long count = 0;
+            try (Stream<DtoAttandanceExport> stream = attandanceRepository.streamForExport(start, end, department)) {
+                for (DtoAttandanceExport row : (Iterable<DtoAttandanceExport>) stream::iterator) {
+                    if (format == Format.CSV) {
+                        writeCsv(writer, row);
+                    } else {
+                        rowWriter.writeValue(writer, row);
+                        writer.write('\n');
+                    }
+                    count++;
+                }
+            }
+            return count;
+        });
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeCsv(Writer writer, DtoAttandanceExport row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getDate()));
+        writer.write(',');
+        ExportSupport.writeCsvValue(writer, row.getCheckInTime());
+        writer.write(',');
+        ExportSupport.writeCsvValue(writer, row.getCheckOutTime());
+        writer.write(',');
+        ExportSupport.writeCsvValue(writer, row.getHoursWorked());
+        writer.write(',');
+        ExportSupport.writeCsvValue(writer, row.getStatus());
+        writer.write(',');
+        ExportSupport.writeCsvValue(writer, row.getEmployeeId());
+        writer.write(',');
+        ExportSupport.writeCsvValue(writer, row.getEmployeeName());
+        writer.write(',');
+        ExportSupport.writeCsvValue(writer, row.getDepartment());
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,301 @@
+package com.hrmanagement.services;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.mapper.AttendanceMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Devam değişikliklerinin canlı akışı (Server-Sent Events).
+ *
+ * AttendanceChangedEvent commit sonrası sıra numarası alır, son historySize olay geçmişte
+ * tutulur ve her aboneye iletilir. Her abonenin sınırlı bir kuyruğu vardır; yavaş abonede
+ * kuyruk dolunca en eski olay düşürülür ve bir sonraki gönderimde "dropped" olayı ile
+ * bildirilir (istemci listeyi yeniden yüklemeli). Yeniden bağlanan istemci Last-Event-ID
+ * ile kaldığı yerden devam eder; id geçmişte yoksa ya da sunucu yeniden başladıysa
+ * "reset" olayı gönderilir. Olay id'si "epoch-sıra" biçimindedir.
+ *
+ * Akış süreç içidir: sadece bu düğümde commit edilen değişiklikleri taşır. Birden fazla
+ * düğümde diğer düğümlerin yazmaları akışa hiç gelmez; bu yüzden her abone
+ * hr.attendance.feed.resync-seconds aralıkla bir "reset" alır ve listeyi yeniden yükler.
+ * Akış bu aralıkta bir anlık görüntünün üzerine gelen artımlar olarak kullanılmalıdır.
+ */
+@Component
+public class AttendanceFeed {
+
+    public static final String CHECK_IN = "check-in";
+    public static final String CHECK_OUT = "check-out";
+    public static final String EDIT = "edit";
+    public static final String DELETE = "delete";
+    public static final String DROPPED = "dropped";
+    public static final String RESET = "reset";
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    record FeedEvent(long sequence, String name, DtoAttandance data) {
+    }
+
+    // Sunucu yeniden başlayınca eski id'ler geçersiz olur
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final int bufferSize;
+    private final int historySize;
+
+    // Geçmiş ve sıra numarası bu nesnenin kilidiyle korunur; abonelere iletim de aynı
+    // kilit altında yapılır, böylece her abone olayları sıra numarası sırasıyla alır
+    private final ArrayDeque<FeedEvent> history = new ArrayDeque<>();
+    private long lastSequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("attendance-feed-", 0).factory());
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong resyncs = new AtomicLong();
+
+    public AttendanceFeed(@Value("${hr.attendance.feed.buffer-size:256}") int bufferSize,
+                          @Value("${hr.attendance.feed.history-size:1000}") int historySize) {
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        register(emitter, lastEventId);
+        return emitter;
+    }
+
+    /** Emitter'ı abone yapar; lastEventId sonrası geçmişteki olaylar önce gönderilir. */
+    public void register(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        synchronized (this) {
+            Long resumeAfter = parseSequence(lastEventId);
+            if (resumeAfter != null) {
+                long oldestKept = history.isEmpty() ? lastSequence + 1 : history.peekFirst().sequence();
+                if (resumeAfter > lastSequence || resumeAfter < oldestKept - 1) {
+                    subscriber.offer(new FeedEvent(0, RESET, null));
+                } else {
+                    for (FeedEvent event : history) {
+                        if (event.sequence() > resumeAfter) {
+                            subscriber.offer(event);
+                        }
+                    }
+                }
+            } else if (lastEventId != null && !lastEventId.isBlank()) {
+                subscriber.offer(new FeedEvent(0, RESET, null));
+            }
+            subscribers.add(subscriber);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        if (event.record() == null) {
+            return;
+        }
+        DtoAttandance data = AttendanceMapper.copy(event.record());
+        data.setNewQrCode(null);
+
+        synchronized (this) {
+            FeedEvent feedEvent = new FeedEvent(++lastSequence, nameOf(event), data);
+            history.addLast(feedEvent);
+            while (history.size() > historySize) {
+                history.pollFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(feedEvent);
+            }
+        }
+        published.incrementAndGet();
+    }
+
+    // Diğer düğümlerin yazmaları akışa gelmez: aboneler listeyi düzenli aralıkla yeniden yükler.
+    // Sıra numarası almaz; Last-Event-ID ile devam etkilenmez.
+    @Scheduled(fixedRateString = "${hr.attendance.feed.resync-seconds:60}",
+            initialDelayString = "${hr.attendance.feed.resync-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void resync() {
+        FeedEvent reset = new FeedEvent(0, RESET, null);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(reset);
+        }
+        resyncs.incrementAndGet();
+    }
+
+    // Proxy'lerin boşta bağlantıyı kapatmaması için; akış süreç içi olduğundan kira alınmaz
+    @Scheduled(fixedRate = 15000)
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscribers.size());
+        stats.put("published", published.get());
+        stats.put("dropped", dropped.get());
+        stats.put("resyncs", resyncs.get());
+        synchronized (this) {
+            stats.put("lastEventId", lastSequence == 0 ? null : epoch + "-" + lastSequence);
+            stats.put("historySize", history.size());
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        sender.shutdownNow();
+    }
+
+    static String nameOf(AttendanceChangedEvent event) {
+        if (event.type() == AttendanceChangedEvent.Type.DELETED) {
+            return DELETE;
+        }
+        DtoAttandance previous = event.previous();
+        DtoAttandance record = event.record();
+        if (previous == null) {
+            return CHECK_IN;
+        }
+        boolean closedOnly = previous.getCheckOutTime() == null && record.getCheckOutTime() != null
+                && equal(previous.getDate(), record.getDate())
+                && equal(previous.getCheckInTime(), record.getCheckInTime());
+        return closedOnly ? CHECK_OUT : EDIT;
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    // "epoch-sıra" ise sıra, değilse (başka epoch ya da bozuk) null
+    private Long parseSequence(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** Sınırlı kuyruk; gönderim, abone başına en fazla bir sanal thread ile sırayla yapılır. */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<FeedEvent> queue = new ArrayDeque<>();
+        private int droppedSinceLastSend;
+        private boolean draining;
+        private boolean heartbeatPending;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void offer(FeedEvent event) {
+            if (closed) {
+                return;
+            }
+            if (queue.size() >= bufferSize) {
+                queue.pollFirst();
+                droppedSinceLastSend++;
+                dropped.incrementAndGet();
+            }
+            queue.addLast(event);
+            scheduleDrain();
+        }
+
+        synchronized void heartbeat() {
+            if (closed || draining) {
+                return;
+            }
+            heartbeatPending = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining) {
+                draining = true;
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<FeedEvent> batch;
+                int droppedCount;
+                boolean sendHeartbeat;
+                synchronized (this) {
+                    if (closed || (queue.isEmpty() && droppedSinceLastSend == 0 && !heartbeatPending)) {
+                        draining = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(queue);
+                    queue.clear();
+                    droppedCount = droppedSinceLastSend;
+                    droppedSinceLastSend = 0;
+                    sendHeartbeat = heartbeatPending;
+                    heartbeatPending = false;
+                }
+                try {
+                    if (droppedCount > 0) {
+                        emitter.send(SseEmitter.event().name(DROPPED).data(Map.of("count", droppedCount)));
+                    }
+                    for (FeedEvent event : batch) {
+                        send(event);
+                    }
+                    if (sendHeartbeat && batch.isEmpty()) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private void send(FeedEvent event) throws IOException {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name());
+            if (event.sequence() > 0) {
+                builder.id(epoch + "-" + event.sequence());
+            }
+            builder.data(event.data() == null ? Map.of() : event.data(), MediaType.APPLICATION_JSON);
+            emitter.send(builder);
+        }
+
+        synchronized void close() {
+            closed = true;
+            queue.clear();
+            subscribers.remove(this);
+        }
+    }
+}
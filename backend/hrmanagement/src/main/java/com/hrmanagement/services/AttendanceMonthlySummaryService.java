@@ -0,0 +1,302 @@
+package com.hrmanagement.services;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.AttendanceHoursView;
+import com.hrmanagement.repository.AttendanceMonthlySummaryRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * attendance_monthly_summary tablosunun bakımı ve okunması.
+ *
+ * AttendanceChangedEvent senkron dinlenir, yani güncelleme devam kaydını yazan
+ * transaction'ın içinde yapılır: önceki halin katkısı çıkarılır, yeni halinki eklenir.
+ */
+@Service
+public class AttendanceMonthlySummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceMonthlySummaryService.class);
+
+    private static final int REBUILD_MONTH_ATTEMPTS = 3;
+    private static final String BACKFILL_LOCK = "attendance-summary-backfill";
+    private static final Duration BACKFILL_LEASE = Duration.ofMinutes(30);
+
+    private final AttendanceMonthlySummaryRepository summaryRepository;
+    private final AttandanceRepository attandanceRepository;
+    private final SchedulerLockService schedulerLock;
+    private final TransactionTemplate monthTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AttendanceMonthlySummaryService(AttendanceMonthlySummaryRepository summaryRepository,
+                                           AttandanceRepository attandanceRepository,
+                                           SchedulerLockService schedulerLock,
+                                           PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.attandanceRepository = attandanceRepository;
+        this.schedulerLock = schedulerLock;
+        // Her ay kendi transaction'ında: çağıranın transaction'ı olsa da kilitler ay bitince bırakılır
+        this.monthTransaction = new TransactionTemplate(transactionManager);
+        this.monthTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        DtoAttandance record = event.record();
+        DtoAttandance previous = event.previous();
+        int sign = event.type() == AttendanceChangedEvent.Type.DELETED ? -1 : 1;
+
+        // Aynı ay içindeki değişiklik (ör. çıkış) tek UPDATE ile uygulanır
+        if (previous != null && sameMonth(previous, record)) {
+            apply(record.getEmployeeId(), record.getDate(),
+                    hours(record).multiply(BigDecimal.valueOf(sign)).subtract(hours(previous)),
+                    sign * seconds(record) - seconds(previous),
+                    sign - 1,
+                    sign * open(record) - open(previous));
+            return;
+        }
+        if (previous != null) {
+            apply(previous.getEmployeeId(), previous.getDate(), hours(previous).negate(), -seconds(previous),
+                    -1, -open(previous));
+        }
+        apply(record.getEmployeeId(), record.getDate(),
+                hours(record).multiply(BigDecimal.valueOf(sign)), sign * seconds(record), sign, sign * open(record));
+    }
+
+    // İlk kurulumda (tablo boş, devam kaydı var) özet bir kez ham kayıtlardan doldurulur.
+    // Düğümler aynı anda açılırsa sadece kirayı alan doldurur; kira tüm aylar commit
+    // edildikten sonra bırakılır, sonraki düğüm dolu tabloyu görür ve atlar.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        boolean ran = schedulerLock.runLocked(BACKFILL_LOCK, BACKFILL_LEASE, () -> {
+            if (summaryRepository.count() == 0 && attandanceRepository.count() > 0) {
+                int rows = rebuild();
+                log.info("Aylık devam özeti oluşturuldu: {} satır", rows);
+            }
+        });
+        if (!ran) {
+            log.info("Aylık devam özeti başka bir düğümde dolduruluyor, atlandı");
+        }
+    }
+
+    public BigDecimal totalHours(Long employeeId, int year, int month) {
+        return summaryRepository.findByEmployeeIdAndYearAndMonth(employeeId, year, month)
+                .map(AttendanceMonthlySummary::getTotalHours)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    /** Çalışanın dönem özeti; bordro toplam saati ve revision'ı aynı satırdan okur. */
+    public Optional<AttendanceMonthlySummary> summary(Long employeeId, int year, int month) {
+        return summaryRepository.findByEmployeeIdAndYearAndMonth(employeeId, year, month);
+    }
+
+    /** Verilen çalışanların dönem özetleri; özeti olmayan çalışan haritada yer almaz. */
+    public Map<Long, AttendanceMonthlySummary> summaries(Collection<Long> employeeIds, int year, int month) {
+        Map<Long, AttendanceMonthlySummary> summaries = new HashMap<>();
+        for (AttendanceMonthlySummary summary : summaryRepository.findByYearAndMonthAndEmployeeIdIn(year, month, employeeIds)) {
+            summaries.put(summary.getEmployeeId(), summary);
+        }
+        return summaries;
+    }
+
+    /** Dönemdeki tüm çalışanların çalışma süreleri (saniye); özeti olmayan çalışan haritada yer almaz. */
+    public Map<Long, Long> workedSeconds(int year, int month) {
+        Map<Long, Long> seconds = new HashMap<>();
+        for (Object[] row : summaryRepository.findWorkedSecondsByYearAndMonth(year, month)) {
+            seconds.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return seconds;
+    }
+
+    /** Dönem özetinin (satır sayısı, revision toplamı, çalışan id toplamı); herhangi bir yazmada değişir. */
+    public List<Long> fingerprint(int year, int month) {
+        Object[] row = summaryRepository.fingerprintByYearAndMonth(year, month).get(0);
+        return List.of(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+    }
+
+    /** Çalışanın tüm zamanlardaki toplam saati; hiç kaydı yoksa null. */
+    public BigDecimal totalHours(Long employeeId) {
+        return summaryRepository.sumTotalHoursByEmployeeId(employeeId);
+    }
+
+    /** Çalışanın tüm zamanlardaki kayıt sayısı. */
+    public long recordCount(Long employeeId) {
+        return summaryRepository.sumDaysPresentByEmployeeId(employeeId);
+    }
+
+    /** Çalışanın ay ay özetleri, eskiden yeniye. */
+    public List<AttendanceMonthlySummary> months(Long employeeId) {
+        return summaryRepository.findByEmployeeIdOrderByYearAscMonthAsc(employeeId);
+    }
+
+    public void deleteByEmployee(Long employeeId) {
+        summaryRepository.deleteByEmployeeId(employeeId);
+    }
+
+    /**
+     * Özet tablosunu ham devam kayıtlarından yeniden hesaplar; satır sayısını döner.
+     *
+     * Ay ay, her ay kendi transaction'ında yapılır: ayın özet satırları önce kilitlenir, sonra ayın
+     * ham kayıtları okunur ve değerler satırların yerine yazılır (silip yeniden ekleme yok). Aynı anda
+     * gelen bir olayın artırımı ya kilitten önce commit edilmiştir (ham okumada görünür) ya da kilit
+     * bırakılana kadar bekler ve yeni değerin üzerine eklenir; böylece kaybolmaz, iki kez de sayılmaz.
+     * Mevcut satırların revision'ı artar (o dönemlerin bordroları bayat sayılır); kaydı kalmayan
+     * satırlar silinir.
+     */
+    public int rebuild() {
+        Set<YearMonth> months = new TreeSet<>();
+        for (Object[] row : attandanceRepository.findDistinctMonths()) {
+            months.add(YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue()));
+        }
+        for (Object[] row : summaryRepository.findDistinctMonths()) {
+            months.add(YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue()));
+        }
+        int rows = 0;
+        for (YearMonth month : months) {
+            rows += rebuildMonth(month);
+        }
+        return rows;
+    }
+
+    private int rebuildMonth(YearMonth month) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return monthTransaction.execute(status -> replaceMonth(month));
+            } catch (DataIntegrityViolationException e) {
+                // Kilitten sonra bir olay ayın ilk satırını ekledi; ay baştan, bu kez o satır da kilitlenerek hesaplanır
+                if (attempt == REBUILD_MONTH_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("Aylık özet yeniden hesaplanırken {} için satır eklendi, tekrar deneniyor", month);
+            }
+        }
+    }
+
+    private int replaceMonth(YearMonth month) {
+        Map<Long, AttendanceMonthlySummary> existing = new HashMap<>();
+        for (AttendanceMonthlySummary summary : summaryRepository.lockByYearAndMonth(month.getYear(), month.getMonthValue())) {
+            existing.put(summary.getEmployeeId(), summary);
+        }
+
+        // Ham satırlar akış olarak okunur; bellekte sadece ayın çalışan toplamları tutulur
+        Map<Long, AttendanceMonthlySummary> totals = new LinkedHashMap<>();
+        try (Stream<AttendanceHoursView> rows = attandanceRepository.streamHoursBetween(month.atDay(1), month.atEndOfMonth())) {
+            rows.forEach(row -> {
+                AttendanceMonthlySummary summary = totals.computeIfAbsent(row.getEmployeeId(),
+                        id -> newSummary(id, month.getYear(), month.getMonthValue()));
+                if (row.getHoursWorked() != null) {
+                    summary.setTotalHours(summary.getTotalHours().add(BigDecimal.valueOf(row.getHoursWorked())));
+                    summary.setWorkedSeconds(summary.getWorkedSeconds() + seconds(row.getHoursWorked()));
+                }
+                summary.setDaysPresent(summary.getDaysPresent() + 1);
+                if (row.getCheckOutTime() == null) {
+                    summary.setOpenRecords(summary.getOpenRecords() + 1);
+                }
+            });
+        }
+
+        List<AttendanceMonthlySummary> added = new ArrayList<>();
+        for (AttendanceMonthlySummary total : totals.values()) {
+            AttendanceMonthlySummary summary = existing.remove(total.getEmployeeId());
+            if (summary == null) {
+                added.add(total);
+                continue;
+            }
+            summary.setTotalHours(total.getTotalHours());
+            summary.setWorkedSeconds(total.getWorkedSeconds());
+            summary.setDaysPresent(total.getDaysPresent());
+            summary.setOpenRecords(total.getOpenRecords());
+            summary.setRevision(summary.getRevision() + 1);
+        }
+        summaryRepository.deleteAll(existing.values());
+        // Çakışan ekleme burada DataIntegrityViolationException verir (commit'e kalmaz)
+        summaryRepository.saveAllAndFlush(added);
+        return totals.size();
+    }
+
+    private void apply(Long employeeId, LocalDate date, BigDecimal hours, long seconds, int days, int open) {
+        if (employeeId == null || date == null) {
+            return;
+        }
+        if (hours.signum() == 0 && seconds == 0 && days == 0 && open == 0) {
+            return;
+        }
+        int updated = summaryRepository.addDelta(employeeId, date.getYear(), date.getMonthValue(), hours, seconds, days, open);
+        if (updated == 0 && days > 0) {
+            // Ayın ilk kaydı: aynı anda ekleyen başka bir transaction varsa upsert onun satırını artırır
+            summaryRepository.upsertDelta(nextId(), employeeId, date.getYear(), date.getMonthValue(), hours, seconds, days, open);
+        }
+    }
+
+    // Native insert entity'nin sequence'ından (pooled) id alır; save ile eklenen satırlarla çakışmaz
+    private Long nextId() {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(AttendanceMonthlySummary.class).getGenerator();
+        return (Long) generator.generate(session, null, null, EventType.INSERT);
+    }
+
+    private static AttendanceMonthlySummary newSummary(Long employeeId, int year, int month) {
+        AttendanceMonthlySummary summary = new AttendanceMonthlySummary();
+        summary.setEmployeeId(employeeId);
+        summary.setYear(year);
+        summary.setMonth(month);
+        return summary;
+    }
+
+    private static boolean sameMonth(DtoAttandance a, DtoAttandance b) {
+        return a.getEmployeeId() != null && a.getEmployeeId().equals(b.getEmployeeId())
+                && a.getDate() != null && b.getDate() != null
+                && a.getDate().getYear() == b.getDate().getYear()
+                && a.getDate().getMonthValue() == b.getDate().getMonthValue();
+    }
+
+    private static BigDecimal hours(DtoAttandance dto) {
+        return dto.getHoursWorked() == null ? BigDecimal.ZERO : BigDecimal.valueOf(dto.getHoursWorked());
+    }
+
+    private static long seconds(DtoAttandance dto) {
+        return seconds(dto.getHoursWorked());
+    }
+
+    // hoursWorked saniye/3600.0 olarak yazılır; 3600 ile çarpıp yuvarlamak saniyeyi birebir geri verir
+    private static long seconds(Double hoursWorked) {
+        return hoursWorked == null ? 0 : Math.round(hoursWorked * PayrollCalculator.SECONDS_PER_HOUR);
+    }
+
+    private static int open(DtoAttandance dto) {
+        return dto.getCheckOutTime() == null ? 1 : 0;
+    }
+}
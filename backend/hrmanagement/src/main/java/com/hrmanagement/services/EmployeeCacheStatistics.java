@@ -0,0 +1,56 @@
+package com.hrmanagement.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Employees ikinci seviye önbelleği ve sorgu önbelleği için Hibernate istatistikleri.
+ * Sayaçlar hibernate.generate_statistics açıkken artar ve uygulama açıldığından beri birikir.
+ */
+@Component
+public class EmployeeCacheStatistics {
+
+    public static final String EMPLOYEES_REGION = "employees";
+
+    private final Statistics statistics;
+
+    public EmployeeCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(EMPLOYEES_REGION);
+        Map<String, Object> entity = new LinkedHashMap<>();
+        entity.put("entries", region.getElementCountInMemory());
+        entity.put("hits", region.getHitCount());
+        entity.put("misses", region.getMissCount());
+        entity.put("puts", region.getPutCount());
+        entity.put("hitRate", hitRate(region.getHitCount(), region.getMissCount()));
+        stats.put("entity", entity);
+
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("hits", statistics.getQueryCacheHitCount());
+        query.put("misses", statistics.getQueryCacheMissCount());
+        query.put("puts", statistics.getQueryCachePutCount());
+        query.put("hitRate", hitRate(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()));
+        // Sorgu sonucunun employees tablosundaki bir yazmadan sonra geçersiz sayılması
+        query.put("timestampInvalidations", statistics.getUpdateTimestampsCachePutCount());
+        stats.put("query", query);
+        return stats;
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
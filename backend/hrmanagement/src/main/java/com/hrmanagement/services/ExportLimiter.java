@@ -0,0 +1,47 @@
+package com.hrmanagement.services;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aynı anda çalışan dışa aktarımları sınırlar.
+ *
+ * Dışa aktarım imleci istemci hızında okur; yanıt sürdükçe (en fazla async süresi, 10 dk)
+ * havuzdan bir bağlantı ve açık bir okuma transaction'ı tutar. Sınır olmadan yavaş istemciler
+ * havuzu tüketip diğer istekleri bekletir. Sınırdaki istek beklemeden
+ * RejectedExecutionException ile reddedilir (503); sınır havuz boyutunun altında tutulmalı.
+ */
+@Component
+public class ExportLimiter {
+
+    private final int maxConcurrent;
+    private final Semaphore permits;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ExportLimiter(@Value("${hr.export.max-concurrent:2}") int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /** Yer varsa izni alır, yoksa reddeder; alınan izin release ile bırakılmalı. */
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Aynı anda en fazla " + maxConcurrent
+                    + " dışa aktarım çalışabilir, lütfen biraz sonra tekrar deneyin");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+}
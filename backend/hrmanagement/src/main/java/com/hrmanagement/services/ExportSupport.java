@@ -0,0 +1,78 @@
+package com.hrmanagement.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Dışa aktarım servislerinin (AttendanceExportService, PayslipExportService) ortak parçaları:
+ * CSV alan yazımı, imlecin salt okunur transaction içinde okunması ve CPU'ya bağlı iş havuzu.
+ */
+public final class ExportSupport {
+
+    /** İmleçle okuyup çıkışa yazan iş; yazma hatası (istemci kapattı) IOException olarak döner. */
+    @FunctionalInterface
+    public interface CursorWork<T> {
+        T run() throws IOException;
+    }
+
+    private ExportSupport() {
+    }
+
+    public static TransactionTemplate readOnlyTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /** work'ü transaction içinde çalıştırır; yazma hatası transaction'ı geri alır ve aynen fırlatılır. */
+    public static <T> T inTransaction(TransactionTemplate transaction, CursorWork<T> work) throws IOException {
+        try {
+            return transaction.execute(status -> {
+                try {
+                    return work.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // İstemci bağlantıyı kapattı; imleç transaction ile birlikte kapanmıştır
+            throw e.getCause();
+        }
+    }
+
+    /** CPU'ya bağlı iş için thread sayısı: parallelism verilmezse çekirdek sayısı. */
+    public static int cpuThreads(int parallelism) {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /** CPU'ya bağlı iş havuzu: platform (daemon) thread'leri. */
+    public static ExecutorService cpuBoundPool(String threadPrefix, int threads) {
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().name(threadPrefix, 0).daemon().factory());
+    }
+
+    public static void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value != null) {
+            writer.write(csvValue(value.toString()));
+        }
+    }
+
+    public static void appendCsvValue(StringBuilder csv, Object value) {
+        if (value != null) {
+            csv.append(csvValue(value.toString()));
+        }
+    }
+
+    // Boş değer boş alan olarak; virgül, tırnak veya satır sonu içeren metin tırnak içinde yazılır
+    private static String csvValue(String text) {
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
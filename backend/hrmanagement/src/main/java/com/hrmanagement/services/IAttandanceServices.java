@@ -1,8 +1,16 @@
 package com.hrmanagement.services;
 
 import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandanceEvent;
+import com.hrmanagement.dto.DtoAttandanceEventResult;
+import com.hrmanagement.dto.DtoAttandancePage;
+import com.hrmanagement.dto.DtoAttandanceTotalHours;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 public interface IAttandanceServices {
 
@@ -10,15 +18,23 @@ public interface IAttandanceServices {
     public DtoAttandance checkOut(DtoAttandance dtoAttandance);
     public DtoAttandance checkInByQr(String qrCode);
     public DtoAttandance checkOutByQr(String qrCode);
+    public List<DtoAttandanceEventResult> processBulk(List<DtoAttandanceEvent> events);
     public DtoAttandance saveRecord(DtoAttandance dtoAttandance);
-    public DtoAttandance getTotalHoursAttandance(DtoAttandance dtoAttandance);
+    public DtoAttandanceTotalHours getTotalHoursAttandance(Long employeeId, String startDate, String endDate, String groupBy);
     public DtoAttandance getTodayStatus(Long employeeId);
     public List<DtoAttandance> getWeeklyRecords(Long employeeId);
     public List<DtoAttandance> getMonthlyRecords(Long employeeId, int year, int month);
     public List<DtoAttandance> getRecentRecords(Long employeeId, int limit);
     public List<DtoAttandance> getAllRecords();
     public List<DtoAttandance> getAllRecordsByDate(String date);
-    public List<DtoAttandance> searchRecords(Long employeeId, String employeeName, String startDate, String endDate);
+    public DtoAttandancePage searchRecords(Long employeeId, String employeeName, String startDate, String endDate, String cursor, int size);
     public DtoAttandance updateRecord(Long id, DtoAttandance dtoAttandance, Long requesterId);
     public void deleteRecord(Long id, Long requesterId);
+    public Map<String, Object> getTodayBoardStats();
+    public Map<String, Object> getRecentCacheStats();
+    public Map<String, Object> rebuildMonthlySummary(Long requesterId);
+    public SseEmitter subscribeFeed(Long requesterId, String lastEventId);
+    public Map<String, Object> getFeedStats();
+    public StreamingResponseBody exportRecords(Long requesterId, AttendanceExportService.Format format,
+                                               String startDate, String endDate, String department);
 }
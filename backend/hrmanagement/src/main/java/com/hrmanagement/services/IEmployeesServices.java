@@ -1,13 +1,18 @@
 package com.hrmanagement.services;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.hrmanagement.dto.DtoEmployees;
 
 public interface IEmployeesServices {
 
         public DtoEmployees registerEmployees(DtoEmployees dtoEmployees);
-        public DtoEmployees loginEmployees(DtoEmployees dtoEmployees);
+        public CompletableFuture<DtoEmployees> loginEmployees(DtoEmployees dtoEmployees);
+        public DtoEmployees refreshSession(DtoEmployees dtoEmployees);
         public List<DtoEmployees> getAllEmployees();
         public List<DtoEmployees> getApprovedEmployees();
         public List<DtoEmployees> getPendingEmployees();
@@ -22,5 +27,11 @@ public interface IEmployeesServices {
         // QR kod işlemleri
         public DtoEmployees getByQrCode(String qrCode);
         public DtoEmployees regenerateQrCode(Long id);
+        public SseEmitter subscribeQrCode(Long id);
+        public Map<String, Object> getQrChannelStats();
+
+        // Yetki önbelleği
+        public Map<String, Object> getAuthorizationCacheStats();
+        public Map<String, Object> getEntityCacheStats();
 
 }
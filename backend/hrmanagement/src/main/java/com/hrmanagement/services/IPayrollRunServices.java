@@ -0,0 +1,10 @@
+package com.hrmanagement.services;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.dto.DtoPayrollRun;
+
+public interface IPayrollRunServices {
+    DtoPayrollRun startRun(DtoPayrollGenerateRequest req, Long requesterId);
+    DtoPayrollRun getRun(Long id);
+    DtoPayrollRun resumeRun(Long id, Long requesterId);
+}
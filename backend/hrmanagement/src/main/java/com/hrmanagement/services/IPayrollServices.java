@@ -1,15 +1,19 @@
 package com.hrmanagement.services;
 
-import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.dto.DtoPayroll;
 import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.dto.DtoPayrollRecompute;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 public interface IPayrollServices {
-    Payroll generatePayroll(DtoPayrollGenerateRequest req);
-    Payroll getById(Long id);
-    Payroll getByEmployeeAndPeriod(Long employeeId, int year, int month);
-    List<Payroll> listByEmployeeYear(Long employeeId, int year);
-    List<Payroll> getAllByEmployee(Long employeeId);
+    DtoPayroll generatePayroll(DtoPayrollGenerateRequest req);
+    DtoPayroll getById(Long id);
+    DtoPayroll getByEmployeeAndPeriod(Long employeeId, int year, int month);
+    List<DtoPayroll> listByEmployeeYear(Long employeeId, int year);
+    List<DtoPayroll> getAllByEmployee(Long employeeId);
     void deletePayroll(Long id, Long requesterId);
+    DtoPayrollRecompute recomputeStale(Integer year, Integer month, Long requesterId);
+    StreamingResponseBody exportPayslips(int year, int month, Long requesterId);
 }
\ No newline at end of file
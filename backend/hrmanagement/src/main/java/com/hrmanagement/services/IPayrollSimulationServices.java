@@ -0,0 +1,8 @@
+package com.hrmanagement.services;
+
+import com.hrmanagement.dto.DtoPayrollSimulation;
+import com.hrmanagement.dto.DtoPayrollSimulationRequest;
+
+public interface IPayrollSimulationServices {
+    DtoPayrollSimulation simulate(DtoPayrollSimulationRequest req, Long requesterId);
+}
@@ -0,0 +1,74 @@
+package com.hrmanagement.services;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * BCrypt doğrulamasını sınırlı bir thread havuzunda yapar.
+ *
+ * BCrypt bilerek yavaştır; giriş yoğunluğunda istek thread'lerini ve CPU'yu tüketmemesi için
+ * aynı anda en fazla threads doğrulama çalışır, en fazla queueSize bekler. Kuyruk doluysa
+ * istek beklemeden RejectedExecutionException ile reddedilir (503).
+ */
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong verified = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            @Value("${hr.auth.bcrypt.threads:0}") int threads,
+                            @Value("${hr.auth.bcrypt.queue-size:64}") int queueSize) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                verified.incrementAndGet();
+                return rawPassword != null && passwordEncoder.matches(rawPassword, encodedPassword);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Sistem yoğun, lütfen biraz sonra tekrar deneyin"));
+        }
+    }
+
+    public long verifiedCount() {
+        return verified.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
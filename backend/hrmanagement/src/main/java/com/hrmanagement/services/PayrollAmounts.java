@@ -0,0 +1,58 @@
+package com.hrmanagement.services;
+
+import java.math.BigDecimal;
+
+import com.hrmanagement.entities.Payroll;
+
+/**
+ * PayrollMath sonucu: tüm tutarlar kuruş, saatler saatin yüzde biri cinsinden.
+ * Toplu hesaplarda tek nesne tekrar kullanılabilsin diye değiştirilebilir.
+ */
+public final class PayrollAmounts {
+
+    long baseSalaryCents;
+    long totalHoursCenti;
+    long overtimeHoursCenti;
+    long overtimePayCents;
+    long bonusCents;
+    long grossCents;
+    long deductionsCents;
+    long netCents;
+
+    public long getBaseSalaryCents() { return baseSalaryCents; }
+    public long getTotalHoursCenti() { return totalHoursCenti; }
+    public long getOvertimeHoursCenti() { return overtimeHoursCenti; }
+    public long getOvertimePayCents() { return overtimePayCents; }
+    public long getBonusCents() { return bonusCents; }
+    public long getGrossCents() { return grossCents; }
+    public long getDeductionsCents() { return deductionsCents; }
+    public long getNetCents() { return netCents; }
+
+    /** Payroll'un hesap kalemlerini 2 haneli BigDecimal olarak yazar (BigDecimal yolundaki ölçekle aynı). */
+    public void copyTo(Payroll payroll) {
+        payroll.setBaseSalary(BigDecimal.valueOf(baseSalaryCents, 2));
+        payroll.setTotalWorkHours(BigDecimal.valueOf(totalHoursCenti, 2));
+        payroll.setOvertimeHours(BigDecimal.valueOf(overtimeHoursCenti, 2));
+        payroll.setOvertimePay(BigDecimal.valueOf(overtimePayCents, 2));
+        payroll.setBonus(BigDecimal.valueOf(bonusCents, 2));
+        payroll.setGrossSalary(BigDecimal.valueOf(grossCents, 2));
+        payroll.setDeductions(BigDecimal.valueOf(deductionsCents, 2));
+        payroll.setNetSalary(BigDecimal.valueOf(netCents, 2));
+    }
+
+    // BigDecimal yolunun sonucunu geri okur (değerler zaten 2 hanelidir)
+    void copyFrom(Payroll payroll) {
+        baseSalaryCents = cents(payroll.getBaseSalary());
+        totalHoursCenti = cents(payroll.getTotalWorkHours());
+        overtimeHoursCenti = cents(payroll.getOvertimeHours());
+        overtimePayCents = cents(payroll.getOvertimePay());
+        bonusCents = cents(payroll.getBonus());
+        grossCents = cents(payroll.getGrossSalary());
+        deductionsCents = cents(payroll.getDeductions());
+        netCents = cents(payroll.getNetSalary());
+    }
+
+    private static long cents(BigDecimal v) {
+        return v.movePointRight(2).longValueExact();
+    }
+}
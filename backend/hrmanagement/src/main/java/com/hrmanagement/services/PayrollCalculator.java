@@ -0,0 +1,164 @@
+package com.hrmanagement.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.entities.Payroll;
+
+/**
+ * Bordro hesap kuralları. Tekil bordro (PayrollServicesImpl) ve toplu bordro
+ * çalıştırması (PayrollRunServicesImpl) aynı hesabı kullanır.
+ *
+ * Dönem çalışma süresi devam özetinden tam saniye olarak gelir ve hesap PayrollMath'in long
+ * çekirdeğiyle saniye biriminde yapılır (PayrollScenario). Parametreler sabit noktaya sığmazsa
+ * applyDecimal'a (BigDecimal, aynı birim) düşülür; iki yol birebir aynı sonucu verir.
+ */
+public final class PayrollCalculator {
+
+    static final long NOT_EXACT = Long.MIN_VALUE;
+
+    public static final int SECONDS_PER_HOUR = 3600;
+
+    private PayrollCalculator() {
+    }
+
+    public static void validatePeriod(int year, int month) {
+        if (month < 1 || month > 12) throw new IllegalArgumentException("month 1..12 olmalı");
+        if (year < 2000) throw new IllegalArgumentException("year geçersiz: " + year);
+
+        // Gelecek tarih kontrolü - şu anki aydan ileri olamaz
+        YearMonth requestedPeriod = YearMonth.of(year, month);
+        YearMonth currentPeriod = YearMonth.now();
+        if (requestedPeriod.isAfter(currentPeriod)) {
+            throw new IllegalArgumentException("Gelecek dönemler için bordro oluşturulamaz!");
+        }
+    }
+
+    /**
+     * Parametreleri ve dönem çalışma süresini (saniye) kullanarak payroll'un hesap kalemlerini
+     * doldurur ve parametreleri payroll'a yazar (bkz. parametersOf). Çalışan/dönem alanlarına
+     * dokunmaz. Süre arttıkça net azalmadığı için 0 saniye ile çağırmak parametre setini
+     * doğrulamak için yeterlidir.
+     */
+    public static void apply(Payroll payroll, DtoPayrollGenerateRequest req, long workedSeconds) {
+        PayrollAmounts amounts = new PayrollAmounts();
+        new PayrollScenario(req).evaluate(workedSeconds, amounts);
+        amounts.copyTo(payroll);
+        payroll.setStandardMonthlyHours(req.getStandardMonthlyHours());
+        payroll.setOvertimeMultiplier(req.getOvertimeMultiplier());
+        payroll.setIncomeTaxRate(req.getIncomeTaxRate());
+        payroll.setExtraDeduction(req.getExtraDeduction());
+    }
+
+    /** Bordronun hesaplandığı parametre seti; parametreleri saklanmamış eski bordrolar için null. */
+    public static DtoPayrollGenerateRequest parametersOf(Payroll payroll) {
+        if (payroll.getStandardMonthlyHours() == null) {
+            return null;
+        }
+        DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+        req.setEmployeeId(payroll.getEmployee() != null ? payroll.getEmployee().getId() : null);
+        req.setYear(payroll.getYear());
+        req.setMonth(payroll.getMonth());
+        req.setStandardMonthlyHours(payroll.getStandardMonthlyHours());
+        req.setOvertimeMultiplier(payroll.getOvertimeMultiplier());
+        req.setIncomeTaxRate(payroll.getIncomeTaxRate());
+        req.setBonus(payroll.getBonus());
+        req.setExtraDeduction(payroll.getExtraDeduction());
+        req.setBaseSalary(payroll.getBaseSalary());
+        return req;
+    }
+
+    /**
+     * Referans BigDecimal hesabı; PayrollMath bununla birebir aynı sonucu vermek zorundadır.
+     * Süre saatin 1/unitsPerHour'u cinsindendir (saniye için 3600). Saat cinsinden değerler
+     * unitsPerHour ile çarpılmış halde taşınır ve sadece yuvarlanan yerlerde bölünür; böylece
+     * saniye/3600 gibi sonlu ondalığa denk gelmeyen süreler de kesin hesaplanır.
+     */
+    public static void applyDecimal(Payroll payroll, DtoPayrollGenerateRequest req,
+                                    BigDecimal workedUnits, int unitsPerHour) {
+        // Maaş: Employees'ta salary yoksa request'ten baseSalary kullan
+        BigDecimal baseSalary = nullSafe(req.getBaseSalary());
+        if (baseSalary.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("baseSalary zorunlu (Employees'ta salary yoksa request'ten gönderilmeli)");
+        }
+
+        int standardHoursInt = req.getStandardMonthlyHours();
+        if (standardHoursInt <= 0) throw new IllegalArgumentException("standardMonthlyHours > 0 olmalı");
+
+        BigDecimal standardHours = BigDecimal.valueOf(standardHoursInt);
+        BigDecimal u = BigDecimal.valueOf(unitsPerHour);
+
+        BigDecimal hourlyRate = baseSalary.divide(standardHours, 6, RoundingMode.HALF_UP);
+
+        // *U ile biten değerler unitsPerHour ile çarpılmıştır
+        BigDecimal overtimeUnits = workedUnits.subtract(standardHours.multiply(u));
+        if (overtimeUnits.compareTo(BigDecimal.ZERO) < 0) overtimeUnits = BigDecimal.ZERO;
+
+        BigDecimal overtimeMultiplier = nullSafe(req.getOvertimeMultiplier());
+        if (overtimeMultiplier.compareTo(BigDecimal.ZERO) < 0) overtimeMultiplier = BigDecimal.ZERO;
+
+        BigDecimal overtimePayU = overtimeUnits.multiply(hourlyRate).multiply(overtimeMultiplier);
+
+        BigDecimal grossU = baseSalary.multiply(u)
+                .add(overtimePayU)
+                .add(nullSafe(req.getBonus()).multiply(u));
+
+        BigDecimal incomeTaxRate = nullSafe(req.getIncomeTaxRate());
+        // Vergi oranı 0-1 (yani %0-%100) arasında olmalı
+        if (incomeTaxRate.compareTo(BigDecimal.ZERO) < 0) incomeTaxRate = BigDecimal.ZERO;
+        if (incomeTaxRate.compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException("Vergi oranı %100'den fazla olamaz!");
+        }
+
+        BigDecimal incomeTaxU = grossU.multiply(incomeTaxRate);
+        BigDecimal extraDeduction = nullSafe(req.getExtraDeduction());
+
+        // Ekstra kesinti negatif olamaz
+        if (extraDeduction.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Ekstra kesinti negatif olamaz!");
+        }
+
+        BigDecimal deductionsU = incomeTaxU.add(extraDeduction.multiply(u));
+
+        BigDecimal netU = grossU.subtract(deductionsU);
+
+        // Net maaş negatif olamaz
+        if (netU.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Kesintiler brüt maaştan fazla olamaz! Net maaş negatif oldu.");
+        }
+
+        // Para alanlarını 2 haneye yuvarla
+        payroll.setBaseSalary(money(baseSalary));
+        payroll.setTotalWorkHours(workedUnits.divide(u, 2, RoundingMode.HALF_UP));
+        payroll.setOvertimeHours(overtimeUnits.divide(u, 2, RoundingMode.HALF_UP));
+        payroll.setOvertimePay(overtimePayU.divide(u, 2, RoundingMode.HALF_UP));
+        payroll.setBonus(money(nullSafe(req.getBonus())));
+        payroll.setGrossSalary(grossU.divide(u, 2, RoundingMode.HALF_UP));
+        payroll.setDeductions(deductionsU.divide(u, 2, RoundingMode.HALF_UP));
+        payroll.setNetSalary(netU.divide(u, 2, RoundingMode.HALF_UP));
+    }
+
+    // v * 10^scale tam sayıysa ve long'a sığıyorsa o değer, değilse NOT_EXACT
+    static long toFixed(BigDecimal v, int scale) {
+        if (v == null) return 0;
+        if (v.scale() > scale) {
+            v = v.stripTrailingZeros();
+            if (v.scale() > scale) return NOT_EXACT;
+        }
+        try {
+            return v.movePointRight(scale).longValueExact();
+        } catch (ArithmeticException e) {
+            return NOT_EXACT;
+        }
+    }
+
+    private static BigDecimal nullSafe(BigDecimal v) {
+        return v == null ? BigDecimal.ZERO : v;
+    }
+
+    private static BigDecimal money(BigDecimal v) {
+        return (v == null ? BigDecimal.ZERO : v).setScale(2, RoundingMode.HALF_UP);
+    }
+}
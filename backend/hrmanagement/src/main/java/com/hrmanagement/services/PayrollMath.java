@@ -0,0 +1,136 @@
+package com.hrmanagement.services;
+
+/**
+ * Bordro hesabının long tabanlı (sabit noktalı) çekirdeği.
+ *
+ * Girdiler: tutarlar kuruş, oranlar milyonda bir (ölçek 6), çalışma süresi
+ * saatin 1/unitsPerHour'u cinsinden tam sayı (3600: saniye, bordronun kullandığı birim;
+ * 60: dakika; 100: saatin yüzde biri).
+ * Ara değerler hiç yuvarlanmadan kesir (pay/payda) olarak taşınır ve sadece
+ * PayrollCalculator.applyDecimal'ın yuvarladığı yerlerde HALF_UP yuvarlanır;
+ * bu yüzden sonuçlar o yolla birebir aynıdır. Mesai ücreti kesri ortak bölenlerle sadeleştirilir;
+ * olağan çarpanlarda (1,5; 2; 1,25) payda saniye biriminde de long'a rahatça sığar.
+ *
+ * Doğrulama hataları BigDecimal yoluyla aynı sırada ve aynı mesajla atılır.
+ * Değer aralığı long'a sığmazsa compute false döner; çağıran BigDecimal yoluna düşer.
+ */
+public final class PayrollMath {
+
+    static final long MICROS = 1_000_000L;
+
+    private static final long PAY_SCALE = 10_000_000_000L;   // saat ücreti (ölçek 6) * çarpan (ölçek 6) / 100 kuruş
+
+    private PayrollMath() {
+    }
+
+    public static boolean compute(long baseSalaryCents, long bonusCents, long extraDeductionCents,
+                                  long overtimeMultiplierMicros, long incomeTaxRateMicros,
+                                  int standardMonthlyHours, long workedUnits, int unitsPerHour,
+                                  PayrollAmounts out) {
+        if (baseSalaryCents <= 0) {
+            throw new IllegalArgumentException("baseSalary zorunlu (Employees'ta salary yoksa request'ten gönderilmeli)");
+        }
+        if (standardMonthlyHours <= 0) throw new IllegalArgumentException("standardMonthlyHours > 0 olmalı");
+
+        long m = Math.max(overtimeMultiplierMicros, 0);
+        long t = Math.max(incomeTaxRateMicros, 0);
+        if (t > MICROS) {
+            throw new IllegalArgumentException("Vergi oranı %100'den fazla olamaz!");
+        }
+        if (extraDeductionCents < 0) {
+            throw new IllegalArgumentException("Ekstra kesinti negatif olamaz!");
+        }
+        if (unitsPerHour < 1 || workedUnits < 0
+                || baseSalaryCents + bonusCents < 0) {
+            return false;
+        }
+
+        try {
+            long u = unitsPerHour;
+            long s = standardMonthlyHours;
+
+            // Saat ücreti: baseSalary / standardHours, 6 hane HALF_UP (ölçek 6)
+            long rate = divHalfUp(Math.multiplyExact(baseSalaryCents, 10_000L), s);
+
+            // Fazla mesai süresi (birim) ve mesai ücreti: d/u * rate/1e6 * m/1e6 TL = d*rate*m / (u*1e10) kuruş.
+            // Pay ve payda ortak bölenlerle sadeleştirilir: d/u ve m/1e10 ayrı ayrı, sonra rate ile
+            long overtimeUnits = Math.max(workedUnits - Math.multiplyExact(s, u), 0);
+            long g = gcd(overtimeUnits, u);
+            long d = overtimeUnits / g;
+            long den1 = u / g;
+            g = gcd(m, PAY_SCALE);
+            long mult = m / g;
+            long den2 = PAY_SCALE / g;
+            g = gcd(rate, den1);
+            long r = rate / g;
+            den1 /= g;
+            g = gcd(r, den2);
+            r /= g;
+            den2 /= g;
+            long payDen = Math.multiplyExact(den1, den2);
+            long dr = Math.multiplyExact(d, r);
+            long rem1 = Math.multiplyExact(dr % payDen, mult);
+            long payWhole = Math.addExact(Math.multiplyExact(dr / payDen, mult), rem1 / payDen);
+            long payRem = rem1 % payDen;                      // mesai ücreti = payWhole + payRem/payDen kuruş
+            long payRoundUp = payRem >= payDen - payRem ? 1 : 0;
+
+            // Brüt = base + mesai + prim (tam kuruşlar + mesai kesri)
+            long grossWhole = Math.addExact(baseSalaryCents + bonusCents, payWhole);
+
+            // Vergi = brüt * t/1e6 = A + (a*payDen + payRem*t) / (payDen*1e6)
+            long taxDen = Math.multiplyExact(payDen, MICROS);
+            long gt = Math.multiplyExact(grossWhole, t);
+            long taxWhole = gt / MICROS;
+            long f1 = Math.multiplyExact(gt % MICROS, payDen);
+            long f2 = Math.multiplyExact(payRem, t);
+            long taxRem;
+            if (f1 >= taxDen - f2) {
+                taxWhole++;
+                taxRem = f1 - (taxDen - f2);
+            } else {
+                taxRem = f1 + f2;
+            }
+            long taxRoundUp = taxRem >= taxDen - taxRem ? 1 : 0;
+
+            // Net = brüt - vergi - ekstra kesinti = netWhole + netRem/taxDen
+            long netWhole = Math.subtractExact(Math.subtractExact(grossWhole, taxWhole), extraDeductionCents);
+            long netRem = Math.multiplyExact(payRem, MICROS) - taxRem;
+            if (netRem < 0) {
+                netWhole--;
+                netRem += taxDen;
+            }
+            if (netWhole < 0) {
+                throw new IllegalArgumentException("Kesintiler brüt maaştan fazla olamaz! Net maaş negatif oldu.");
+            }
+
+            out.baseSalaryCents = baseSalaryCents;
+            out.totalHoursCenti = divHalfUp(Math.multiplyExact(workedUnits, 100L), u);
+            out.overtimeHoursCenti = divHalfUp(Math.multiplyExact(overtimeUnits, 100L), u);
+            out.overtimePayCents = payWhole + payRoundUp;
+            out.bonusCents = bonusCents;
+            out.grossCents = grossWhole + payRoundUp;
+            out.deductionsCents = Math.addExact(extraDeductionCents, taxWhole + taxRoundUp);
+            out.netCents = netWhole + (netRem >= taxDen - netRem ? 1 : 0);
+            return true;
+        } catch (ArithmeticException overflow) {
+            return false;
+        }
+    }
+
+    // a, b >= 0; gcd(0, b) = b
+    private static long gcd(long a, long b) {
+        while (a != 0) {
+            long t = b % a;
+            b = a;
+            a = t;
+        }
+        return b;
+    }
+
+    // x >= 0, d > 0 için x/d, HALF_UP
+    private static long divHalfUp(long x, long d) {
+        long q = x / d;
+        long r = x % d;
+        return r >= d - r ? q + 1 : q;
+    }
+}
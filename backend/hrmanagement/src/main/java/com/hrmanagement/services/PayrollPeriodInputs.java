@@ -0,0 +1,34 @@
+package com.hrmanagement.services;
+
+import java.time.YearMonth;
+
+/**
+ * Bir dönemin simülasyon girdileri, sütun düzeninde: i. çalışanın id'si employeeIds[i],
+ * dönem çalışma süresi workedSeconds[i] (devam özetindeki tam saniye; bordroyla aynı birim,
+ * yani PayrollMath çekirdeğine doğrudan verilir).
+ * Oluşturulduktan sonra değişmez; aynı anda birden fazla simülasyon tarafından okunabilir.
+ */
+public final class PayrollPeriodInputs {
+
+    private final YearMonth period;
+    private final long[] employeeIds;
+    private final long[] workedSeconds;
+
+    /** workedSeconds[i] = 0: çalışanın dönemde kaydı yoktur. */
+    public PayrollPeriodInputs(YearMonth period, long[] employeeIds, long[] workedSeconds) {
+        if (employeeIds.length != workedSeconds.length) {
+            throw new IllegalArgumentException("employeeIds ve workedSeconds aynı uzunlukta olmalı");
+        }
+        this.period = period;
+        this.employeeIds = employeeIds;
+        this.workedSeconds = workedSeconds;
+    }
+
+    public YearMonth getPeriod() { return period; }
+
+    public int size() { return employeeIds.length; }
+
+    public long employeeId(int i) { return employeeIds[i]; }
+
+    public long workedSeconds(int i) { return workedSeconds[i]; }
+}
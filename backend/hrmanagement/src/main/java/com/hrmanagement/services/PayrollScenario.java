@@ -0,0 +1,58 @@
+package com.hrmanagement.services;
+
+import java.math.BigDecimal;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.entities.Payroll;
+
+/**
+ * Sabit noktaya bir kez çevrilmiş bordro parametre seti. Aynı parametrelerle çok sayıda
+ * çalışan hesaplanırken (simülasyon) BigDecimal dönüşümü çalışan başına tekrarlanmaz.
+ *
+ * evaluate PayrollCalculator.apply ile aynı sonucu verir: süre saniye cinsinden PayrollMath'e
+ * verilir; parametreler sabit noktaya sığmazsa ya da ara değer long'a sığmazsa
+ * PayrollCalculator.applyDecimal'a düşer.
+ */
+public final class PayrollScenario {
+
+    private final DtoPayrollGenerateRequest req;
+    private final boolean exact;
+    private final long baseSalaryCents;
+    private final long bonusCents;
+    private final long extraDeductionCents;
+    private final long overtimeMultiplierMicros;
+    private final long incomeTaxRateMicros;
+
+    PayrollScenario(DtoPayrollGenerateRequest req) {
+        this.req = req;
+        this.baseSalaryCents = PayrollCalculator.toFixed(req.getBaseSalary(), 2);
+        this.bonusCents = PayrollCalculator.toFixed(req.getBonus(), 2);
+        this.extraDeductionCents = PayrollCalculator.toFixed(req.getExtraDeduction(), 2);
+        this.overtimeMultiplierMicros = PayrollCalculator.toFixed(req.getOvertimeMultiplier(), 6);
+        this.incomeTaxRateMicros = PayrollCalculator.toFixed(req.getIncomeTaxRate(), 6);
+        this.exact = baseSalaryCents != PayrollCalculator.NOT_EXACT && bonusCents != PayrollCalculator.NOT_EXACT
+                && extraDeductionCents != PayrollCalculator.NOT_EXACT
+                && overtimeMultiplierMicros != PayrollCalculator.NOT_EXACT
+                && incomeTaxRateMicros != PayrollCalculator.NOT_EXACT;
+    }
+
+    /** Parametre setini doğrular (hatalıysa IllegalArgumentException) ve sabit noktaya çevirir. */
+    public static PayrollScenario of(DtoPayrollGenerateRequest req) {
+        PayrollScenario scenario = new PayrollScenario(req);
+        // Süre arttıkça net azalmaz; 0 saniyede geçerli olan set her sürede geçerlidir
+        scenario.evaluate(0, new PayrollAmounts());
+        return scenario;
+    }
+
+    /** workedSeconds: dönem çalışma süresi, saniye. Sonuç out'a yazılır. */
+    public void evaluate(long workedSeconds, PayrollAmounts out) {
+        if (exact && PayrollMath.compute(baseSalaryCents, bonusCents, extraDeductionCents,
+                overtimeMultiplierMicros, incomeTaxRateMicros, req.getStandardMonthlyHours(),
+                workedSeconds, PayrollCalculator.SECONDS_PER_HOUR, out)) {
+            return;
+        }
+        Payroll payroll = new Payroll();
+        PayrollCalculator.applyDecimal(payroll, req, BigDecimal.valueOf(workedSeconds), PayrollCalculator.SECONDS_PER_HOUR);
+        out.copyFrom(payroll);
+    }
+}
@@ -0,0 +1,294 @@
+package com.hrmanagement.services;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrmanagement.dto.DtoPayslip;
+import com.hrmanagement.repository.PayrolRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bir dönemin bordro pusulalarını (çalışan başına CSV + yazdırılabilir HTML) zip olarak
+ * doğrudan çıkış akışına yazar.
+ *
+ * Satırlar salt okunur bir transaction içinde imleçle okunur; pusulalar thread havuzunda
+ * üretilir, zip'e okuma sırasıyla (çalışan id) yazılır. Bellekte en fazla window kadar
+ * üretilmiş pusula ve yazma tamponu bulunur. Bağlantı iki imleç geçişi boyunca istemci hızında
+ * tutulduğundan dışa aktarım ExportLimiter'dan izin alır.
+ */
+@Service
+public class PayslipExportService {
+
+    private static final String INDEX_HEADER =
+            "employeeId,employeeName,department,position,grossSalary,deductions,netSalary";
+
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private static final Locale TR = Locale.forLanguageTag("tr-TR");
+
+    private record Rendered(Long employeeId, byte[] csv, byte[] html) {
+    }
+
+    private final PayrolRepository payrolRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExportLimiter exportLimiter;
+    private final ExecutorService executor;
+    private final int window;
+
+    public PayslipExportService(PayrolRepository payrolRepository, PlatformTransactionManager transactionManager,
+                                ExportLimiter exportLimiter,
+                                @Value("${hr.payroll.payslip.parallelism:0}") int parallelism,
+                                @Value("${hr.payroll.payslip.window:0}") int window) {
+        this.payrolRepository = payrolRepository;
+        this.readOnlyTransaction = ExportSupport.readOnlyTransaction(transactionManager);
+        this.exportLimiter = exportLimiter;
+        int threads = ExportSupport.cpuThreads(parallelism);
+        this.executor = ExportSupport.cpuBoundPool("payslip-", threads);
+        this.window = window > 0 ? window : threads * 4;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Dönem klasörüne önce özet listeyi (payslips.csv), sonra her çalışan için {id}.csv ve {id}.html
+     * yazar; yazılan pusula sayısını döner. Giriş zamanları dönemin ilk günüdür, aynı veri aynı zip'i üretir.
+     * Sınırda başka dışa aktarımlar çalışıyorsa hiçbir şey yazmadan reddeder.
+     */
+    public long export(int year, int month, OutputStream out) throws IOException {
+        exportLimiter.acquire();
+        try {
+            return write(year, month, out);
+        } finally {
+            exportLimiter.release();
+        }
+    }
+
+    private long write(int year, int month, OutputStream out) throws IOException {
+        YearMonth period = YearMonth.of(year, month);
+        String folder = "payslips-" + period + "/";
+        LocalDateTime entryTime = period.atDay(1).atStartOfDay();
+
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, WRITE_BUFFER_BYTES), StandardCharsets.UTF_8);
+        // İki geçiş aynı transaction'da: liste ile pusulalar aynı anlık görüntüden okunur
+        long count = ExportSupport.inTransaction(readOnlyTransaction, () -> {
+            writeIndex(zip, folder + "payslips.csv", entryTime, year, month);
+            return writePayslips(zip, folder, entryTime, year, month);
+        });
+        zip.finish();
+        zip.flush();
+        return count;
+    }
+
+    private void writeIndex(ZipOutputStream zip, String name, LocalDateTime entryTime, int year, int month)
+            throws IOException {
+        putEntry(zip, name, entryTime);
+        StringBuilder row = new StringBuilder(256);
+        zip.write((INDEX_HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+        try (Stream<DtoPayslip> stream = payrolRepository.streamPayslips(year, month)) {
+            for (DtoPayslip slip : (Iterable<DtoPayslip>) stream::iterator) {
+                row.setLength(0);
+                row.append(slip.getEmployeeId()).append(',');
+                ExportSupport.appendCsvValue(row, slip.getEmployeeName());
+                row.append(',');
+                ExportSupport.appendCsvValue(row, slip.getDepartment());
+                row.append(',');
+                ExportSupport.appendCsvValue(row, slip.getPosition());
+                row.append(',');
+                ExportSupport.appendCsvValue(row, plain(slip.getGrossSalary()));
+                row.append(',');
+                ExportSupport.appendCsvValue(row, plain(slip.getDeductions()));
+                row.append(',');
+                ExportSupport.appendCsvValue(row, plain(slip.getNetSalary()));
+                row.append('\n');
+                zip.write(row.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        zip.closeEntry();
+    }
+
+    // Okunan her satır havuza verilir; kuyruk window'a ulaşınca en eski pusula beklenip yazılır
+    private long writePayslips(ZipOutputStream zip, String folder, LocalDateTime entryTime, int year, int month)
+            throws IOException {
+        ArrayDeque<Future<Rendered>> pending = new ArrayDeque<>(window);
+        long count = 0;
+        try (Stream<DtoPayslip> stream = payrolRepository.streamPayslips(year, month)) {
+            for (DtoPayslip slip : (Iterable<DtoPayslip>) stream::iterator) {
+                pending.add(executor.submit(() -> render(slip)));
+                if (pending.size() >= window) {
+                    write(zip, folder, entryTime, await(pending.poll()));
+                    count++;
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(zip, folder, entryTime, await(pending.poll()));
+                count++;
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+        return count;
+    }
+
+    private static void write(ZipOutputStream zip, String folder, LocalDateTime entryTime, Rendered slip)
+            throws IOException {
+        putEntry(zip, folder + slip.employeeId() + ".csv", entryTime);
+        zip.write(slip.csv());
+        zip.closeEntry();
+        putEntry(zip, folder + slip.employeeId() + ".html", entryTime);
+        zip.write(slip.html());
+        zip.closeEntry();
+    }
+
+    private static void putEntry(ZipOutputStream zip, String name, LocalDateTime entryTime) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTimeLocal(entryTime);
+        zip.putNextEntry(entry);
+    }
+
+    private static Rendered await(Future<Rendered> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Pusula dışa aktarımı kesildi", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Pusula üretilemedi", e.getCause());
+        }
+    }
+
+    private static Rendered render(DtoPayslip slip) {
+        return new Rendered(slip.getEmployeeId(),
+                renderCsv(slip).getBytes(StandardCharsets.UTF_8),
+                renderHtml(slip).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Makinece okunur pusula: alan,değer satırları; tutarlar nokta ondalıklı
+    private static String renderCsv(DtoPayslip slip) {
+        StringBuilder csv = new StringBuilder(512);
+        csv.append("field,value\n");
+        csvRow(csv, "payrollId", slip.getPayrollId());
+        csvRow(csv, "employeeId", slip.getEmployeeId());
+        csvRow(csv, "employeeName", slip.getEmployeeName());
+        csvRow(csv, "department", slip.getDepartment());
+        csvRow(csv, "position", slip.getPosition());
+        csvRow(csv, "period", YearMonth.of(slip.getYear(), slip.getMonth()));
+        csvRow(csv, "standardMonthlyHours", slip.getStandardMonthlyHours());
+        csvRow(csv, "totalWorkHours", plain(slip.getTotalWorkHours()));
+        csvRow(csv, "overtimeHours", plain(slip.getOvertimeHours()));
+        csvRow(csv, "overtimeMultiplier", plain(slip.getOvertimeMultiplier()));
+        csvRow(csv, "baseSalary", plain(slip.getBaseSalary()));
+        csvRow(csv, "overtimePay", plain(slip.getOvertimePay()));
+        csvRow(csv, "bonus", plain(slip.getBonus()));
+        csvRow(csv, "grossSalary", plain(slip.getGrossSalary()));
+        csvRow(csv, "incomeTaxRate", plain(slip.getIncomeTaxRate()));
+        csvRow(csv, "extraDeduction", plain(slip.getExtraDeduction()));
+        csvRow(csv, "deductions", plain(slip.getDeductions()));
+        csvRow(csv, "netSalary", plain(slip.getNetSalary()));
+        return csv.toString();
+    }
+
+    // Tarayıcıdan yazdırılacak pusula; parametreleri saklanmamış eski bordrolarda o satırlar boş kalır
+    private static String renderHtml(DtoPayslip slip) {
+        StringBuilder html = new StringBuilder(2048);
+        String period = String.format("%02d/%d", slip.getMonth(), slip.getYear());
+        html.append("<!DOCTYPE html>\n<html lang=\"tr\">\n<head>\n<meta charset=\"UTF-8\">\n<title>Bordro ")
+                .append(period).append(" - ").append(escapeHtml(slip.getEmployeeName())).append("</title>\n")
+                .append("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;width:100%}")
+                .append("td{border-bottom:1px solid #ccc;padding:4px 8px}td.amount{text-align:right}")
+                .append("tr.total td{font-weight:bold;border-top:2px solid #000}")
+                .append("@media print{body{margin:0}}</style>\n</head>\n<body>\n");
+        html.append("<h1>Bordro Pusulası</h1>\n<p>Dönem: ").append(period).append("<br>\n")
+                .append("Çalışan: ").append(escapeHtml(slip.getEmployeeName()))
+                .append(" (#").append(slip.getEmployeeId()).append(")<br>\n")
+                .append("Departman: ").append(escapeHtml(slip.getDepartment())).append("<br>\n")
+                .append("Pozisyon: ").append(escapeHtml(slip.getPosition())).append("</p>\n<table>\n");
+        htmlRow(html, "Çalışılan saat", hours(slip.getTotalWorkHours()), null);
+        htmlRow(html, "Fazla mesai saati", hours(slip.getOvertimeHours()), null);
+        htmlRow(html, "Temel maaş", money(slip.getBaseSalary()), null);
+        htmlRow(html, "Fazla mesai ücreti", money(slip.getOvertimePay()), null);
+        htmlRow(html, "Prim", money(slip.getBonus()), null);
+        htmlRow(html, "Brüt", money(slip.getGrossSalary()), "total");
+        if (slip.getIncomeTaxRate() != null) {
+            BigDecimal extra = slip.getExtraDeduction() == null ? BigDecimal.ZERO : slip.getExtraDeduction();
+            htmlRow(html, "Gelir vergisi (%" + percent(slip.getIncomeTaxRate()) + ")",
+                    money(slip.getDeductions().subtract(extra)), null);
+            htmlRow(html, "Ek kesinti", money(extra), null);
+        }
+        htmlRow(html, "Toplam kesinti", money(slip.getDeductions()), null);
+        htmlRow(html, "Net ödeme", money(slip.getNetSalary()), "total");
+        html.append("</table>\n</body>\n</html>\n");
+        return html.toString();
+    }
+
+    private static void htmlRow(StringBuilder html, String label, String value, String cssClass) {
+        html.append(cssClass == null ? "<tr>" : "<tr class=\"" + cssClass + "\">")
+                .append("<td>").append(escapeHtml(label)).append("</td><td class=\"amount\">")
+                .append(escapeHtml(value)).append("</td></tr>\n");
+    }
+
+    private static void csvRow(StringBuilder csv, String field, Object value) {
+        csv.append(field).append(',');
+        ExportSupport.appendCsvValue(csv, value);
+        csv.append('\n');
+    }
+
+    private static String escapeHtml(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&#39;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+
+    private static String money(BigDecimal value) {
+        return value == null ? "" : String.format(TR, "%,.2f TL", value);
+    }
+
+    private static String hours(BigDecimal value) {
+        return value == null ? "" : String.format(TR, "%,.2f", value);
+    }
+
+    private static String percent(BigDecimal rate) {
+        return rate.movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,229 @@
+package com.hrmanagement.services;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hrmanagement.repository.EmployeesRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Çalışanın açık devam sayfalarına QR kodunu iten kanal (Server-Sent Events).
+ *
+ * Bağlanınca güncel kod "qr" olayıyla hemen gönderilir; kod değiştiğinde sadece o
+ * çalışanın oturumlarına "rotated" olayı gider. Saklanan modda değişiklik
+ * QrCodeRotatedEvent ile (commit sonrası) gelir; totp modunda pencere değişimi burada
+ * izlenir. Her oturumda sadece en son kod bekletilir: yavaş bir istemci ara kodları
+ * atlar ama hiçbir zaman eski kodu en son göstermez.
+ *
+ * Kanal süreç içidir ve olay sadece kodu yenileyen düğümde yayınlanır (zamanlanmış yenileme
+ * kirayı tutan düğümde çalışır). Diğer düğümlere bağlı oturumlar için saklanan modda
+ * bağlı çalışanların kodları hr.qr.channel.poll-seconds aralıkla tek sorguyla okunur ve
+ * oturuma son gönderilenden farklıysa "rotated" gönderilir.
+ */
+@Component
+public class QrCodeChannel {
+
+    public static final String SNAPSHOT = "qr";
+    public static final String ROTATED = "rotated";
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final int POLL_CHUNK_SIZE = 1000;
+
+    private final QrCodeService qrCodeService;
+    private final EmployeesRepository employeesRepository;
+
+    private final Map<Long, Set<Session>> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("qr-channel-", 0).factory());
+
+    private final AtomicLong pushed = new AtomicLong();
+    private final AtomicLong polls = new AtomicLong();
+    private volatile long lastWindow;
+
+    public QrCodeChannel(QrCodeService qrCodeService, EmployeesRepository employeesRepository) {
+        this.qrCodeService = qrCodeService;
+        this.employeesRepository = employeesRepository;
+        this.lastWindow = qrCodeService.currentWindow();
+    }
+
+    public SseEmitter subscribe(Long employeeId, String currentCode) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        register(employeeId, emitter, currentCode);
+        return emitter;
+    }
+
+    /** Emitter'ı çalışanın oturumlarına ekler ve güncel kodu gönderir. */
+    public void register(Long employeeId, SseEmitter emitter, String currentCode) {
+        Session session = new Session(employeeId, emitter);
+        emitter.onCompletion(session::close);
+        emitter.onTimeout(session::close);
+        emitter.onError(error -> session.close());
+        sessions.computeIfAbsent(employeeId, id -> ConcurrentHashMap.newKeySet()).add(session);
+        session.offer(SNAPSHOT, currentCode);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQrCodeRotated(QrCodeRotatedEvent event) {
+        // Toplu yenilemede binlerce kod gelir; sadece bağlı çalışanlara bakılır
+        if (sessions.size() < event.codes().size()) {
+            for (Map.Entry<Long, Set<Session>> entry : sessions.entrySet()) {
+                String code = event.codes().get(entry.getKey());
+                if (code != null) {
+                    push(entry.getValue(), code);
+                }
+            }
+        } else {
+            event.codes().forEach((employeeId, code) -> {
+                Set<Session> open = sessions.get(employeeId);
+                if (open != null) {
+                    push(open, code);
+                }
+            });
+        }
+    }
+
+    // totp modunda kodlar zaman penceresiyle döner; pencere değişince bağlı çalışanlara yeni kod
+    @Scheduled(fixedDelay = 1000)
+    public void pushTimeBasedCodes() {
+        if (!qrCodeService.isTimeBased()) {
+            return;
+        }
+        long window = qrCodeService.currentWindow();
+        if (window == lastWindow) {
+            return;
+        }
+        lastWindow = window;
+        sessions.forEach((employeeId, open) -> push(open, qrCodeService.currentCode(employeeId)));
+    }
+
+    // Saklanan modda başka düğümdeki yenilemeler olay getirmez: bağlı çalışanların kodları okunur
+    @Scheduled(fixedDelayString = "${hr.qr.channel.poll-seconds:20}",
+            initialDelayString = "${hr.qr.channel.poll-seconds:20}", timeUnit = TimeUnit.SECONDS)
+    public void pollStoredCodes() {
+        if (qrCodeService.isTimeBased() || sessions.isEmpty()) {
+            return;
+        }
+        List<Long> connected = new ArrayList<>(sessions.keySet());
+        for (int from = 0; from < connected.size(); from += POLL_CHUNK_SIZE) {
+            List<Long> chunk = connected.subList(from, Math.min(from + POLL_CHUNK_SIZE, connected.size()));
+            for (Object[] row : employeesRepository.findQrCodesByIdIn(chunk)) {
+                Set<Session> open = sessions.get((Long) row[0]);
+                if (open != null && row[1] != null) {
+                    for (Session session : open) {
+                        session.offerIfChanged((String) row[1]);
+                    }
+                }
+            }
+        }
+        polls.incrementAndGet();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("employees", sessions.size());
+        stats.put("sessions", sessions.values().stream().mapToInt(Set::size).sum());
+        stats.put("pushed", pushed.get());
+        stats.put("polls", polls.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sessions.values().forEach(open -> open.forEach(session -> session.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private void push(Set<Session> open, String code) {
+        for (Session session : open) {
+            session.offer(ROTATED, code);
+        }
+    }
+
+    private final class Session {
+
+        private final Long employeeId;
+        private final SseEmitter emitter;
+        private String pendingName;
+        private String pendingCode;
+        private String lastOffered;
+        private boolean sending;
+        private boolean closed;
+
+        Session(Long employeeId, SseEmitter emitter) {
+            this.employeeId = employeeId;
+            this.emitter = emitter;
+        }
+
+        // Bekleyen kod varsa yenisiyle değiştirilir
+        synchronized void offer(String name, String code) {
+            if (closed) {
+                return;
+            }
+            pendingName = name;
+            pendingCode = code;
+            lastOffered = code;
+            if (!sending) {
+                sending = true;
+                sender.execute(this::drain);
+            }
+        }
+
+        // Yoklamada: oturum bu kodu zaten aldıysa (ya da bekliyorsa) tekrar gönderilmez
+        synchronized void offerIfChanged(String code) {
+            if (!code.equals(lastOffered)) {
+                offer(ROTATED, code);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                String name;
+                String code;
+                synchronized (this) {
+                    if (closed || pendingCode == null) {
+                        sending = false;
+                        return;
+                    }
+                    name = pendingName;
+                    code = pendingCode;
+                    pendingName = null;
+                    pendingCode = null;
+                }
+                try {
+                    emitter.send(SseEmitter.event().name(name)
+                            .data(Map.of("qrCode", code), MediaType.APPLICATION_JSON));
+                    pushed.incrementAndGet();
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            pendingCode = null;
+            sessions.computeIfPresent(employeeId, (id, open) -> {
+                open.remove(this);
+                return open.isEmpty() ? null : open;
+            });
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.hrmanagement.services;
+
+import java.util.Map;
+
+/**
+ * Saklanan QR kodları yenilendiğinde yayınlanır (QrRefreshScheduler, QR giriş/çıkış,
+ * regenerate-qr). codes: çalışan id'si -> yeni kod.
+ */
+public record QrCodeRotatedEvent(Map<Long, String> codes) {
+
+    public static QrCodeRotatedEvent of(Long employeeId, String code) {
+        return new QrCodeRotatedEvent(Map.of(employeeId, code));
+    }
+}
@@ -0,0 +1,135 @@
+package com.hrmanagement.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * QR kod üretimi ve doğrulaması.
+ *
+ * hr.qr.mode (QrMode; büyük/küçük harf önemsiz):
+ * hr.qr.mode=stored : Eski davranış. Kod employees.qr_code kolonunda saklanır,
+ *                     QrRefreshScheduler ve her QR giriş/çıkışı kodu yeniler.
+ * hr.qr.mode=totp   : Kod saklanmaz. "QR-{id}-{imza}" biçiminde; imza çalışan id'si,
+ *                     sunucu anahtarı ve o anki zaman penceresinden HMAC ile türetilir
+ *                     ve doğrulamada yeniden hesaplanır. Veritabanına yazma/okuma yoktur.
+ *                     Anahtar (hr.qr.secret) ortamdan verilmelidir; yoksa uygulama açılmaz.
+ *
+ * Fark: saklanan kod kullanıldığı anda yenilendiği için tek kullanımlıktır. Zaman tabanlı kod
+ * ise penceresi ve kayma payı boyunca (varsayılan 180 sn ± 1 pencere, en fazla ~9 dk) tekrar
+ * kullanılabilir; o sürede kodun ekran görüntüsü çalışan yerine giriş/çıkış yaptırabilir.
+ * Aynı gün tekrar giriş ya da tekrar çıkış zaten reddedilir. Daha kısa ömür için window-seconds
+ * ve allowed-skew-windows küçültülmelidir.
+ */
+@Service
+public class QrCodeService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 5; // 10 hex karakter
+
+    private final boolean timeBased;
+    private final SecretKeySpec key;
+    private final long windowSeconds;
+    private final int allowedSkewWindows;
+    private final Clock clock;
+
+    @Autowired
+    public QrCodeService(@Value("${hr.qr.mode:stored}") String mode,
+                         @Value("${hr.qr.secret:}") String secret,
+                         @Value("${hr.qr.window-seconds:180}") long windowSeconds,
+                         @Value("${hr.qr.allowed-skew-windows:1}") int allowedSkewWindows) {
+        this(mode, secret, windowSeconds, allowedSkewWindows, Clock.systemUTC());
+    }
+
+    public QrCodeService(String mode, String secret, long windowSeconds, int allowedSkewWindows, Clock clock) {
+        this.timeBased = QrMode.of(mode) == QrMode.TOTP;
+        if (timeBased && (secret == null || secret.isBlank())) {
+            throw new IllegalStateException("hr.qr.mode=totp için hr.qr.secret tanımlanmalı");
+        }
+        if (windowSeconds <= 0) {
+            throw new IllegalStateException("hr.qr.window-seconds > 0 olmalı");
+        }
+        this.key = timeBased ? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM) : null;
+        this.windowSeconds = windowSeconds;
+        this.allowedSkewWindows = Math.max(allowedSkewWindows, 0);
+        this.clock = clock;
+    }
+
+    public boolean isTimeBased() {
+        return timeBased;
+    }
+
+    /** Saklanan mod için rastgele kod. */
+    public String generateStoredCode() {
+        return "QR-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    /** Zaman tabanlı modda çalışanın şu anki pencere için geçerli kodu. */
+    public String currentCode(Long employeeId) {
+        return codeFor(employeeId, currentWindow());
+    }
+
+    /**
+     * Zaman tabanlı kodu doğrular ve çalışan id'sini döner.
+     * Saat kayması için önceki/sonraki allowedSkewWindows pencere de kabul edilir.
+     */
+    public Optional<Long> resolveEmployeeId(String qrCode) {
+        if (!timeBased || qrCode == null) {
+            return Optional.empty();
+        }
+        String[] parts = qrCode.split("-");
+        if (parts.length != 3 || !"QR".equals(parts[0])) {
+            return Optional.empty();
+        }
+        long employeeId;
+        try {
+            employeeId = Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        // Aynı id'nin başka yazımları ("042", "+42") kabul edilmez
+        if (!Long.toString(employeeId).equals(parts[1])) {
+            return Optional.empty();
+        }
+        byte[] given = parts[2].getBytes(StandardCharsets.US_ASCII);
+        long window = currentWindow();
+        for (long w = window - allowedSkewWindows; w <= window + allowedSkewWindows; w++) {
+            byte[] expected = signature(employeeId, w).getBytes(StandardCharsets.US_ASCII);
+            if (MessageDigest.isEqual(expected, given)) {
+                return Optional.of(employeeId);
+            }
+        }
+        return Optional.empty();
+    }
+
+    long currentWindow() {
+        return clock.millis() / 1000 / windowSeconds;
+    }
+
+    private String codeFor(Long employeeId, long window) {
+        return "QR-" + employeeId + "-" + signature(employeeId, window);
+    }
+
+    private String signature(long employeeId, long window) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal((employeeId + ":" + window).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().withUpperCase().formatHex(digest, 0, SIGNATURE_BYTES);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("QR imzası hesaplanamadı", e);
+        }
+    }
+}
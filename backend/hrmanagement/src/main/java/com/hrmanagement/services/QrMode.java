@@ -0,0 +1,44 @@
+package com.hrmanagement.services;
+
+import java.util.Locale;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * hr.qr.mode değerleri. Değer sadece burada çözülür (büyük/küçük harf ve boşluk önemsiz);
+ * QrCodeService ve QrRefreshScheduler'ın koşulu aynı sonucu görür. Tanınmayan değer açılışı durdurur.
+ */
+public enum QrMode {
+
+    STORED,
+    TOTP;
+
+    public static final String PROPERTY = "hr.qr.mode";
+
+    public static QrMode of(String value) {
+        if (value == null || value.isBlank()) {
+            return STORED;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(PROPERTY + " stored ya da totp olmalı: " + value);
+        }
+    }
+
+    public static QrMode of(Environment environment) {
+        return of(environment.getProperty(PROPERTY));
+    }
+
+    /** Saklanan modda eşleşir; QrRefreshScheduler sadece bu modda oluşturulur. */
+    public static class StoredCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return of(context.getEnvironment()) == STORED;
+        }
+    }
+}
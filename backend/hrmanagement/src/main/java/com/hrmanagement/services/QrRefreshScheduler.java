@@ -1,8 +1,12 @@
 package com.hrmanagement.services;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -12,34 +16,54 @@ import com.hrmanagement.repository.EmployeesRepository;
 
 import jakarta.transaction.Transactional;
 
+// Sadece saklanan QR modunda gerekir; totp modunda kodlar zaman penceresiyle kendiliğinden döner.
+// Birden fazla sunucuda sadece kirayı tutan düğüm yeniler (SchedulerLockService)
 @Service
+@Conditional(QrMode.StoredCondition.class)
 public class QrRefreshScheduler {
 
+    static final String LOCK_NAME = "qr-refresh";
+
+    private static final long REFRESH_MILLIS = 180000;
+
+    // Lider her tetiklemede kirayı uzatır; düşerse en geç iki pencere sonra başka düğüm devralır
+    private static final Duration LEASE = Duration.ofMillis(2 * REFRESH_MILLIS);
+
     private final EmployeesRepository employeesRepository;
+    private final QrCodeService qrCodeService;
+    private final SchedulerLockService schedulerLock;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public QrRefreshScheduler(EmployeesRepository employeesRepository) {
+    public QrRefreshScheduler(EmployeesRepository employeesRepository, QrCodeService qrCodeService,
+                              SchedulerLockService schedulerLock, ApplicationEventPublisher eventPublisher) {
         this.employeesRepository = employeesRepository;
+        this.qrCodeService = qrCodeService;
+        this.schedulerLock = schedulerLock;
+        this.eventPublisher = eventPublisher;
     }
 
     // Her 3 dakikada bir çalışır (180000 ms = 3 dakika)
-    @Scheduled(fixedRate = 180000)
+    @Scheduled(fixedRate = REFRESH_MILLIS)
     @Transactional
     public void refreshAllQrCodes() {
+        if (!schedulerLock.tryAcquire(LOCK_NAME, LEASE)) {
+            return;
+        }
         List<Employees> approvedEmployees = employeesRepository.findByStatus(Status.APPROVED);
+        Map<Long, String> rotated = new HashMap<>();
         
         for (Employees employee : approvedEmployees) {
             if (employee.getQrCode() != null) {
-                employee.setQrCode(generateNewQrCode());
+                employee.setQrCode(qrCodeService.generateStoredCode());
+                rotated.put(employee.getId(), employee.getQrCode());
             }
         }
         
         // Tek seferde toplu kaydet
         employeesRepository.saveAll(approvedEmployees);
+        // Açık devam sayfalarına commit sonrası QrCodeChannel iter
+        eventPublisher.publishEvent(new QrCodeRotatedEvent(rotated));
         
         System.out.println("[QR Scheduler] " + approvedEmployees.size() + " çalışanın QR kodu yenilendi.");
     }
-
-    private String generateNewQrCode() {
-        return "QR-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-    }
 }
@@ -0,0 +1,250 @@
+package com.hrmanagement.services;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.mapper.AttendanceMapper;
+
+/**
+ * Çalışan başına son N devam kaydı (tarih, id azalan).
+ *
+ * İlk okumada veritabanından N kayıt yüklenir; sonrasında AttendanceChangedEvent ile commit
+ * sonrası güncellenir: yeni kayıt başa eklenir (liste doluysa en eskisi düşer), mevcut kaydın
+ * güncellenmesi yerinde yapılır. Sıralamayı bozan değişiklikler (tarih düzeltme, silme) o
+ * çalışanın girdisini düşürür; bir sonraki okuma yeniden yükler. Yükleme ile olay yarışını
+ * önlemek için yükleme başlamadan alınan damga put sırasında kontrol edilir.
+ *
+ * Her çalışanın listesi değişmez bir anlık görüntüdür; yazmalar yeni görüntüyü yayınlar,
+ * okumalar kilit almaz. Olaylar sadece bu düğümün yazmalarını getirir; başka düğümdeki
+ * yazmaların görünmesi için girdi yüklendikten ttl sonra düşer ve yeniden yüklenir
+ * (hr.attendance.recent.ttl-seconds). maxEmployees sınırında önce süresi dolanlar,
+ * sonra en eski yüklenenler çıkarılır.
+ */
+@Component
+public class RecentAttendanceCache {
+
+    // Damgalar çalışan id'sine göre şeritlere bölünür (sınırlı bellek)
+    private static final int STRIPES = 64;
+
+    private final int size;
+    private final int maxEmployees;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    @Autowired
+    public RecentAttendanceCache(@Value("${hr.attendance.recent.size:10}") int size,
+                                 @Value("${hr.attendance.recent.max-employees:10000}") int maxEmployees,
+                                 @Value("${hr.attendance.recent.ttl-seconds:60}") long ttlSeconds) {
+        this(size, maxEmployees, ttlSeconds, Clock.systemDefaultZone());
+    }
+
+    public RecentAttendanceCache(int size, int maxEmployees, long ttlSeconds, Clock clock) {
+        this.size = size;
+        this.maxEmployees = maxEmployees;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.clock = clock;
+    }
+
+    /** Liste boyutu; daha büyük limitler doğrudan veritabanından okunmalı. */
+    public int capacity() {
+        return size;
+    }
+
+    /** Önbellekte ve süresi dolmamışsa en yeni limit kaydın kopyası, değilse null. */
+    public List<DtoAttandance> get(Long employeeId, int limit) {
+        Snapshot snapshot = limit <= size ? snapshots.get(employeeId) : null;
+        if (snapshot != null && expired(snapshot)) {
+            expirations.incrementAndGet();
+            snapshot = null;
+        }
+        if (snapshot == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        int n = Math.min(Math.max(limit, 0), snapshot.newestFirst().size());
+        List<DtoAttandance> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            result.add(AttendanceMapper.copy(snapshot.newestFirst().get(i)));
+        }
+        return result;
+    }
+
+    /** Yüklemeden önce alınır ve put'a verilir. */
+    public long stamp(Long employeeId) {
+        return stamps.get(stripe(employeeId));
+    }
+
+    /**
+     * Veritabanından okunan en yeni kayıtları (en fazla capacity, en yeni başta) yerleştirir.
+     * Arada bu çalışanı etkileyebilecek bir değişiklik olduysa yerleştirmez.
+     */
+    public synchronized void put(Long employeeId, long stamp, List<DtoAttandance> newestFirst) {
+        if (stamps.get(stripe(employeeId)) != stamp) {
+            return;
+        }
+        List<DtoAttandance> entries = new ArrayList<>(Math.min(newestFirst.size(), size));
+        for (int i = 0; i < Math.min(newestFirst.size(), size); i++) {
+            entries.add(entry(newestFirst.get(i)));
+        }
+        if (!snapshots.containsKey(employeeId) && snapshots.size() >= maxEmployees) {
+            makeRoom();
+        }
+        snapshots.put(employeeId, new Snapshot(List.copyOf(entries), clock.millis()));
+    }
+
+    public synchronized void evict(Long employeeId) {
+        stamps.incrementAndGet(stripe(employeeId));
+        snapshots.remove(employeeId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAttendanceChanged(AttendanceChangedEvent event) {
+        DtoAttandance record = event.record();
+        if (record == null || record.getEmployeeId() == null) {
+            return;
+        }
+        Long employeeId = record.getEmployeeId();
+        stamps.incrementAndGet(stripe(employeeId));
+        if (event.previous() != null && !employeeId.equals(event.previous().getEmployeeId())) {
+            evict(event.previous().getEmployeeId());
+        }
+
+        Snapshot snapshot = snapshots.get(employeeId);
+        if (snapshot == null) {
+            return;
+        }
+        List<DtoAttandance> entries = snapshot.newestFirst();
+        int index = indexOf(entries, record.getId());
+        List<DtoAttandance> updated;
+        if (event.type() == AttendanceChangedEvent.Type.DELETED) {
+            // Silinen kayıt listedeyse yerine gelecek kaydı bilmiyoruz
+            updated = index < 0 ? entries : null;
+        } else if (index >= 0) {
+            updated = replace(entries, index, entry(record));
+        } else {
+            updated = offer(entries, entry(record));
+        }
+        if (updated == null) {
+            snapshots.remove(employeeId);
+            evictions.incrementAndGet();
+        } else if (updated != entries) {
+            // Yükleme zamanı korunur: ttl başka düğümün yazmalarını görmek içindir
+            snapshots.put(employeeId, new Snapshot(updated, snapshot.loadedAt()));
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("employees", snapshots.size());
+        stats.put("ringSize", size);
+        stats.put("ttlSeconds", ttlMillis / 1000);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("evictions", evictions.get());
+        stats.put("expirations", expirations.get());
+        return stats;
+    }
+
+    private boolean expired(Snapshot snapshot) {
+        return ttlMillis > 0 && clock.millis() - snapshot.loadedAt() >= ttlMillis;
+    }
+
+    // Sınıra gelindi: önce süresi dolanlar, yetmezse en eski yüklenen çıkarılır
+    private void makeRoom() {
+        snapshots.values().removeIf(this::expired);
+        if (snapshots.size() < maxEmployees) {
+            return;
+        }
+        Long eldest = null;
+        long eldestLoadedAt = Long.MAX_VALUE;
+        for (Map.Entry<Long, Snapshot> e : snapshots.entrySet()) {
+            if (e.getValue().loadedAt() < eldestLoadedAt) {
+                eldest = e.getKey();
+                eldestLoadedAt = e.getValue().loadedAt();
+            }
+        }
+        if (eldest != null) {
+            snapshots.remove(eldest);
+        }
+    }
+
+    private static DtoAttandance entry(DtoAttandance record) {
+        DtoAttandance entry = AttendanceMapper.copy(record);
+        entry.setNewQrCode(null);
+        return entry;
+    }
+
+    private static int stripe(Long employeeId) {
+        return Math.floorMod(employeeId.hashCode(), STRIPES);
+    }
+
+    private static int indexOf(List<DtoAttandance> entries, Long id) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).getId() != null && entries.get(i).getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Tarih ve id'ye göre: a, b'den daha yeniyse pozitif
+    private static int newer(DtoAttandance a, DtoAttandance b) {
+        int byDate = a.getDate().compareTo(b.getDate());
+        if (byDate != 0) {
+            return byDate;
+        }
+        return Long.compare(a.getId() == null ? 0 : a.getId(), b.getId() == null ? 0 : b.getId());
+    }
+
+    /** Yeni kayıt: en yeniyse başa eklenir; liste dolu ve en eskiden eskiyse liste aynen kalır, yoksa null. */
+    private List<DtoAttandance> offer(List<DtoAttandance> entries, DtoAttandance entry) {
+        if (size == 0) {
+            return entries;
+        }
+        if (entries.isEmpty() || newer(entry, entries.get(0)) > 0) {
+            List<DtoAttandance> updated = new ArrayList<>(size);
+            updated.add(entry);
+            updated.addAll(entries.subList(0, Math.min(entries.size(), size - 1)));
+            return List.copyOf(updated);
+        }
+        // Liste dolu ve kayıt en eskisinden de eski: ilk N'e girmez
+        return entries.size() == size && newer(entry, entries.get(entries.size() - 1)) < 0 ? entries : null;
+    }
+
+    /** Sıralama değişmiyorsa yerinde günceller, değişiyorsa null. */
+    private static List<DtoAttandance> replace(List<DtoAttandance> entries, int index, DtoAttandance entry) {
+        if (!entry.getDate().equals(entries.get(index).getDate())) {
+            return null;
+        }
+        List<DtoAttandance> updated = new ArrayList<>(entries);
+        updated.set(index, entry);
+        return List.copyOf(updated);
+    }
+
+    /** Bir çalışanın yayınlanmış listesi; oluşturulduktan sonra değişmez. */
+    private record Snapshot(List<DtoAttandance> newestFirst, long loadedAt) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.hrmanagement.services;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hrmanagement.entities.Employees.Role;
+import com.hrmanagement.entities.Employees.Status;
+import com.hrmanagement.repository.EmployeeAccessView;
+import com.hrmanagement.repository.EmployeesRepository;
+
+/**
+ * İstekteki requesterId için rol/departman/durum bilgisinin önbelleği ve ortak İK kontrolü.
+ *
+ * Girdiler ttlSeconds sonra yeniden yüklenir; en az kullanılanlar maxEntries sınırında çıkarılır.
+ * Çalışan güncellendiğinde/onaylandığında/silindiğinde invalidate hem hemen hem de commit
+ * sonrası çağrılır (commit'ten önce eski halin yeniden yüklenmesine karşı). Yükleme sürerken
+ * bir invalidate olduysa yüklenen değer önbelleğe konmaz. Önbellek süreç içidir; diğer
+ * düğümlerde değişiklik en geç TTL sonunda görünür.
+ *
+ * İstek geçerli bir oturum token'ı ile geldiyse ve requesterId token'daki çalışansa bilgi
+ * token'dan okunur, ne önbelleğe ne veritabanına gidilir. Token başka bir çalışana aitse boş döner.
+ *
+ * Token zorunlu değildir: token'sız istekte requesterId olduğu gibi kabul edilir. Token burada
+ * sadece bir sorguyu kaldırır ve başka biri adına işlem yapmayı engeller; kimlik doğrulamaz.
+ * requesterId'yi bilen token'sız bir istemci o çalışanın yetkileriyle işlem yapabilir.
+ */
+@Component
+public class RequesterAuthorization {
+
+    public static final String HR_DEPARTMENT = "İnsan Kaynakları";
+
+    /** Yetki kontrolünde kullanılan çalışan bilgisi. */
+    public record Requester(Role role, String department, Status status) {
+
+        public boolean isHr() {
+            return HR_DEPARTMENT.equals(department) || Role.HR.equals(role) || Role.ADMIN.equals(role);
+        }
+    }
+
+    private record Entry(Requester requester, long expiresAtNanos) {
+    }
+
+    private final EmployeesRepository employeesRepository;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+
+    // Her invalidate'te artar; yükleme öncesi ve sonrası farklıysa sonuç önbelleğe konmaz
+    private long generation;
+
+    private final AtomicLong fromToken = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RequesterAuthorization(EmployeesRepository employeesRepository,
+                                  @Value("${hr.auth.cache.ttl-seconds:60}") long ttlSeconds,
+                                  @Value("${hr.auth.cache.max-entries:10000}") int maxEntries) {
+        this.employeesRepository = employeesRepository;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** İK/Admin değilse IllegalArgumentException (400) fırlatır; bordro servislerinin kuralı. */
+    public Requester requireHr(Long requesterId, String deniedMessage) {
+        return requireHr(requesterId, deniedMessage, IllegalArgumentException::new);
+    }
+
+    /** İK/Admin değilse servisin kendi hata tipini fırlatır; mesaj "Yetki hatası: ..." biçimindedir. */
+    public <E extends RuntimeException> Requester requireHr(Long requesterId, String deniedMessage,
+                                                            Function<String, E> error) {
+        Requester requester = require(requesterId, error);
+        if (!requester.isHr()) {
+            throw error.apply(deniedMessage);
+        }
+        return requester;
+    }
+
+    /** requesterId yoksa ya da çalışan bulunamazsa hata fırlatır; rol kontrolü çağırana kalır. */
+    public <E extends RuntimeException> Requester require(Long requesterId, Function<String, E> error) {
+        if (requesterId == null) {
+            throw error.apply("Yetki hatası: requesterId gerekli");
+        }
+        return find(requesterId).orElseThrow(() -> error.apply("Yetki hatası: Kullanıcı bulunamadı"));
+    }
+
+    /**
+     * Çalışan bilgisini token'dan, önbellekten ya da veritabanından döner; çalışan yoksa boş.
+     * Token'sız istekte requesterId doğrulanmadan kullanılır (bkz. sınıf açıklaması).
+     */
+    public Optional<Requester> find(Long employeeId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SessionTokenService.Session session) {
+            fromToken.incrementAndGet();
+            // Token sahibi başkası adına işlem yapamaz
+            if (!session.employeeId().equals(employeeId)) {
+                return Optional.empty();
+            }
+            // Giriş ve yenileme yalnızca onaylı çalışana token verir
+            return Optional.of(new Requester(session.role(), session.department(), Status.APPROVED));
+        }
+
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(employeeId);
+            if (entry != null) {
+                if (System.nanoTime() - entry.expiresAtNanos() < 0) {
+                    hits.incrementAndGet();
+                    return Optional.of(entry.requester());
+                }
+                entries.remove(employeeId);
+                expirations.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            loadGeneration = generation;
+        }
+
+        Optional<Requester> loaded = employeesRepository.findAccessById(employeeId)
+                .map(RequesterAuthorization::toRequester);
+
+        // Bulunamayan id önbelleğe alınmaz; yeni kayıt hemen görünsün
+        loaded.ifPresent(requester -> {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(employeeId, new Entry(requester, System.nanoTime() + ttlNanos));
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /** Çalışanın rolü, departmanı ya da durumu değiştiğinde çağrılır. */
+    public void invalidate(Long employeeId) {
+        invalidations.incrementAndGet();
+        evict(employeeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(employeeId);
+                }
+            });
+        }
+    }
+
+    public synchronized Map<String, Object> stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("fromToken", fromToken.get());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("expirations", expirations.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private synchronized void evict(Long employeeId) {
+        generation++;
+        entries.remove(employeeId);
+    }
+
+    private static Requester toRequester(EmployeeAccessView view) {
+        return new Requester(view.getRole(), view.getDepartment(), view.getStatus());
+    }
+}
@@ -0,0 +1,113 @@
+package com.hrmanagement.services;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrmanagement.repository.SchedulerLockRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * scheduler_locks tablosu üzerinden zamanlanmış işlerin lider seçimi (harici koordinatör yok).
+ *
+ * Her düğüm işi tetiklediğinde tryAcquire çağırır; kirayı tutan düğüm onu uzatır, diğerleri
+ * kira bitene kadar atlar. Lider ölürse kirası dolunca ilk tetiklenen düğüm devralır;
+ * düzgün kapanışta kiralar hemen bırakılır. Kira işlemleri çağıranın transaction'ından
+ * bağımsız commit edilir. Süreler düğüm saatiyle hesaplanır; saat farkı kira süresine
+ * göre küçük olmalı.
+ */
+@Service
+public class SchedulerLockService {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLockService.class);
+
+    private final SchedulerLockRepository lockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    // Bu düğümün tuttuğu kiralar (kapanışta bırakılır)
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+
+    public SchedulerLockService(SchedulerLockRepository lockRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${hr.scheduler.node-id:}") String nodeId) {
+        this.lockRepository = lockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /** Kira boşsa ya da zaten bu düğümdeyse leaseFor kadar alır/uzatır ve true döner. */
+    public boolean tryAcquire(String name, Duration leaseFor) {
+        Instant now = Instant.now();
+        Instant until = now.plus(leaseFor);
+        Integer updated = transactionTemplate.execute(status -> lockRepository.acquire(name, nodeId, now, until));
+        boolean acquired = updated != null && updated > 0;
+        if (!acquired && !lockRepository.existsById(name)) {
+            try {
+                transactionTemplate.execute(status -> lockRepository.insert(name, nodeId, now, until));
+                acquired = true;
+            } catch (DataIntegrityViolationException e) {
+                // Başka bir düğüm aynı anda ekledi; kira onda
+            }
+        }
+        if (acquired) {
+            held.add(name);
+        } else {
+            held.remove(name);
+        }
+        return acquired;
+    }
+
+    /** Bu düğümdeki kirayı hemen bırakır; başka düğüm bir sonraki tetiklemede alabilir. */
+    public void release(String name) {
+        held.remove(name);
+        transactionTemplate.execute(status -> lockRepository.release(name, nodeId, Instant.now()));
+    }
+
+    /** Tek seferlik işler için: kira alınabilirse işi çalıştırır ve sonunda bırakır. */
+    public boolean runLocked(String name, Duration leaseFor, Runnable task) {
+        if (!tryAcquire(name, leaseFor)) {
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            release(name);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        for (String name : held) {
+            try {
+                release(name);
+            } catch (RuntimeException e) {
+                log.warn("Kira bırakılamadı ({}); süresi dolunca başka düğüm devralır", name, e);
+            }
+        }
+    }
+
+    private static String defaultNodeId() {
+        // pid@host + rastgele ek: aynı makinede yeniden başlayan süreç eski kirayı kendininmiş gibi uzatmasın
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
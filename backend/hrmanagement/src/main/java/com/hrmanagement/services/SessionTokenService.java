@@ -0,0 +1,126 @@
+package com.hrmanagement.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hrmanagement.entities.Employees.Role;
+
+/**
+ * Giriş sonrası verilen imzalı oturum token'ları.
+ *
+ * Token "{payload}.{imza}" biçimindedir (ikisi de base64url); payload tür, çalışan id'si, rol,
+ * departman ve bitiş zamanını taşır, imza sunucu anahtarıyla HMAC-SHA256'dır. Doğrulama
+ * veritabanına gitmez. Erişim token'ı kısa ömürlüdür; yenileme token'ı ile /refresh
+ * üzerinden (çalışanın güncel rol/durumu okunarak) yeni çift alınır. Token'lar sunucuda
+ * saklanmadığından iptal edilemez; rol değişikliği en geç erişim token'ı süresi dolunca görünür.
+ */
+@Service
+public class SessionTokenService {
+
+    public enum Type {
+        ACCESS("a"), REFRESH("r");
+
+        private final String code;
+
+        Type(String code) {
+            this.code = code;
+        }
+    }
+
+    /** Doğrulanmış token'ın taşıdığı kimlik. */
+    public record Session(Long employeeId, Role role, String department, long expiresAtEpochSecond) {
+    }
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long accessTtlSeconds;
+    private final long refreshTtlSeconds;
+    private final Clock clock;
+
+    @Autowired
+    public SessionTokenService(@Value("${hr.session.secret:}") String secret,
+                               @Value("${hr.session.access-ttl-seconds:900}") long accessTtlSeconds,
+                               @Value("${hr.session.refresh-ttl-seconds:43200}") long refreshTtlSeconds) {
+        this(secret, accessTtlSeconds, refreshTtlSeconds, Clock.systemUTC());
+    }
+
+    public SessionTokenService(String secret, long accessTtlSeconds, long refreshTtlSeconds, Clock clock) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("hr.session.secret tanımlanmalı");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.accessTtlSeconds = accessTtlSeconds;
+        this.refreshTtlSeconds = refreshTtlSeconds;
+        this.clock = clock;
+    }
+
+    public String issue(Type type, Long employeeId, Role role, String department) {
+        long ttl = type == Type.ACCESS ? accessTtlSeconds : refreshTtlSeconds;
+        long expiresAt = clock.instant().getEpochSecond() + ttl;
+        String payload = type.code + "|" + employeeId + "|" + (role == null ? "" : role.name()) + "|"
+                + ENCODER.encodeToString((department == null ? "" : department).getBytes(StandardCharsets.UTF_8))
+                + "|" + expiresAt;
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + sign(encodedPayload);
+    }
+
+    /** İmza, tür ve süre geçerliyse token'ın kimliği; değilse boş. */
+    public Optional<Session> verify(String token, Type type) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, dot);
+        byte[] expected = sign(encodedPayload).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.empty();
+        }
+        try {
+            String[] parts = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 5 || !type.code.equals(parts[0])) {
+                return Optional.empty();
+            }
+            long expiresAt = Long.parseLong(parts[4]);
+            if (clock.instant().getEpochSecond() >= expiresAt) {
+                return Optional.empty();
+            }
+            Role role = parts[2].isEmpty() ? null : Role.valueOf(parts[2]);
+            String department = new String(DECODER.decode(parts[3]), StandardCharsets.UTF_8);
+            return Optional.of(new Session(Long.valueOf(parts[1]), role, department, expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public long accessTtlSeconds() {
+        return accessTtlSeconds;
+    }
+
+    private String sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return ENCODER.encodeToString(mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Oturum token'ı imzalanamadı", e);
+        }
+    }
+}
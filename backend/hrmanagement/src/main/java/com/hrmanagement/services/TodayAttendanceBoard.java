@@ -0,0 +1,184 @@
+package com.hrmanagement.services;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.mapper.AttendanceMapper;
+import com.hrmanagement.repository.AttandanceRepository;
+
+/**
+ * Bugünün devam durumunu bellekte tutan pano (employeeId -> bugünkü kayıt).
+ *
+ * Açılışta ve gece yarısı tek sorguyla yüklenir, sonrasında AttendanceChangedEvent
+ * ile commit sonrası güncellenir. getTodayStatus ve bugünün tarih listesi buradan
+ * okunur. Yükleme ve olay uygulama aynı kilidi kullanır; böylece yükleme
+ * sırasında gelen bir değişiklik kaybolmaz.
+ *
+ * Pano süreç içidir ve olaylar sadece bu düğümün yazmalarını getirir. Başka düğümdeki
+ * yazmaların görünmesi için pano ttl'den eskiyse ilk isCurrent çağrısında yeniden yüklenir;
+ * yani bir değişiklik diğer düğümlerde en geç ttl sonra görünür (hr.attendance.board.ttl-seconds).
+ */
+@Component
+public class TodayAttendanceBoard {
+
+    private final AttandanceRepository attandanceRepository;
+    private final Duration ttl;
+    private final Clock clock;
+
+    // Gün değişiminde map bütünüyle değiştirilir; okuyucular ya eski ya yeni günü görür
+    private volatile Day current;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong reloads = new AtomicLong();
+
+    @Autowired
+    public TodayAttendanceBoard(AttandanceRepository attandanceRepository,
+                                @Value("${hr.attendance.board.ttl-seconds:30}") long ttlSeconds) {
+        this(attandanceRepository, ttlSeconds, Clock.systemDefaultZone());
+    }
+
+    public TodayAttendanceBoard(AttandanceRepository attandanceRepository, long ttlSeconds, Clock clock) {
+        this.attandanceRepository = attandanceRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.clock = clock;
+    }
+
+    private record Day(LocalDate date, ConcurrentHashMap<Long, DtoAttandance> entries, Instant loadedAt,
+                       AtomicLong lastChangeMillis) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    // Gece yarısı yeni güne geç (pano süreç içi olduğundan kira alınmaz, her düğümde çalışır)
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollover() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        LocalDate today = LocalDate.now(clock);
+        ConcurrentHashMap<Long, DtoAttandance> entries = new ConcurrentHashMap<>();
+        for (DtoAttandance dto : attandanceRepository.findDtoByDateOrderByCheckInTimeDesc(today)) {
+            entries.put(dto.getEmployeeId(), dto);
+        }
+        current = new Day(today, entries, clock.instant(), new AtomicLong(clock.millis()));
+        reloads.incrementAndGet();
+    }
+
+    /**
+     * Pano bugün için yüklüyse true; değilse çağıran veritabanına gitmeli.
+     * Bugün sorulduğunda pano ttl'den eskiyse (ya da gün değişip rollover henüz çalışmadıysa) önce yeniden yüklenir.
+     */
+    public boolean isCurrent(LocalDate date) {
+        LocalDate today = LocalDate.now(clock);
+        Day day = current;
+        if (date.equals(today) && (day == null || !day.date().equals(today) || expired(day))) {
+            day = refresh(day);
+        }
+        boolean served = day != null && day.date().equals(date) && date.equals(today);
+        if (served) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return served;
+    }
+
+    // Aynı anda süresi dolan panoyu gören isteklerden sadece ilki yükler
+    private synchronized Day refresh(Day seen) {
+        if (current == seen) {
+            reload();
+        }
+        return current;
+    }
+
+    private boolean expired(Day day) {
+        return !ttl.isZero() && !day.loadedAt().plus(ttl).isAfter(clock.instant());
+    }
+
+    /** isCurrent(bugün) true döndükten sonra çağrılmalı. Kayıt yoksa null. */
+    public DtoAttandance get(Long employeeId) {
+        DtoAttandance dto = current.entries().get(employeeId);
+        return dto == null ? null : AttendanceMapper.copy(dto);
+    }
+
+    /** Bugünün kayıtları, giriş saatine göre azalan (veritabanı sorgusuyla aynı sıra). */
+    public List<DtoAttandance> list() {
+        List<DtoAttandance> result = new ArrayList<>();
+        for (DtoAttandance dto : current.entries().values()) {
+            result.add(AttendanceMapper.copy(dto));
+        }
+        result.sort(Comparator.comparing(DtoAttandance::getCheckInTime,
+                Comparator.nullsLast(Comparator.<LocalTime>reverseOrder())));
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAttendanceChanged(AttendanceChangedEvent event) {
+        Day day = current;
+        DtoAttandance record = event.record();
+        if (day == null || record == null || record.getEmployeeId() == null) {
+            return;
+        }
+        ConcurrentHashMap<Long, DtoAttandance> entries = day.entries();
+
+        if (event.type() == AttendanceChangedEvent.Type.SAVED && day.date().equals(record.getDate())) {
+            DtoAttandance entry = AttendanceMapper.copy(record);
+            entry.setNewQrCode(null);
+            if (entry.getEmployeeName() == null) {
+                DtoAttandance previous = entries.get(entry.getEmployeeId());
+                if (previous != null) {
+                    entry.setEmployeeName(previous.getEmployeeName());
+                }
+            }
+            entries.put(entry.getEmployeeId(), entry);
+        } else {
+            // Silindi ya da başka bir güne taşındı
+            entries.computeIfPresent(record.getEmployeeId(),
+                    (id, existing) -> record.getId() != null && record.getId().equals(existing.getId()) ? null : existing);
+        }
+        day.lastChangeMillis().set(clock.millis());
+    }
+
+    public Map<String, Object> stats() {
+        Day day = current;
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("date", day == null ? null : day.date());
+        stats.put("size", day == null ? 0 : day.entries().size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("reloads", reloads.get());
+        stats.put("loadedAt", day == null ? null : day.loadedAt());
+        stats.put("ttlSeconds", ttl.toSeconds());
+        stats.put("secondsSinceLoad", day == null ? null : Duration.between(day.loadedAt(), clock.instant()).toSeconds());
+        stats.put("secondsSinceLastChange", day == null ? null
+                : (clock.millis() - day.lastChangeMillis().get()) / 1000);
+        return stats;
+    }
+}
@@ -1,37 +1,116 @@
 package com.hrmanagement.services.impl;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import org.springframework.beans.BeanUtils;
+import java.util.Set;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandanceEvent;
+import com.hrmanagement.dto.DtoAttandanceEventResult;
+import com.hrmanagement.dto.DtoAttandanceHoursBucket;
+import com.hrmanagement.dto.DtoAttandancePage;
+import com.hrmanagement.dto.DtoAttandanceTotalHours;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
 import com.hrmanagement.entities.Attendance;
 import com.hrmanagement.entities.Employees;
+import com.hrmanagement.mapper.AttendanceMapper;
 import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.AttendanceHoursTotalView;
+import com.hrmanagement.repository.AttendanceSpecifications;
 import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.AttendanceChangedEvent;
+import com.hrmanagement.services.AttendanceExportService;
+import com.hrmanagement.services.AttendanceFeed;
+import com.hrmanagement.services.AttendanceMonthlySummaryService;
 import com.hrmanagement.services.IAttandanceServices;
+import com.hrmanagement.services.QrCodeRotatedEvent;
+import com.hrmanagement.services.QrCodeService;
+import com.hrmanagement.services.RecentAttendanceCache;
+import com.hrmanagement.services.RequesterAuthorization;
+import com.hrmanagement.services.TodayAttendanceBoard;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class AttandanceServicesImpl implements IAttandanceServices{
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 500;
+    private static final int MAX_BULK_EVENTS = 500;
+    private static final String ATTENDANCE_DAY_CONSTRAINT = "uk_attendance_employee_date";
+    private static final int MAX_GROUPED_RANGE_DAYS = 366;
+    // Tek taraflı tarih aralığında diğer uç (MySQL DATE aralığı)
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
 
     private final AttandanceRepository attandanceRepository;
     private final EmployeesRepository employeesRepository;
-
-    public AttandanceServicesImpl(AttandanceRepository attandanceRepository,EmployeesRepository employeesRepository) {
+    private final QrCodeService qrCodeService;
+    private final TodayAttendanceBoard todayBoard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceMonthlySummaryService monthlySummary;
+    private final RecentAttendanceCache recentCache;
+    private final AttendanceFeed feed;
+    private final AttendanceExportService exportService;
+    private final RequesterAuthorization requesterAuthorization;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AttandanceServicesImpl(AttandanceRepository attandanceRepository,EmployeesRepository employeesRepository,
+                                  QrCodeService qrCodeService, TodayAttendanceBoard todayBoard,
+                                  ApplicationEventPublisher eventPublisher,
+                                  AttendanceMonthlySummaryService monthlySummary,
+                                  RecentAttendanceCache recentCache,
+                                  AttendanceFeed feed,
+                                  AttendanceExportService exportService,
+                                  RequesterAuthorization requesterAuthorization,
+                                  PlatformTransactionManager transactionManager) {
         this.attandanceRepository = attandanceRepository;
         this.employeesRepository = employeesRepository;
-
+        this.qrCodeService = qrCodeService;
+        this.todayBoard = todayBoard;
+        this.eventPublisher = eventPublisher;
+        this.monthlySummary = monthlySummary;
+        this.recentCache = recentCache;
+        this.feed = feed;
+        this.exportService = exportService;
+        this.requesterAuthorization = requesterAuthorization;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
+    @Transactional
     public DtoAttandance checkIn(DtoAttandance dtoAttandance) {
         Employees employee = employeesRepository.findById(dtoAttandance.getEmployeeId())
                 .orElseThrow(() -> new RuntimeException("Çalışan bulunamadı!"));
@@ -39,15 +118,8 @@ public class AttandanceServicesImpl implements IAttandanceServices{
         // Tarih kontrolü - DTO'dan tarih geliyorsa onu kullan, yoksa bugün
         LocalDate targetDate = dtoAttandance.getDate() != null ? dtoAttandance.getDate() : LocalDate.now();
 
-        Optional<Attendance> existingRecord = attandanceRepository
-                .findByEmployeeIdAndDate(dtoAttandance.getEmployeeId(), targetDate);
-
-        if (existingRecord.isPresent()) {
-            throw new RuntimeException("Bu tarih için zaten giriş yapılmış!");
-        }
-
         // Giriş saati - DTO'dan geliyorsa onu kullan
-        LocalTime checkInTime = dtoAttandance.getCheckInTime() != null ? dtoAttandance.getCheckInTime() : LocalTime.now();
+        LocalTime checkInTime = wholeSeconds(dtoAttandance.getCheckInTime() != null ? dtoAttandance.getCheckInTime() : LocalTime.now());
 
         Attendance attendance = new Attendance();
         attendance.setEmployee(employee); 
@@ -56,45 +128,101 @@ public class AttandanceServicesImpl implements IAttandanceServices{
         attendance.setStatus("PRESENT"); 
         attendance.setHoursWorked(0.0);  
 
-        Attendance savedAttendance = attandanceRepository.save(attendance);
+        Attendance savedAttendance = insertCheckIn(attendance, "Bu tarih için zaten giriş yapılmış!");
         
-        return convertToDto(savedAttendance);
+        DtoAttandance dto = convertToDto(savedAttendance);
+        publishSaved(dto, null, employee);
+        return dto;
     }
 
     @Override
+    @Transactional
     public DtoAttandance checkOut(DtoAttandance dtoAttandance) {
         // Tarih kontrolü - DTO'dan tarih geliyorsa onu kullan, yoksa bugün
         LocalDate targetDate = dtoAttandance.getDate() != null ? dtoAttandance.getDate() : LocalDate.now();
 
-        Attendance attendance = attandanceRepository
-                .findByEmployeeIdAndDate(dtoAttandance.getEmployeeId(), targetDate)
-                .orElseThrow(() -> new RuntimeException("Giriş kaydı bulunamadı!"));
+        // Çıkış saati - DTO'dan geliyorsa onu kullan
+        return closeOpenRecord(dtoAttandance.getEmployeeId(), targetDate, wholeSeconds(dtoAttandance.getCheckOutTime()), null,
+                "Giriş kaydı bulunamadı!", "Zaten çıkış yapılmış!");
+    }
 
-        if (attendance.getCheckOutTime() != null) {
-            throw new RuntimeException("Zaten çıkış yapılmış!");
+    // Kayıt (employee_id, date) tekil kısıtına dayanarak eklenir; ön kontrol sorgusu yapılmaz.
+    // Eşzamanlı iki girişten ikincisi kısıta takılır. Diğer bütünlük hataları olduğu gibi yükselir.
+    private Attendance insertCheckIn(Attendance attendance, String duplicateMessage) {
+        try {
+            return attandanceRepository.saveAndFlush(attendance);
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, ATTENDANCE_DAY_CONSTRAINT)) {
+                throw new RuntimeException(duplicateMessage);
+            }
+            throw e;
         }
+    }
 
-        // Çıkış saati - DTO'dan geliyorsa onu kullan
-        LocalTime checkOutTime = dtoAttandance.getCheckOutTime() != null ? dtoAttandance.getCheckOutTime() : LocalTime.now();
-
-        // Çıkış saati giriş saatinden önce olamaz
-        if (checkOutTime.isBefore(attendance.getCheckInTime())) {
-            throw new RuntimeException("Çıkış saati giriş saatinden önce olamaz!");
+    // Kısıt adı Hibernate'in çıkardığı addan, çıkaramadıysa sürücü mesajından okunur
+    // (MySQL: "for key 'attendance.uk_...'", H2: "PUBLIC.UK_..._INDEX_n")
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint)) {
+                return true;
+            }
         }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraint);
+    }
 
-        attendance.setCheckOutTime(checkOutTime);
+    // Saatler saniyeye kesilir: TIME(0) kolonu kesri yuvarlar, bellekteki değer (pano, olay)
+    // satırla aynı kalmalı; aksi halde checkOutIfOpen'ın giriş saati koşulu tutmaz.
+    private static LocalTime wholeSeconds(LocalTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.SECONDS);
+    }
 
-        long seconds = Duration.between(attendance.getCheckInTime(), attendance.getCheckOutTime()).toSeconds();
-        double hours = seconds / 3600.0;
+    /**
+     * Açık kaydı tek koşullu UPDATE ile kapatır; başarıyı etkilenen satır sayısı belirler.
+     * Giriş saati bugünün panosundan, pano yoksa/eskiyse kayıttan okunur. UPDATE giriş saatini
+     * de koşul olarak aldığından hesaplanan çalışma saati her zaman satırla tutarlıdır.
+     */
+    private DtoAttandance closeOpenRecord(Long employeeId, LocalDate date, LocalTime requestedCheckOut,
+                                          Employees employee, String notFoundMessage, String alreadyClosedMessage) {
+        DtoAttandance open = todayBoard.isCurrent(date) ? todayBoard.get(employeeId) : null;
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (open == null || open.getCheckOutTime() != null || open.getCheckInTime() == null) {
+                Attendance attendance = attandanceRepository.findByEmployeeIdAndDate(employeeId, date)
+                        .filter(a -> a.getCheckInTime() != null)
+                        .orElseThrow(() -> new RuntimeException(notFoundMessage));
+                if (attendance.getCheckOutTime() != null) {
+                    throw new RuntimeException(alreadyClosedMessage);
+                }
+                open = convertToDto(attendance);
+            }
+
+            LocalTime checkOutTime = requestedCheckOut != null ? requestedCheckOut : wholeSeconds(LocalTime.now());
 
-        attendance.setHoursWorked(hours);
+            // Çıkış saati giriş saatinden önce olamaz
+            if (checkOutTime.isBefore(open.getCheckInTime())) {
+                throw new RuntimeException("Çıkış saati giriş saatinden önce olamaz!");
+            }
 
-        Attendance savedAttendance = attandanceRepository.save(attendance);
+            long seconds = Duration.between(open.getCheckInTime(), checkOutTime).toSeconds();
+            double hours = seconds / 3600.0;
 
-        return convertToDto(savedAttendance);
+            if (attandanceRepository.checkOutIfOpen(employeeId, date, open.getCheckInTime(), checkOutTime, hours) == 1) {
+                DtoAttandance dto = AttendanceMapper.copy(open);
+                dto.setEmployeeId(employeeId);
+                dto.setCheckOutTime(checkOutTime);
+                dto.setHoursWorked(hours);
+                publishSaved(dto, open, employee);
+                return dto;
+            }
+            // Pano eskiydi ya da kayıt bu arada kapandı: kayıttan yeniden değerlendir
+            open = null;
+        }
+        throw new RuntimeException(alreadyClosedMessage);
     }
 
     @Override
+    @Transactional
     public DtoAttandance saveRecord(DtoAttandance dtoAttandance) {
         Employees employee = employeesRepository.findById(dtoAttandance.getEmployeeId())
                 .orElseThrow(() -> new RuntimeException("Çalışan bulunamadı!"));
@@ -106,9 +234,11 @@ public class AttandanceServicesImpl implements IAttandanceServices{
                 .findByEmployeeIdAndDate(dtoAttandance.getEmployeeId(), targetDate);
 
         Attendance attendance;
+        DtoAttandance previous = null;
         if (existingRecord.isPresent()) {
             // Var olan kaydı güncelle
             attendance = existingRecord.get();
+            previous = convertToDto(attendance);
         } else {
             // Yeni kayıt oluştur
             attendance = new Attendance();
@@ -119,10 +249,10 @@ public class AttandanceServicesImpl implements IAttandanceServices{
 
         // Giriş ve çıkış saatlerini set et
         if (dtoAttandance.getCheckInTime() != null) {
-            attendance.setCheckInTime(dtoAttandance.getCheckInTime());
+            attendance.setCheckInTime(wholeSeconds(dtoAttandance.getCheckInTime()));
         }
         if (dtoAttandance.getCheckOutTime() != null) {
-            attendance.setCheckOutTime(dtoAttandance.getCheckOutTime());
+            attendance.setCheckOutTime(wholeSeconds(dtoAttandance.getCheckOutTime()));
         }
 
         // Çalışma saatini hesapla
@@ -139,46 +269,152 @@ public class AttandanceServicesImpl implements IAttandanceServices{
         }
 
         Attendance saved = attandanceRepository.save(attendance);
-        return convertToDto(saved);
+        DtoAttandance dto = convertToDto(saved);
+        publishSaved(dto, previous, employee);
+        return dto;
     }
 
     @Override
-    public DtoAttandance getTotalHoursAttandance(DtoAttandance dtoAttandance) {
-        
-        List<Attendance> list = attandanceRepository.findByEmployeeId(dtoAttandance.getEmployeeId());
-        
-        if(list == null || list.isEmpty()){
-             return null; 
+    public DtoAttandanceTotalHours getTotalHoursAttandance(Long employeeId, String startDate, String endDate,
+                                                          String groupBy) {
+        String grouping = (groupBy == null || groupBy.isEmpty()) ? "none" : groupBy.toLowerCase(Locale.ROOT);
+        if (!List.of("none", "day", "week", "month").contains(grouping)) {
+            throw new RuntimeException("Geçersiz gruplama: " + groupBy + " (none, day, week, month)");
+        }
+        LocalDate start = (startDate != null && !startDate.isEmpty()) ? LocalDate.parse(startDate) : null;
+        LocalDate end = (endDate != null && !endDate.isEmpty()) ? LocalDate.parse(endDate) : null;
+        boolean ranged = start != null || end != null;
+        if (grouping.equals("day") || grouping.equals("week")) {
+            // Grup sayısı tarih aralığıyla sınırlı kalsın
+            if (start == null || end == null || start.plusDays(MAX_GROUPED_RANGE_DAYS).isBefore(end)) {
+                throw new RuntimeException("Günlük/haftalık gruplama için en fazla " + MAX_GROUPED_RANGE_DAYS
+                        + " günlük startDate-endDate aralığı gerekli");
+            }
         }
-        
-        double totalHours = list.stream()
-                .filter(a -> a.getHoursWorked() != null)
-                .mapToDouble(Attendance::getHoursWorked)
-                .sum();
-        
-        Attendance lastRecord = list.get(list.size() - 1);
 
-        DtoAttandance response = new DtoAttandance();
-        response.setEmployeeId(dtoAttandance.getEmployeeId());
-        response.setHoursWorked(totalHours);
-        
-        response.setCheckInTime(lastRecord.getCheckInTime());
-        response.setCheckOutTime(lastRecord.getCheckOutTime());
-        
+        DtoAttandanceTotalHours response = new DtoAttandanceTotalHours();
+        response.setEmployeeId(employeeId);
+        response.setStartDate(start);
+        response.setEndDate(end);
+        response.setGroupBy(grouping);
+
+        Optional<Attendance> last;
+        if (!ranged) {
+            // Tüm zamanlar aylık özetten: maliyet kayıt sayısıyla değil ay sayısıyla büyür
+            BigDecimal totalHours = monthlySummary.totalHours(employeeId);
+            response.setTotalHours(totalHours == null ? 0.0 : totalHours.doubleValue());
+            response.setRecords(monthlySummary.recordCount(employeeId));
+            last = attandanceRepository.findFirstByEmployeeIdOrderByDateDescIdDesc(employeeId);
+            if (grouping.equals("month")) {
+                response.setBuckets(monthBuckets(monthlySummary.months(employeeId)));
+            }
+        } else {
+            LocalDate from = start != null ? start : MIN_DATE;
+            LocalDate to = end != null ? end : MAX_DATE;
+            if (from.isAfter(to)) {
+                throw new RuntimeException("startDate, endDate'ten sonra olamaz");
+            }
+            AttendanceHoursTotalView totals = attandanceRepository.sumHours(employeeId, from, to);
+            response.setTotalHours(hours(totals));
+            response.setRecords(totals.getRecords());
+            last = totals.getDate() == null ? Optional.empty()
+                    : attandanceRepository.findByEmployeeIdAndDate(employeeId, totals.getDate());
+            switch (grouping) {
+                case "day" -> response.setBuckets(dayBuckets(attandanceRepository.sumHoursByDay(employeeId, from, to)));
+                case "week" -> response.setBuckets(weekBuckets(attandanceRepository.sumHoursByDay(employeeId, from, to),
+                        from, to));
+                case "month" -> response.setBuckets(monthBuckets(attandanceRepository.sumHoursByMonth(employeeId, from, to),
+                        from, to));
+                default -> { }
+            }
+        }
+
+        last.ifPresent(record -> {
+            response.setLastDate(record.getDate());
+            response.setLastCheckInTime(record.getCheckInTime());
+            response.setLastCheckOutTime(record.getCheckOutTime());
+        });
         return response;
     }
 
-    private DtoAttandance convertToDto(Attendance attendance) {
-        DtoAttandance dto = new DtoAttandance();
-        BeanUtils.copyProperties(attendance, dto);
-        if (attendance.getEmployee() != null) {
-            dto.setEmployeeId(attendance.getEmployee().getId());
+    private static List<DtoAttandanceHoursBucket> dayBuckets(List<AttendanceHoursTotalView> days) {
+        List<DtoAttandanceHoursBucket> buckets = new ArrayList<>(days.size());
+        for (AttendanceHoursTotalView day : days) {
+            buckets.add(new DtoAttandanceHoursBucket(day.getDate(), day.getDate(), hours(day), day.getRecords()));
         }
-        return dto;
+        return buckets;
+    }
+
+    // Haftalar pazartesi başlar; ilk/son hafta aralık sınırında kesilir
+    private static List<DtoAttandanceHoursBucket> weekBuckets(List<AttendanceHoursTotalView> days, LocalDate from,
+                                                              LocalDate to) {
+        List<DtoAttandanceHoursBucket> buckets = new ArrayList<>();
+        DtoAttandanceHoursBucket current = null;
+        for (AttendanceHoursTotalView day : days) {
+            LocalDate monday = day.getDate().with(DayOfWeek.MONDAY);
+            if (current == null || monday.isAfter(current.getPeriodStart())) {
+                LocalDate sunday = monday.plusDays(6);
+                current = new DtoAttandanceHoursBucket(monday.isBefore(from) ? from : monday,
+                        sunday.isAfter(to) ? to : sunday, 0.0, 0L);
+                buckets.add(current);
+            }
+            current.setHours(current.getHours() + hours(day));
+            current.setRecords(current.getRecords() + day.getRecords());
+        }
+        return buckets;
+    }
+
+    private static List<DtoAttandanceHoursBucket> monthBuckets(List<AttendanceHoursTotalView> months, LocalDate from,
+                                                               LocalDate to) {
+        List<DtoAttandanceHoursBucket> buckets = new ArrayList<>(months.size());
+        for (AttendanceHoursTotalView month : months) {
+            YearMonth ym = YearMonth.from(month.getDate());
+            LocalDate first = ym.atDay(1);
+            LocalDate lastDay = ym.atEndOfMonth();
+            buckets.add(new DtoAttandanceHoursBucket(first.isBefore(from) ? from : first,
+                    lastDay.isAfter(to) ? to : lastDay, hours(month), month.getRecords()));
+        }
+        return buckets;
+    }
+
+    private static List<DtoAttandanceHoursBucket> monthBuckets(List<AttendanceMonthlySummary> summaries) {
+        List<DtoAttandanceHoursBucket> buckets = new ArrayList<>(summaries.size());
+        for (AttendanceMonthlySummary summary : summaries) {
+            // Kayıtları silinmiş ayların satırı sıfırlanmış olarak kalabilir
+            if (summary.getDaysPresent() == 0) {
+                continue;
+            }
+            YearMonth ym = YearMonth.of(summary.getYear(), summary.getMonth());
+            buckets.add(new DtoAttandanceHoursBucket(ym.atDay(1), ym.atEndOfMonth(),
+                    summary.getTotalHours().doubleValue(), (long) summary.getDaysPresent()));
+        }
+        return buckets;
+    }
+
+    // Açık (çıkışı yapılmamış) kayıtların saati yoktur; toplamda 0 sayılır
+    private static double hours(AttendanceHoursTotalView view) {
+        return view.getHours() == null ? 0.0 : view.getHours();
+    }
+
+    // Bugün panosu, aylık özet vb. dinleyiciler için; previous güncellenen kaydın yazma öncesi hali,
+    // employee verilirse çalışan adı da olaya eklenir
+    private void publishSaved(DtoAttandance dto, DtoAttandance previous, Employees employee) {
+        DtoAttandance record = AttendanceMapper.copy(dto);
+        if (record.getEmployeeName() == null && employee != null) {
+            record.setEmployeeName(employee.getFirstname() + " " + employee.getLastname());
+        }
+        eventPublisher.publishEvent(AttendanceChangedEvent.saved(record, previous));
+    }
+
+    private DtoAttandance convertToDto(Attendance attendance) {
+        return AttendanceMapper.toDto(attendance);
     }
 
     @Override
     public DtoAttandance getTodayStatus(Long employeeId) {
+        if (todayBoard.isCurrent(LocalDate.now())) {
+            return todayBoard.get(employeeId);
+        }
         Optional<Attendance> todayRecord = attandanceRepository
                 .findByEmployeeIdAndDate(employeeId, LocalDate.now());
         
@@ -222,146 +458,330 @@ public class AttandanceServicesImpl implements IAttandanceServices{
 
     @Override
     public List<DtoAttandance> getRecentRecords(Long employeeId, int limit) {
-        List<Attendance> records = attandanceRepository
-                .findByEmployeeIdOrderByDateDesc(employeeId);
-        
-        List<DtoAttandance> result = new ArrayList<>();
-        int count = 0;
-        for (Attendance record : records) {
-            if (count >= limit) break;
-            result.add(convertToDto(record));
-            count++;
+        if (limit <= 0) {
+            return new ArrayList<>();
         }
-        return result;
+        List<DtoAttandance> cached = recentCache.get(employeeId, limit);
+        if (cached != null) {
+            return cached;
+        }
+        if (limit > recentCache.capacity()) {
+            return attandanceRepository.findRecentDto(employeeId, PageRequest.of(0, limit));
+        }
+
+        // Tampon boyutu kadar yüklenir; daha küçük limitler de sonraki çağrılarda buradan döner
+        long stamp = recentCache.stamp(employeeId);
+        List<DtoAttandance> records = attandanceRepository.findRecentDto(employeeId, PageRequest.of(0, recentCache.capacity()));
+        recentCache.put(employeeId, stamp, records);
+        return records.size() > limit ? new ArrayList<>(records.subList(0, limit)) : records;
     }
 
     @Override
     public List<DtoAttandance> getAllRecords() {
-        List<Attendance> records = attandanceRepository.findAllByOrderByDateDesc();
-        List<DtoAttandance> result = new ArrayList<>();
-        for (Attendance record : records) {
-            DtoAttandance dto = convertToDto(record);
-            // Çalışan bilgisini de ekle
-            if (record.getEmployee() != null) {
-                dto.setEmployeeName(record.getEmployee().getFirstname() + " " + record.getEmployee().getLastname());
-            }
-            result.add(dto);
-        }
-        return result;
+        return attandanceRepository.findAllDtoOrderByDateDesc();
     }
 
     @Override
     public List<DtoAttandance> getAllRecordsByDate(String date) {
         LocalDate targetDate = LocalDate.parse(date);
-        List<Attendance> records = attandanceRepository.findByDateOrderByCheckInTimeDesc(targetDate);
-        List<DtoAttandance> result = new ArrayList<>();
-        for (Attendance record : records) {
-            DtoAttandance dto = convertToDto(record);
-            if (record.getEmployee() != null) {
-                dto.setEmployeeName(record.getEmployee().getFirstname() + " " + record.getEmployee().getLastname());
-            }
-            result.add(dto);
+        if (targetDate.equals(LocalDate.now()) && todayBoard.isCurrent(targetDate)) {
+            return todayBoard.list();
         }
-        return result;
+        return attandanceRepository.findDtoByDateOrderByCheckInTimeDesc(targetDate);
     }
 
     @Override
+    @Transactional
     public DtoAttandance checkInByQr(String qrCode) {
-        Employees employee = employeesRepository.findFirstByQrCode(qrCode)
-                .orElseThrow(() -> new RuntimeException("Geçersiz QR kod!"));
+        Employees employee = resolveQrEmployee(qrCode);
         
-        LocalDate today = LocalDate.now();
-        Optional<Attendance> existingRecord = attandanceRepository
-                .findByEmployeeIdAndDate(employee.getId(), today);
-
-        if (existingRecord.isPresent()) {
-            throw new RuntimeException("Bugün için zaten giriş yapılmış!");
-        }
-
         Attendance attendance = new Attendance();
         attendance.setEmployee(employee);
-        attendance.setDate(today);
-        attendance.setCheckInTime(LocalTime.now());
+        attendance.setDate(LocalDate.now());
+        attendance.setCheckInTime(wholeSeconds(LocalTime.now()));
         attendance.setStatus("PRESENT");
         attendance.setHoursWorked(0.0);
 
-        Attendance savedAttendance = attandanceRepository.save(attendance);
+        Attendance savedAttendance = insertCheckIn(attendance, "Bugün için zaten giriş yapılmış!");
         
         // Giriş sonrası QR kodunu yenile
-        employee.setQrCode(generateNewQrCode());
-        employeesRepository.save(employee);
+        String newQrCode = rotateQrCode(employee);
         
         DtoAttandance dto = convertToDto(savedAttendance);
         dto.setEmployeeName(employee.getFirstname() + " " + employee.getLastname());
-        dto.setNewQrCode(employee.getQrCode()); // Yeni QR kodunu döndür
+        dto.setNewQrCode(newQrCode); // Yeni QR kodunu döndür
+        publishSaved(dto, null, employee);
         return dto;
     }
 
     @Override
+    @Transactional
     public DtoAttandance checkOutByQr(String qrCode) {
-        Employees employee = employeesRepository.findFirstByQrCode(qrCode)
-                .orElseThrow(() -> new RuntimeException("Geçersiz QR kod!"));
+        Employees employee = resolveQrEmployee(qrCode);
         
-        LocalDate today = LocalDate.now();
-        Attendance attendance = attandanceRepository
-                .findByEmployeeIdAndDate(employee.getId(), today)
-                .orElseThrow(() -> new RuntimeException("Bugün için giriş kaydı bulunamadı!"));
-
-        if (attendance.getCheckOutTime() != null) {
-            throw new RuntimeException("Bugün için zaten çıkış yapılmış!");
-        }
-
-        attendance.setCheckOutTime(LocalTime.now());
-        
-        long seconds = Duration.between(attendance.getCheckInTime(), attendance.getCheckOutTime()).toSeconds();
-        double hours = seconds / 3600.0;
-        attendance.setHoursWorked(hours);
-
-        Attendance savedAttendance = attandanceRepository.save(attendance);
+        DtoAttandance dto = closeOpenRecord(employee.getId(), LocalDate.now(), null, employee,
+                "Bugün için giriş kaydı bulunamadı!", "Bugün için zaten çıkış yapılmış!");
         
         // Çıkış sonrası QR kodunu yenile
-        employee.setQrCode(generateNewQrCode());
-        employeesRepository.save(employee);
+        String newQrCode = rotateQrCode(employee);
         
-        DtoAttandance dto = convertToDto(savedAttendance);
         dto.setEmployeeName(employee.getFirstname() + " " + employee.getLastname());
-        dto.setNewQrCode(employee.getQrCode()); // Yeni QR kodunu döndür
+        dto.setNewQrCode(newQrCode); // Yeni QR kodunu döndür
         return dto;
     }
-    
-    private String generateNewQrCode() {
-        return "QR-" + java.util.UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+
+    // Zaman tabanlı modda kod imzadan çözülür (qr_code kolonu aranmaz), saklanan modda kolondan bulunur
+    private Employees resolveQrEmployee(String qrCode) {
+        if (qrCodeService.isTimeBased()) {
+            Long employeeId = qrCodeService.resolveEmployeeId(qrCode)
+                    .orElseThrow(() -> new RuntimeException("Geçersiz QR kod!"));
+            Employees employee = employeesRepository.findById(employeeId)
+                    .orElseThrow(() -> new RuntimeException("Geçersiz QR kod!"));
+            if (employee.getStatus() != Employees.Status.APPROVED) {
+                throw new RuntimeException("Geçersiz QR kod!");
+            }
+            return employee;
+        }
+        return employeesRepository.findFirstByQrCode(qrCode)
+                .orElseThrow(() -> new RuntimeException("Geçersiz QR kod!"));
     }
 
+    // Zaman tabanlı modda kod pencereyle kendiliğinden döner; yazma gerekmez
+    private String rotateQrCode(Employees employee) {
+        if (qrCodeService.isTimeBased()) {
+            return qrCodeService.currentCode(employee.getId());
+        }
+        employee.setQrCode(qrCodeService.generateStoredCode());
+        employeesRepository.save(employee);
+        eventPublisher.publishEvent(QrCodeRotatedEvent.of(employee.getId(), employee.getQrCode()));
+        return employee.getQrCode();
+    }
+
+    /**
+     * Olaylar tek transaction ve tek flush ile uygulanır. Flush eşzamanlı bir girişin
+     * (employee_id, date) kaydına takılırsa parti geri alınır ve olaylar sırayla, her biri kendi
+     * transaction'ında yeniden işlenir; böylece sonuçlar yine olay başına ve istek sırasıyla döner.
+     */
     @Override
-    public DtoAttandance updateRecord(Long id, DtoAttandance dtoAttandance, Long requesterId) {
-        // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN güncelleyebilir
-        if (requesterId == null) {
-            throw new RuntimeException("Yetki hatası: requesterId gerekli");
+    public List<DtoAttandanceEventResult> processBulk(List<DtoAttandanceEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (events.size() > MAX_BULK_EVENTS) {
+            throw new RuntimeException("Tek istekte en fazla " + MAX_BULK_EVENTS + " olay gönderilebilir!");
         }
 
-        Employees requester = employeesRepository.findById(requesterId)
-                .orElseThrow(() -> new RuntimeException("Yetki hatası: Kullanıcı bulunamadı"));
+        LocalDate today = LocalDate.now();
+        LocalTime now = wholeSeconds(LocalTime.now());
+        try {
+            return transactionTemplate.execute(status -> applyBulk(events, today, now));
+        } catch (DataIntegrityViolationException e) {
+            List<DtoAttandanceEventResult> results = new ArrayList<>(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                List<DtoAttandanceEvent> single = Collections.singletonList(events.get(i));
+                DtoAttandanceEventResult result;
+                try {
+                    result = transactionTemplate.execute(status -> applyBulk(single, today, now)).get(0);
+                } catch (DataIntegrityViolationException conflict) {
+                    result = new DtoAttandanceEventResult(i, false,
+                            "Kayıt aynı anda başka bir işlemle değişti, tekrar deneyin!", null);
+                }
+                result.setIndex(i);
+                results.add(result);
+            }
+            return results;
+        }
+    }
 
-        boolean isHR = "İnsan Kaynakları".equals(requester.getDepartment()) ||
-                       Employees.Role.HR.equals(requester.getRole()) ||
-                       Employees.Role.ADMIN.equals(requester.getRole());
+    private List<DtoAttandanceEventResult> applyBulk(List<DtoAttandanceEvent> events, LocalDate today, LocalTime now) {
+        List<DtoAttandanceEventResult> results = new ArrayList<>(events.size());
 
-        if (!isHR) {
-            throw new RuntimeException("Yetki hatası: Devam kaydı güncelleme yetkisi sadece İK/Admin'e aittir");
+        // 1) QR kodlarını çalışan id'sine çevir (totp: hesaplanır, stored: tek IN sorgusu)
+        Map<String, Employees> storedQrOwners = new HashMap<>();
+        if (!qrCodeService.isTimeBased()) {
+            Set<String> qrCodes = new HashSet<>();
+            for (DtoAttandanceEvent event : events) {
+                if (event != null && event.getQrCode() != null) qrCodes.add(event.getQrCode());
+            }
+            if (!qrCodes.isEmpty()) {
+                for (Employees e : employeesRepository.findByQrCodeIn(qrCodes)) {
+                    storedQrOwners.put(e.getQrCode(), e);
+                }
+            }
+        }
+
+        Long[] eventEmployeeIds = new Long[events.size()];
+        Set<Long> employeeIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            DtoAttandanceEvent event = events.get(i);
+            if (event == null) continue;
+            Long employeeId = event.getEmployeeId();
+            if (event.getQrCode() != null) {
+                if (qrCodeService.isTimeBased()) {
+                    employeeId = qrCodeService.resolveEmployeeId(event.getQrCode()).orElse(null);
+                } else {
+                    Employees owner = storedQrOwners.get(event.getQrCode());
+                    employeeId = owner != null ? owner.getId() : null;
+                }
+            }
+            eventEmployeeIds[i] = employeeId;
+            if (employeeId != null) {
+                employeeIds.add(employeeId);
+                dates.add(eventDate(event, today));
+            }
         }
 
+        // 2) Çalışanlar ve ilgili günlerin mevcut kayıtları: birer toplu sorgu
+        Map<Long, Employees> employees = new HashMap<>();
+        Map<String, Attendance> dayRecords = new HashMap<>();
+        Map<Attendance, DtoAttandance> previousStates = new IdentityHashMap<>();
+        if (!employeeIds.isEmpty()) {
+            for (Employees e : employeesRepository.findAllById(employeeIds)) {
+                employees.put(e.getId(), e);
+            }
+            for (Attendance a : attandanceRepository.findByEmployeeIdInAndDateIn(employeeIds, dates)) {
+                dayRecords.put(dayKey(a.getEmployee().getId(), a.getDate()), a);
+                previousStates.put(a, convertToDto(a));
+            }
+        }
+
+        // 3) Olayları sırayla bellekte uygula
+        List<Attendance> newRecords = new ArrayList<>();
+        Attendance[] eventRecords = new Attendance[events.size()];
+        Map<Long, String> rotatedQrCodes = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            DtoAttandanceEvent event = events.get(i);
+            try {
+                if (event == null || event.getType() == null) {
+                    throw new RuntimeException("Olay tipi zorunlu (CHECK_IN/CHECK_OUT)!");
+                }
+                boolean byQr = event.getQrCode() != null;
+                Employees employee = eventEmployeeIds[i] != null ? employees.get(eventEmployeeIds[i]) : null;
+                if (employee == null || (byQr && !qrCodeService.isTimeBased()
+                        && !event.getQrCode().equals(employee.getQrCode()))) {
+                    throw new RuntimeException(byQr ? "Geçersiz QR kod!" : "Çalışan bulunamadı!");
+                }
+                if (byQr && employee.getStatus() != Employees.Status.APPROVED) {
+                    throw new RuntimeException("Geçersiz QR kod!");
+                }
+
+                LocalDate date = eventDate(event, today);
+                LocalTime time = event.getTime() != null ? wholeSeconds(event.getTime()) : now;
+                String key = dayKey(employee.getId(), date);
+                Attendance attendance = dayRecords.get(key);
+
+                if (event.getType() == DtoAttandanceEvent.Type.CHECK_IN) {
+                    if (attendance != null) {
+                        throw new RuntimeException("Bu tarih için zaten giriş yapılmış!");
+                    }
+                    attendance = new Attendance();
+                    attendance.setEmployee(employee);
+                    attendance.setDate(date);
+                    attendance.setCheckInTime(time);
+                    attendance.setStatus("PRESENT");
+                    attendance.setHoursWorked(0.0);
+                    dayRecords.put(key, attendance);
+                    newRecords.add(attendance);
+                } else {
+                    if (attendance == null) {
+                        throw new RuntimeException("Giriş kaydı bulunamadı!");
+                    }
+                    if (attendance.getCheckOutTime() != null) {
+                        throw new RuntimeException("Zaten çıkış yapılmış!");
+                    }
+                    if (time.isBefore(attendance.getCheckInTime())) {
+                        throw new RuntimeException("Çıkış saati giriş saatinden önce olamaz!");
+                    }
+                    long seconds = Duration.between(attendance.getCheckInTime(), time).toSeconds();
+                    double hours = seconds / 3600.0;
+                    if (previousStates.containsKey(attendance)) {
+                        // Veritabanındaki kayıt tekil çıkışla aynı koşullu UPDATE ile kapanır; eşzamanlı
+                        // başka bir çıkış kaydı kapattıysa 0 satır etkilenir. Entity ayrılır ki flush
+                        // aynı değişikliği koşulsuz bir UPDATE olarak tekrar yazmasın.
+                        if (attandanceRepository.checkOutIfOpen(employee.getId(), date,
+                                attendance.getCheckInTime(), time, hours) == 0) {
+                            throw new RuntimeException("Zaten çıkış yapılmış!");
+                        }
+                        entityManager.detach(attendance);
+                    }
+                    attendance.setCheckOutTime(time);
+                    attendance.setHoursWorked(hours);
+                }
+                eventRecords[i] = attendance;
+
+                // Saklanan QR modunda kullanılan kod tek seferliktir
+                if (byQr && !qrCodeService.isTimeBased()) {
+                    employee.setQrCode(qrCodeService.generateStoredCode());
+                    rotatedQrCodes.put(employee.getId(), employee.getQrCode());
+                }
+                results.add(new DtoAttandanceEventResult(i, true, null, null));
+            } catch (RuntimeException e) {
+                results.add(new DtoAttandanceEventResult(i, false, e.getMessage(), null));
+            }
+        }
+
+        // 4) Tek flush: yeni kayıtlar persist edilir, yüklenmiş kayıt/çalışan değişiklikleri
+        // dirty checking ile update olur; hepsi hibernate.jdbc.batch_size ile gruplanır
+        attandanceRepository.saveAll(newRecords);
+        attandanceRepository.flush();
+
+        for (DtoAttandanceEventResult result : results) {
+            Attendance attendance = eventRecords[result.getIndex()];
+            if (attendance != null) {
+                DtoAttandance dto = convertToDto(attendance);
+                Employees employee = attendance.getEmployee();
+                dto.setEmployeeName(employee.getFirstname() + " " + employee.getLastname());
+                if (events.get(result.getIndex()).getQrCode() != null) {
+                    dto.setNewQrCode(qrCodeService.isTimeBased()
+                            ? qrCodeService.currentCode(employee.getId())
+                            : employee.getQrCode());
+                }
+                result.setRecord(dto);
+            }
+        }
+        // Aynı gün kaydına birden fazla olay düşebilir; her kayıt için tek olay yayınla
+        Set<Attendance> published = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Attendance attendance : eventRecords) {
+            if (attendance != null && published.add(attendance)) {
+                publishSaved(convertToDto(attendance), previousStates.get(attendance), attendance.getEmployee());
+            }
+        }
+        // Açık devam sayfalarına commit sonrası QrCodeChannel iter (tekil QR yoluyla aynı);
+        // parti geri alınırsa olay da düşer, yeniden işlemede tekrar yayınlanır
+        rotatedQrCodes.forEach((employeeId, code) ->
+                eventPublisher.publishEvent(QrCodeRotatedEvent.of(employeeId, code)));
+        return results;
+    }
+
+    private static LocalDate eventDate(DtoAttandanceEvent event, LocalDate today) {
+        // QR olayları her zaman bugüne yazılır (tekil QR uçlarıyla aynı)
+        if (event.getQrCode() != null || event.getDate() == null) return today;
+        return event.getDate();
+    }
+
+    private static String dayKey(Long employeeId, LocalDate date) {
+        return employeeId + "|" + date;
+    }
+
+    @Override
+    @Transactional
+    public DtoAttandance updateRecord(Long id, DtoAttandance dtoAttandance, Long requesterId) {
+        // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN güncelleyebilir
+        requireHr(requesterId, "Yetki hatası: Devam kaydı güncelleme yetkisi sadece İK/Admin'e aittir");
+
         Attendance attendance = attandanceRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Kayıt bulunamadı!"));
+        DtoAttandance previous = convertToDto(attendance);
 
         if (dtoAttandance.getDate() != null) {
             attendance.setDate(dtoAttandance.getDate());
         }
         if (dtoAttandance.getCheckInTime() != null) {
-            attendance.setCheckInTime(dtoAttandance.getCheckInTime());
+            attendance.setCheckInTime(wholeSeconds(dtoAttandance.getCheckInTime()));
         }
         if (dtoAttandance.getCheckOutTime() != null) {
-            attendance.setCheckOutTime(dtoAttandance.getCheckOutTime());
+            attendance.setCheckOutTime(wholeSeconds(dtoAttandance.getCheckOutTime()));
         }
 
         // Çalışma saatini yeniden hesapla
@@ -372,71 +792,143 @@ public class AttandanceServicesImpl implements IAttandanceServices{
         }
 
         Attendance saved = attandanceRepository.save(attendance);
-        return convertToDto(saved);
+        DtoAttandance dto = convertToDto(saved);
+        publishSaved(dto, previous, saved.getEmployee());
+        return dto;
     }
 
     @Override
+    @Transactional
     public void deleteRecord(Long id, Long requesterId) {
         // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN silebilir
-        if (requesterId == null) {
-            throw new RuntimeException("Yetki hatası: requesterId gerekli");
+        requireHr(requesterId, "Yetki hatası: Devam kaydı silme yetkisi sadece İK/Admin'e aittir");
+
+        Optional<Attendance> attendance = attandanceRepository.findById(id);
+        if (attendance.isPresent()) {
+            attandanceRepository.delete(attendance.get());
+            eventPublisher.publishEvent(AttendanceChangedEvent.deleted(convertToDto(attendance.get())));
         }
+    }
+
+    @Override
+    public Map<String, Object> getTodayBoardStats() {
+        return todayBoard.stats();
+    }
+
+    @Override
+    public Map<String, Object> getRecentCacheStats() {
+        return recentCache.stats();
+    }
 
-        Employees requester = employeesRepository.findById(requesterId)
-                .orElseThrow(() -> new RuntimeException("Yetki hatası: Kullanıcı bulunamadı"));
+    @Override
+    public Map<String, Object> rebuildMonthlySummary(Long requesterId) {
+        // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN yeniden hesaplatabilir
+        requireHr(requesterId, "Yetki hatası: Aylık özet yeniden hesaplama yetkisi sadece İK/Admin'e aittir");
 
-        boolean isHR = "İnsan Kaynakları".equals(requester.getDepartment()) ||
-                       Employees.Role.HR.equals(requester.getRole()) ||
-                       Employees.Role.ADMIN.equals(requester.getRole());
+        long startedAt = System.currentTimeMillis();
+        int rows = monthlySummary.rebuild();
 
-        if (!isHR) {
-            throw new RuntimeException("Yetki hatası: Devam kaydı silme yetkisi sadece İK/Admin'e aittir");
-        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("summaryRows", rows);
+        result.put("durationMillis", System.currentTimeMillis() - startedAt);
+        return result;
+    }
 
-        attandanceRepository.deleteById(id);
+    @Override
+    public SseEmitter subscribeFeed(Long requesterId, String lastEventId) {
+        // GÜVENLİK: Tüm çalışanların hareketleri - sadece HR/ADMIN izleyebilir
+        requireHr(requesterId, "Yetki hatası: Canlı devam akışı sadece İK/Admin'e açıktır");
+        return feed.subscribe(lastEventId);
     }
 
     @Override
-    public List<DtoAttandance> searchRecords(Long employeeId, String employeeName, String startDate, String endDate) {
-        List<Attendance> allRecords = attandanceRepository.findAllByOrderByDateDesc();
-        List<DtoAttandance> result = new ArrayList<>();
+    public Map<String, Object> getFeedStats() {
+        return feed.stats();
+    }
+
+    // Yetki ve filtreler yanıt başlamadan kontrol edilir; satırlar yanıt yazılırken okunur
+    @Override
+    public StreamingResponseBody exportRecords(Long requesterId, AttendanceExportService.Format format,
+                                               String startDate, String endDate, String department) {
+        requireHr(requesterId, "Yetki hatası: Devam kayıtlarını dışa aktarma yetkisi sadece İK/Admin'e aittir");
 
         LocalDate start = (startDate != null && !startDate.isEmpty()) ? LocalDate.parse(startDate) : null;
         LocalDate end = (endDate != null && !endDate.isEmpty()) ? LocalDate.parse(endDate) : null;
+        String departmentFilter = (department != null && !department.isEmpty()) ? department : null;
 
-        for (Attendance attendance : allRecords) {
-            boolean matches = true;
+        return out -> exportService.export(format, start, end, departmentFilter, out);
+    }
 
-            // Employee ID filtresi
-            if (employeeId != null && !attendance.getEmployee().getId().equals(employeeId)) {
-                matches = false;
-            }
+    private void requireHr(Long requesterId, String deniedMessage) {
+        requesterAuthorization.requireHr(requesterId, deniedMessage, RuntimeException::new);
+    }
 
-            // İsim filtresi (büyük/küçük harf duyarsız)
-            if (matches && employeeName != null && !employeeName.isEmpty()) {
-                String fullName = attendance.getEmployee().getFirstname() + " " + attendance.getEmployee().getLastname();
-                if (!fullName.toLowerCase().contains(employeeName.toLowerCase())) {
-                    matches = false;
-                }
-            }
+    @Override
+    public DtoAttandancePage searchRecords(Long employeeId, String employeeName, String startDate, String endDate,
+                                           String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
 
-            // Başlangıç tarihi filtresi
-            if (matches && start != null && attendance.getDate().isBefore(start)) {
-                matches = false;
-            }
+        LocalDate start = (startDate != null && !startDate.isEmpty()) ? LocalDate.parse(startDate) : null;
+        LocalDate end = (endDate != null && !endDate.isEmpty()) ? LocalDate.parse(endDate) : null;
 
-            // Bitiş tarihi filtresi
-            if (matches && end != null && attendance.getDate().isAfter(end)) {
-                matches = false;
-            }
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            SearchCursor key = decodeCursor(cursor);
+            cursorDate = key.date();
+            cursorId = key.id();
+        }
 
-            if (matches) {
-                DtoAttandance dto = convertToDto(attendance);
-                dto.setEmployeeName(attendance.getEmployee().getFirstname() + " " + attendance.getEmployee().getLastname());
-                result.add(dto);
-            }
+        // Filtreler ve keyset koşulu veritabanında uygulanır; sadece sayfa + 1 satır okunur
+        Specification<Attendance> spec = Specification.allOf(
+                AttendanceSpecifications.fetchEmployee(),
+                AttendanceSpecifications.hasEmployee(employeeId),
+                AttendanceSpecifications.employeeNameContains(employeeName),
+                AttendanceSpecifications.dateFrom(start),
+                AttendanceSpecifications.dateTo(end),
+                AttendanceSpecifications.after(cursorDate, cursorId));
+
+        Sort sort = Sort.by(Sort.Direction.DESC, "date").and(Sort.by(Sort.Direction.DESC, "id"));
+        List<Attendance> rows = attandanceRepository.findBy(spec,
+                q -> q.sortBy(sort).limit(pageSize + 1).all());
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
         }
 
-        return result;
+        List<DtoAttandance> result = new ArrayList<>();
+        for (Attendance attendance : rows) {
+            DtoAttandance dto = convertToDto(attendance);
+            dto.setEmployeeName(attendance.getEmployee().getFirstname() + " " + attendance.getEmployee().getLastname());
+            result.add(dto);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Attendance last = rows.get(rows.size() - 1);
+            nextCursor = encodeCursor(last.getDate(), last.getId());
+        }
+
+        return new DtoAttandancePage(result, result.size(), hasNext, nextCursor);
+    }
+
+    private static String encodeCursor(LocalDate date, Long id) {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Arama imleci: son döndürülen kaydın (date, id) anahtarı
+    private record SearchCursor(LocalDate date, Long id) {
+    }
+
+    private static SearchCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new SearchCursor(LocalDate.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci: " + cursor);
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,19 +3,33 @@ package com.hrmanagement.services.impl;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
-import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.hrmanagement.dto.DtoEmployees;
 import com.hrmanagement.entities.Employees;
 import com.hrmanagement.entities.Employees.Role;
 import com.hrmanagement.entities.Employees.Status;
+import com.hrmanagement.mapper.EmployeesMapper;
 import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.AttendanceMonthlySummaryService;
+import com.hrmanagement.services.EmployeeCacheStatistics;
 import com.hrmanagement.services.IEmployeesServices;
+import com.hrmanagement.services.PasswordVerifier;
+import com.hrmanagement.services.QrCodeChannel;
+import com.hrmanagement.services.QrCodeRotatedEvent;
+import com.hrmanagement.services.QrCodeService;
+import com.hrmanagement.services.RecentAttendanceCache;
+import com.hrmanagement.services.RequesterAuthorization;
+import com.hrmanagement.services.SessionTokenService;
+import com.hrmanagement.services.SessionTokenService.Session;
+import com.hrmanagement.services.SessionTokenService.Type;
 
 import jakarta.transaction.Transactional;
 
@@ -24,17 +38,40 @@ public class EmployeesServicesImpl implements IEmployeesServices {
 
     private final PasswordEncoder passwordEncoder;
     private final EmployeesRepository employeesRepository;
-
-    public EmployeesServicesImpl(PasswordEncoder passwordEncoder, EmployeesRepository employeesRepository) {
+    private final QrCodeService qrCodeService;
+    private final AttendanceMonthlySummaryService monthlySummary;
+    private final RecentAttendanceCache recentCache;
+    private final QrCodeChannel qrCodeChannel;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequesterAuthorization requesterAuthorization;
+    private final PasswordVerifier passwordVerifier;
+    private final SessionTokenService sessionTokenService;
+    private final EmployeeCacheStatistics cacheStatistics;
+
+    public EmployeesServicesImpl(PasswordEncoder passwordEncoder, EmployeesRepository employeesRepository,
+                                 QrCodeService qrCodeService, AttendanceMonthlySummaryService monthlySummary,
+                                 RecentAttendanceCache recentCache, QrCodeChannel qrCodeChannel,
+                                 ApplicationEventPublisher eventPublisher,
+                                 RequesterAuthorization requesterAuthorization,
+                                 PasswordVerifier passwordVerifier, SessionTokenService sessionTokenService,
+                                 EmployeeCacheStatistics cacheStatistics) {
         this.passwordEncoder = passwordEncoder;
         this.employeesRepository = employeesRepository;
+        this.qrCodeService = qrCodeService;
+        this.monthlySummary = monthlySummary;
+        this.recentCache = recentCache;
+        this.qrCodeChannel = qrCodeChannel;
+        this.eventPublisher = eventPublisher;
+        this.requesterAuthorization = requesterAuthorization;
+        this.passwordVerifier = passwordVerifier;
+        this.sessionTokenService = sessionTokenService;
+        this.cacheStatistics = cacheStatistics;
     }
 
     @Override
     @Transactional
     public DtoEmployees registerEmployees(DtoEmployees dtoEmployees) {
-        Employees employees = new Employees();
-        BeanUtils.copyProperties(dtoEmployees, employees);
+        Employees employees = EmployeesMapper.toNewEntity(dtoEmployees);
 
         if (dtoEmployees.getPassword() != null) {
             employees.setPassword(passwordEncoder.encode(dtoEmployees.getPassword()));
@@ -53,7 +90,7 @@ public class EmployeesServicesImpl implements IEmployeesServices {
     }
 
     @Override
-    public DtoEmployees loginEmployees(DtoEmployees dtoEmployees) {
+    public CompletableFuture<DtoEmployees> loginEmployees(DtoEmployees dtoEmployees) {
         Optional<Employees> optionalEmployee = employeesRepository.findByEmail(dtoEmployees.getEmail());
 
         if (optionalEmployee.isPresent()) {
@@ -61,15 +98,29 @@ public class EmployeesServicesImpl implements IEmployeesServices {
 
             // Sadece onaylanmış kullanıcılar giriş yapabilir
             if (employee.getStatus() != Status.APPROVED) {
-                return null;
+                return CompletableFuture.completedFuture(null);
             }
 
-            if (passwordEncoder.matches(dtoEmployees.getPassword(), employee.getPassword())) {
-                return convertToDto(employee);
-            }
+            // BCrypt kendi sınırlı havuzunda çalışır; istek thread'i beklemez
+            return passwordVerifier.matches(dtoEmployees.getPassword(), employee.getPassword())
+                    .thenApply(matches -> matches ? withTokens(convertToDto(employee), employee) : null);
         }
 
-        return null;
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public DtoEmployees refreshSession(DtoEmployees dtoEmployees) {
+        Session session = sessionTokenService.verify(dtoEmployees.getRefreshToken(), Type.REFRESH)
+                .orElseThrow(() -> new RuntimeException("Oturum süresi dolmuş, lütfen tekrar giriş yapın"));
+
+        // Yeni token'lar çalışanın güncel rol/departman/durumuyla verilir
+        Employees employee = employeesRepository.findById(session.employeeId())
+                .orElseThrow(() -> new RuntimeException("Çalışan bulunamadı"));
+        if (employee.getStatus() != Status.APPROVED) {
+            throw new RuntimeException("Çalışan onaylı değil");
+        }
+        return withTokens(convertToDto(employee), employee);
     }
 
     @Override
@@ -141,6 +192,7 @@ public class EmployeesServicesImpl implements IEmployeesServices {
             }
 
             Employees savedEmployee = employeesRepository.save(employee);
+            requesterAuthorization.invalidate(id);
             return convertToDto(savedEmployee);
         }
         return null;
@@ -150,6 +202,9 @@ public class EmployeesServicesImpl implements IEmployeesServices {
     @Transactional
     public void deleteEmployee(Long id) {
         employeesRepository.deleteById(id);
+        monthlySummary.deleteByEmployee(id);
+        recentCache.evict(id);
+        requesterAuthorization.invalidate(id);
     }
 
     @Override
@@ -167,6 +222,7 @@ public class EmployeesServicesImpl implements IEmployeesServices {
             employee.setQrCode(generateQrCode());
 
             Employees savedEmployee = employeesRepository.save(employee);
+            requesterAuthorization.invalidate(id);
             return convertToDto(savedEmployee);
         }
         return null;
@@ -182,6 +238,7 @@ public class EmployeesServicesImpl implements IEmployeesServices {
             employee.setStatus(Status.REJECTED);
 
             Employees savedEmployee = employeesRepository.save(employee);
+            requesterAuthorization.invalidate(id);
             return convertToDto(savedEmployee);
         }
         return null;
@@ -189,7 +246,14 @@ public class EmployeesServicesImpl implements IEmployeesServices {
 
     @Override
     public DtoEmployees getByQrCode(String qrCode) {
-        Optional<Employees> optionalEmployee = employeesRepository.findFirstByQrCode(qrCode);
+        Optional<Employees> optionalEmployee;
+        if (qrCodeService.isTimeBased()) {
+            optionalEmployee = qrCodeService.resolveEmployeeId(qrCode)
+                    .flatMap(employeesRepository::findById)
+                    .filter(e -> e.getStatus() == Status.APPROVED);
+        } else {
+            optionalEmployee = employeesRepository.findFirstByQrCode(qrCode);
+        }
         if (optionalEmployee.isPresent()) {
             return convertToDto(optionalEmployee.get());
         }
@@ -203,28 +267,66 @@ public class EmployeesServicesImpl implements IEmployeesServices {
         if (optionalEmployee.isPresent()) {
             Employees employee = optionalEmployee.get();
 
+            // Zaman tabanlı modda kod zaten pencereyle değişir, sadece güncel kodu döndür
+            if (qrCodeService.isTimeBased()) {
+                return convertToDto(employee);
+            }
+
             employee.setQrCode(generateQrCode());
 
             Employees savedEmployee = employeesRepository.save(employee);
+            eventPublisher.publishEvent(QrCodeRotatedEvent.of(savedEmployee.getId(), savedEmployee.getQrCode()));
             return convertToDto(savedEmployee);
         }
         return null;
     }
 
+    @Override
+    public SseEmitter subscribeQrCode(Long id) {
+        Employees employee = employeesRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Çalışan bulunamadı!"));
+        if (employee.getStatus() != Status.APPROVED) {
+            throw new RuntimeException("QR kod sadece onaylanmış çalışanlar için geçerlidir!");
+        }
+        return qrCodeChannel.subscribe(id, convertToDto(employee).getQrCode());
+    }
+
+    @Override
+    public Map<String, Object> getQrChannelStats() {
+        return qrCodeChannel.stats();
+    }
+
+    @Override
+    public Map<String, Object> getAuthorizationCacheStats() {
+        return requesterAuthorization.stats();
+    }
+
+    @Override
+    public Map<String, Object> getEntityCacheStats() {
+        return cacheStatistics.stats();
+    }
+
     private String generateQrCode() {
-        return "QR-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return qrCodeService.generateStoredCode();
+    }
+
+    private DtoEmployees withTokens(DtoEmployees dto, Employees employee) {
+        String accessToken = sessionTokenService.issue(Type.ACCESS, employee.getId(), employee.getRole(),
+                employee.getDepartment());
+        dto.setAccessToken(accessToken);
+        dto.setRefreshToken(sessionTokenService.issue(Type.REFRESH, employee.getId(), employee.getRole(),
+                employee.getDepartment()));
+        sessionTokenService.verify(accessToken, Type.ACCESS)
+                .ifPresent(session -> dto.setAccessTokenExpiresAt(session.expiresAtEpochSecond()));
+        return dto;
     }
 
     private DtoEmployees convertToDto(Employees employee) {
-        DtoEmployees dto = new DtoEmployees();
-        BeanUtils.copyProperties(employee, dto);
-        dto.setPassword(null);
-        
-        if (employee.getRole() != null) {
-            dto.setRole(employee.getRole().name());
-        }
-        if (employee.getStatus() != null) {
-            dto.setStatus(employee.getStatus().name());
+        DtoEmployees dto = EmployeesMapper.toDto(employee);
+
+        // Zaman tabanlı modda gösterilecek kod o anki penceredeki koddur
+        if (qrCodeService.isTimeBased()) {
+            dto.setQrCode(employee.getStatus() == Status.APPROVED ? qrCodeService.currentCode(employee.getId()) : null);
         }
         
         return dto;
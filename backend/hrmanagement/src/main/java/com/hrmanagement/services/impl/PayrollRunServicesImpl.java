@@ -0,0 +1,319 @@
+package com.hrmanagement.services.impl;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.dto.DtoPayrollRun;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.entities.PayrollRun;
+import com.hrmanagement.entities.PayrollRunChunk;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.repository.PayrolRepository;
+import com.hrmanagement.repository.PayrollRunChunkRepository;
+import com.hrmanagement.repository.PayrollRunRepository;
+import com.hrmanagement.services.AttendanceMonthlySummaryService;
+import com.hrmanagement.services.IPayrollRunServices;
+import com.hrmanagement.services.PayrollCalculator;
+import com.hrmanagement.services.RequesterAuthorization;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Toplu bordro çalıştırması. Onaylı çalışanlar id sırasıyla parçalara bölünür; parçalar
+ * sınırlı bir executor üzerinde paralel işlenir ve her parça kendi transaction'ında
+ * bordroları (toplu insert/update) ve kendi DONE durumunu birlikte yazar.
+ * Sunucu yarıda kapanırsa resumeRun sadece DONE olmayan parçaları yeniden işler.
+ */
+@Service
+public class PayrollRunServicesImpl implements IPayrollRunServices {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunServicesImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final PayrollRunRepository runRepository;
+    private final PayrollRunChunkRepository chunkRepository;
+    private final PayrolRepository payrolRepository;
+    private final EmployeesRepository employeesRepository;
+    private final AttendanceMonthlySummaryService monthlySummary;
+    private final RequesterAuthorization requesterAuthorization;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    // Bu sunucuda işlenmekte olan çalıştırmalar ve dönemleri
+    private final Map<Long, YearMonth> activeRuns = new ConcurrentHashMap<>();
+
+    public PayrollRunServicesImpl(PayrollRunRepository runRepository,
+                                  PayrollRunChunkRepository chunkRepository,
+                                  PayrolRepository payrolRepository,
+                                  EmployeesRepository employeesRepository,
+                                  AttendanceMonthlySummaryService monthlySummary,
+                                  RequesterAuthorization requesterAuthorization,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${hr.payroll.run.chunk-size:200}") int chunkSize,
+                                  @Value("${hr.payroll.run.parallelism:4}") int parallelism) {
+        this.runRepository = runRepository;
+        this.chunkRepository = chunkRepository;
+        this.payrolRepository = payrolRepository;
+        this.employeesRepository = employeesRepository;
+        this.monthlySummary = monthlySummary;
+        this.requesterAuthorization = requesterAuthorization;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        // Paralellik bağlantı havuzunu tüketmeyecek şekilde sınırlı tutulur
+        this.executor = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("payroll-run-", 0).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public DtoPayrollRun startRun(DtoPayrollGenerateRequest req, Long requesterId) {
+        requireHr(requesterId);
+        PayrollCalculator.validatePeriod(req.getYear(), req.getMonth());
+        // Parametre seti tüm çalışanlar için aynı; hatalıysa parçalar başlamadan reddedilir
+        PayrollCalculator.apply(new Payroll(), req, 0L);
+
+        YearMonth period = YearMonth.of(req.getYear(), req.getMonth());
+        Long runId;
+        synchronized (activeRuns) {
+            requireNoActiveRun(period);
+            PayrollRun run = transactionTemplate.execute(status -> createRun(req, requesterId));
+            runId = run.getId();
+            launch(runId, period);
+        }
+        return getRun(runId);
+    }
+
+    @Override
+    public DtoPayrollRun getRun(Long id) {
+        // Önce okunur: çalıştırma listeden, durumu commit edildikten sonra çıkarılır
+        boolean active = activeRuns.containsKey(id);
+        PayrollRun run = runRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Bordro çalıştırması bulunamadı: " + id));
+
+        DtoPayrollRun dto = new DtoPayrollRun();
+        dto.setId(run.getId());
+        dto.setYear(run.getYear());
+        dto.setMonth(run.getMonth());
+        dto.setStatus(run.getStatus().name());
+        dto.setActive(active);
+        dto.setEmployeeCount(run.getEmployeeCount());
+        dto.setChunkCount(run.getChunkCount());
+        dto.setCreatedAt(run.getCreatedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+
+        for (Object[] row : chunkRepository.summarizeByRunId(id)) {
+            PayrollRunChunk.Status status = (PayrollRunChunk.Status) row[0];
+            int count = ((Number) row[1]).intValue();
+            if (status == PayrollRunChunk.Status.DONE) {
+                dto.setCompletedChunks(count);
+                dto.setProcessedEmployees(row[2] == null ? 0 : ((Number) row[2]).intValue());
+            } else if (status == PayrollRunChunk.Status.FAILED) {
+                dto.setFailedChunks(count);
+            }
+        }
+        if (dto.getFailedChunks() > 0) {
+            for (PayrollRunChunk chunk : chunkRepository.findByRunIdAndStatusOrderByChunkIndex(id, PayrollRunChunk.Status.FAILED)) {
+                dto.getErrors().add("Parça #" + chunk.getChunkIndex() + ": " + chunk.getError());
+            }
+        }
+        return dto;
+    }
+
+    @Override
+    public DtoPayrollRun resumeRun(Long id, Long requesterId) {
+        requireHr(requesterId);
+        PayrollRun run = runRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Bordro çalıştırması bulunamadı: " + id));
+        if (run.getStatus() == PayrollRun.Status.COMPLETED) {
+            throw new IllegalArgumentException("Bordro çalıştırması zaten tamamlandı: " + id);
+        }
+
+        YearMonth period = YearMonth.of(run.getYear(), run.getMonth());
+        synchronized (activeRuns) {
+            if (activeRuns.containsKey(id)) {
+                throw new IllegalArgumentException("Bordro çalıştırması zaten işleniyor: " + id);
+            }
+            requireNoActiveRun(period);
+            transactionTemplate.executeWithoutResult(status -> {
+                PayrollRun current = runRepository.findById(id).orElseThrow();
+                current.setStatus(PayrollRun.Status.RUNNING);
+                current.setFinishedAt(null);
+            });
+            launch(id, period);
+        }
+        return getRun(id);
+    }
+
+    private PayrollRun createRun(DtoPayrollGenerateRequest req, Long requesterId) {
+        List<Long> employeeIds = employeesRepository.findIdsByStatus(Employees.Status.APPROVED);
+        if (employeeIds.isEmpty()) {
+            throw new IllegalArgumentException("Bordro oluşturulacak onaylı çalışan bulunamadı");
+        }
+
+        PayrollRun run = new PayrollRun();
+        run.setYear(req.getYear());
+        run.setMonth(req.getMonth());
+        run.setStandardMonthlyHours(req.getStandardMonthlyHours());
+        run.setOvertimeMultiplier(req.getOvertimeMultiplier());
+        run.setIncomeTaxRate(req.getIncomeTaxRate());
+        run.setBonus(req.getBonus());
+        run.setExtraDeduction(req.getExtraDeduction());
+        run.setBaseSalary(req.getBaseSalary());
+        run.setEmployeeCount(employeeIds.size());
+        run.setChunkCount((employeeIds.size() + chunkSize - 1) / chunkSize);
+        run.setRequestedBy(requesterId);
+        run = runRepository.save(run);
+
+        // Parçalar id aralığı olarak saklanır; çalışan listesi ayrıca tutulmaz
+        List<PayrollRunChunk> chunks = new ArrayList<>();
+        for (int from = 0, index = 0; from < employeeIds.size(); from += chunkSize, index++) {
+            int to = Math.min(from + chunkSize, employeeIds.size());
+            PayrollRunChunk chunk = new PayrollRunChunk();
+            chunk.setRunId(run.getId());
+            chunk.setChunkIndex(index);
+            chunk.setFirstEmployeeId(employeeIds.get(from));
+            chunk.setLastEmployeeId(employeeIds.get(to - 1));
+            chunks.add(chunk);
+        }
+        chunkRepository.saveAll(chunks);
+        return run;
+    }
+
+    private void launch(Long runId, YearMonth period) {
+        activeRuns.put(runId, period);
+        Thread.ofVirtual().name("payroll-run-" + runId).start(() -> execute(runId));
+    }
+
+    private void execute(Long runId) {
+        boolean allDone = false;
+        try {
+            PayrollRun run = runRepository.findById(runId).orElseThrow();
+            DtoPayrollGenerateRequest params = toRequest(run);
+
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (PayrollRunChunk chunk : chunkRepository.findByRunIdAndStatusNotOrderByChunkIndex(runId, PayrollRunChunk.Status.DONE)) {
+                Long chunkId = chunk.getId();
+                futures.add(executor.submit(() -> processChunk(chunkId, params)));
+            }
+            allDone = true;
+            for (Future<Boolean> future : futures) {
+                allDone &= future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            allDone = false;
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("Bordro çalıştırması #{} hata verdi", runId, e);
+            allDone = false;
+        } finally {
+            PayrollRun.Status result = allDone ? PayrollRun.Status.COMPLETED : PayrollRun.Status.FAILED;
+            try {
+                transactionTemplate.executeWithoutResult(status -> runRepository.findById(runId).ifPresent(run -> {
+                    run.setStatus(result);
+                    run.setFinishedAt(LocalDateTime.now());
+                }));
+            } finally {
+                activeRuns.remove(runId);
+            }
+            log.info("Bordro çalıştırması #{} bitti: {}", runId, result);
+        }
+    }
+
+    private boolean processChunk(Long chunkId, DtoPayrollGenerateRequest params) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                PayrollRunChunk chunk = chunkRepository.findById(chunkId).orElseThrow();
+                int year = params.getYear();
+                int month = params.getMonth();
+
+                List<Employees> employees = employeesRepository.findByStatusAndIdBetweenOrderById(
+                        Employees.Status.APPROVED, chunk.getFirstEmployeeId(), chunk.getLastEmployeeId());
+                if (!employees.isEmpty()) {
+                    List<Long> ids = new ArrayList<>(employees.size());
+                    for (Employees e : employees) ids.add(e.getId());
+
+                    // Parça başına sabit sayıda sorgu: saatler ve mevcut bordrolar toplu okunur
+                    Map<Long, AttendanceMonthlySummary> summaries = monthlySummary.summaries(ids, year, month);
+                    Map<Long, Payroll> existing = new HashMap<>();
+                    for (Payroll p : payrolRepository.findAllByYearAndMonthAndEmployee_IdIn(year, month, ids)) {
+                        existing.put(p.getEmployee().getId(), p);
+                    }
+
+                    List<Payroll> payrolls = new ArrayList<>(employees.size());
+                    for (Employees e : employees) {
+                        Payroll payroll = existing.getOrDefault(e.getId(), new Payroll());
+                        AttendanceMonthlySummary summary = summaries.get(e.getId());
+                        PayrollCalculator.apply(payroll, params, summary == null ? 0L : summary.getWorkedSeconds());
+                        payroll.setEmployee(e);
+                        payroll.setYear(year);
+                        payroll.setMonth(month);
+                        payroll.setAttendanceRevision(summary == null ? 0L : summary.getRevision());
+                        payrolls.add(payroll);
+                    }
+                    payrolRepository.saveAll(payrolls);
+                }
+
+                chunk.setStatus(PayrollRunChunk.Status.DONE);
+                chunk.setProcessedCount(employees.size());
+                chunk.setError(null);
+                chunk.setFinishedAt(LocalDateTime.now());
+            });
+            return true;
+        } catch (RuntimeException e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transactionTemplate.executeWithoutResult(status -> chunkRepository.findById(chunkId).ifPresent(chunk -> {
+                chunk.setStatus(PayrollRunChunk.Status.FAILED);
+                chunk.setError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            }));
+            return false;
+        }
+    }
+
+    private void requireNoActiveRun(YearMonth period) {
+        for (Map.Entry<Long, YearMonth> entry : activeRuns.entrySet()) {
+            if (entry.getValue().equals(period)) {
+                throw new IllegalArgumentException("Bu dönem için işlenen bir bordro çalıştırması var: " + entry.getKey());
+            }
+        }
+    }
+
+    private void requireHr(Long requesterId) {
+        // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN toplu bordro çalıştırabilir
+        requesterAuthorization.requireHr(requesterId, "Yetki hatası: Toplu bordro yetkisi sadece İK/Admin'e aittir");
+    }
+
+    private static DtoPayrollGenerateRequest toRequest(PayrollRun run) {
+        DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+        req.setYear(run.getYear());
+        req.setMonth(run.getMonth());
+        req.setStandardMonthlyHours(run.getStandardMonthlyHours());
+        req.setOvertimeMultiplier(run.getOvertimeMultiplier());
+        req.setIncomeTaxRate(run.getIncomeTaxRate());
+        req.setBonus(run.getBonus());
+        req.setExtraDeduction(run.getExtraDeduction());
+        req.setBaseSalary(run.getBaseSalary());
+        return req;
+    }
+}
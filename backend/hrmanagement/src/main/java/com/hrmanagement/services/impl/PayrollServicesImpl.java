@@ -1,169 +1,113 @@
 package com.hrmanagement.services.impl;
 
+import com.hrmanagement.dto.DtoPayroll;
 import com.hrmanagement.dto.DtoPayrollGenerateRequest;
-import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.dto.DtoPayrollRecompute;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
 import com.hrmanagement.entities.Employees;
 import com.hrmanagement.entities.Payroll;
-import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.mapper.PayrollMapper;
 import com.hrmanagement.repository.EmployeesRepository;
 import com.hrmanagement.repository.PayrolRepository;
+import com.hrmanagement.services.AttendanceMonthlySummaryService;
 import com.hrmanagement.services.IPayrollServices;
+import com.hrmanagement.services.PayrollCalculator;
+import com.hrmanagement.services.PayslipExportService;
+import com.hrmanagement.services.RequesterAuthorization;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class PayrollServicesImpl implements IPayrollServices {
 
+    private static final int MAX_REPORTED_ERRORS = 100;
+
     private final PayrolRepository payrolRepository;
     private final EmployeesRepository employeesRepository;
-    private final AttandanceRepository attandanceRepository;
+    private final AttendanceMonthlySummaryService monthlySummary;
+    private final RequesterAuthorization requesterAuthorization;
+    private final PayslipExportService payslipExportService;
+    private final TransactionTemplate transactionTemplate;
+    private final int recomputeBatchSize;
 
     public PayrollServicesImpl(PayrolRepository payrolRepository,
                               EmployeesRepository employeesRepository,
-                              AttandanceRepository attandanceRepository) {
+                              AttendanceMonthlySummaryService monthlySummary,
+                              RequesterAuthorization requesterAuthorization,
+                              PayslipExportService payslipExportService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${hr.payroll.recompute.batch-size:200}") int recomputeBatchSize) {
         this.payrolRepository = payrolRepository;
         this.employeesRepository = employeesRepository;
-        this.attandanceRepository = attandanceRepository;
+        this.monthlySummary = monthlySummary;
+        this.requesterAuthorization = requesterAuthorization;
+        this.payslipExportService = payslipExportService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recomputeBatchSize = recomputeBatchSize;
     }
 
     @Override
     @Transactional
-    public Payroll generatePayroll(DtoPayrollGenerateRequest req) {
+    public DtoPayroll generatePayroll(DtoPayrollGenerateRequest req) {
         int month = req.getMonth();
         int year = req.getYear();
         Long employeeId = req.getEmployeeId();
 
-        if (month < 1 || month > 12) throw new IllegalArgumentException("month 1..12 olmalı");
-        if (year < 2000) throw new IllegalArgumentException("year geçersiz: " + year);
+        PayrollCalculator.validatePeriod(year, month);
         if (employeeId == null) throw new IllegalArgumentException("employeeId zorunlu");
 
-        // Gelecek tarih kontrolü - şu anki aydan ileri olamaz
-        YearMonth requestedPeriod = YearMonth.of(year, month);
-        YearMonth currentPeriod = YearMonth.now();
-        if (requestedPeriod.isAfter(currentPeriod)) {
-            throw new IllegalArgumentException("Gelecek dönemler için bordro oluşturulamaz!");
-        }
-
         Employees emp = employeesRepository.findById(employeeId)
                 .orElseThrow(() -> new IllegalArgumentException("Employee bulunamadı: " + employeeId));
 
-        // Dönem aralığı
-        YearMonth ym = YearMonth.of(year, month);
-        LocalDate start = ym.atDay(1);
-        LocalDate end = ym.atEndOfMonth();
-
-        // Attendance: employee + tarih aralığı
-        List<Attendance> records =
-    attandanceRepository.findAllByEmployee_IdAndDateBetween(employeeId, start, end);
-
-        BigDecimal totalHours = records.stream()
-                .map(a -> toBigDecimal(a.getHoursWorked()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Maaş: Employees'ta salary yoksa request'ten baseSalary kullan
-        BigDecimal baseSalary = nullSafe(req.getBaseSalary());
-        if (baseSalary.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("baseSalary zorunlu (Employees'ta salary yoksa request'ten gönderilmeli)");
-        }
-
-        int standardHoursInt = req.getStandardMonthlyHours();
-        if (standardHoursInt <= 0) throw new IllegalArgumentException("standardMonthlyHours > 0 olmalı");
-
-        BigDecimal standardHours = BigDecimal.valueOf(standardHoursInt);
-
-        BigDecimal hourlyRate = baseSalary.divide(standardHours, 6, RoundingMode.HALF_UP);
-
-        BigDecimal overtimeHours = totalHours.subtract(standardHours);
-        if (overtimeHours.compareTo(BigDecimal.ZERO) < 0) overtimeHours = BigDecimal.ZERO;
-
-        BigDecimal overtimeMultiplier = nullSafe(req.getOvertimeMultiplier());
-        if (overtimeMultiplier.compareTo(BigDecimal.ZERO) < 0) overtimeMultiplier = BigDecimal.ZERO;
-
-        BigDecimal overtimePay = overtimeHours.multiply(hourlyRate).multiply(overtimeMultiplier);
-
-        BigDecimal gross = baseSalary
-                .add(overtimePay)
-                .add(nullSafe(req.getBonus()));
-
-        BigDecimal incomeTaxRate = nullSafe(req.getIncomeTaxRate());
-        // Vergi oranı 0-1 (yani %0-%100) arasında olmalı
-        if (incomeTaxRate.compareTo(BigDecimal.ZERO) < 0) incomeTaxRate = BigDecimal.ZERO;
-        if (incomeTaxRate.compareTo(BigDecimal.ONE) > 0) {
-            throw new IllegalArgumentException("Vergi oranı %100'den fazla olamaz!");
-        }
-
-        BigDecimal incomeTax = gross.multiply(incomeTaxRate);
-        BigDecimal extraDeduction = nullSafe(req.getExtraDeduction());
-
-        // Ekstra kesinti negatif olamaz
-        if (extraDeduction.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Ekstra kesinti negatif olamaz!");
-        }
-
-        BigDecimal deductions = incomeTax.add(extraDeduction);
-
-        BigDecimal net = gross.subtract(deductions);
-
-        // Net maaş negatif olamaz
-        if (net.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Kesintiler brüt maaştan fazla olamaz! Net maaş negatif oldu.");
-        }
-
-        // Para alanlarını 2 haneye yuvarla
-        baseSalary = money(baseSalary);
-        totalHours = totalHours.setScale(2, RoundingMode.HALF_UP);
-        overtimeHours = overtimeHours.setScale(2, RoundingMode.HALF_UP);
-        overtimePay = money(overtimePay);
-        gross = money(gross);
-        deductions = money(deductions);
-        net = money(net);
+        // Dönem çalışma süresi: aylık devam özetinden, tam saniye
+        Optional<AttendanceMonthlySummary> summary = monthlySummary.summary(employeeId, year, month);
+        long workedSeconds = summary.map(AttendanceMonthlySummary::getWorkedSeconds).orElse(0L);
 
         Payroll payroll = payrolRepository
                 .findByEmployee_IdAndYearAndMonth(employeeId, year, month)
                 .orElseGet(Payroll::new);
 
+        PayrollCalculator.apply(payroll, req, workedSeconds);
         payroll.setEmployee(emp);
         payroll.setYear(year);
         payroll.setMonth(month);
-        payroll.setBaseSalary(baseSalary);
-        payroll.setTotalWorkHours(totalHours);
-        payroll.setOvertimeHours(overtimeHours);
-        payroll.setOvertimePay(overtimePay);
-        payroll.setBonus(money(nullSafe(req.getBonus())));
-        payroll.setGrossSalary(gross);
-        payroll.setDeductions(deductions);
-        payroll.setNetSalary(net);
-
-        return payrolRepository.save(payroll);
+        payroll.setAttendanceRevision(summary.map(AttendanceMonthlySummary::getRevision).orElse(0L));
+
+        return PayrollMapper.toDto(payrolRepository.save(payroll));
     }
 
     @Override
-    public Payroll getById(Long id) {
-        return payrolRepository.findById(id)
+    public DtoPayroll getById(Long id) {
+        return payrolRepository.findDtoById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Payroll bulunamadı: " + id));
     }
 
     @Override
-    public Payroll getByEmployeeAndPeriod(Long employeeId, int year, int month) {
-        return payrolRepository.findByEmployee_IdAndYearAndMonth(employeeId, year, month)
+    public DtoPayroll getByEmployeeAndPeriod(Long employeeId, int year, int month) {
+        return payrolRepository.findDtoByEmployeeAndPeriod(employeeId, year, month)
                 .orElse(null);
     }
 
     @Override
-    public List<Payroll> listByEmployeeYear(Long employeeId, int year) {
-        return payrolRepository.findAllByEmployee_IdAndYear(employeeId, year);
+    public List<DtoPayroll> listByEmployeeYear(Long employeeId, int year) {
+        return payrolRepository.findDtoByEmployeeAndYear(employeeId, year);
     }
 
     @Override
-    public List<Payroll> getAllByEmployee(Long employeeId) {
+    public List<DtoPayroll> getAllByEmployee(Long employeeId) {
         System.out.println("Service getAllByEmployee id=" + employeeId);
-        return payrolRepository.findAllByEmployee_IdOrderByYearDescMonthDesc(employeeId);
+        return payrolRepository.findDtoByEmployeeOrderByYearDescMonthDesc(employeeId);
     }
 
     @Override
@@ -172,20 +116,7 @@ public class PayrollServicesImpl implements IPayrollServices {
         System.out.println("deletePayroll çağrıldı, id: " + id + ", requesterId: " + requesterId);
 
         // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN silebilir
-        if (requesterId == null) {
-            throw new IllegalArgumentException("Yetki hatası: requesterId gerekli");
-        }
-
-        Employees requester = employeesRepository.findById(requesterId)
-            .orElseThrow(() -> new IllegalArgumentException("Yetki hatası: Kullanıcı bulunamadı"));
-
-        boolean isHR = "İnsan Kaynakları".equals(requester.getDepartment()) ||
-                       Employees.Role.HR.equals(requester.getRole()) ||
-                       Employees.Role.ADMIN.equals(requester.getRole());
-
-        if (!isHR) {
-            throw new IllegalArgumentException("Yetki hatası: Bordro silme yetkisi sadece İK/Admin'e aittir");
-        }
+        requesterAuthorization.requireHr(requesterId, "Yetki hatası: Bordro silme yetkisi sadece İK/Admin'e aittir");
 
         if (!payrolRepository.existsById(id)) {
             System.out.println("Payroll bulunamadı: " + id);
@@ -196,23 +127,87 @@ public class PayrollServicesImpl implements IPayrollServices {
         System.out.println("Silindi, etkilenen kayıt: " + affected);
     }
 
-    private static BigDecimal nullSafe(BigDecimal v) {
-        return v == null ? BigDecimal.ZERO : v;
+    /**
+     * Hesaplandıktan sonra devam kaydı değişmiş (özet revision'ı ilerlemiş) bordroları,
+     * saklanan parametrelerle yeniden hesaplar. Bayat bordro id'leri tek sorguyla bulunur ve
+     * recomputeBatchSize'lık partiler halinde, her parti kendi transaction'ında işlenir.
+     */
+    @Override
+    public DtoPayrollRecompute recomputeStale(Integer year, Integer month, Long requesterId) {
+        // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN bordro yeniden hesaplayabilir
+        requesterAuthorization.requireHr(requesterId,
+                "Yetki hatası: Bordro yeniden hesaplama yetkisi sadece İK/Admin'e aittir");
+
+        if (month != null && year == null) throw new IllegalArgumentException("month için year zorunlu");
+        if (month != null && (month < 1 || month > 12)) throw new IllegalArgumentException("month 1..12 olmalı");
+
+        DtoPayrollRecompute result = new DtoPayrollRecompute();
+        result.setYear(year);
+        result.setMonth(month);
+
+        List<Long> staleIds = payrolRepository.findStaleIds(year, month);
+        for (int from = 0; from < staleIds.size(); from += recomputeBatchSize) {
+            List<Long> batch = staleIds.subList(from, Math.min(from + recomputeBatchSize, staleIds.size()));
+            transactionTemplate.executeWithoutResult(status -> recomputeBatch(batch, result));
+        }
+
+        Object[] counts = payrolRepository.countTracked(year, month).get(0);
+        int total = ((Number) counts[0]).intValue();
+        int untracked = counts[1] == null ? 0 : ((Number) counts[1]).intValue();
+        result.setStale(staleIds.size());
+        result.setUntracked(untracked);
+        result.setUpToDate(total - untracked - result.getRecomputed() - result.getFailed());
+        return result;
     }
 
-    private static BigDecimal money(BigDecimal v) {
-        return (v == null ? BigDecimal.ZERO : v).setScale(2, RoundingMode.HALF_UP);
+    // Dönem pusulalarını zip olarak akıtır; yetki ve dönem kontrolü yanıt başlamadan yapılır
+    @Override
+    public StreamingResponseBody exportPayslips(int year, int month, Long requesterId) {
+        // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN tüm çalışanların pusulalarını alabilir
+        requesterAuthorization.requireHr(requesterId,
+                "Yetki hatası: Bordro pusulası dışa aktarma yetkisi sadece İK/Admin'e aittir");
+
+        PayrollCalculator.validatePeriod(year, month);
+        return out -> payslipExportService.export(year, month, out);
     }
 
-    /** Attendance.hoursWorked Integer/Double/String vs olabilir → BigDecimal’e çevir. */
-    private static BigDecimal toBigDecimal(Object hoursWorked) {
-        if (hoursWorked == null) return BigDecimal.ZERO;
-        if (hoursWorked instanceof BigDecimal bd) return bd;
-        if (hoursWorked instanceof Integer i) return BigDecimal.valueOf(i);
-        if (hoursWorked instanceof Long l) return BigDecimal.valueOf(l);
-        if (hoursWorked instanceof Double d) return BigDecimal.valueOf(d);
-        if (hoursWorked instanceof Float f) return BigDecimal.valueOf(f.doubleValue());
-        if (hoursWorked instanceof Number n) return BigDecimal.valueOf(n.doubleValue());
-        return new BigDecimal(hoursWorked.toString());
+    private void recomputeBatch(List<Long> payrollIds, DtoPayrollRecompute result) {
+        // Parti başına sabit sayıda sorgu: bordrolar ve her dönemin özetleri toplu okunur
+        Map<YearMonth, List<Payroll>> byPeriod = new LinkedHashMap<>();
+        for (Payroll payroll : payrolRepository.findAllWithEmployeeByIdIn(payrollIds)) {
+            byPeriod.computeIfAbsent(YearMonth.of(payroll.getYear(), payroll.getMonth()), k -> new ArrayList<>()).add(payroll);
+        }
+
+        for (Map.Entry<YearMonth, List<Payroll>> entry : byPeriod.entrySet()) {
+            YearMonth period = entry.getKey();
+            List<Long> employeeIds = new ArrayList<>(entry.getValue().size());
+            for (Payroll payroll : entry.getValue()) employeeIds.add(payroll.getEmployee().getId());
+            Map<Long, AttendanceMonthlySummary> summaries =
+                    monthlySummary.summaries(employeeIds, period.getYear(), period.getMonthValue());
+
+            for (Payroll payroll : entry.getValue()) {
+                AttendanceMonthlySummary summary = summaries.get(payroll.getEmployee().getId());
+                long revision = summary == null ? 0 : summary.getRevision();
+                DtoPayrollGenerateRequest params = PayrollCalculator.parametersOf(payroll);
+                if (params == null || payroll.getAttendanceRevision() == null) {
+                    // Sorgu ile okuma arasında silinip yeniden üretilmiş olabilir
+                    continue;
+                }
+                if (payroll.getAttendanceRevision() == revision) {
+                    // Arada başka bir istek yeniden hesaplamış; güncel sayılır
+                    continue;
+                }
+                try {
+                    PayrollCalculator.apply(payroll, params, summary == null ? 0L : summary.getWorkedSeconds());
+                    payroll.setAttendanceRevision(revision);
+                    result.setRecomputed(result.getRecomputed() + 1);
+                } catch (IllegalArgumentException e) {
+                    result.setFailed(result.getFailed() + 1);
+                    if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                        result.getErrors().add("Bordro #" + payroll.getId() + " (" + period + "): " + e.getMessage());
+                    }
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,250 @@
+package com.hrmanagement.services.impl;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.dto.DtoPayrollSimulation;
+import com.hrmanagement.dto.DtoPayrollSimulationEmployee;
+import com.hrmanagement.dto.DtoPayrollSimulationRequest;
+import com.hrmanagement.dto.DtoPayrollSimulationScenario;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.AttendanceMonthlySummaryService;
+import com.hrmanagement.services.IPayrollSimulationServices;
+import com.hrmanagement.services.PayrollAmounts;
+import com.hrmanagement.services.PayrollCalculator;
+import com.hrmanagement.services.PayrollPeriodInputs;
+import com.hrmanagement.services.PayrollScenario;
+import com.hrmanagement.services.RequesterAuthorization;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bordro "ya olursa" simülasyonu: hiçbir şey yazmadan, dönemdeki tüm onaylı çalışanlar için
+ * birden fazla parametre setinin toplam maliyetini ve tabana (ilk set) göre farkları hesaplar.
+ *
+ * Dönem girdileri (çalışan id'leri ve çalışma süreleri) bir kez okunup PayrollPeriodInputs
+ * dizilerinde önbelleğe alınır. Her istekte onaylı çalışan kümesinin ve dönem özetinin parmak izi
+ * iki küçük toplama sorgusuyla veritabanından okunur (sorgu önbelleğine alınmaz: önbellek düğüme
+ * özeldir); farklıysa girdiler yeniden okunur. Her parametre seti bir kez sabit noktaya çevrilir;
+ * (senaryo, çalışan dilimi) görevleri sınırlı bir executor'da paralel işlenir.
+ *
+ * Süreler bordroyla aynı birimde, tam saniye olarak tutulur ve çalışan başına nesne oluşturmadan
+ * PayrollMath'in long yolundan geçer; sonuç her çalışan için generatePayroll ile aynıdır.
+ */
+@Service
+public class PayrollSimulationServicesImpl implements IPayrollSimulationServices {
+
+    private record CachedInputs(List<Long> fingerprint, PayrollPeriodInputs inputs) {
+    }
+
+    // Bir (senaryo, dilim) görevinin kısmi toplamları, kuruş
+    private record SliceTotals(long overtimePay, long gross, long deductions, long net) {
+    }
+
+    private final EmployeesRepository employeesRepository;
+    private final AttendanceMonthlySummaryService monthlySummary;
+    private final RequesterAuthorization requesterAuthorization;
+    private final int maxScenarios;
+    private final int sliceSize;
+    private final ExecutorService executor;
+
+    private final Map<YearMonth, CachedInputs> cache;
+
+    public PayrollSimulationServicesImpl(EmployeesRepository employeesRepository,
+                                         AttendanceMonthlySummaryService monthlySummary,
+                                         RequesterAuthorization requesterAuthorization,
+                                         @Value("${hr.payroll.simulation.cache-periods:12}") int cachePeriods,
+                                         @Value("${hr.payroll.simulation.max-scenarios:32}") int maxScenarios,
+                                         @Value("${hr.payroll.simulation.slice-size:2048}") int sliceSize,
+                                         @Value("${hr.payroll.simulation.parallelism:0}") int parallelism) {
+        this.employeesRepository = employeesRepository;
+        this.monthlySummary = monthlySummary;
+        this.requesterAuthorization = requesterAuthorization;
+        // En son kullanılan cachePeriods dönem tutulur
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, CachedInputs> eldest) {
+                return size() > cachePeriods;
+            }
+        };
+        this.maxScenarios = maxScenarios;
+        this.sliceSize = sliceSize;
+        // Hesap CPU'ya bağlı: platform thread'leri, varsayılan çekirdek sayısı kadar
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("payroll-sim-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public DtoPayrollSimulation simulate(DtoPayrollSimulationRequest req, Long requesterId) {
+        // GÜVENLİK: Yetki kontrolü - sadece HR/ADMIN bordro simülasyonu yapabilir
+        requesterAuthorization.requireHr(requesterId, "Yetki hatası: Bordro simülasyonu yetkisi sadece İK/Admin'e aittir");
+        PayrollCalculator.validatePeriod(req.getYear(), req.getMonth());
+        List<DtoPayrollGenerateRequest> params = req.getScenarios();
+        if (params == null || params.isEmpty()) {
+            throw new IllegalArgumentException("En az bir senaryo gerekli");
+        }
+        if (params.size() > maxScenarios) {
+            throw new IllegalArgumentException("En fazla " + maxScenarios + " senaryo gönderilebilir");
+        }
+
+        // Hatalı parametre seti hesap başlamadan reddedilir
+        List<PayrollScenario> scenarios = new ArrayList<>(params.size());
+        for (int s = 0; s < params.size(); s++) {
+            try {
+                scenarios.add(PayrollScenario.of(params.get(s)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Senaryo #" + s + ": " + e.getMessage());
+            }
+        }
+
+        PayrollPeriodInputs inputs = inputs(YearMonth.of(req.getYear(), req.getMonth()));
+        int n = inputs.size();
+        long[][] gross = req.isIncludeEmployees() ? new long[scenarios.size()][n] : null;
+        long[][] net = req.isIncludeEmployees() ? new long[scenarios.size()][n] : null;
+
+        List<List<Future<SliceTotals>>> futures = new ArrayList<>(scenarios.size());
+        for (int s = 0; s < scenarios.size(); s++) {
+            PayrollScenario scenario = scenarios.get(s);
+            long[] grossOut = gross == null ? null : gross[s];
+            long[] netOut = net == null ? null : net[s];
+            List<Future<SliceTotals>> slices = new ArrayList<>();
+            for (int from = 0; from < n; from += sliceSize) {
+                int start = from;
+                int end = Math.min(from + sliceSize, n);
+                slices.add(executor.submit(() -> evaluate(scenario, inputs, start, end, grossOut, netOut)));
+            }
+            futures.add(slices);
+        }
+
+        DtoPayrollSimulation result = new DtoPayrollSimulation();
+        result.setYear(req.getYear());
+        result.setMonth(req.getMonth());
+        result.setEmployeeCount(n);
+
+        SliceTotals baseline = null;
+        for (int s = 0; s < futures.size(); s++) {
+            SliceTotals totals = new SliceTotals(0, 0, 0, 0);
+            for (Future<SliceTotals> future : futures.get(s)) {
+                SliceTotals slice = await(future);
+                totals = new SliceTotals(totals.overtimePay() + slice.overtimePay(), totals.gross() + slice.gross(),
+                        totals.deductions() + slice.deductions(), totals.net() + slice.net());
+            }
+            if (baseline == null) {
+                baseline = totals;
+            }
+
+            DtoPayrollSimulationScenario dto = new DtoPayrollSimulationScenario();
+            dto.setIndex(s);
+            dto.setTotalOvertimePay(money(totals.overtimePay()));
+            dto.setTotalGross(money(totals.gross()));
+            dto.setTotalDeductions(money(totals.deductions()));
+            dto.setTotalNet(money(totals.net()));
+            dto.setOvertimePayDelta(money(totals.overtimePay() - baseline.overtimePay()));
+            dto.setGrossDelta(money(totals.gross() - baseline.gross()));
+            dto.setDeductionsDelta(money(totals.deductions() - baseline.deductions()));
+            dto.setNetDelta(money(totals.net() - baseline.net()));
+            result.getScenarios().add(dto);
+        }
+
+        if (req.isIncludeEmployees()) {
+            for (int i = 0; i < n; i++) {
+                DtoPayrollSimulationEmployee employee = new DtoPayrollSimulationEmployee();
+                employee.setEmployeeId(inputs.employeeId(i));
+                // Bordrodaki totalWorkHours gibi gösterimde iki haneye yuvarlanır; hesap saniye ile yapılır
+                employee.setTotalWorkHours(BigDecimal.valueOf(inputs.workedSeconds(i))
+                        .divide(BigDecimal.valueOf(PayrollCalculator.SECONDS_PER_HOUR), 2, RoundingMode.HALF_UP));
+                employee.setBaselineGross(money(gross[0][i]));
+                employee.setBaselineNet(money(net[0][i]));
+                for (int s = 0; s < scenarios.size(); s++) {
+                    employee.getGrossDeltas().add(money(gross[s][i] - gross[0][i]));
+                    employee.getNetDeltas().add(money(net[s][i] - net[0][i]));
+                }
+                result.getEmployees().add(employee);
+            }
+        }
+        return result;
+    }
+
+    private SliceTotals evaluate(PayrollScenario scenario, PayrollPeriodInputs inputs, int from, int to,
+                                 long[] grossOut, long[] netOut) {
+        PayrollAmounts amounts = new PayrollAmounts();
+        long overtimePay = 0, gross = 0, deductions = 0, net = 0;
+        for (int i = from; i < to; i++) {
+            scenario.evaluate(inputs.workedSeconds(i), amounts);
+            overtimePay += amounts.getOvertimePayCents();
+            gross += amounts.getGrossCents();
+            deductions += amounts.getDeductionsCents();
+            net += amounts.getNetCents();
+            if (grossOut != null) {
+                grossOut[i] = amounts.getGrossCents();
+                netOut[i] = amounts.getNetCents();
+            }
+        }
+        return new SliceTotals(overtimePay, gross, deductions, net);
+    }
+
+    private PayrollPeriodInputs inputs(YearMonth period) {
+        // Parmak izi girdilerden önce okunur: arada bir yazma olursa sonraki istek yeniden yükler
+        Object[] employees = employeesRepository.fingerprintByStatus(Employees.Status.APPROVED).get(0);
+        List<Long> fingerprint = new ArrayList<>(monthlySummary.fingerprint(period.getYear(), period.getMonthValue()));
+        fingerprint.add(((Number) employees[0]).longValue());
+        fingerprint.add(((Number) employees[1]).longValue());
+        synchronized (cache) {
+            CachedInputs cached = cache.get(period);
+            if (cached != null && cached.fingerprint().equals(fingerprint)) {
+                return cached.inputs();
+            }
+        }
+
+        // Toplu bordro ile aynı çalışan kümesi: onaylılar, id sırasıyla
+        List<Long> ids = employeesRepository.findIdsByStatus(Employees.Status.APPROVED);
+        Map<Long, Long> seconds = monthlySummary.workedSeconds(period.getYear(), period.getMonthValue());
+        long[] employeeIds = new long[ids.size()];
+        long[] workedSeconds = new long[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            employeeIds[i] = ids.get(i);
+            workedSeconds[i] = seconds.getOrDefault(ids.get(i), 0L);
+        }
+        PayrollPeriodInputs loaded = new PayrollPeriodInputs(period, employeeIds, workedSeconds);
+
+        synchronized (cache) {
+            cache.put(period, new CachedInputs(List.copyOf(fingerprint), loaded));
+        }
+        return loaded;
+    }
+
+    private static SliceTotals await(Future<SliceTotals> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bordro simülasyonu kesildi", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Bordro simülasyonu başarısız", e.getCause());
+        }
+    }
+
+    private static BigDecimal money(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
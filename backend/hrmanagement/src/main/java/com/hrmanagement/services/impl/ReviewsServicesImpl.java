@@ -9,19 +9,24 @@ import com.hrmanagement.dto.DtoReviews;
 import com.hrmanagement.dto.DtoReviewsIU;
 import com.hrmanagement.entities.Employees;
 import com.hrmanagement.entities.Reviews;
+import com.hrmanagement.mapper.ReviewsMapper;
 import com.hrmanagement.repository.EmployeesRepository;
 import com.hrmanagement.repository.ReviewsRepository;
 import com.hrmanagement.services.IReviewsServices;
+import com.hrmanagement.services.RequesterAuthorization;
 
 @Service
 public class ReviewsServicesImpl implements IReviewsServices{
 
     private final EmployeesRepository employeesRepository;
     private final ReviewsRepository reviewsRepository;
+    private final RequesterAuthorization requesterAuthorization;
 
-    public ReviewsServicesImpl(EmployeesRepository employeesRepository,ReviewsRepository reviewsRepository){
+    public ReviewsServicesImpl(EmployeesRepository employeesRepository,ReviewsRepository reviewsRepository,
+                               RequesterAuthorization requesterAuthorization){
         this.employeesRepository = employeesRepository;
         this.reviewsRepository = reviewsRepository;
+        this.requesterAuthorization = requesterAuthorization;
     }
 
     @Override
@@ -41,27 +46,12 @@ public class ReviewsServicesImpl implements IReviewsServices{
             throw new RuntimeException("Puan 1 ile 5 arasında olmalıdır!");
         }
 
-        Reviews reviews = new Reviews();
-
-        reviews.setReviewerName(dtoReviews.getReviewerName());
-        reviews.setComments(dtoReviews.getComments());
-        reviews.setRating(dtoReviews.getRating());
-        reviews.setEmployee(employee);
+        Reviews reviews = ReviewsMapper.toNewEntity(dtoReviews, employee);
         reviews.setReviewDate(java.time.LocalDate.now());
-        reviews.setReviewerId(dtoReviews.getReviewerId());
         
         Reviews savedReviews = reviewsRepository.save(reviews);
         
-        DtoReviews dtoReviewsResponse = new DtoReviews();
-        dtoReviewsResponse.setId(savedReviews.getId());
-        dtoReviewsResponse.setReviewDate(savedReviews.getReviewDate());
-        dtoReviewsResponse.setReviewerName(savedReviews.getReviewerName());
-        dtoReviewsResponse.setComments(savedReviews.getComments());
-        dtoReviewsResponse.setRating(savedReviews.getRating());
-        dtoReviewsResponse.setEmployeeId(savedReviews.getEmployee().getId());
-        dtoReviewsResponse.setReviewerId(savedReviews.getReviewerId());
-        
-        return dtoReviewsResponse;
+        return ReviewsMapper.toDto(savedReviews);
     }
 
     @Override
@@ -81,16 +71,7 @@ public class ReviewsServicesImpl implements IReviewsServices{
         
         Reviews updatedReviews = reviewsRepository.save(reviews);
         
-        DtoReviewsIU dtoReviewsResponse = new DtoReviewsIU();
-        dtoReviewsResponse.setId(updatedReviews.getId());
-        dtoReviewsResponse.setReviewDate(updatedReviews.getReviewDate());
-        dtoReviewsResponse.setReviewerName(updatedReviews.getReviewerName());
-        dtoReviewsResponse.setComments(updatedReviews.getComments());
-        dtoReviewsResponse.setRating(updatedReviews.getRating());
-        dtoReviewsResponse.setEmployeeId(updatedReviews.getEmployee().getId());
-        dtoReviewsResponse.setReviewerId(updatedReviews.getReviewerId());
-        
-        return dtoReviewsResponse;
+        return ReviewsMapper.toDtoIU(updatedReviews);
     }
 
     @Override
@@ -103,13 +84,9 @@ public class ReviewsServicesImpl implements IReviewsServices{
         Reviews reviews = reviewsRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Reviews not found with id: " + id));
 
-        Employees requester = employeesRepository.findById(requesterId)
-                .orElseThrow(() -> new RuntimeException("Yetki hatası: Kullanıcı bulunamadı"));
-
-        boolean isHR = "İnsan Kaynakları".equals(requester.getDepartment()) ||
-                       Employees.Role.HR.equals(requester.getRole()) ||
-                       Employees.Role.ADMIN.equals(requester.getRole());
+        RequesterAuthorization.Requester requester = requesterAuthorization.require(requesterId, RuntimeException::new);
 
+        boolean isHR = requester.isHr();
         boolean isOwner = requesterId.equals(reviews.getReviewerId());
 
         if (!isHR && !isOwner) {
@@ -125,15 +102,7 @@ public class ReviewsServicesImpl implements IReviewsServices{
         List<DtoReviews> dtoReviewsList = new ArrayList<>();
         
         for(Reviews review : reviewsList){
-            DtoReviews dto = new DtoReviews();
-            dto.setId(review.getId());
-            dto.setReviewDate(review.getReviewDate());
-            dto.setReviewerName(review.getReviewerName());
-            dto.setComments(review.getComments());
-            dto.setRating(review.getRating());
-            dto.setEmployeeId(review.getEmployee().getId());
-            dto.setReviewerId(review.getReviewerId());
-            dtoReviewsList.add(dto);
+            dtoReviewsList.add(ReviewsMapper.toDto(review));
         }
         
         return dtoReviewsList;
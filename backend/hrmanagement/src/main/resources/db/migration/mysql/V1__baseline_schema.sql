@@ -0,0 +1,150 @@
+-- Başlangıç şeması: ddl-auto=update'in bu sürüme kadar ürettiği tablolar (MySQL / InnoDB).
+--
+-- Yeni kurulumda tabloları oluşturur. ddl-auto ile oluşmuş mevcut bir veritabanında
+-- (spring.flyway.baseline-version=0 ile) tekrar çalışır: var olan tablolara dokunmaz,
+-- sadece *_seq tablolarını mevcut en büyük id'nin üstüne çeker. Bu dosya önceki
+-- db/id-sequences-mysql.sql betiğinin yerini alır.
+
+CREATE TABLE IF NOT EXISTS employees (
+    id BIGINT NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    tc_no VARCHAR(11) NOT NULL,
+    position VARCHAR(255) NOT NULL,
+    department VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role ENUM('ADMIN','EMPLOYEE','HR') NOT NULL,
+    status ENUM('APPROVED','PENDING','REJECTED') NOT NULL,
+    qr_code VARCHAR(255),
+    created_at DATETIME(6),
+    approved_at DATETIME(6),
+    approved_by BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employees_tc_no UNIQUE (tc_no),
+    CONSTRAINT uk_employees_email UNIQUE (email),
+    CONSTRAINT uk_employees_qr_code UNIQUE (qr_code)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS attendance (
+    id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    check_in_time TIME(0),
+    check_out_time TIME(0),
+    status VARCHAR(255),
+    hours_worked FLOAT(53),
+    employee_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_attendance_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS payrolls (
+    id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,
+    base_salary DECIMAL(19,2) NOT NULL,
+    total_work_hours DECIMAL(19,2) NOT NULL,
+    overtime_hours DECIMAL(19,2) NOT NULL,
+    overtime_pay DECIMAL(19,2) NOT NULL,
+    bonus DECIMAL(19,2) NOT NULL,
+    gross_salary DECIMAL(19,2) NOT NULL,
+    deductions DECIMAL(19,2) NOT NULL,
+    net_salary DECIMAL(19,2) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payrolls_employee_period UNIQUE (employee_id, year, month),
+    CONSTRAINT fk_payrolls_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS reviews (
+    id BIGINT NOT NULL,
+    review_date DATE NOT NULL,
+    reviewer_name VARCHAR(255) NOT NULL,
+    comments VARCHAR(255) NOT NULL,
+    rating INTEGER,
+    employee_id BIGINT,
+    reviewer_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reviews_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS attendance_monthly_summary (
+    id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,
+    total_hours DECIMAL(40,20) NOT NULL,
+    days_present INTEGER NOT NULL,
+    open_records INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_attendance_monthly_summary_period UNIQUE (employee_id, year, month)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS payroll_runs (
+    id BIGINT NOT NULL,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,
+    status ENUM('COMPLETED','FAILED','RUNNING') NOT NULL,
+    base_salary DECIMAL(25,6),
+    bonus DECIMAL(25,6),
+    extra_deduction DECIMAL(25,6),
+    overtime_multiplier DECIMAL(25,6),
+    income_tax_rate DECIMAL(25,6),
+    standard_monthly_hours INTEGER NOT NULL,
+    chunk_count INTEGER NOT NULL,
+    employee_count INTEGER NOT NULL,
+    requested_by BIGINT,
+    created_at DATETIME(6),
+    finished_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS payroll_run_chunks (
+    id BIGINT NOT NULL,
+    run_id BIGINT NOT NULL,
+    chunk_index INTEGER NOT NULL,
+    first_employee_id BIGINT NOT NULL,
+    last_employee_id BIGINT NOT NULL,
+    status ENUM('DONE','FAILED','PENDING') NOT NULL,
+    processed_count INTEGER NOT NULL,
+    error VARCHAR(1000),
+    finished_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payroll_run_chunks_index UNIQUE (run_id, chunk_index)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    name VARCHAR(64) NOT NULL,
+    locked_until DATETIME(6) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE=InnoDB;
+
+-- Pooled-lo id blokları: MySQL'de sequence olmadığı için her entity'nin tek satırlı bir
+-- *_seq tablosu vardır (next_val = dağıtılacak bir sonraki blok başı). Değer asla geri alınmaz.
+CREATE TABLE IF NOT EXISTS employees_seq (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE IF NOT EXISTS attendance_seq (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE IF NOT EXISTS payrolls_seq (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE IF NOT EXISTS reviews_seq (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE IF NOT EXISTS attendance_monthly_summary_seq (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE IF NOT EXISTS payroll_runs_seq (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE IF NOT EXISTS payroll_run_chunks_seq (next_val BIGINT) ENGINE=InnoDB;
+
+INSERT INTO employees_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM employees_seq);
+INSERT INTO attendance_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM attendance_seq);
+INSERT INTO payrolls_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM payrolls_seq);
+INSERT INTO reviews_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM reviews_seq);
+INSERT INTO attendance_monthly_summary_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM attendance_monthly_summary_seq);
+INSERT INTO payroll_runs_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM payroll_runs_seq);
+INSERT INTO payroll_run_chunks_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM payroll_run_chunks_seq);
+
+UPDATE employees_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM employees));
+UPDATE attendance_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM attendance));
+UPDATE payrolls_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM payrolls));
+UPDATE reviews_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM reviews));
+UPDATE attendance_monthly_summary_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM attendance_monthly_summary));
+UPDATE payroll_runs_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM payroll_runs));
+UPDATE payroll_run_chunks_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM payroll_run_chunks));
@@ -0,0 +1,17 @@
+-- Sık çalışan sorgular için indeksler.
+--
+-- attendance(employee_id, date) tekil: findByEmployeeIdAndDate, son kayıtlar (date desc ile
+-- geriye tarama) ve aylık listeler. Aynı gün için ikinci kayıt varsa migration durur;
+-- önce şu sorguyla bulunup temizlenmeli:
+--   SELECT employee_id, date, COUNT(*) FROM attendance GROUP BY employee_id, date HAVING COUNT(*) > 1;
+-- MySQL employee_id yabancı anahtarı için otomatik açtığı indeksi bunun yerine kullanır.
+ALTER TABLE attendance ADD CONSTRAINT uk_attendance_employee_date UNIQUE (employee_id, date);
+
+-- Günlük liste: findByDateOrderByCheckInTimeDesc / findDtoByDateOrderByCheckInTimeDesc
+CREATE INDEX idx_attendance_date_check_in ON attendance (date, check_in_time);
+
+-- Onay bekleyenler vb.: findByStatusOrderByCreatedAtDesc, findByStatus
+CREATE INDEX idx_employees_status_created_at ON employees (status, created_at);
+
+-- ReviewsRepository.findByEmployeeId (yabancı anahtarın otomatik indeksinin yerini alır)
+CREATE INDEX idx_reviews_employee_id ON reviews (employee_id);
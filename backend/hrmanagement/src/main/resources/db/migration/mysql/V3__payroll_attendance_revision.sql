@@ -0,0 +1,14 @@
+-- Artımlı yeniden bordro.
+--
+-- attendance_monthly_summary.revision: (çalışan, ay) için her devam yazma/silmesinde artar.
+-- payrolls.attendance_revision: bordro hesaplanırken okunan revision; ikisi farklıysa bordro bayattır.
+-- Parametre kolonları bayat bordroyu aynı parametrelerle yeniden hesaplamak için saklanır.
+-- Bu migration'dan önce üretilmiş bordrolarda attendance_revision NULL'dır (izlenmez).
+ALTER TABLE attendance_monthly_summary ADD COLUMN revision BIGINT NOT NULL DEFAULT 1;
+
+ALTER TABLE payrolls
+    ADD COLUMN attendance_revision BIGINT NULL,
+    ADD COLUMN standard_monthly_hours INTEGER NULL,
+    ADD COLUMN overtime_multiplier DECIMAL(25,6) NULL,
+    ADD COLUMN income_tax_rate DECIMAL(25,6) NULL,
+    ADD COLUMN extra_deduction DECIMAL(25,6) NULL;
@@ -0,0 +1,13 @@
+-- Aylık devam özetinde çalışılan süre tam saniye olarak da tutulur.
+--
+-- Bordro hesabı dönem süresini saniye cinsinden alır (PayrollMath, saatin 1/3600'ü). Kayıt başına
+-- süre ROUND(hours_worked * 3600)'dür: hours_worked saniye/3600.0 olarak yazıldığından bu değer
+-- kaydın saniyesinin kendisidir. Mevcut satırlar ham kayıtlardan bir kez doldurulur.
+ALTER TABLE attendance_monthly_summary ADD COLUMN worked_seconds BIGINT NOT NULL DEFAULT 0;
+
+UPDATE attendance_monthly_summary s
+SET worked_seconds = (
+    SELECT COALESCE(SUM(ROUND(a.hours_worked * 3600)), 0)
+    FROM attendance a
+    WHERE a.employee_id = s.employee_id AND YEAR(a.date) = s.year AND MONTH(a.date) = s.month
+);
@@ -0,0 +1,254 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandanceEvent;
+import com.hrmanagement.dto.DtoAttandanceEventResult;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.AttendanceMonthlySummaryRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IAttandanceServices;
+
+/**
+ * Toplu giriş/çıkışta her olayın kendi sonucunu istek sırasıyla aldığını; eşzamanlı bir
+ * girişin toplu flush'ı bozduğu durumda da diğer olayların işlendiğini doğrular.
+ */
+@SpringBootTest
+class AttendanceBulkTests {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 2);
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @MockitoSpyBean
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private AttendanceMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    private Employees alice;
+    private Employees bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = employeesRepository.save(newEmployee(1));
+        bob = employeesRepository.save(newEmployee(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void mixedEventsGetOneResultEachInInputOrder() {
+        List<DtoAttandanceEvent> events = new ArrayList<>();
+        events.add(event(alice.getId(), DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 0)));   // 0 geçerli
+        events.add(event(alice.getId(), DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 1)));   // 1 tekrar giriş
+        events.add(event(-1L, DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 2)));             // 2 çalışan yok
+        events.add(event(bob.getId(), null, LocalTime.of(9, 3)));                                 // 3 tip yok
+        events.add(event(bob.getId(), DtoAttandanceEvent.Type.CHECK_OUT, LocalTime.of(17, 0)));   // 4 giriş yok
+        events.add(null);                                                                          // 5 boş olay
+        events.add(event(alice.getId(), DtoAttandanceEvent.Type.CHECK_OUT, LocalTime.of(8, 0)));  // 6 girişten önce
+        events.add(event(alice.getId(), DtoAttandanceEvent.Type.CHECK_OUT, LocalTime.of(17, 30))); // 7 geçerli
+        events.add(event(alice.getId(), DtoAttandanceEvent.Type.CHECK_OUT, LocalTime.of(18, 0))); // 8 tekrar çıkış
+
+        List<DtoAttandanceEventResult> results = attandanceServices.processBulk(events);
+
+        assertThat(results).extracting(DtoAttandanceEventResult::getIndex).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8);
+        assertThat(results).extracting(DtoAttandanceEventResult::isSuccess)
+                .containsExactly(true, false, false, false, false, false, false, true, false);
+        assertThat(results).extracting(DtoAttandanceEventResult::getMessage).containsExactly(
+                null, "Bu tarih için zaten giriş yapılmış!", "Çalışan bulunamadı!",
+                "Olay tipi zorunlu (CHECK_IN/CHECK_OUT)!", "Giriş kaydı bulunamadı!",
+                "Olay tipi zorunlu (CHECK_IN/CHECK_OUT)!", "Çıkış saati giriş saatinden önce olamaz!",
+                null, "Zaten çıkış yapılmış!");
+        assertThat(results.get(7).getRecord().getHoursWorked()).isEqualTo(8.5);
+
+        Attendance stored = attandanceRepository.findByEmployeeIdAndDate(alice.getId(), DAY).orElseThrow();
+        assertThat(stored.getCheckOutTime()).isEqualTo(LocalTime.of(17, 30));
+        assertThat(attandanceRepository.findByEmployeeIdAndDate(bob.getId(), DAY)).isEmpty();
+    }
+
+    @Test
+    void concurrentCheckInAtFlushFailsOnlyItsOwnEvent() {
+        // Başka bir terminalin girişi: toplu işlem mevcut kayıtları okuduktan sonra geldi gibi
+        DtoAttandance concurrent = new DtoAttandance();
+        concurrent.setEmployeeId(alice.getId());
+        concurrent.setDate(DAY);
+        concurrent.setCheckInTime(LocalTime.of(8, 55));
+        attandanceServices.checkIn(concurrent);
+
+        // İlk okuma eşzamanlı girişi görmez; sonrakiler (tek tek yeniden işleme) görür
+        AtomicBoolean stale = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (stale.getAndSet(false)) {
+                return Collections.emptyList();
+            }
+            return dayRecords(invocation);
+        }).when(attandanceRepository).findByEmployeeIdInAndDateIn(any(), any());
+
+        List<DtoAttandanceEventResult> results = attandanceServices.processBulk(List.of(
+                event(bob.getId(), DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 0)),
+                event(alice.getId(), DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 1)),
+                event(bob.getId(), DtoAttandanceEvent.Type.CHECK_OUT, LocalTime.of(17, 0))));
+
+        assertThat(results).extracting(DtoAttandanceEventResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).extracting(DtoAttandanceEventResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(1).getMessage()).isEqualTo("Bu tarih için zaten giriş yapılmış!");
+        assertThat(results.get(2).getRecord().getHoursWorked()).isEqualTo(8.0);
+
+        assertThat(attandanceRepository.findByEmployeeIdAndDate(alice.getId(), DAY).orElseThrow().getCheckInTime())
+                .isEqualTo(LocalTime.of(8, 55));
+        assertThat(attandanceRepository.findByEmployeeIdAndDate(bob.getId(), DAY).orElseThrow().getCheckOutTime())
+                .isEqualTo(LocalTime.of(17, 0));
+    }
+
+    @Test
+    void midBatchConflictAppliesEveryOtherEventExactlyOnce() {
+        Employees carol = employeesRepository.save(newEmployee(3));
+        attandanceServices.checkIn(record(bob.getId(), LocalTime.of(9, 0), null));
+        attandanceServices.checkIn(record(alice.getId(), LocalTime.of(8, 55), null));
+
+        // İlk okuma alice'in girişini görmez: partinin ortasındaki olay flush'ta çakışır
+        AtomicBoolean stale = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            List<Attendance> rows = dayRecords(invocation);
+            if (stale.getAndSet(false)) {
+                return rows.stream().filter(a -> !a.getEmployee().getId().equals(alice.getId())).toList();
+            }
+            return rows;
+        }).when(attandanceRepository).findByEmployeeIdInAndDateIn(any(), any());
+
+        List<DtoAttandanceEventResult> results = attandanceServices.processBulk(List.of(
+                event(bob.getId(), DtoAttandanceEvent.Type.CHECK_OUT, LocalTime.of(17, 0)),
+                event(alice.getId(), DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 1)),
+                event(carol.getId(), DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 2))));
+
+        assertThat(results).extracting(DtoAttandanceEventResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(1).getMessage()).isEqualTo("Bu tarih için zaten giriş yapılmış!");
+        assertThat(attandanceRepository.count()).isEqualTo(3);
+
+        // Parti geri alındı, olaylar tek tek yeniden işlendi: özet her değişikliği bir kez görür
+        AttendanceMonthlySummary bobSummary = summary(bob);
+        assertThat(bobSummary.getDaysPresent()).isEqualTo(1);
+        assertThat(bobSummary.getOpenRecords()).isZero();
+        assertThat(bobSummary.getTotalHours()).isEqualByComparingTo("8");
+        AttendanceMonthlySummary carolSummary = summary(carol);
+        assertThat(carolSummary.getDaysPresent()).isEqualTo(1);
+        assertThat(carolSummary.getOpenRecords()).isEqualTo(1);
+        AttendanceMonthlySummary aliceSummary = summary(alice);
+        assertThat(aliceSummary.getDaysPresent()).isEqualTo(1);
+        assertThat(attandanceRepository.findByEmployeeIdAndDate(alice.getId(), DAY).orElseThrow().getCheckInTime())
+                .isEqualTo(LocalTime.of(8, 55));
+    }
+
+    @Test
+    void bulkCheckOutLosesToSingleCheckOutCommittedAfterItsRead() throws Exception {
+        attandanceServices.checkIn(record(alice.getId(), LocalTime.of(9, 0), null));
+
+        // Toplu işlem kaydı açık okur; tekil çıkış tam o anda başka bir transaction'da commit olur
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            List<Attendance> rows = dayRecords(invocation);
+            if (first.getAndSet(false)) {
+                CompletableFuture.runAsync(() -> attandanceServices.checkOut(
+                        record(alice.getId(), null, LocalTime.of(17, 0)))).get(30, TimeUnit.SECONDS);
+            }
+            return rows;
+        }).when(attandanceRepository).findByEmployeeIdInAndDateIn(any(), any());
+
+        List<DtoAttandanceEventResult> results = attandanceServices.processBulk(List.of(
+                event(alice.getId(), DtoAttandanceEvent.Type.CHECK_OUT, LocalTime.of(18, 0)),
+                event(bob.getId(), DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 0))));
+
+        assertThat(results).extracting(DtoAttandanceEventResult::isSuccess).containsExactly(false, true);
+        assertThat(results.get(0).getMessage()).isEqualTo("Zaten çıkış yapılmış!");
+
+        Attendance stored = attandanceRepository.findByEmployeeIdAndDate(alice.getId(), DAY).orElseThrow();
+        assertThat(stored.getCheckOutTime()).isEqualTo(LocalTime.of(17, 0));
+        assertThat(stored.getHoursWorked()).isEqualTo(8.0);
+        AttendanceMonthlySummary summary = summary(alice);
+        assertThat(summary.getTotalHours()).isEqualByComparingTo("8");
+        assertThat(summary.getOpenRecords()).isZero();
+    }
+
+    @Test
+    void oversizedBatchIsRejected() {
+        List<DtoAttandanceEvent> events = new ArrayList<>();
+        for (int i = 0; i < 501; i++) {
+            events.add(event(alice.getId(), DtoAttandanceEvent.Type.CHECK_IN, LocalTime.of(9, 0)));
+        }
+        assertThatThrownBy(() -> attandanceServices.processBulk(events))
+                .hasMessageContaining("en fazla 500 olay");
+        assertThat(attandanceRepository.findByEmployeeIdAndDate(alice.getId(), DAY)).isEmpty();
+    }
+
+    private AttendanceMonthlySummary summary(Employees employee) {
+        return summaryRepository
+                .findByEmployeeIdAndYearAndMonth(employee.getId(), DAY.getYear(), DAY.getMonthValue()).orElseThrow();
+    }
+
+    // findByEmployeeIdInAndDateIn'in gerçek sonucu (spy, repository arayüzünün gerçek metodunu çağıramaz)
+    private List<Attendance> dayRecords(InvocationOnMock invocation) {
+        Collection<Long> ids = invocation.getArgument(0);
+        Collection<LocalDate> dates = invocation.getArgument(1);
+        return attandanceRepository.findAll().stream()
+                .filter(a -> ids.contains(a.getEmployee().getId()) && dates.contains(a.getDate()))
+                .toList();
+    }
+
+    private static DtoAttandance record(Long employeeId, LocalTime in, LocalTime out) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setEmployeeId(employeeId);
+        dto.setDate(DAY);
+        dto.setCheckInTime(in);
+        dto.setCheckOutTime(out);
+        return dto;
+    }
+
+    private static DtoAttandanceEvent event(Long employeeId, DtoAttandanceEvent.Type type, LocalTime time) {
+        DtoAttandanceEvent event = new DtoAttandanceEvent();
+        event.setEmployeeId(employeeId);
+        event.setType(type);
+        event.setDate(DAY);
+        event.setTime(time);
+        return event;
+    }
+
+    private static Employees newEmployee(int i) {
+        return TestFixtures.employee(68000000000L, i, "toplu");
+    }
+}
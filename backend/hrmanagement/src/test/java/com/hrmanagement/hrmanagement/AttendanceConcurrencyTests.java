@@ -0,0 +1,190 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandanceEvent;
+import com.hrmanagement.dto.DtoAttandanceEventResult;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.AttendanceMonthlySummaryRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IAttandanceServices;
+
+/**
+ * Aynı çalışan için aynı anda gelen 64 giriş ve 64 çıkış isteğinden tam olarak birer
+ * tanesinin başarılı olduğunu, diğerlerinin iş kuralı hatası aldığını ve aylık özetin
+ * değişikliği bir kez uyguladığını doğrular. Toplu çıkış olayları da tekil çıkışla aynı
+ * kurala tabidir.
+ */
+@SpringBootTest
+class AttendanceConcurrencyTests {
+
+    private static final int TAPS = 64;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private AttendanceMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    private Employees employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeesRepository.save(newEmployee());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void pastDayTapsApplyExactlyOnce() throws Exception {
+        assertExactlyOnce(LocalDate.of(2025, 5, 6));
+    }
+
+    @Test
+    void todayTapsApplyExactlyOnce() throws Exception {
+        // Bugün için çıkışta giriş saati bellekteki panodan okunur
+        assertExactlyOnce(LocalDate.now());
+    }
+
+    private void assertExactlyOnce(LocalDate date) throws Exception {
+        Long id = employee.getId();
+        LocalTime checkIn = LocalTime.of(0, 5);
+        LocalTime checkOut = LocalTime.of(0, 35, 30);
+
+        List<String> checkInErrors = tapConcurrently(() -> attandanceServices.checkIn(record(id, date, checkIn, null)));
+        assertThat(checkInErrors).hasSize(TAPS - 1).containsOnly("Bu tarih için zaten giriş yapılmış!");
+
+        List<String> checkOutErrors = tapConcurrently(() -> attandanceServices.checkOut(record(id, date, null, checkOut)));
+        assertThat(checkOutErrors).hasSize(TAPS - 1).containsOnly("Zaten çıkış yapılmış!");
+
+        assertStoredOnce(id, date, checkIn, checkOut);
+    }
+
+    @Test
+    void bulkAndSingleCheckOutsApplyExactlyOnce() throws Exception {
+        Long id = employee.getId();
+        LocalDate date = LocalDate.of(2025, 5, 7);
+        LocalTime checkIn = LocalTime.of(0, 5);
+        LocalTime checkOut = LocalTime.of(0, 35, 30);
+        attandanceServices.checkIn(record(id, date, checkIn, null));
+
+        // Yarısı tekil çıkış, yarısı toplu çıkış olayı; ikisi de aynı koşullu UPDATE'e gider
+        AtomicInteger taps = new AtomicInteger();
+        List<String> checkOutErrors = tapConcurrently(() -> {
+            if (taps.getAndIncrement() % 2 == 0) {
+                return attandanceServices.checkOut(record(id, date, null, checkOut));
+            }
+            DtoAttandanceEvent event = new DtoAttandanceEvent();
+            event.setEmployeeId(id);
+            event.setType(DtoAttandanceEvent.Type.CHECK_OUT);
+            event.setDate(date);
+            event.setTime(checkOut);
+            DtoAttandanceEventResult result = attandanceServices.processBulk(List.of(event)).get(0);
+            if (!result.isSuccess()) {
+                throw new RuntimeException(result.getMessage());
+            }
+            return result.getRecord();
+        });
+        assertThat(checkOutErrors).hasSize(TAPS - 1).containsOnly("Zaten çıkış yapılmış!");
+
+        assertStoredOnce(id, date, checkIn, checkOut);
+    }
+
+    private void assertStoredOnce(Long id, LocalDate date, LocalTime checkIn, LocalTime checkOut) {
+        Attendance stored = attandanceRepository.findByEmployeeIdAndDate(id, date).orElseThrow();
+        assertThat(stored.getCheckInTime()).isEqualTo(checkIn);
+        assertThat(stored.getCheckOutTime()).isEqualTo(checkOut);
+        assertThat(stored.getHoursWorked()).isEqualTo(1830 / 3600.0);
+
+        AttendanceMonthlySummary summary = summaryRepository
+                .findByEmployeeIdAndYearAndMonth(id, date.getYear(), date.getMonthValue()).orElseThrow();
+        assertThat(summary.getDaysPresent()).isEqualTo(1);
+        assertThat(summary.getOpenRecords()).isZero();
+        assertThat(summary.getTotalHours()).isEqualByComparingTo(BigDecimal.valueOf(1830 / 3600.0));
+    }
+
+    // Hepsini aynı anda başlatır; başarısız olanların hata mesajlarını döndürür (tam bir başarı beklenir)
+    private static List<String> tapConcurrently(Callable<DtoAttandance> tap) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(TAPS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+            List<Future<DtoAttandance>> results = new ArrayList<>();
+            for (int i = 0; i < TAPS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return tap.call();
+                    } catch (RuntimeException e) {
+                        errors.add(String.valueOf(e.getMessage()));
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int successes = 0;
+            for (Future<DtoAttandance> result : results) {
+                if (result.get(60, TimeUnit.SECONDS) != null) {
+                    successes++;
+                }
+            }
+            assertThat(successes).as("başarılı istek sayısı, hatalar: " + errors).isEqualTo(1);
+            return new ArrayList<>(errors);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static DtoAttandance record(Long employeeId, LocalDate date, LocalTime in, LocalTime out) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setEmployeeId(employeeId);
+        dto.setDate(date);
+        dto.setCheckInTime(in);
+        dto.setCheckOutTime(out);
+        return dto;
+    }
+
+    private static Employees newEmployee() {
+        Employees employee = TestFixtures.employee(40000000001L, 0, "eszamanli");
+        employee.setFirstname("Eşzamanlı");
+        employee.setLastname("Test");
+        return employee;
+    }
+}
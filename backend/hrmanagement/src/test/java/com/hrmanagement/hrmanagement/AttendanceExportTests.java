@@ -0,0 +1,259 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.hrmanagement.controller.IAttandanceController;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.AttendanceExportService;
+import com.hrmanagement.services.ExportLimiter;
+import com.hrmanagement.services.IAttandanceServices;
+
+/**
+ * Dışa aktarımın içeriğini, filtrelerini, gzip'i, eşzamanlılık sınırını ve bir milyon satırda
+ * bellek kullanımının satır sayısından bağımsız kaldığını doğrular.
+ *
+ * Bir milyon satırlık ölçüm uzun sürer, varsayılan koşuda atlanır:
+ * mvn test -Dtest=AttendanceExportTests -Dbenchmark=true
+ */
+@SpringBootTest
+class AttendanceExportTests {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceExportTests.class);
+
+    private static final int SYNTHETIC_ROWS = 1_000_000;
+    private static final long SYNTHETIC_ID_BASE = 2_000_000_000L;
+
+    // İlk örnekten (100 bin satır) sonra kullanım satır sayısıyla artmamalı. Karşılaştırma:
+    // aynı 1M satır findAllDtoOrderByDateDesc ile listeye alındığında heap ~200 MB artıyor
+    private static final long MAX_DRIFT_BYTES = 16L * 1024 * 1024;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private IAttandanceController attandanceController;
+
+    @Autowired
+    private AttendanceExportService exportService;
+
+    @Autowired
+    private ExportLimiter exportLimiter;
+
+    @Autowired
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Employees hr;
+    private Employees developer;
+    private Employees accountant;
+
+    @BeforeEach
+    void setUp() {
+        hr = employeesRepository.save(newEmployee(0, "Ayşe", "İnsan Kaynakları", Employees.Role.HR));
+        developer = employeesRepository.save(newEmployee(1, "Ali, \"Can\"", "Yazılım", Employees.Role.EMPLOYEE));
+        accountant = employeesRepository.save(newEmployee(2, "Veli", "Muhasebe", Employees.Role.EMPLOYEE));
+        attandanceRepository.save(record(developer, LocalDate.of(2025, 3, 3), LocalTime.of(9, 0), LocalTime.of(17, 30)));
+        attandanceRepository.save(record(developer, LocalDate.of(2025, 3, 4), LocalTime.of(9, 15), null));
+        attandanceRepository.save(record(accountant, LocalDate.of(2025, 3, 3), LocalTime.of(8, 45), LocalTime.of(17, 0)));
+        attandanceRepository.save(record(developer, LocalDate.of(2025, 4, 1), LocalTime.of(9, 0), LocalTime.of(18, 0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 1M satırı tek tek silmek yerine (attendance'a başka tablo bağlı değil)
+        jdbcTemplate.update("truncate table attendance");
+        jdbcTemplate.update("delete from employees");
+    }
+
+    @Test
+    void csvExportAppliesFiltersAndEscapes() throws Exception {
+        StreamingResponseBody body = attandanceServices.exportRecords(hr.getId(), AttendanceExportService.Format.CSV,
+                "2025-03-01", "2025-03-31", "Yazılım");
+
+        String[] lines = write(body).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo(
+                "id,date,checkInTime,checkOutTime,hoursWorked,status,employeeId,employeeName,department");
+        assertThat(lines[1]).endsWith(",2025-03-03,09:00,17:30,8.5,,"
+                + developer.getId() + ",\"Ali, \"\"Can\"\" Test\",Yazılım");
+        assertThat(lines[2]).contains(",2025-03-04,09:15,,,,");
+    }
+
+    @Test
+    void ndjsonExportWritesOneObjectPerLineInDateOrder() throws Exception {
+        StreamingResponseBody body = attandanceServices.exportRecords(hr.getId(), AttendanceExportService.Format.NDJSON,
+                null, "2025-03-31", null);
+
+        String[] lines = write(body).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{").contains("\"date\":\"2025-03-03\"");
+        assertThat(lines[2]).contains("\"date\":\"2025-03-04\"", "\"checkInTime\":\"09:15:00\"", "\"department\":\"Yazılım\"");
+    }
+
+    @Test
+    void controllerGzipsWhenAccepted() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = attandanceController.exportRecords(
+                hr.getId(), "csv", null, null, null, "gzip, deflate");
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE)).startsWith("text/csv");
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        response.getBody().writeTo(compressed);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n")).hasSize(5);
+        }
+    }
+
+    @Test
+    void exportRequiresHr() {
+        assertThatThrownBy(() -> attandanceServices.exportRecords(developer.getId(),
+                AttendanceExportService.Format.CSV, null, null, null))
+                .hasMessageContaining("Yetki hatası");
+    }
+
+    @Test
+    void exportBeyondConcurrencyLimitIsRejectedBeforeWriting() throws Exception {
+        StreamingResponseBody body = attandanceServices.exportRecords(hr.getId(), AttendanceExportService.Format.CSV,
+                null, null, null);
+        // Testlerde sınır varsayılan 2: iki yavaş istemci izinleri tutuyor
+        long rejectedBefore = exportLimiter.rejectedCount();
+        exportLimiter.acquire();
+        exportLimiter.acquire();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertThatThrownBy(() -> body.writeTo(out)).isInstanceOf(RejectedExecutionException.class);
+            assertThat(out.size()).isZero();
+            assertThat(exportLimiter.rejectedCount()).isEqualTo(rejectedBefore + 1);
+        } finally {
+            exportLimiter.release();
+            exportLimiter.release();
+        }
+        // İzin bırakılınca dışa aktarım çalışır ve kendi iznini geri verir
+        assertThat(write(body).split("\n")).hasSize(5);
+        assertThat(write(body).split("\n")).hasSize(5);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void millionRowExportRunsInBoundedHeap() throws Exception {
+        // Sentetik veri SQL ile eklenir: 1000 çalışan x 1000 gün
+        jdbcTemplate.update("insert into employees (id, first_name, last_name, tc_no, position, department, email, "
+                + "phone_number, password, role, status) select 1000000000 + x, 'Ad' || x, 'Soyad' || x, "
+                + "cast(30000000000 + x as varchar), 'Uzman', 'Yazılım', 'export' || x || '@test.com', "
+                + "'5550000000', 'x', 'EMPLOYEE', 'APPROVED' from system_range(0, 999)");
+        jdbcTemplate.update("insert into attendance (id, date, check_in_time, check_out_time, hours_worked, employee_id) "
+                + "select " + SYNTHETIC_ID_BASE + " + x, dateadd('DAY', x / 1000, date '2000-01-01'), "
+                + "time '09:00:00', time '17:30:00', 8.5, 1000000000 + mod(x, 1000) "
+                + "from system_range(0, " + (SYNTHETIC_ROWS - 1) + ")");
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(memory, 100_000);
+        long rows = exportService.export(AttendanceExportService.Format.NDJSON,
+                LocalDate.of(2000, 1, 1), LocalDate.of(2010, 1, 1), "Yazılım", out);
+
+        long growth = out.maxUsed - baseline;
+        long drift = out.maxUsed - out.firstUsed;
+        log.info("[benchmark] export {} satır, {} MB yazıldı, heap artışı {} MB, ilk örnekten sonra {} MB",
+                rows, out.bytes / (1024 * 1024), growth / (1024 * 1024), drift / (1024 * 1024));
+        assertThat(rows).isEqualTo(SYNTHETIC_ROWS);
+        assertThat(out.lines).isEqualTo(SYNTHETIC_ROWS);
+        assertThat(drift).isLessThan(MAX_DRIFT_BYTES);
+        // Mutlak artış tüm test paketinde H2'nin açık okuma sürümü nedeniyle 1-120 MB arasında oynuyor
+        // (satır sayısıyla değil); yine de yazılan veriden küçük olmalı
+        assertThat(growth).isLessThan(out.bytes);
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Attendance record(Employees employee, LocalDate date, LocalTime in, LocalTime out) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployee(employee);
+        attendance.setDate(date);
+        attendance.setCheckInTime(in);
+        attendance.setCheckOutTime(out);
+        attendance.setHoursWorked(out == null ? null : 8.5);
+        return attendance;
+    }
+
+    private static Employees newEmployee(int i, String firstname, String department, Employees.Role role) {
+        Employees employee = TestFixtures.employee(40000000100L, i, "disaaktarim", department, role);
+        employee.setFirstname(firstname);
+        employee.setLastname("Test");
+        return employee;
+    }
+
+    /** Yazılanı atar; her sampleEvery satırda GC sonrası kullanılan heap'i örnekler. */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final MemoryMXBean memory;
+        private final long sampleEvery;
+        private long bytes;
+        private long lines;
+        private long maxUsed;
+        private long firstUsed;
+
+        HeapSamplingOutputStream(MemoryMXBean memory, long sampleEvery) {
+            this.memory = memory;
+            this.sampleEvery = sampleEvery;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n' && ++lines % sampleEvery == 0) {
+                System.gc();
+                long used = memory.getHeapMemoryUsage().getUsed();
+                if (firstUsed == 0) {
+                    firstUsed = used;
+                }
+                maxUsed = Math.max(maxUsed, used);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.services.AttendanceChangedEvent;
+import com.hrmanagement.services.AttendanceFeed;
+
+/**
+ * Canlı devam akışı: olay adları ve sırası, Last-Event-ID ile devam, yavaş abonede
+ * en eskiyi düşürme, bilinmeyen id'de ve düzenli aralıkla reset.
+ */
+class AttendanceFeedTests {
+
+    // Kuyruk, patlama halinde yayınlanan olaylara yetecek kadar büyük; geçmiş küçük
+    private final AttendanceFeed feed = new AttendanceFeed(64, 8);
+    private final AttendanceFeed smallBufferFeed = new AttendanceFeed(4, 8);
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+        smallBufferFeed.shutdown();
+    }
+
+    @Test
+    void deliversNamedEventsInCommitOrder() throws Exception {
+        CapturingEmitter emitter = new CapturingEmitter(null);
+        feed.register(emitter, null);
+
+        DtoAttandance in = record(1L, LocalTime.of(9, 0), null);
+        DtoAttandance out = record(1L, LocalTime.of(9, 0), LocalTime.of(17, 0));
+        DtoAttandance edited = record(1L, LocalTime.of(8, 30), LocalTime.of(17, 0));
+        feed.onAttendanceChanged(AttendanceChangedEvent.saved(in, null));
+        feed.onAttendanceChanged(AttendanceChangedEvent.saved(out, in));
+        feed.onAttendanceChanged(AttendanceChangedEvent.saved(edited, out));
+        feed.onAttendanceChanged(AttendanceChangedEvent.deleted(edited));
+
+        List<Sent> sent = emitter.await(4);
+        assertThat(sent).extracting(Sent::name).containsExactly(
+                AttendanceFeed.CHECK_IN, AttendanceFeed.CHECK_OUT, AttendanceFeed.EDIT, AttendanceFeed.DELETE);
+        assertThat(sent).extracting(Sent::id).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(((DtoAttandance) sent.get(2).data()).getCheckInTime()).isEqualTo(LocalTime.of(8, 30));
+    }
+
+    @Test
+    void resumesAfterLastEventId() throws Exception {
+        CapturingEmitter first = new CapturingEmitter(null);
+        feed.register(first, null);
+        for (long i = 1; i <= 3; i++) {
+            feed.onAttendanceChanged(AttendanceChangedEvent.saved(record(i, LocalTime.of(9, 0), null), null));
+        }
+        String lastSeen = first.await(3).get(0).id();
+
+        // İlk olaydan sonra bağlantı koptu; kalan ikisi tekrar gönderilir
+        CapturingEmitter resumed = new CapturingEmitter(null);
+        feed.register(resumed, lastSeen);
+        List<Sent> replayed = resumed.await(2);
+        assertThat(replayed).extracting(s -> ((DtoAttandance) s.data()).getEmployeeId()).containsExactly(2L, 3L);
+
+        // Güncel id ile bağlanan sadece yeni olayları alır
+        CapturingEmitter upToDate = new CapturingEmitter(null);
+        feed.register(upToDate, first.await(3).get(2).id());
+        feed.onAttendanceChanged(AttendanceChangedEvent.saved(record(4L, LocalTime.of(9, 0), null), null));
+        assertThat(upToDate.await(1)).extracting(s -> ((DtoAttandance) s.data()).getEmployeeId()).containsExactly(4L);
+    }
+
+    @Test
+    void unknownOrExpiredIdGetsReset() throws Exception {
+        CapturingEmitter first = new CapturingEmitter(null);
+        feed.register(first, null);
+        for (long i = 1; i <= 12; i++) {
+            feed.onAttendanceChanged(AttendanceChangedEvent.saved(record(i, LocalTime.of(9, 0), null), null));
+        }
+        String expired = first.await(12).get(0).id();
+
+        CapturingEmitter stale = new CapturingEmitter(null);
+        feed.register(stale, expired);
+        assertThat(stale.await(1)).extracting(Sent::name).containsExactly(AttendanceFeed.RESET);
+
+        CapturingEmitter otherServer = new CapturingEmitter(null);
+        feed.register(otherServer, "eski-5");
+        assertThat(otherServer.await(1)).extracting(Sent::name).containsExactly(AttendanceFeed.RESET);
+    }
+
+    @Test
+    void slowSubscriberDropsOldest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingEmitter slow = new CapturingEmitter(release);
+        smallBufferFeed.register(slow, null);
+
+        // İlk olay gönderilirken abone takılı kalır; sonraki 10 olaydan sadece son 4'ü kuyrukta kalır
+        smallBufferFeed.onAttendanceChanged(AttendanceChangedEvent.saved(record(1L, LocalTime.of(9, 0), null), null));
+        slow.awaitSending();
+        for (long i = 2; i <= 11; i++) {
+            smallBufferFeed.onAttendanceChanged(AttendanceChangedEvent.saved(record(i, LocalTime.of(9, 0), null), null));
+        }
+
+        release.countDown();
+        List<Sent> sent = slow.await(6);
+        assertThat(sent.get(0).name()).isEqualTo(AttendanceFeed.CHECK_IN);
+        assertThat(sent.get(1).name()).isEqualTo(AttendanceFeed.DROPPED);
+        assertThat(sent.get(1).data()).isEqualTo(Map.of("count", 6));
+        assertThat(sent.subList(2, 6)).extracting(s -> ((DtoAttandance) s.data()).getEmployeeId())
+                .containsExactly(8L, 9L, 10L, 11L);
+        assertThat(smallBufferFeed.stats().get("dropped")).isEqualTo(6L);
+    }
+
+    @Test
+    void periodicResyncTellsSubscribersToReloadWithoutBreakingResume() throws Exception {
+        CapturingEmitter emitter = new CapturingEmitter(null);
+        feed.register(emitter, null);
+        feed.onAttendanceChanged(AttendanceChangedEvent.saved(record(1L, LocalTime.of(9, 0), null), null));
+        feed.resync();
+        feed.onAttendanceChanged(AttendanceChangedEvent.saved(record(2L, LocalTime.of(9, 0), null), null));
+
+        List<Sent> sent = emitter.await(3);
+        assertThat(sent).extracting(Sent::name)
+                .containsExactly(AttendanceFeed.CHECK_IN, AttendanceFeed.RESET, AttendanceFeed.CHECK_IN);
+        assertThat(sent.get(1).id()).isNull();
+
+        // Reset sıra almaz: ilk olaydan devam eden istemci sadece ikinciyi alır
+        CapturingEmitter resumed = new CapturingEmitter(null);
+        feed.register(resumed, sent.get(0).id());
+        assertThat(resumed.await(1)).extracting(Sent::id).containsExactly(sent.get(2).id());
+        assertThat(feed.stats()).containsEntry("resyncs", 1L);
+    }
+
+    private static DtoAttandance record(Long employeeId, LocalTime in, LocalTime out) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setId(employeeId * 100);
+        dto.setEmployeeId(employeeId);
+        dto.setDate(LocalDate.of(2025, 6, 2));
+        dto.setCheckInTime(in);
+        dto.setCheckOutTime(out);
+        return dto;
+    }
+
+    record Sent(String name, String id, Object data) {
+    }
+
+    /** Gönderilen olayları yakalar; gate verilirse ilk gönderimde gate açılana kadar bekler. */
+    static final class CapturingEmitter extends SseEmitter {
+
+        private final List<Sent> sent = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch gate;
+        private final CountDownLatch sending = new CountDownLatch(1);
+
+        CapturingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (gate != null) {
+                try {
+                    gate.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String name = null;
+            String id = null;
+            Object data = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    for (String line : text.split("\n")) {
+                        if (line.startsWith("event:")) name = line.substring(6);
+                        if (line.startsWith("id:")) id = line.substring(3);
+                    }
+                } else {
+                    data = part.getData();
+                }
+            }
+            if (name != null) {
+                sent.add(new Sent(name, id, data));
+            }
+        }
+
+        void awaitSending() throws InterruptedException {
+            assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        List<Sent> await(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            synchronized (sent) {
+                assertThat(sent).hasSizeGreaterThanOrEqualTo(count);
+                return new ArrayList<>(sent);
+            }
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandanceEvent;
+import com.hrmanagement.dto.DtoAttandanceTotalHours;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.AttendanceHoursView;
+import com.hrmanagement.repository.AttendanceMonthlySummaryRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.repository.SchedulerLockRepository;
+import com.hrmanagement.services.AttendanceMonthlySummaryService;
+import com.hrmanagement.services.SchedulerLockService;
+import com.hrmanagement.services.IAttandanceServices;
+
+/**
+ * Aylık devam özetinin her yazma yolundan sonra ham kayıtların toplamıyla
+ * birebir aynı kaldığını ve rebuild ile aynı sonucu verdiğini doğrular.
+ */
+@SpringBootTest
+class AttendanceMonthlySummaryTests {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private AttendanceMonthlySummaryService monthlySummary;
+
+    @Autowired
+    private AttendanceMonthlySummaryRepository summaryRepository;
+
+    @MockitoSpyBean
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private SchedulerLockRepository lockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Employees employee;
+    private Employees hr;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeesRepository.save(newEmployee(1, "Yazılım", Employees.Role.EMPLOYEE));
+        hr = employeesRepository.save(newEmployee(2, "İnsan Kaynakları", Employees.Role.HR));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void summaryFollowsEveryWritePath() {
+        Long id = employee.getId();
+
+        // Giriş + çıkış (Mart)
+        attandanceServices.checkIn(record(id, LocalDate.of(2025, 3, 3), LocalTime.of(9, 0), null));
+        attandanceServices.checkOut(record(id, LocalDate.of(2025, 3, 3), null, LocalTime.of(17, 20)));
+        // Açık kalan kayıt (Mart)
+        attandanceServices.checkIn(record(id, LocalDate.of(2025, 3, 4), LocalTime.of(8, 45), null));
+        // Manuel kayıt (Mart), sonra aynı gün tekrar kaydedilir
+        attandanceServices.saveRecord(record(id, LocalDate.of(2025, 3, 5), LocalTime.of(9, 0), LocalTime.of(12, 0)));
+        DtoAttandance edited = attandanceServices.saveRecord(
+                record(id, LocalDate.of(2025, 3, 5), null, LocalTime.of(18, 7)));
+        // Toplu giriş/çıkış (Nisan)
+        attandanceServices.processBulk(List.of(
+                event(id, DtoAttandanceEvent.Type.CHECK_IN, LocalDate.of(2025, 4, 1), LocalTime.of(9, 13)),
+                event(id, DtoAttandanceEvent.Type.CHECK_OUT, LocalDate.of(2025, 4, 1), LocalTime.of(16, 59))));
+
+        assertMatchesRaw(id, 2025, 3);
+        assertMatchesRaw(id, 2025, 4);
+
+        // İK düzeltmesi: kayıt Mart'tan Nisan'a taşınır
+        attandanceServices.updateRecord(edited.getId(),
+                record(null, LocalDate.of(2025, 4, 2), LocalTime.of(10, 0), null), hr.getId());
+        assertMatchesRaw(id, 2025, 3);
+        assertMatchesRaw(id, 2025, 4);
+
+        // Silme
+        attandanceServices.deleteRecord(edited.getId(), hr.getId());
+        assertMatchesRaw(id, 2025, 3);
+        assertMatchesRaw(id, 2025, 4);
+
+        AttendanceMonthlySummary march = summaryRepository.findByEmployeeIdAndYearAndMonth(id, 2025, 3).orElseThrow();
+        assertThat(march.getDaysPresent()).isEqualTo(2);
+        assertThat(march.getOpenRecords()).isEqualTo(1);
+
+        // Rebuild aynı tabloyu üretir; revision'lar ilerler (o dönemlerin bordroları bayat sayılır)
+        List<AttendanceMonthlySummary> before = snapshot();
+        monthlySummary.rebuild();
+        List<AttendanceMonthlySummary> after = snapshot();
+        assertThat(after).usingRecursiveFieldByFieldElementComparatorIgnoringFields("id", "revision").isEqualTo(before);
+        for (int i = 0; i < after.size(); i++) {
+            assertThat(after.get(i).getRevision()).isGreaterThan(before.get(i).getRevision());
+        }
+
+        DtoAttandanceTotalHours total = attandanceServices.getTotalHoursAttandance(id, null, null, null);
+        assertThat(total.getTotalHours())
+                .isEqualTo(rawTotal(id, 2025, 3).add(rawTotal(id, 2025, 4)).doubleValue());
+    }
+
+    @Test
+    void concurrentFirstInsertOfMonthAddsToTheExistingRow() {
+        Long id = employee.getId();
+        // İki transaction da addDelta'dan 0 aldı ve ayın ilk satırını eklemeye çalışıyor
+        summaryRepository.upsertDelta(-1L, id, 2025, 5, new BigDecimal("8.0"), 8 * 3600, 1, 0);
+        summaryRepository.upsertDelta(-2L, id, 2025, 5, BigDecimal.ZERO, 0, 1, 1);
+
+        AttendanceMonthlySummary may = summaryRepository.findByEmployeeIdAndYearAndMonth(id, 2025, 5).orElseThrow();
+        assertThat(may.getId()).isEqualTo(-1L);
+        assertThat(may.getTotalHours()).isEqualByComparingTo("8.0");
+        assertThat(may.getWorkedSeconds()).isEqualTo(8 * 3600);
+        assertThat(may.getDaysPresent()).isEqualTo(2);
+        assertThat(may.getOpenRecords()).isEqualTo(1);
+        assertThat(may.getRevision()).isEqualTo(2);
+    }
+
+    @Test
+    void checkOutDuringRebuildIsAppliedOnTopOfTheRebuiltRow() throws Exception {
+        Long id = employee.getId();
+        LocalDate day = LocalDate.of(2025, 7, 1);
+        attandanceServices.checkIn(record(id, day, LocalTime.of(9, 0), null));
+        attandanceServices.saveRecord(record(id, day.plusDays(1), LocalTime.of(9, 0), LocalTime.of(17, 0)));
+
+        // Rebuild ayın satırını kilitleyip ham kayıtları okurken çıkış başka bir transaction'da gelir
+        AtomicReference<CompletableFuture<Void>> checkOut = new AtomicReference<>();
+        doAnswer(invocation -> {
+            Stream<AttendanceHoursView> rows = hoursBetween(invocation.getArgument(0), invocation.getArgument(1));
+            if (checkOut.get() == null) {
+                CompletableFuture<Void> future = CompletableFuture.runAsync(() ->
+                        attandanceServices.checkOut(record(id, day, null, LocalTime.of(17, 30))));
+                checkOut.set(future);
+                Thread.sleep(300);
+                // Devam kaydı yazıldı, özet satırının kilidini bekliyor
+                assertThat(future).isNotDone();
+            }
+            return rows;
+        }).when(attandanceRepository).streamHoursBetween(any(), any());
+
+        monthlySummary.rebuild();
+        checkOut.get().get(30, TimeUnit.SECONDS);
+
+        assertMatchesRaw(id, 2025, 7);
+        AttendanceMonthlySummary july = summaryRepository.findByEmployeeIdAndYearAndMonth(id, 2025, 7).orElseThrow();
+        assertThat(july.getTotalHours()).isEqualByComparingTo("16.5");
+        assertThat(july.getDaysPresent()).isEqualTo(2);
+        assertThat(july.getOpenRecords()).isZero();
+    }
+
+    @Test
+    void startupBackfillRunsOnlyOnTheLockHolder() {
+        // Özet tablosu boş, ham kayıt var (olay yayınlanmadan yazıldı)
+        Attendance attendance = new Attendance();
+        attendance.setEmployee(employee);
+        attendance.setDate(LocalDate.of(2025, 6, 2));
+        attendance.setCheckInTime(LocalTime.of(9, 0));
+        attendance.setCheckOutTime(LocalTime.of(17, 0));
+        attendance.setHoursWorked(8.0);
+        attendance.setStatus("PRESENT");
+        attandanceRepository.save(attendance);
+
+        // Başka bir düğüm dolduruyor: bu düğüm atlar
+        SchedulerLockService other = new SchedulerLockService(lockRepository, transactionManager, "baska-dugum");
+        assertThat(other.tryAcquire("attendance-summary-backfill", Duration.ofMinutes(5))).isTrue();
+        monthlySummary.backfillOnStartup();
+        assertThat(summaryRepository.count()).isZero();
+
+        other.release("attendance-summary-backfill");
+        monthlySummary.backfillOnStartup();
+        assertThat(monthlySummary.totalHours(employee.getId(), 2025, 6)).isEqualByComparingTo("8.0");
+        lockRepository.deleteById("attendance-summary-backfill");
+    }
+
+    private void assertMatchesRaw(Long employeeId, int year, int month) {
+        assertThat(monthlySummary.totalHours(employeeId, year, month).compareTo(rawTotal(employeeId, year, month)))
+                .isZero();
+        long rawSeconds = 0;
+        for (Attendance a : records(employeeId, year, month)) {
+            if (a.getHoursWorked() != null) {
+                rawSeconds += Math.round(a.getHoursWorked() * 3600);
+            }
+        }
+        assertThat(monthlySummary.summary(employeeId, year, month).map(AttendanceMonthlySummary::getWorkedSeconds)
+                .orElse(0L)).isEqualTo(rawSeconds);
+    }
+
+    private BigDecimal rawTotal(Long employeeId, int year, int month) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Attendance a : records(employeeId, year, month)) {
+            if (a.getHoursWorked() != null) {
+                total = total.add(BigDecimal.valueOf(a.getHoursWorked()));
+            }
+        }
+        return total;
+    }
+
+    private List<Attendance> records(Long employeeId, int year, int month) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        return attandanceRepository.findAllByEmployee_IdAndDateBetween(
+                employeeId, start, start.withDayOfMonth(start.lengthOfMonth()));
+    }
+
+    // streamHoursBetween'in gerçek sonucu (spy, repository arayüzünün gerçek metodunu çağıramaz)
+    private Stream<AttendanceHoursView> hoursBetween(LocalDate start, LocalDate end) {
+        return attandanceRepository.findAll().stream()
+                .filter(a -> !a.getDate().isBefore(start) && !a.getDate().isAfter(end))
+                .map(a -> new AttendanceHoursView() {
+                    @Override public Long getEmployeeId() { return a.getEmployee().getId(); }
+                    @Override public LocalDate getDate() { return a.getDate(); }
+                    @Override public Double getHoursWorked() { return a.getHoursWorked(); }
+                    @Override public LocalTime getCheckOutTime() { return a.getCheckOutTime(); }
+                });
+    }
+
+    private List<AttendanceMonthlySummary> snapshot() {
+        List<AttendanceMonthlySummary> rows = new ArrayList<>(summaryRepository.findAll());
+        rows.sort((a, b) -> (a.getYear() * 100 + a.getMonth()) - (b.getYear() * 100 + b.getMonth()));
+        for (AttendanceMonthlySummary row : rows) {
+            row.setTotalHours(row.getTotalHours().stripTrailingZeros());
+        }
+        return rows;
+    }
+
+    private static DtoAttandance record(Long employeeId, LocalDate date, LocalTime in, LocalTime out) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setEmployeeId(employeeId);
+        dto.setDate(date);
+        dto.setCheckInTime(in);
+        dto.setCheckOutTime(out);
+        return dto;
+    }
+
+    private static DtoAttandanceEvent event(Long employeeId, DtoAttandanceEvent.Type type, LocalDate date, LocalTime time) {
+        DtoAttandanceEvent event = new DtoAttandanceEvent();
+        event.setEmployeeId(employeeId);
+        event.setType(type);
+        event.setDate(date);
+        event.setTime(time);
+        return event;
+    }
+
+    private static Employees newEmployee(int i, String department, Employees.Role role) {
+        return TestFixtures.employee(20000000000L, i, "ozet", department, role);
+    }
+}
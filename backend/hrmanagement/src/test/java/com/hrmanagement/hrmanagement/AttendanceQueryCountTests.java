@@ -0,0 +1,177 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandancePage;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IAttandanceServices;
+import com.hrmanagement.services.TodayAttendanceBoard;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Devam listeleme uçlarının çalışan sayısından bağımsız olarak tek SQL ile
+ * döndüğünü doğrular (N+1 regresyonu). Her çağrı open-in-view'daki gibi
+ * yeni bir persistence context içinde yapılır.
+ */
+@SpringBootTest
+class AttendanceQueryCountTests {
+
+    private static final int EMPLOYEE_COUNT = 5;
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private TodayAttendanceBoard todayBoard;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+            Employees employee = employeesRepository.save(newEmployee(i));
+            for (int d = 0; d < 3; d++) {
+                Attendance attendance = new Attendance();
+                attendance.setEmployee(employee);
+                attendance.setDate(DAY.minusDays(d));
+                attendance.setCheckInTime(LocalTime.of(9, i));
+                attendance.setCheckOutTime(LocalTime.of(17, 0));
+                attendance.setHoursWorked(8.0);
+                attendance.setStatus("PRESENT");
+                attandanceRepository.save(attendance);
+            }
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void getAllRecordsRunsSingleStatement() {
+        List<DtoAttandance> records = countStatements(() -> attandanceServices.getAllRecords(), 1);
+
+        assertThat(records).hasSize(EMPLOYEE_COUNT * 3);
+        assertThat(records).allSatisfy(r -> assertThat(r.getEmployeeName()).startsWith("Ad"));
+    }
+
+    @Test
+    void getAllRecordsByDateRunsSingleStatement() {
+        List<DtoAttandance> records = countStatements(
+                () -> attandanceServices.getAllRecordsByDate(DAY.toString()), 1);
+
+        assertThat(records).hasSize(EMPLOYEE_COUNT);
+        assertThat(records).allSatisfy(r -> assertThat(r.getEmployeeName()).isNotBlank());
+    }
+
+    @Test
+    void searchRecordsRunsSingleStatement() {
+        DtoAttandancePage page = countStatements(
+                () -> attandanceServices.searchRecords(null, "soyad", null, null, null, 50), 1);
+
+        assertThat(page.getContent()).hasSize(EMPLOYEE_COUNT * 3);
+        assertThat(page.getContent()).allSatisfy(r -> assertThat(r.getEmployeeName()).isNotBlank());
+    }
+
+    @Test
+    void searchRecordsNextPageRunsSingleStatement() {
+        DtoAttandancePage first = attandanceServices.searchRecords(null, null, null, null, null, 4);
+        assertThat(first.isHasNext()).isTrue();
+
+        DtoAttandancePage second = countStatements(
+                () -> attandanceServices.searchRecords(null, null, null, null, first.getNextCursor(), 4), 1);
+        assertThat(second.getContent()).hasSize(4);
+    }
+
+    @Test
+    void getRecentRecordsLoadsOnceThenServesFromCache() {
+        Long employeeId = employeesRepository.findAll().get(0).getId();
+
+        List<DtoAttandance> first = countStatements(() -> attandanceServices.getRecentRecords(employeeId, 2), 1);
+        assertThat(first).extracting(DtoAttandance::getDate).containsExactly(DAY, DAY.minusDays(1));
+
+        List<DtoAttandance> second = countStatements(() -> attandanceServices.getRecentRecords(employeeId, 3), 0);
+        assertThat(second).extracting(DtoAttandance::getDate).containsExactly(DAY, DAY.minusDays(1), DAY.minusDays(2));
+
+        // Yeni kayıt commit sonrası tampona eklenir; okuma yine SQL'siz
+        DtoAttandance checkIn = new DtoAttandance();
+        checkIn.setEmployeeId(employeeId);
+        checkIn.setDate(DAY.plusDays(1));
+        attandanceServices.checkIn(checkIn);
+
+        List<DtoAttandance> third = countStatements(() -> attandanceServices.getRecentRecords(employeeId, 2), 0);
+        assertThat(third).extracting(DtoAttandance::getDate).containsExactly(DAY.plusDays(1), DAY);
+        assertThat(third.get(0).getEmployeeName()).isEqualTo(first.get(0).getEmployeeName());
+    }
+
+    @Test
+    void checkOutAfterDefaultCheckInUpdatesOnce() {
+        Long employeeId = employeesRepository.findAll().get(0).getId();
+        DtoAttandance request = new DtoAttandance();
+        request.setEmployeeId(employeeId);
+
+        // Saat verilmeyen giriş: saniyeye kesilmiş "şimdi" yazılır, pano satırla aynı saati tutar
+        DtoAttandance checkIn = attandanceServices.checkIn(request);
+        assertThat(checkIn.getCheckInTime().getNano()).isZero();
+        todayBoard.isCurrent(checkIn.getDate());
+
+        // Çıkış: panodaki giriş saatiyle tek koşullu UPDATE + aylık özet artırımı
+        DtoAttandance checkOut = countStatements(() -> attandanceServices.checkOut(request), 2);
+        assertThat(checkOut.getCheckOutTime().getNano()).isZero();
+
+        Attendance stored = attandanceRepository.findByEmployeeIdAndDate(employeeId, checkIn.getDate()).orElseThrow();
+        assertThat(stored.getCheckInTime()).isEqualTo(checkIn.getCheckInTime());
+        assertThat(stored.getCheckOutTime()).isEqualTo(checkOut.getCheckOutTime());
+        assertThat(stored.getHoursWorked()).isEqualTo(checkOut.getHoursWorked());
+    }
+
+    private <T> T countStatements(java.util.function.Supplier<T> call, long expected) {
+        statistics.clear();
+        T result = transactionTemplate.execute(status -> call.get());
+        assertThat(statistics.getPrepareStatementCount())
+                .as("çalıştırılan SQL sayısı")
+                .isEqualTo(expected);
+        return result;
+    }
+
+    private static Employees newEmployee(int i) {
+        return TestFixtures.employee(10000000000L, i, "calisan");
+    }
+}
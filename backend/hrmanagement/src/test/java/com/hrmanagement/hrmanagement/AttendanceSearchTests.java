@@ -0,0 +1,135 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandancePage;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IAttandanceServices;
+
+/**
+ * Devam aramasının filtrelerini ve (date, id) imleciyle sayfalamanın aynı tarihli kayıtlarda
+ * da kayıt atlamadan ve tekrarlamadan ilerlediğini doğrular.
+ */
+@SpringBootTest
+class AttendanceSearchTests {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 12);
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    private final List<Employees> employees = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        employees.add(employeesRepository.save(newEmployee(0, "İsmail", "Işık")));
+        employees.add(employeesRepository.save(newEmployee(1, "Ayşe", "Yılmaz")));
+        employees.add(employeesRepository.save(newEmployee(2, "Mehmet", "Demir")));
+        // Her gün üç kayıt: sayfa sınırı aynı tarihin ortasına düşer
+        for (int d = 0; d < 3; d++) {
+            for (Employees employee : employees) {
+                save(employee, DAY.minusDays(d));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void cursorWalksEqualDatesWithoutGapsOrRepeats() {
+        List<DtoAttandance> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            DtoAttandancePage page = attandanceServices.searchRecords(null, null, null, null, cursor, 2);
+            walked.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(5);
+        assertThat(walked).hasSize(9);
+        assertThat(walked).extracting(DtoAttandance::getId).doesNotHaveDuplicates();
+        assertThat(walked).isSortedAccordingTo(Comparator.comparing(DtoAttandance::getDate)
+                .thenComparing(DtoAttandance::getId).reversed());
+    }
+
+    @Test
+    void filtersCombineWithTheCursor() {
+        DtoAttandancePage first = attandanceServices.searchRecords(employees.get(1).getId(), null,
+                DAY.minusDays(1).toString(), DAY.toString(), null, 1);
+        assertThat(first.getContent()).extracting(DtoAttandance::getDate).containsExactly(DAY);
+        assertThat(first.getContent().get(0).getEmployeeName()).isEqualTo("Ayşe Yılmaz");
+
+        DtoAttandancePage second = attandanceServices.searchRecords(employees.get(1).getId(), null,
+                DAY.minusDays(1).toString(), DAY.toString(), first.getNextCursor(), 1);
+        assertThat(second.getContent()).extracting(DtoAttandance::getDate).containsExactly(DAY.minusDays(1));
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void nameFilterIsCaseInsensitiveForTurkishLetters() {
+        assertThat(attandanceServices.searchRecords(null, "İsmail", null, null, null, 50).getContent())
+                .hasSize(3).allSatisfy(r -> assertThat(r.getEmployeeName()).isEqualTo("İsmail Işık"));
+        assertThat(attandanceServices.searchRecords(null, "YıLMAZ", null, null, null, 50).getContent())
+                .hasSize(3);
+        assertThat(attandanceServices.searchRecords(null, "işık", null, null, null, 50).getContent())
+                .hasSize(3);
+        assertThat(attandanceServices.searchRecords(null, "ayşe y", null, null, null, 50).getContent())
+                .hasSize(3);
+        assertThat(attandanceServices.searchRecords(null, "yok", null, null, null, 50).getContent()).isEmpty();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> attandanceServices.searchRecords(null, null, null, null, "bozuk!", 2))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    private void save(Employees employee, LocalDate date) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployee(employee);
+        attendance.setDate(date);
+        attendance.setCheckInTime(LocalTime.of(9, 0));
+        attendance.setStatus("PRESENT");
+        attandanceRepository.save(attendance);
+    }
+
+    private static Employees newEmployee(int i, String firstname, String lastname) {
+        Employees employee = TestFixtures.employee(71000000000L, i, "arama");
+        employee.setFirstname(firstname);
+        employee.setLastname(lastname);
+        return employee;
+    }
+}
@@ -0,0 +1,174 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoAttandanceHoursBucket;
+import com.hrmanagement.dto.DtoAttandanceTotalHours;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IAttandanceServices;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Toplam saat uç noktasının veritabanı toplamlarıyla doğru sonuç verdiğini, gruplamaları ve
+ * tüm zamanlar toplamının maliyetinin kayıt sayısıyla artmadığını doğrular.
+ */
+@SpringBootTest
+class AttendanceTotalHoursTests {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Employees employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeesRepository.save(newEmployee(1));
+        Long id = employee.getId();
+        attandanceServices.saveRecord(record(id, LocalDate.of(2025, 3, 3), LocalTime.of(9, 0), LocalTime.of(17, 0)));
+        attandanceServices.saveRecord(record(id, LocalDate.of(2025, 3, 5), LocalTime.of(9, 0), LocalTime.of(13, 30)));
+        attandanceServices.saveRecord(record(id, LocalDate.of(2025, 3, 10), LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        attandanceServices.saveRecord(record(id, LocalDate.of(2025, 4, 1), LocalTime.of(9, 0), LocalTime.of(17, 0)));
+        // Çıkışı yapılmamış kayıt: saati yok
+        attandanceServices.saveRecord(record(id, LocalDate.of(2025, 4, 2), LocalTime.of(9, 0), null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void allTimeTotalsAndMonthsComeFromSummary() {
+        DtoAttandanceTotalHours total = attandanceServices.getTotalHoursAttandance(employee.getId(), null, null, "month");
+
+        assertThat(total.getTotalHours()).isEqualTo(29.5);
+        assertThat(total.getRecords()).isEqualTo(5);
+        assertThat(total.getLastDate()).isEqualTo(LocalDate.of(2025, 4, 2));
+        assertThat(total.getLastCheckInTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(total.getLastCheckOutTime()).isNull();
+        assertThat(total.getBuckets())
+                .extracting(DtoAttandanceHoursBucket::getPeriodStart, DtoAttandanceHoursBucket::getPeriodEnd,
+                        DtoAttandanceHoursBucket::getHours, DtoAttandanceHoursBucket::getRecords)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), 21.5, 3L),
+                        tuple(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), 8.0, 2L));
+    }
+
+    @Test
+    void rangeIsAggregatedPerDayAndWeek() {
+        DtoAttandanceTotalHours byDay = attandanceServices.getTotalHoursAttandance(
+                employee.getId(), "2025-03-01", "2025-03-31", "day");
+        assertThat(byDay.getTotalHours()).isEqualTo(21.5);
+        assertThat(byDay.getRecords()).isEqualTo(3);
+        assertThat(byDay.getLastDate()).isEqualTo(LocalDate.of(2025, 3, 10));
+        assertThat(byDay.getBuckets()).extracting(DtoAttandanceHoursBucket::getPeriodStart, DtoAttandanceHoursBucket::getHours)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 3, 3), 8.0),
+                        tuple(LocalDate.of(2025, 3, 5), 4.5),
+                        tuple(LocalDate.of(2025, 3, 10), 9.0));
+
+        DtoAttandanceTotalHours byWeek = attandanceServices.getTotalHoursAttandance(
+                employee.getId(), "2025-03-04", "2025-04-01", "week");
+        assertThat(byWeek.getBuckets())
+                .extracting(DtoAttandanceHoursBucket::getPeriodStart, DtoAttandanceHoursBucket::getPeriodEnd,
+                        DtoAttandanceHoursBucket::getHours, DtoAttandanceHoursBucket::getRecords)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 3, 4), LocalDate.of(2025, 3, 9), 4.5, 1L),
+                        tuple(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 16), 9.0, 1L),
+                        tuple(LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 1), 8.0, 1L));
+    }
+
+    @Test
+    void rangeIsAggregatedPerMonthAndClippedToRange() {
+        DtoAttandanceTotalHours byMonth = attandanceServices.getTotalHoursAttandance(
+                employee.getId(), "2025-03-05", null, "month");
+
+        assertThat(byMonth.getTotalHours()).isEqualTo(21.5);
+        assertThat(byMonth.getRecords()).isEqualTo(4);
+        assertThat(byMonth.getBuckets())
+                .extracting(DtoAttandanceHoursBucket::getPeriodStart, DtoAttandanceHoursBucket::getHours,
+                        DtoAttandanceHoursBucket::getRecords)
+                .containsExactly(
+                        tuple(LocalDate.of(2025, 3, 5), 13.5, 2L),
+                        tuple(LocalDate.of(2025, 4, 1), 8.0, 2L));
+
+        DtoAttandanceTotalHours empty = attandanceServices.getTotalHoursAttandance(
+                employee.getId(), "2024-01-01", "2024-12-31", null);
+        assertThat(empty.getTotalHours()).isZero();
+        assertThat(empty.getRecords()).isZero();
+        assertThat(empty.getLastDate()).isNull();
+    }
+
+    @Test
+    void allTimeCostDoesNotGrowWithHistory() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        statistics.clear();
+        attandanceServices.getTotalHoursAttandance(employee.getId(), null, null, null);
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long rowsBefore = statistics.getEntityLoadCount();
+
+        LocalDate day = LocalDate.of(2025, 3, 11);
+        for (int i = 0; i < 15; i++) {
+            attandanceServices.saveRecord(record(employee.getId(), day.plusDays(i), LocalTime.of(9, 0), LocalTime.of(17, 0)));
+        }
+
+        statistics.clear();
+        DtoAttandanceTotalHours total = attandanceServices.getTotalHoursAttandance(employee.getId(), null, null, null);
+        assertThat(total.getRecords()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(rowsBefore);
+    }
+
+    @Test
+    void invalidParametersAreRejected() {
+        Long id = employee.getId();
+        assertThatThrownBy(() -> attandanceServices.getTotalHoursAttandance(id, null, null, "year"))
+                .hasMessageContaining("Geçersiz gruplama");
+        assertThatThrownBy(() -> attandanceServices.getTotalHoursAttandance(id, "2025-03-01", null, "day"))
+                .hasMessageContaining("aralığı gerekli");
+        assertThatThrownBy(() -> attandanceServices.getTotalHoursAttandance(id, "2024-01-01", "2025-06-01", "week"))
+                .hasMessageContaining("aralığı gerekli");
+        assertThatThrownBy(() -> attandanceServices.getTotalHoursAttandance(id, "2025-04-01", "2025-03-01", null))
+                .hasMessageContaining("startDate");
+    }
+
+    private static DtoAttandance record(Long employeeId, LocalDate date, LocalTime in, LocalTime out) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setEmployeeId(employeeId);
+        dto.setDate(date);
+        dto.setCheckInTime(in);
+        dto.setCheckOutTime(out);
+        return dto;
+    }
+
+    private static Employees newEmployee(int i) {
+        return TestFixtures.employee(63000000000L, i, "toplam");
+    }
+}
@@ -0,0 +1,115 @@
+package com.hrmanagement.hrmanagement;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.BeanUtils;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoEmployees;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.mapper.AttendanceMapper;
+import com.hrmanagement.mapper.EmployeesMapper;
+
+/**
+ * Satır başına DTO dönüşümü: BeanUtils.copyProperties ile elle yazılmış mapper'ların JMH karşılaştırması.
+ * GC profiler satır başına ayrılan bellek miktarını (gc.alloc.rate.norm) da raporlar.
+ *
+ * Çalıştırmak için: mvn test -Dtest=DtoMapperBenchmark -Dbenchmark=true
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMapperBenchmark {
+
+    private Attendance attendance;
+    private Employees employee;
+
+    @Setup
+    public void setUp() {
+        employee = new Employees();
+        employee.setId(42L);
+        employee.setFirstname("Ayşe");
+        employee.setLastname("Yılmaz");
+        employee.setTcNo("12345678901");
+        employee.setPosition("Uzman");
+        employee.setDepartment("Yazılım");
+        employee.setEmail("ayse@test.com");
+        employee.setPhoneNumber("5550000000");
+        employee.setPassword("$2a$10$hash");
+        employee.setRole(Employees.Role.EMPLOYEE);
+        employee.setStatus(Employees.Status.APPROVED);
+        employee.setQrCode("QR-1234ABCD");
+        employee.setCreatedAt(LocalDateTime.of(2026, 1, 5, 9, 0));
+        employee.setApprovedAt(LocalDateTime.of(2026, 1, 6, 9, 0));
+        employee.setApprovedBy(1L);
+
+        attendance = new Attendance();
+        attendance.setId(1000L);
+        attendance.setDate(LocalDate.of(2026, 3, 2));
+        attendance.setCheckInTime(LocalTime.of(8, 55));
+        attendance.setCheckOutTime(LocalTime.of(17, 40));
+        attendance.setHoursWorked(8.75);
+        attendance.setStatus("PRESENT");
+        attendance.setEmployee(employee);
+    }
+
+    @Benchmark
+    public DtoAttandance attendanceBeanUtils() {
+        DtoAttandance dto = new DtoAttandance();
+        BeanUtils.copyProperties(attendance, dto);
+        dto.setEmployeeId(attendance.getEmployee().getId());
+        return dto;
+    }
+
+    @Benchmark
+    public DtoAttandance attendanceMapper() {
+        return AttendanceMapper.toDto(attendance);
+    }
+
+    @Benchmark
+    public DtoEmployees employeeBeanUtils() {
+        DtoEmployees dto = new DtoEmployees();
+        BeanUtils.copyProperties(employee, dto);
+        dto.setPassword(null);
+        dto.setRole(employee.getRole().name());
+        dto.setStatus(employee.getStatus().name());
+        return dto;
+    }
+
+    @Benchmark
+    public DtoEmployees employeeMapper() {
+        return EmployeesMapper.toDto(employee);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(DtoMapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-cp", System.getProperty("java.class.path"))
+                .build()).run();
+    }
+}
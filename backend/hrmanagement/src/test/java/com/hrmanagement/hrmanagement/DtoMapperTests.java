@@ -0,0 +1,140 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoEmployees;
+import com.hrmanagement.dto.DtoReviews;
+import com.hrmanagement.dto.DtoReviewsIU;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.entities.Reviews;
+import com.hrmanagement.mapper.AttendanceMapper;
+import com.hrmanagement.mapper.EmployeesMapper;
+import com.hrmanagement.mapper.ReviewsMapper;
+
+/**
+ * Elle yazılmış mapper'ların BeanUtils.copyProperties ile aynı sonucu verdiğini doğrular;
+ * entity/DTO'ya eklenip mapper'a eklenmeyen alan bu testleri bozar.
+ */
+class DtoMapperTests {
+
+    @Test
+    void attendanceMatchesBeanUtils() {
+        Attendance attendance = attendance();
+
+        DtoAttandance expected = new DtoAttandance();
+        BeanUtils.copyProperties(attendance, expected);
+        expected.setEmployeeId(attendance.getEmployee().getId());
+
+        assertThat(AttendanceMapper.toDto(attendance)).isEqualTo(expected);
+    }
+
+    @Test
+    void attendanceCopyIsIndependent() {
+        DtoAttandance source = new DtoAttandance(1L, LocalDate.of(2026, 3, 2), LocalTime.of(9, 0),
+                LocalTime.of(17, 0), 8.0, 42L, "Ayşe Yılmaz", "PRESENT", "QR-1");
+
+        DtoAttandance copy = AttendanceMapper.copy(source);
+
+        assertThat(copy).isEqualTo(source).isNotSameAs(source);
+        assertThat(copy).hasNoNullFieldsOrProperties();
+    }
+
+    @Test
+    void employeeMatchesBeanUtilsWithoutPassword() {
+        Employees employee = employee();
+
+        DtoEmployees expected = new DtoEmployees();
+        BeanUtils.copyProperties(employee, expected);
+        expected.setPassword(null);
+        expected.setRole(employee.getRole().name());
+        expected.setStatus(employee.getStatus().name());
+
+        DtoEmployees dto = EmployeesMapper.toDto(employee);
+        assertThat(dto).isEqualTo(expected);
+        assertThat(dto).hasNoNullFieldsOrPropertiesExcept("password", "accessToken", "refreshToken",
+                "accessTokenExpiresAt");
+    }
+
+    @Test
+    void registrationTakesOnlyApplicantFields() {
+        DtoEmployees form = EmployeesMapper.toDto(employee());
+        form.setPassword("gizli");
+
+        Employees employee = EmployeesMapper.toNewEntity(form);
+
+        assertThat(employee.getId()).isNull();
+        assertThat(employee.getApprovedAt()).isNull();
+        assertThat(employee.getApprovedBy()).isNull();
+        assertThat(employee.getQrCode()).isNull();
+        assertThat(employee.getPassword()).isNull();
+        assertThat(employee).extracting(Employees::getFirstname, Employees::getLastname, Employees::getTcNo,
+                Employees::getPosition, Employees::getDepartment, Employees::getEmail, Employees::getPhoneNumber)
+                .containsExactly("Ayşe", "Yılmaz", "12345678901", "Uzman", "Yazılım", "ayse@test.com",
+                        "5550000000");
+    }
+
+    @Test
+    void reviewsMapToBothDtos() {
+        Reviews reviews = new Reviews();
+        reviews.setId(7L);
+        reviews.setReviewDate(LocalDate.of(2026, 3, 2));
+        reviews.setReviewerName("Mehmet");
+        reviews.setComments("İyi");
+        reviews.setRating(4);
+        reviews.setEmployee(employee());
+        reviews.setReviewerId(3L);
+
+        DtoReviews dto = ReviewsMapper.toDto(reviews);
+        assertThat(dto).hasNoNullFieldsOrProperties();
+        assertThat(dto.getEmployeeId()).isEqualTo(42L);
+
+        DtoReviewsIU dtoIU = ReviewsMapper.toDtoIU(reviews);
+        assertThat(dtoIU).usingRecursiveComparison().isEqualTo(dto);
+
+        Reviews created = ReviewsMapper.toNewEntity(dtoIU, reviews.getEmployee());
+        assertThat(created.getId()).isNull();
+        assertThat(created).extracting(Reviews::getReviewerName, Reviews::getComments, Reviews::getRating,
+                Reviews::getReviewerId).containsExactly("Mehmet", "İyi", 4, 3L);
+    }
+
+    private static Attendance attendance() {
+        Attendance attendance = new Attendance();
+        attendance.setId(1000L);
+        attendance.setDate(LocalDate.of(2026, 3, 2));
+        attendance.setCheckInTime(LocalTime.of(8, 55));
+        attendance.setCheckOutTime(LocalTime.of(17, 40));
+        attendance.setHoursWorked(8.75);
+        attendance.setStatus("PRESENT");
+        attendance.setEmployee(employee());
+        return attendance;
+    }
+
+    private static Employees employee() {
+        Employees employee = new Employees();
+        employee.setId(42L);
+        employee.setFirstname("Ayşe");
+        employee.setLastname("Yılmaz");
+        employee.setTcNo("12345678901");
+        employee.setPosition("Uzman");
+        employee.setDepartment("Yazılım");
+        employee.setEmail("ayse@test.com");
+        employee.setPhoneNumber("5550000000");
+        employee.setPassword("$2a$10$hash");
+        employee.setRole(Employees.Role.HR);
+        employee.setStatus(Employees.Status.APPROVED);
+        employee.setQrCode("QR-1234ABCD");
+        employee.setCreatedAt(LocalDateTime.of(2026, 1, 5, 9, 0));
+        employee.setApprovedAt(LocalDateTime.of(2026, 1, 6, 9, 0));
+        employee.setApprovedBy(1L);
+        return employee;
+    }
+}
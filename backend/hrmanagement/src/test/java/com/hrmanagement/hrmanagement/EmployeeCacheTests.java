@@ -0,0 +1,130 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.entities.Employees.Status;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IEmployeesServices;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Employees okumalarının ikinci seviye/sorgu önbelleğinden (SQL'siz) yapıldığını ve
+ * kaydetme sonrası önbelleğin eski veriyi döndürmediğini doğrular.
+ */
+@SpringBootTest
+class EmployeeCacheTests {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private IEmployeesServices employeesServices;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Employees employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeesRepository.save(newEmployee(0, "QR-ONBELLEK0"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void findByIdIsServedFromSecondLevelCache() {
+        employeesRepository.findById(employee.getId());
+        statistics.clear();
+
+        assertThat(employeesRepository.findById(employee.getId())).get()
+                .extracting(Employees::getDepartment).isEqualTo("Yazılım");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("employees").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByStatusIsCachedUntilEmployeesChange() {
+        employeesRepository.findByStatus(Status.APPROVED);
+        statistics.clear();
+        assertThat(employeesRepository.findByStatus(Status.APPROVED)).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        employeesRepository.save(newEmployee(1, "QR-ONBELLEK1"));
+        assertThat(employeesRepository.findByStatus(Status.APPROVED)).hasSize(2);
+
+        Employees updated = employeesRepository.findById(employee.getId()).orElseThrow();
+        updated.setDepartment("Muhasebe");
+        employeesRepository.save(updated);
+        assertThat(employeesRepository.findByStatus(Status.APPROVED))
+                .filteredOn(e -> e.getId().equals(employee.getId()))
+                .extracting(Employees::getDepartment).containsExactly("Muhasebe");
+    }
+
+    @Test
+    void regeneratedQrCodeIsNotServedFromStaleQueryCache() {
+        assertThat(employeesRepository.findFirstByQrCode("QR-ONBELLEK0")).isPresent();
+        assertThat(employeesRepository.findFirstByQrCode("QR-ONBELLEK0")).isPresent();
+
+        Employees updated = employeesRepository.findById(employee.getId()).orElseThrow();
+        updated.setQrCode("QR-ONBELLEK9");
+        employeesRepository.save(updated);
+
+        assertThat(employeesRepository.findFirstByQrCode("QR-ONBELLEK0")).isEmpty();
+        assertThat(employeesRepository.findFirstByQrCode("QR-ONBELLEK9")).isPresent();
+    }
+
+    @Test
+    void qrCodeRotatedOutsideThisNodeStopsResolvingImmediately() {
+        assertThat(employeesRepository.findFirstByQrCode("QR-ONBELLEK0")).isPresent();
+
+        // Başka düğümün yenilemesi: bu düğümün önbellek zaman damgaları ilerlemez
+        jdbcTemplate.update("update employees set qr_code = ? where id = ?", "QR-ONBELLEK8", employee.getId());
+        statistics.clear();
+
+        assertThat(employeesRepository.findFirstByQrCode("QR-ONBELLEK0")).isEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    void statsReportEntityAndQueryCache() {
+        employeesRepository.findById(employee.getId());
+        employeesRepository.findById(employee.getId());
+
+        Map<String, Object> stats = employeesServices.getEntityCacheStats();
+        assertThat(stats).containsEntry("statisticsEnabled", true).containsKeys("entity", "query");
+        assertThat(((Map<?, ?>) stats.get("entity")).get("hits")).isNotEqualTo(0L);
+    }
+
+    private static Employees newEmployee(int i, String qrCode) {
+        Employees employee = TestFixtures.employee(62000000000L, i, "onbellek");
+        employee.setQrCode(qrCode);
+        return employee;
+    }
+}
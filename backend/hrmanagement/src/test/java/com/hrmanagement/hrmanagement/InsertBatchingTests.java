@@ -0,0 +1,271 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.repository.PayrolRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Pooled-lo ID üretimiyle insert'lerin JDBC batch olarak gittiğini doğrular.
+ *
+ * Karşılaştırmalı ölçüm için: mvn test -Dtest=InsertBatchingTests -Dbenchmark=true
+ */
+@SpringBootTest
+class InsertBatchingTests {
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+
+    private static final Logger log = LoggerFactory.getLogger(InsertBatchingTests.class);
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private PayrolRepository payrolRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private List<Employees> employees;
+
+    @BeforeEach
+    void setUp() {
+        employees = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            employees.add(newEmployee(i));
+        }
+        employees = employeesRepository.saveAll(employees);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void attendanceBulkLoadIsBatched() {
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(s -> attandanceRepository.saveAll(attendanceRows(ROWS, 0)));
+
+        // IDENTITY ile ROWS adet insert olurdu; pooled-lo ile ROWS / BATCH_SIZE batch + birkaç sequence çağrısı
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * ROWS / BATCH_SIZE);
+        assertThat(attandanceRepository.count()).isEqualTo(ROWS);
+    }
+
+    @Test
+    void payrollRunIsBatched() {
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(s -> payrolRepository.saveAll(payrollRows(2025, 1, 12)));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12L);
+        assertThat(payrolRepository.count()).isEqualTo(employees.size() * 12L);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void insertThroughputBenchmark() {
+        int rows = 20_000;
+        int warmup = 2_000;
+        transactionTemplate.executeWithoutResult(s -> attandanceRepository.saveAll(attendanceRows(warmup, 0)));
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += 1_000) {
+            int from = warmup + offset;
+            transactionTemplate.executeWithoutResult(s -> attandanceRepository.saveAll(attendanceRows(1_000, from)));
+        }
+        long attendanceNanos = System.nanoTime() - start;
+        long attendanceStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(s -> payrolRepository.saveAll(payrollRows(2000, 1, 12 * 20)));
+        long payrollNanos = System.nanoTime() - start;
+        long payrollStatements = statistics.getPrepareStatementCount();
+        int payrollRows = employees.size() * 12 * 20;
+
+        String attendanceColumns = "employee_id BIGINT, date DATE, check_in_time TIME, check_out_time TIME, "
+                + "hours_worked DOUBLE, status VARCHAR(20)";
+        RowBinder attendanceBinder = (ps, n) -> {
+            Attendance a = attendanceRows(1, n).get(0);
+            ps.setLong(1, a.getEmployee().getId());
+            ps.setDate(2, Date.valueOf(a.getDate()));
+            ps.setTime(3, Time.valueOf(a.getCheckInTime()));
+            ps.setTime(4, Time.valueOf(a.getCheckOutTime()));
+            ps.setDouble(5, a.getHoursWorked());
+            ps.setString(6, a.getStatus());
+        };
+        String payrollColumns = "employee_id BIGINT, year INT, month INT, base_salary DECIMAL(12,2), "
+                + "gross_salary DECIMAL(12,2), net_salary DECIMAL(12,2)";
+        RowBinder payrollBinder = (ps, n) -> {
+            ps.setLong(1, employees.get(n % employees.size()).getId());
+            ps.setInt(2, 2000 + n / (employees.size() * 12));
+            ps.setInt(3, (n / employees.size()) % 12 + 1);
+            ps.setBigDecimal(4, new BigDecimal("30000.00"));
+            ps.setBigDecimal(5, new BigDecimal("30000.00"));
+            ps.setBigDecimal(6, new BigDecimal("25500.00"));
+        };
+        long identityAttendanceNanos = jdbcInserts(attendanceColumns, rows, warmup, attendanceBinder, false);
+        long batchedAttendanceNanos = jdbcInserts(attendanceColumns, rows, warmup, attendanceBinder, true);
+        long identityPayrollNanos = jdbcInserts(payrollColumns, payrollRows, 0, payrollBinder, false);
+        long batchedPayrollNanos = jdbcInserts(payrollColumns, payrollRows, 0, payrollBinder, true);
+
+        log.info("[benchmark] attendance {} satır  Hibernate pooled-lo: {} SQL, {} satır/sn  "
+                        + "JDBC IDENTITY (satır başına): {} SQL, {} satır/sn  JDBC batch {}: {} satır/sn",
+                rows, attendanceStatements, perSecond(rows, attendanceNanos), rows,
+                perSecond(rows, identityAttendanceNanos), BATCH_SIZE, perSecond(rows, batchedAttendanceNanos));
+        log.info("[benchmark] payroll {} satır  Hibernate pooled-lo: {} SQL, {} satır/sn  "
+                        + "JDBC IDENTITY (satır başına): {} SQL, {} satır/sn  JDBC batch {}: {} satır/sn",
+                payrollRows, payrollStatements, perSecond(payrollRows, payrollNanos), payrollRows,
+                perSecond(payrollRows, identityPayrollNanos), BATCH_SIZE, perSecond(payrollRows, batchedPayrollNanos));
+    }
+
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int n) throws SQLException;
+    }
+
+    /**
+     * Entity'ler artık IDENTITY kullanmadığından karşılaştırma JDBC seviyesinde yapılır: AUTO_INCREMENT
+     * geçici tabloya ya Hibernate'in IDENTITY ile yaptığı gibi satır başına INSERT + getGeneratedKeys,
+     * ya da BATCH_SIZE'lık batch'lerle yazılır. Isınmadan sonra 1000 satırlık transaction'lar ölçülür.
+     */
+    private long jdbcInserts(String columns, int rows, int warmup, RowBinder binder, boolean batched) {
+        String[] names = columns.split(", ");
+        for (int i = 0; i < names.length; i++) {
+            names[i] = names[i].substring(0, names[i].indexOf(' '));
+        }
+        String insert = "insert into insert_bench (" + String.join(", ", names) + ") values ("
+                + "?, ".repeat(names.length - 1) + "?)";
+        jdbcTemplate.execute("create table insert_bench (id BIGINT AUTO_INCREMENT PRIMARY KEY, " + columns + ")");
+        try {
+            writeRows(insert, 0, warmup, binder, batched);
+            long start = System.nanoTime();
+            for (int offset = 0; offset < rows; offset += 1_000) {
+                writeRows(insert, warmup + offset, Math.min(1_000, rows - offset), binder, batched);
+            }
+            return System.nanoTime() - start;
+        } finally {
+            jdbcTemplate.execute("drop table insert_bench");
+        }
+    }
+
+    private void writeRows(String insert, int from, int count, RowBinder binder, boolean batched) {
+        transactionTemplate.executeWithoutResult(s -> jdbcTemplate.execute((Connection connection) -> {
+            if (batched) {
+                try (PreparedStatement ps = connection.prepareStatement(insert)) {
+                    for (int n = from; n < from + count; n++) {
+                        binder.bind(ps, n);
+                        ps.addBatch();
+                        if ((n - from + 1) % BATCH_SIZE == 0) {
+                            ps.executeBatch();
+                        }
+                    }
+                    ps.executeBatch();
+                }
+                return null;
+            }
+            for (int n = from; n < from + count; n++) {
+                try (PreparedStatement ps = connection.prepareStatement(insert, Statement.RETURN_GENERATED_KEYS)) {
+                    binder.bind(ps, n);
+                    ps.executeUpdate();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+            return null;
+        }));
+    }
+
+    private static long perSecond(long rows, long nanos) {
+        return Math.round(rows / (nanos / 1e9));
+    }
+
+    private List<Attendance> attendanceRows(int count, int offset) {
+        List<Attendance> rows = new ArrayList<>(count);
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < count; i++) {
+            int n = offset + i;
+            Attendance attendance = new Attendance();
+            attendance.setEmployee(employees.get(n % employees.size()));
+            attendance.setDate(base.plusDays(n / employees.size()));
+            attendance.setCheckInTime(LocalTime.of(9, 0));
+            attendance.setCheckOutTime(LocalTime.of(17, 0));
+            attendance.setHoursWorked(8.0);
+            attendance.setStatus("PRESENT");
+            rows.add(attendance);
+        }
+        return rows;
+    }
+
+    private List<Payroll> payrollRows(int startYear, int startMonth, int months) {
+        List<Payroll> rows = new ArrayList<>();
+        for (int m = 0; m < months; m++) {
+            int year = startYear + (startMonth - 1 + m) / 12;
+            int month = (startMonth - 1 + m) % 12 + 1;
+            for (Employees employee : employees) {
+                Payroll payroll = new Payroll();
+                payroll.setEmployee(employee);
+                payroll.setYear(year);
+                payroll.setMonth(month);
+                payroll.setBaseSalary(new BigDecimal("30000.00"));
+                payroll.setGrossSalary(new BigDecimal("30000.00"));
+                payroll.setNetSalary(new BigDecimal("25500.00"));
+                rows.add(payroll);
+            }
+        }
+        return rows;
+    }
+
+    private static Employees newEmployee(int i) {
+        return TestFixtures.employee(20000000000L, i, "batch");
+    }
+}
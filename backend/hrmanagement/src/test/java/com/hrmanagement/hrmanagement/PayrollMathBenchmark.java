@@ -0,0 +1,105 @@
+package com.hrmanagement.hrmanagement;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.services.PayrollAmounts;
+import com.hrmanagement.services.PayrollCalculator;
+import com.hrmanagement.services.PayrollMath;
+
+/**
+ * BigDecimal ve long bordro hesabının JMH karşılaştırması (bir çalıştırmadaki çalışan sayısı kadar bordro).
+ *
+ * Süreler bordrodaki gibi saniye cinsindendir (devam özetinin worked_seconds kolonu); fixedPoint
+ * generatePayroll, toplu bordro ve simülasyonun olağan yoludur.
+ *
+ * Çalıştırmak için: mvn test -Dtest=PayrollMathBenchmark -Dbenchmark=true
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollMathBenchmark {
+
+    private static final int EMPLOYEES = 1_000;
+
+    private DtoPayrollGenerateRequest[] requests;
+    private BigDecimal[] seconds;
+    private long[] baseCents;
+    private long[] bonusCents;
+    private long[] workedSeconds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        requests = new DtoPayrollGenerateRequest[EMPLOYEES];
+        seconds = new BigDecimal[EMPLOYEES];
+        baseCents = new long[EMPLOYEES];
+        bonusCents = new long[EMPLOYEES];
+        workedSeconds = new long[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            baseCents[i] = 2_500_000L + random.nextInt(10_000_000);
+            bonusCents[i] = random.nextInt(4) == 0 ? 100L * random.nextInt(20_000) : 0;
+            workedSeconds[i] = 140 * 3600L + random.nextInt(60 * 3600);
+
+            DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+            req.setBaseSalary(BigDecimal.valueOf(baseCents[i], 2));
+            req.setBonus(BigDecimal.valueOf(bonusCents[i], 2));
+            req.setExtraDeduction(BigDecimal.ZERO);
+            req.setOvertimeMultiplier(new BigDecimal("1.5"));
+            req.setIncomeTaxRate(new BigDecimal("0.15"));
+            req.setStandardMonthlyHours(160);
+            requests[i] = req;
+            seconds[i] = BigDecimal.valueOf(workedSeconds[i]);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Payroll payroll = new Payroll();
+            PayrollCalculator.applyDecimal(payroll, requests[i], seconds[i], PayrollCalculator.SECONDS_PER_HOUR);
+            blackhole.consume(payroll);
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole blackhole) {
+        PayrollAmounts amounts = new PayrollAmounts();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            PayrollMath.compute(baseCents[i], bonusCents[i], 0, 1_500_000, 150_000, 160, workedSeconds[i],
+                    PayrollCalculator.SECONDS_PER_HOUR, amounts);
+            blackhole.consume(amounts.getNetCents());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(PayrollMathBenchmark.class.getSimpleName())
+                .jvmArgsAppend("-cp", System.getProperty("java.class.path"))
+                .build()).run();
+    }
+}
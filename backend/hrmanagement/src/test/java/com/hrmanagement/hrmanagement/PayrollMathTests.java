@@ -0,0 +1,183 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.services.PayrollAmounts;
+import com.hrmanagement.services.PayrollCalculator;
+import com.hrmanagement.services.PayrollMath;
+
+/**
+ * PayrollMath (long) ile PayrollCalculator.applyDecimal (BigDecimal) eşdeğerliği:
+ * rastgele üretilen girdilerde ya ikisi aynı mesajla hata verir ya da tüm kalemler
+ * (ölçek dahil) birebir aynıdır. Üreteçler yuvarlama sınırlarına denk gelen
+ * "yuvarlak" değerleri de sık seçer. Tohum sabit; hata olursa girdi mesajda yazar.
+ */
+class PayrollMathTests {
+
+    private static final int CASES = 200_000;
+
+    // Saatin 1/u'su; bordronun kullandığı saniye (3600) en sık seçilir
+    private static final int[] UNITS_PER_HOUR = {1, 7, 60, 100, 3600, 3600, 3600};
+
+    @Test
+    void fixedPointMatchesBigDecimalPath() {
+        Random random = new Random(20240611L);
+        int fastPath = 0;
+        for (int i = 0; i < CASES; i++) {
+            long base = money(random);
+            long bonus = random.nextInt(8) == 0 ? -money(random) / 10 : money(random) / 10;
+            long extra = random.nextInt(20) == 0 ? -1 : money(random) / 10;
+            long multiplier = rate(random, 3_000_000);
+            long taxRate = random.nextInt(50) == 0 ? 1_000_001 : rate(random, 1_000_000);
+            int standardHours = random.nextInt(100) == 0 ? 0 : 1 + random.nextInt(300);
+            int u = UNITS_PER_HOUR[random.nextInt(UNITS_PER_HOUR.length)];
+            long worked = (long) random.nextInt(400 * u);
+
+            String input = "base=" + base + " bonus=" + bonus + " extra=" + extra + " m=" + multiplier
+                    + " t=" + taxRate + " S=" + standardHours + " worked=" + worked + "/" + u;
+
+            Payroll expected = new Payroll();
+            String expectedError = null;
+            try {
+                PayrollCalculator.applyDecimal(expected, request(base, bonus, extra, multiplier, taxRate, standardHours),
+                        BigDecimal.valueOf(worked), u);
+            } catch (IllegalArgumentException e) {
+                expectedError = e.getMessage();
+            }
+
+            PayrollAmounts amounts = new PayrollAmounts();
+            String actualError = null;
+            boolean computed = false;
+            try {
+                computed = PayrollMath.compute(base, bonus, extra, multiplier, taxRate, standardHours, worked, u, amounts);
+            } catch (IllegalArgumentException e) {
+                actualError = e.getMessage();
+            }
+
+            if (actualError == null && !computed) {
+                // Aralık dışı (bonus ile negatif brüt vb.): çağıran BigDecimal yoluna düşer
+                continue;
+            }
+            if (expectedError != null || actualError != null) {
+                assertThat(actualError).as(input).isEqualTo(expectedError);
+                continue;
+            }
+            fastPath++;
+            Payroll actual = new Payroll();
+            amounts.copyTo(actual);
+            assertSame(input, expected, actual);
+        }
+        assertThat(fastPath).isGreaterThan(CASES / 2);
+    }
+
+    @Test
+    void calculatorMatchesBigDecimalPathOnWorkedSeconds() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 20_000; i++) {
+            DtoPayrollGenerateRequest req = request(money(random), money(random) / 10, money(random) / 10,
+                    rate(random, 3_000_000), rate(random, 1_000_000), 1 + random.nextInt(300));
+            if (random.nextBoolean()) {
+                req.setBaseSalary(req.getBaseSalary().add(new BigDecimal("0.001")));
+            }
+            // Devam özetindeki gibi: kayıtların saniyelerinin toplamı
+            long seconds = 0;
+            for (int d = 0; d < 22; d++) {
+                seconds += 6 * 3600 + random.nextInt(5 * 3600);
+            }
+
+            Payroll expected = new Payroll();
+            Payroll actual = new Payroll();
+            String expectedError = null;
+            String actualError = null;
+            try {
+                PayrollCalculator.applyDecimal(expected, req, BigDecimal.valueOf(seconds), PayrollCalculator.SECONDS_PER_HOUR);
+            } catch (IllegalArgumentException e) {
+                expectedError = e.getMessage();
+            }
+            try {
+                PayrollCalculator.apply(actual, req, seconds);
+            } catch (IllegalArgumentException e) {
+                actualError = e.getMessage();
+            }
+            assertThat(actualError).isEqualTo(expectedError);
+            assertSame("seconds=" + seconds + " base=" + req.getBaseSalary(), expected, actual);
+        }
+    }
+
+    @Test
+    void realWorkedTotalsTakeTheLongPath() {
+        // Günde 7 sa 59 dk 13 sn; ay toplamı ve tek gün. Olağan çarpan/oran setleri
+        long day = 7 * 3600 + 59 * 60 + 13;
+        long[] totals = {day, 22 * day, 22 * day + 17 * 3600 + 1};
+        long[] multipliers = {1_000_000, 1_250_000, 1_500_000, 1_750_000, 2_000_000};
+        long[] taxRates = {0, 150_000, 200_000, 270_000, 350_000, 400_000};
+        for (long seconds : totals) {
+            for (long multiplier : multipliers) {
+                for (long taxRate : taxRates) {
+                    String input = "seconds=" + seconds + " m=" + multiplier + " t=" + taxRate;
+                    PayrollAmounts amounts = new PayrollAmounts();
+                    assertThat(PayrollMath.compute(4_512_345, 125_050, 30_000, multiplier, taxRate, 160,
+                            seconds, PayrollCalculator.SECONDS_PER_HOUR, amounts)).as(input).isTrue();
+
+                    Payroll expected = new Payroll();
+                    PayrollCalculator.applyDecimal(expected, request(4_512_345, 125_050, 30_000, multiplier, taxRate, 160),
+                            BigDecimal.valueOf(seconds), PayrollCalculator.SECONDS_PER_HOUR);
+                    Payroll actual = new Payroll();
+                    amounts.copyTo(actual);
+                    assertSame(input, expected, actual);
+                }
+            }
+        }
+    }
+
+    private static void assertSame(String input, Payroll expected, Payroll actual) {
+        assertThat(actual.getBaseSalary()).as(input).isEqualTo(expected.getBaseSalary());
+        assertThat(actual.getTotalWorkHours()).as(input).isEqualTo(expected.getTotalWorkHours());
+        assertThat(actual.getOvertimeHours()).as(input).isEqualTo(expected.getOvertimeHours());
+        assertThat(actual.getOvertimePay()).as(input).isEqualTo(expected.getOvertimePay());
+        assertThat(actual.getBonus()).as(input).isEqualTo(expected.getBonus());
+        assertThat(actual.getGrossSalary()).as(input).isEqualTo(expected.getGrossSalary());
+        assertThat(actual.getDeductions()).as(input).isEqualTo(expected.getDeductions());
+        assertThat(actual.getNetSalary()).as(input).isEqualTo(expected.getNetSalary());
+    }
+
+    // Kuruş: küçük, tipik ve büyük tutarlar; bazen 0/negatif (hata yolu)
+    private static long money(Random random) {
+        switch (random.nextInt(10)) {
+            case 0: return random.nextInt(3) - 1;
+            case 1: return random.nextInt(10_000);
+            case 2: return 100L * (1 + random.nextInt(100_000));
+            case 3: return Math.floorMod(random.nextLong(), 10_000_000_000_000L);
+            default: return 1_000_000L + random.nextInt(50_000_000);
+        }
+    }
+
+    // Milyonda bir: yuvarlak oranlar sık, bazen negatif
+    private static long rate(Random random, int max) {
+        switch (random.nextInt(6)) {
+            case 0: return -random.nextInt(max);
+            case 1: return 0;
+            case 2: return 50_000L * random.nextInt(max / 50_000 + 1);
+            default: return random.nextInt(max + 1);
+        }
+    }
+
+    private static DtoPayrollGenerateRequest request(long base, long bonus, long extra, long multiplier, long taxRate,
+                                                     int standardHours) {
+        DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+        req.setBaseSalary(BigDecimal.valueOf(base, 2));
+        req.setBonus(BigDecimal.valueOf(bonus, 2));
+        req.setExtraDeduction(BigDecimal.valueOf(extra, 2));
+        req.setOvertimeMultiplier(BigDecimal.valueOf(multiplier, 6));
+        req.setIncomeTaxRate(BigDecimal.valueOf(taxRate, 6));
+        req.setStandardMonthlyHours(standardHours);
+        return req;
+    }
+}
@@ -0,0 +1,99 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IPayrollServices;
+
+import jakarta.persistence.EntityManagerFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Bordro okuma uç noktalarının tek sorguyla çalıştığını ve yanıtın çalışan grafiğini taşımadığını doğrular.
+ */
+@SpringBootTest
+class PayrollReadTests {
+
+    private static final int YEAR = 2024;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IPayrollServices payrollServices;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private Employees employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeesRepository.save(newEmployee(1));
+        for (int month = 1; month <= 12; month++) {
+            DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+            req.setEmployeeId(employee.getId());
+            req.setYear(YEAR);
+            req.setMonth(month);
+            req.setBaseSalary(new BigDecimal("42000"));
+            payrollServices.generatePayroll(req);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void listsUseOneQueryAndSlimPayload() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        // Ölçüm soğuk önbellekle: çalışan ikinci seviye önbellekten gelmesin
+        entityManagerFactory.getCache().evictAll();
+
+        statistics.clear();
+        List<?> all = payrollServices.getAllByEmployee(employee.getId());
+        long allStatements = statistics.getPrepareStatementCount();
+        long allEntities = statistics.getEntityLoadCount();
+        int allBytes = jsonMapper.writeValueAsBytes(all).length;
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        List<?> year = payrollServices.listByEmployeeYear(employee.getId(), YEAR);
+        long yearStatements = statistics.getPrepareStatementCount();
+        int yearBytes = jsonMapper.writeValueAsBytes(year).length;
+
+        assertThat(all).hasSize(12);
+        assertThat(year).hasSize(12);
+        assertThat(allStatements).isEqualTo(1);
+        assertThat(yearStatements).isEqualTo(1);
+        assertThat(allEntities).isZero();
+        // İki liste aynı DTO'yu döner: yanıt boyutları da aynı olmalı
+        assertThat(yearBytes).isEqualTo(allBytes);
+        assertThat(new String(jsonMapper.writeValueAsBytes(all))).doesNotContain("tcNo", "password", "email");
+    }
+
+    private static Employees newEmployee(int i) {
+        return TestFixtures.employee(66000000000L, i, "bordrookuma");
+    }
+}
@@ -0,0 +1,183 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoPayroll;
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.dto.DtoPayrollRecompute;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.repository.PayrolRepository;
+import com.hrmanagement.services.IAttandanceServices;
+import com.hrmanagement.services.IPayrollServices;
+
+/**
+ * Devam kaydı değişen bordroların bayat işaretlendiğini ve yeniden hesaplamanın sadece
+ * onları, tekil bordro ile aynı sonuçla güncellediğini doğrular.
+ */
+@SpringBootTest
+class PayrollRecomputeTests {
+
+    private static final int YEAR = 2025;
+    private static final int MONTH = 2;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IPayrollServices payrollServices;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private PayrolRepository payrolRepository;
+
+    @Autowired
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    private Employees hr;
+    private Employees[] employees;
+
+    @BeforeEach
+    void setUp() {
+        hr = employeesRepository.save(newEmployee(0, Employees.Role.HR));
+        employees = new Employees[4];
+        for (int i = 1; i <= 3; i++) {
+            employees[i] = employeesRepository.save(newEmployee(i, Employees.Role.EMPLOYEE));
+            for (int day = 3; day <= 7; day++) {
+                attandanceServices.saveRecord(record(employees[i].getId(), LocalDate.of(YEAR, MONTH, day),
+                        LocalTime.of(9, 0), LocalTime.of(17, 0).plusMinutes(i * 20L)));
+            }
+            payrollServices.generatePayroll(params(employees[i].getId()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void freshPayrollsAreSkipped() {
+        DtoPayrollRecompute result = payrollServices.recomputeStale(YEAR, MONTH, hr.getId());
+
+        assertThat(result.getStale()).isZero();
+        assertThat(result.getRecomputed()).isZero();
+        assertThat(result.getUpToDate()).isEqualTo(3);
+    }
+
+    @Test
+    void onlyChangedEmployeesAreRecomputed() {
+        Long changed = employees[2].getId();
+        Payroll before = payrolRepository.findByEmployee_IdAndYearAndMonth(changed, YEAR, MONTH).orElseThrow();
+        Payroll untouchedBefore = payrolRepository.findByEmployee_IdAndYearAndMonth(employees[1].getId(), YEAR, MONTH).orElseThrow();
+
+        attandanceServices.saveRecord(record(changed, LocalDate.of(YEAR, MONTH, 10), LocalTime.of(8, 0), LocalTime.of(20, 0)));
+
+        DtoPayrollRecompute result = payrollServices.recomputeStale(null, null, hr.getId());
+        assertThat(result.getStale()).isEqualTo(1);
+        assertThat(result.getRecomputed()).isEqualTo(1);
+        assertThat(result.getUpToDate()).isEqualTo(2);
+        assertThat(result.getFailed()).isZero();
+
+        Payroll after = payrolRepository.findByEmployee_IdAndYearAndMonth(changed, YEAR, MONTH).orElseThrow();
+        assertThat(after.getTotalWorkHours()).isEqualByComparingTo(before.getTotalWorkHours().add(new BigDecimal("12")));
+
+        // Tekil bordro aynı parametrelerle aynı sonucu verir
+        DtoPayroll single = payrollServices.generatePayroll(params(changed));
+        assertThat(single.getNetSalary()).isEqualByComparingTo(after.getNetSalary());
+        assertThat(payrolRepository.findById(single.getId()).orElseThrow().getAttendanceRevision())
+                .isEqualTo(after.getAttendanceRevision());
+
+        Payroll untouched = payrolRepository.findByEmployee_IdAndYearAndMonth(employees[1].getId(), YEAR, MONTH).orElseThrow();
+        assertThat(untouched.getNetSalary()).isEqualByComparingTo(untouchedBefore.getNetSalary());
+
+        assertThat(payrollServices.recomputeStale(YEAR, MONTH, hr.getId()).getStale()).isZero();
+    }
+
+    @Test
+    void deletedAttendanceAndLegacyPayrollsAreReported() {
+        Long deleted = employees[3].getId();
+        Long recordId = attandanceRepository.findByEmployeeIdAndDate(deleted, LocalDate.of(YEAR, MONTH, 3)).orElseThrow().getId();
+        attandanceServices.deleteRecord(recordId, hr.getId());
+
+        Payroll legacy = payrolRepository.findByEmployee_IdAndYearAndMonth(employees[1].getId(), YEAR, MONTH).orElseThrow();
+        legacy.setAttendanceRevision(null);
+        payrolRepository.save(legacy);
+
+        DtoPayrollRecompute result = payrollServices.recomputeStale(YEAR, MONTH, hr.getId());
+        assertThat(result.getStale()).isEqualTo(1);
+        assertThat(result.getRecomputed()).isEqualTo(1);
+        assertThat(result.getUntracked()).isEqualTo(1);
+        assertThat(result.getUpToDate()).isEqualTo(1);
+
+        Payroll after = payrolRepository.findByEmployee_IdAndYearAndMonth(deleted, YEAR, MONTH).orElseThrow();
+        assertThat(after.getTotalWorkHours()).isEqualByComparingTo("36");
+    }
+
+    @Test
+    void payrollWithoutAttendanceBecomesStaleOnFirstRecord() {
+        Employees newcomer = employeesRepository.save(newEmployee(4, Employees.Role.EMPLOYEE));
+        Payroll payroll = payrolRepository.findById(payrollServices.generatePayroll(params(newcomer.getId())).getId()).orElseThrow();
+        assertThat(payroll.getAttendanceRevision()).isZero();
+        assertThat(payrollServices.recomputeStale(YEAR, MONTH, hr.getId()).getStale()).isZero();
+
+        attandanceServices.saveRecord(record(newcomer.getId(), LocalDate.of(YEAR, MONTH, 12), LocalTime.of(9, 0), LocalTime.of(17, 0)));
+
+        DtoPayrollRecompute result = payrollServices.recomputeStale(YEAR, MONTH, hr.getId());
+        assertThat(result.getRecomputed()).isEqualTo(1);
+        assertThat(payrolRepository.findById(payroll.getId()).orElseThrow().getTotalWorkHours()).isEqualByComparingTo("8");
+    }
+
+    @Test
+    void onlyHrCanRecompute() {
+        assertThatThrownBy(() -> payrollServices.recomputeStale(YEAR, MONTH, employees[1].getId()))
+                .hasMessageContaining("Yetki hatası");
+        assertThatThrownBy(() -> payrollServices.recomputeStale(null, MONTH, hr.getId()))
+                .hasMessageContaining("year zorunlu");
+    }
+
+    private static DtoPayrollGenerateRequest params(Long employeeId) {
+        DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+        req.setEmployeeId(employeeId);
+        req.setYear(YEAR);
+        req.setMonth(MONTH);
+        req.setStandardMonthlyHours(30);
+        req.setBaseSalary(new BigDecimal("42000"));
+        req.setBonus(new BigDecimal("750.50"));
+        req.setExtraDeduction(new BigDecimal("120"));
+        return req;
+    }
+
+    private static DtoAttandance record(Long employeeId, LocalDate date, LocalTime in, LocalTime out) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setEmployeeId(employeeId);
+        dto.setDate(date);
+        dto.setCheckInTime(in);
+        dto.setCheckOutTime(out);
+        return dto;
+    }
+
+    private static Employees newEmployee(int i, Employees.Role role) {
+        return TestFixtures.employee(64000000000L, i, "yeniden",
+                role == Employees.Role.HR ? "İnsan Kaynakları" : "Yazılım", role);
+    }
+}
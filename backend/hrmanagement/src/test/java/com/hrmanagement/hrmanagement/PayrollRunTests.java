@@ -0,0 +1,183 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrmanagement.dto.DtoPayroll;
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.dto.DtoPayrollRun;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.entities.Payroll;
+import com.hrmanagement.entities.PayrollRun;
+import com.hrmanagement.entities.PayrollRunChunk;
+import com.hrmanagement.repository.AttendanceMonthlySummaryRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.repository.PayrolRepository;
+import com.hrmanagement.repository.PayrollRunChunkRepository;
+import com.hrmanagement.repository.PayrollRunRepository;
+import com.hrmanagement.services.IPayrollRunServices;
+import com.hrmanagement.services.IPayrollServices;
+
+/**
+ * Toplu bordro çalıştırmasının tekil bordro ile aynı sonucu ürettiğini ve
+ * yarıda kalan bir çalıştırmanın sadece bitmemiş parçaları yeniden işlediğini doğrular.
+ */
+@SpringBootTest
+class PayrollRunTests {
+
+    private static final int EMPLOYEE_COUNT = 30;
+    private static final int YEAR = 2025;
+    private static final int MONTH = 2;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IPayrollRunServices payrollRunServices;
+
+    @Autowired
+    private IPayrollServices payrollServices;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private PayrolRepository payrolRepository;
+
+    @Autowired
+    private PayrollRunRepository runRepository;
+
+    @Autowired
+    private PayrollRunChunkRepository chunkRepository;
+
+    @Autowired
+    private AttendanceMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Employees hr;
+
+    @BeforeEach
+    void setUp() {
+        hr = employeesRepository.save(newEmployee(0, "İnsan Kaynakları", Employees.Role.HR));
+        for (int i = 1; i < EMPLOYEE_COUNT; i++) {
+            Employees employee = employeesRepository.save(newEmployee(i, "Yazılım", Employees.Role.EMPLOYEE));
+            AttendanceMonthlySummary summary = new AttendanceMonthlySummary();
+            summary.setEmployeeId(employee.getId());
+            summary.setYear(YEAR);
+            summary.setMonth(MONTH);
+            summary.setTotalHours(new BigDecimal("150").add(BigDecimal.valueOf(i * 1.37)));
+            summary.setWorkedSeconds(150 * 3600L + 4_932L * i);
+            summary.setDaysPresent(20);
+            summaryRepository.save(summary);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void runMatchesSingleEmployeePayroll() throws Exception {
+        DtoPayrollRun run = payrollRunServices.startRun(params(), hr.getId());
+        run = awaitFinished(run.getId());
+
+        assertThat(run.getStatus()).isEqualTo("COMPLETED");
+        assertThat(run.getChunkCount()).isEqualTo(5);
+        assertThat(run.getCompletedChunks()).isEqualTo(5);
+        assertThat(run.getProcessedEmployees()).isEqualTo(EMPLOYEE_COUNT);
+
+        List<Payroll> payrolls = payrolRepository.findAllByYearAndMonth(YEAR, MONTH);
+        assertThat(payrolls).hasSize(EMPLOYEE_COUNT);
+        for (Payroll fromRun : payrolls) {
+            DtoPayrollGenerateRequest req = params();
+            req.setEmployeeId(fromRun.getEmployee().getId());
+            DtoPayroll single = payrollServices.generatePayroll(req);
+            assertThat(single.getId()).isEqualTo(fromRun.getId());
+            assertThat(single.getTotalWorkHours()).isEqualByComparingTo(fromRun.getTotalWorkHours());
+            assertThat(single.getOvertimePay()).isEqualByComparingTo(fromRun.getOvertimePay());
+            assertThat(single.getGrossSalary()).isEqualByComparingTo(fromRun.getGrossSalary());
+            assertThat(single.getNetSalary()).isEqualByComparingTo(fromRun.getNetSalary());
+        }
+    }
+
+    @Test
+    void resumeOnlyReprocessesUnfinishedChunks() throws Exception {
+        DtoPayrollRun run = payrollRunServices.startRun(params(), hr.getId());
+        Long runId = awaitFinished(run.getId()).getId();
+
+        // Çökme benzetimi: 2 numaralı parça commit edilmemiş, çalıştırma RUNNING'de kalmış
+        PayrollRunChunk lost = chunkRepository.findByRunIdAndStatusOrderByChunkIndex(runId, PayrollRunChunk.Status.DONE).get(2);
+        Map<Long, LocalDateTime> finishedBefore = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (PayrollRunChunk chunk : chunkRepository.findAll()) {
+                finishedBefore.put(chunk.getId(), chunk.getFinishedAt());
+            }
+            for (Payroll p : payrolRepository.findAllByYearAndMonth(YEAR, MONTH)) {
+                Long employeeId = p.getEmployee().getId();
+                if (employeeId >= lost.getFirstEmployeeId() && employeeId <= lost.getLastEmployeeId()) {
+                    payrolRepository.delete(p);
+                }
+            }
+            PayrollRunChunk chunk = chunkRepository.findById(lost.getId()).orElseThrow();
+            chunk.setStatus(PayrollRunChunk.Status.PENDING);
+            chunk.setProcessedCount(0);
+            runRepository.findById(runId).orElseThrow().setStatus(PayrollRun.Status.RUNNING);
+        });
+        assertThat(payrolRepository.findAllByYearAndMonth(YEAR, MONTH)).hasSize(EMPLOYEE_COUNT - 7);
+
+        payrollRunServices.resumeRun(runId, hr.getId());
+        DtoPayrollRun resumed = awaitFinished(runId);
+
+        assertThat(resumed.getStatus()).isEqualTo("COMPLETED");
+        assertThat(resumed.getProcessedEmployees()).isEqualTo(EMPLOYEE_COUNT);
+        assertThat(payrolRepository.findAllByYearAndMonth(YEAR, MONTH)).hasSize(EMPLOYEE_COUNT);
+        for (PayrollRunChunk chunk : chunkRepository.findAll()) {
+            if (chunk.getId().equals(lost.getId())) {
+                assertThat(chunk.getFinishedAt()).isNotNull();
+            } else {
+                assertThat(chunk.getFinishedAt()).isEqualTo(finishedBefore.get(chunk.getId()));
+            }
+        }
+    }
+
+    private DtoPayrollRun awaitFinished(Long runId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        DtoPayrollRun run = payrollRunServices.getRun(runId);
+        while (run.isActive() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            run = payrollRunServices.getRun(runId);
+        }
+        assertThat(run.isActive()).isFalse();
+        return run;
+    }
+
+    private static DtoPayrollGenerateRequest params() {
+        DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+        req.setYear(YEAR);
+        req.setMonth(MONTH);
+        req.setBaseSalary(new BigDecimal("42000"));
+        req.setBonus(new BigDecimal("750.50"));
+        req.setExtraDeduction(new BigDecimal("120"));
+        return req;
+    }
+
+    private static Employees newEmployee(int i, String department, Employees.Role role) {
+        return TestFixtures.employee(30000000000L, i, "bordro", department, role);
+    }
+}
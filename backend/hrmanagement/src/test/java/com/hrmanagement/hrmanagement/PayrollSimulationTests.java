@@ -0,0 +1,244 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.dto.DtoPayroll;
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.dto.DtoPayrollSimulation;
+import com.hrmanagement.dto.DtoPayrollSimulationEmployee;
+import com.hrmanagement.dto.DtoPayrollSimulationRequest;
+import com.hrmanagement.dto.DtoPayrollSimulationScenario;
+import com.hrmanagement.entities.AttendanceMonthlySummary;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttendanceMonthlySummaryRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.repository.PayrolRepository;
+import com.hrmanagement.services.IAttandanceServices;
+import com.hrmanagement.services.IPayrollServices;
+import com.hrmanagement.services.IPayrollSimulationServices;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Bordro simülasyonunun hiçbir şey yazmadığını, taban senaryonun tekil bordro ile aynı tutarları
+ * verdiğini, farkların tutarlı olduğunu ve devam kaydı değişince girdilerin yenilendiğini doğrular.
+ */
+@SpringBootTest
+class PayrollSimulationTests {
+
+    private static final int EMPLOYEE_COUNT = 15;
+    private static final int YEAR = 2025;
+    private static final int MONTH = 2;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IPayrollSimulationServices simulationServices;
+
+    @Autowired
+    private IPayrollServices payrollServices;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private PayrolRepository payrolRepository;
+
+    @Autowired
+    private AttendanceMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Employees hr;
+
+    @BeforeEach
+    void setUp() {
+        hr = employeesRepository.save(newEmployee(0, Employees.Role.HR));
+        for (int i = 1; i < EMPLOYEE_COUNT; i++) {
+            Employees employee = employeesRepository.save(newEmployee(i, Employees.Role.EMPLOYEE));
+            AttendanceMonthlySummary summary = new AttendanceMonthlySummary();
+            summary.setEmployeeId(employee.getId());
+            summary.setYear(YEAR);
+            summary.setMonth(MONTH);
+            summary.setTotalHours(new BigDecimal("150").add(new BigDecimal("2.75").multiply(BigDecimal.valueOf(i))));
+            summary.setWorkedSeconds(150 * 3600L + 9_900L * i);
+            summary.setDaysPresent(20);
+            summaryRepository.save(summary);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void baselineMatchesGeneratedPayrollsWithoutWriting() {
+        DtoPayrollSimulation result = simulationServices.simulate(request(true, params()), hr.getId());
+        assertThat(payrolRepository.count()).isZero();
+        assertThat(result.getEmployeeCount()).isEqualTo(EMPLOYEE_COUNT);
+
+        BigDecimal gross = BigDecimal.ZERO;
+        BigDecimal net = BigDecimal.ZERO;
+        for (DtoPayrollSimulationEmployee employee : result.getEmployees()) {
+            DtoPayrollGenerateRequest req = params();
+            req.setEmployeeId(employee.getEmployeeId());
+            DtoPayroll payroll = payrollServices.generatePayroll(req);
+            assertThat(employee.getTotalWorkHours()).isEqualByComparingTo(payroll.getTotalWorkHours());
+            assertThat(employee.getBaselineGross()).isEqualByComparingTo(payroll.getGrossSalary());
+            assertThat(employee.getBaselineNet()).isEqualByComparingTo(payroll.getNetSalary());
+            gross = gross.add(payroll.getGrossSalary());
+            net = net.add(payroll.getNetSalary());
+        }
+        DtoPayrollSimulationScenario baseline = result.getScenarios().get(0);
+        assertThat(baseline.getTotalGross()).isEqualByComparingTo(gross);
+        assertThat(baseline.getTotalNet()).isEqualByComparingTo(net);
+        assertThat(baseline.getNetDelta()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void deltasAreRelativeToBaseline() {
+        DtoPayrollGenerateRequest higherOvertime = params();
+        higherOvertime.setOvertimeMultiplier(new BigDecimal("2"));
+        DtoPayrollGenerateRequest longerMonth = params();
+        longerMonth.setStandardMonthlyHours(170);
+        longerMonth.setIncomeTaxRate(new BigDecimal("0.2"));
+
+        DtoPayrollSimulation result = simulationServices.simulate(
+                request(true, params(), higherOvertime, longerMonth), hr.getId());
+
+        assertThat(result.getScenarios()).hasSize(3);
+        DtoPayrollSimulationScenario baseline = result.getScenarios().get(0);
+        DtoPayrollSimulationScenario overtime = result.getScenarios().get(1);
+        assertThat(overtime.getOvertimePayDelta()).isPositive();
+        assertThat(overtime.getGrossDelta()).isEqualByComparingTo(overtime.getOvertimePayDelta());
+        assertThat(overtime.getTotalGross()).isEqualByComparingTo(baseline.getTotalGross().add(overtime.getGrossDelta()));
+        assertThat(result.getScenarios().get(2).getNetDelta()).isNegative();
+
+        for (int s = 0; s < 3; s++) {
+            BigDecimal netDeltas = BigDecimal.ZERO;
+            for (DtoPayrollSimulationEmployee employee : result.getEmployees()) {
+                netDeltas = netDeltas.add(employee.getNetDeltas().get(s));
+            }
+            assertThat(netDeltas).isEqualByComparingTo(result.getScenarios().get(s).getNetDelta());
+        }
+
+        DtoPayrollSimulation totalsOnly = simulationServices.simulate(
+                request(false, params(), higherOvertime, longerMonth), hr.getId());
+        assertThat(totalsOnly.getEmployees()).isEmpty();
+        assertThat(totalsOnly.getScenarios().get(2).getTotalNet()).isEqualByComparingTo(result.getScenarios().get(2).getTotalNet());
+    }
+
+    @Test
+    void attendanceChangeRefreshesCachedInputs() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        statistics.clear();
+        BigDecimal before = simulationServices.simulate(request(false, params()), hr.getId())
+                .getScenarios().get(0).getTotalGross();
+        long firstStatements = statistics.getPrepareStatementCount();
+
+        // Değişiklik yoksa girdiler yeniden okunmaz; sadece iki parmak izi sorgusu çalışır
+        statistics.clear();
+        simulationServices.simulate(request(false, params()), hr.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(firstStatements).isGreaterThan(2);
+
+        Long employeeId = employeesRepository.findIdsByStatus(Employees.Status.APPROVED).get(1);
+        DtoAttandance record = new DtoAttandance();
+        record.setEmployeeId(employeeId);
+        record.setDate(LocalDate.of(YEAR, MONTH, 20));
+        record.setCheckInTime(LocalTime.of(9, 0));
+        record.setCheckOutTime(LocalTime.of(17, 0));
+        attandanceServices.saveRecord(record);
+
+        BigDecimal after = simulationServices.simulate(request(false, params()), hr.getId())
+                .getScenarios().get(0).getTotalGross();
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void writesFromAnotherNodeAndOddSecondsMatchGeneratedPayroll() {
+        simulationServices.simulate(request(false, params()), hr.getId());
+
+        // Başka düğümün yazması: bu düğümde olay ya da önbellek geçersiz kılma yok.
+        // Süre saatin yüzde birine denk gelmiyor: 170 sa 7 dk 23 sn
+        Long employeeId = employeesRepository.findIdsByStatus(Employees.Status.APPROVED).get(3);
+        jdbcTemplate.update("update attendance_monthly_summary set total_hours = 170.12305556, worked_seconds = 612443, "
+                + "revision = revision + 1 "
+                + "where employee_id = ? and year = ? and month = ?", employeeId, YEAR, MONTH);
+
+        DtoPayrollSimulationEmployee simulated = simulationServices.simulate(request(true, params()), hr.getId())
+                .getEmployees().stream().filter(e -> employeeId.equals(e.getEmployeeId())).findFirst().orElseThrow();
+        DtoPayrollGenerateRequest req = params();
+        req.setEmployeeId(employeeId);
+        DtoPayroll payroll = payrollServices.generatePayroll(req);
+
+        assertThat(simulated.getTotalWorkHours()).isEqualByComparingTo("170.12");
+        assertThat(simulated.getBaselineGross()).isEqualByComparingTo(payroll.getGrossSalary());
+        assertThat(simulated.getBaselineNet()).isEqualByComparingTo(payroll.getNetSalary());
+    }
+
+    @Test
+    void invalidRequestsAreRejected() {
+        DtoPayrollGenerateRequest badTax = params();
+        badTax.setIncomeTaxRate(new BigDecimal("1.5"));
+        assertThatThrownBy(() -> simulationServices.simulate(request(false, params(), badTax), hr.getId()))
+                .hasMessageContaining("Senaryo #1");
+        assertThatThrownBy(() -> simulationServices.simulate(request(false), hr.getId()))
+                .hasMessageContaining("En az bir senaryo");
+
+        Long employeeId = employeesRepository.findIdsByStatus(Employees.Status.APPROVED).get(1);
+        assertThatThrownBy(() -> simulationServices.simulate(request(false, params()), employeeId))
+                .hasMessageContaining("Yetki hatası");
+    }
+
+    private static DtoPayrollSimulationRequest request(boolean includeEmployees, DtoPayrollGenerateRequest... scenarios) {
+        DtoPayrollSimulationRequest req = new DtoPayrollSimulationRequest();
+        req.setYear(YEAR);
+        req.setMonth(MONTH);
+        req.setIncludeEmployees(includeEmployees);
+        req.setScenarios(List.of(scenarios));
+        return req;
+    }
+
+    private static DtoPayrollGenerateRequest params() {
+        DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+        req.setYear(YEAR);
+        req.setMonth(MONTH);
+        req.setBaseSalary(new BigDecimal("42000"));
+        req.setBonus(new BigDecimal("750.50"));
+        req.setExtraDeduction(new BigDecimal("120"));
+        return req;
+    }
+
+    private static Employees newEmployee(int i, Employees.Role role) {
+        return TestFixtures.employee(65000000000L, i, "simulasyon",
+                role == Employees.Role.HR ? "İnsan Kaynakları" : "Yazılım", role);
+    }
+}
@@ -0,0 +1,171 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hrmanagement.dto.DtoPayrollGenerateRequest;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.ExportLimiter;
+import com.hrmanagement.services.IPayrollServices;
+
+/**
+ * Dönem pusulası zip'inin çalışan sırasıyla, paralel üretime rağmen her seferinde aynı
+ * baytlarla yazıldığını ve içeriklerin doğru kaçışlandığını doğrular.
+ */
+@SpringBootTest
+class PayslipExportTests {
+
+    private static final int YEAR = 2024;
+    private static final int MONTH = 5;
+    private static final int EMPLOYEES = 11;
+    private static final String FOLDER = "payslips-2024-05/";
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IPayrollServices payrollServices;
+
+    @Autowired
+    private ExportLimiter exportLimiter;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    private final List<Employees> employees = new ArrayList<>();
+    private Employees hr;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= EMPLOYEES; i++) {
+            Employees employee = newEmployee(i, Employees.Role.EMPLOYEE);
+            if (i == 3) {
+                employee.setLastname("<Soyad> & \"Kaçış\", Test");
+            }
+            employees.add(employeesRepository.save(employee));
+        }
+        hr = employeesRepository.save(newEmployee(EMPLOYEES + 1, Employees.Role.HR));
+
+        for (Employees employee : employees) {
+            generate(employee, MONTH);
+        }
+        // Başka dönemin bordrosu zip'e girmez
+        generate(employees.get(0), MONTH - 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void exportsPayslipsInEmployeeOrderDeterministically() throws IOException {
+        byte[] first = export();
+        byte[] second = export();
+        assertThat(second).isEqualTo(first);
+
+        Map<String, String> entries = unzip(first);
+        List<String> expectedNames = new ArrayList<>();
+        expectedNames.add(FOLDER + "payslips.csv");
+        for (Employees employee : employees) {
+            expectedNames.add(FOLDER + employee.getId() + ".csv");
+            expectedNames.add(FOLDER + employee.getId() + ".html");
+        }
+        assertThat(entries.keySet()).containsExactlyElementsOf(expectedNames);
+
+        String[] index = entries.get(FOLDER + "payslips.csv").split("\n");
+        assertThat(index).hasSize(EMPLOYEES + 1);
+        assertThat(index[0]).isEqualTo("employeeId,employeeName,department,position,grossSalary,deductions,netSalary");
+        assertThat(index[1]).isEqualTo(employees.get(0).getId() + ",Ad1 Soyad1,Yazılım,Uzman,42000.00,6400.00,35600.00");
+        assertThat(index[3]).startsWith(employees.get(2).getId() + ",\"Ad3 <Soyad> & \"\"Kaçış\"\", Test\",");
+
+        String csv = entries.get(FOLDER + employees.get(0).getId() + ".csv");
+        assertThat(csv).startsWith("field,value\n")
+                .contains("period,2024-05\n", "incomeTaxRate,0.15", "extraDeduction,100.",
+                        "grossSalary,42000.00\n", "deductions,6400.00\n", "netSalary,35600.00\n");
+
+        String html = entries.get(FOLDER + employees.get(0).getId() + ".html");
+        assertThat(html).contains("Dönem: 05/2024", "Gelir vergisi (%15)", "6.300,00 TL", "Ek kesinti",
+                "100,00 TL", "35.600,00 TL");
+
+        String escaped = entries.get(FOLDER + employees.get(2).getId() + ".html");
+        assertThat(escaped).contains("Ad3 &lt;Soyad&gt; &amp; &quot;Kaçış&quot;, Test").doesNotContain("<Soyad>");
+    }
+
+    @Test
+    void exportSharesTheConcurrencyLimitWithAttendanceExports() throws IOException {
+        exportLimiter.acquire();
+        exportLimiter.acquire();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertThatThrownBy(() -> payrollServices.exportPayslips(YEAR, MONTH, hr.getId()).writeTo(out))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(out.size()).isZero();
+        } finally {
+            exportLimiter.release();
+            exportLimiter.release();
+        }
+        assertThat(unzip(export())).hasSize(2 * EMPLOYEES + 1);
+    }
+
+    @Test
+    void onlyHrCanExport() {
+        assertThatThrownBy(() -> payrollServices.exportPayslips(YEAR, MONTH, employees.get(0).getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Yetki hatası");
+        assertThatThrownBy(() -> payrollServices.exportPayslips(YEAR, 13, hr.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] export() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        payrollServices.exportPayslips(YEAR, MONTH, hr.getId()).writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static Map<String, String> unzip(byte[] zip) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private void generate(Employees employee, int month) {
+        DtoPayrollGenerateRequest req = new DtoPayrollGenerateRequest();
+        req.setEmployeeId(employee.getId());
+        req.setYear(YEAR);
+        req.setMonth(month);
+        req.setBaseSalary(new BigDecimal("42000"));
+        req.setIncomeTaxRate(new BigDecimal("0.15"));
+        req.setExtraDeduction(new BigDecimal("100"));
+        payrollServices.generatePayroll(req);
+    }
+
+    private static Employees newEmployee(int i, Employees.Role role) {
+        return TestFixtures.employee(67000000000L, i, "pusula", "Yazılım", role);
+    }
+}
@@ -0,0 +1,181 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hrmanagement.dto.DtoAttandanceEvent;
+import com.hrmanagement.dto.DtoAttandanceEventResult;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IAttandanceServices;
+import com.hrmanagement.services.QrCodeChannel;
+import com.hrmanagement.services.QrRefreshScheduler;
+
+/**
+ * QR kodu yenilendiğinde yeni kodun commit sonrası sadece o çalışanın açık
+ * oturumlarına itildiğini doğrular.
+ */
+@SpringBootTest
+class QrCodeChannelTests {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private QrCodeChannel qrCodeChannel;
+
+    @Autowired
+    private QrRefreshScheduler qrRefreshScheduler;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    private Employees alice;
+    private Employees bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = employeesRepository.save(newEmployee("Alice", "50000000001", "QR-ALICE01"));
+        bob = employeesRepository.save(newEmployee("Bob", "50000000002", "QR-BOB0001"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void qrCheckInPushesNewCodeOnlyToThatEmployee() throws Exception {
+        CapturingEmitter aliceSession = new CapturingEmitter();
+        CapturingEmitter bobSession = new CapturingEmitter();
+        qrCodeChannel.register(alice.getId(), aliceSession, alice.getQrCode());
+        qrCodeChannel.register(bob.getId(), bobSession, bob.getQrCode());
+        assertThat(aliceSession.await(1)).containsExactly(QrCodeChannel.SNAPSHOT + ":QR-ALICE01");
+
+        String newCode = attandanceServices.checkInByQr("QR-ALICE01").getNewQrCode();
+
+        assertThat(aliceSession.await(2).get(1)).isEqualTo(QrCodeChannel.ROTATED + ":" + newCode);
+        assertThat(employeesRepository.findById(alice.getId()).orElseThrow().getQrCode()).isEqualTo(newCode);
+        Thread.sleep(100);
+        assertThat(bobSession.await(1)).containsExactly(QrCodeChannel.SNAPSHOT + ":QR-BOB0001");
+    }
+
+    @Test
+    void bulkQrEventsPushEachRotatedCode() throws Exception {
+        CapturingEmitter aliceSession = new CapturingEmitter();
+        CapturingEmitter bobSession = new CapturingEmitter();
+        qrCodeChannel.register(alice.getId(), aliceSession, alice.getQrCode());
+        qrCodeChannel.register(bob.getId(), bobSession, bob.getQrCode());
+
+        List<DtoAttandanceEventResult> results = attandanceServices.processBulk(List.of(
+                qrEvent("QR-ALICE01"), qrEvent("QR-BOB0001"), qrEvent("QR-YOK0001")));
+
+        assertThat(results).extracting(DtoAttandanceEventResult::isSuccess).containsExactly(true, true, false);
+        String aliceCode = results.get(0).getRecord().getNewQrCode();
+        String bobCode = results.get(1).getRecord().getNewQrCode();
+        assertThat(aliceSession.await(2).get(1)).isEqualTo(QrCodeChannel.ROTATED + ":" + aliceCode);
+        assertThat(bobSession.await(2).get(1)).isEqualTo(QrCodeChannel.ROTATED + ":" + bobCode);
+        assertThat(employeesRepository.findById(alice.getId()).orElseThrow().getQrCode()).isEqualTo(aliceCode);
+    }
+
+    @Test
+    void scheduledRefreshPushesEachConnectedEmployeesCode() throws Exception {
+        CapturingEmitter aliceSession = new CapturingEmitter();
+        CapturingEmitter aliceSecondTab = new CapturingEmitter();
+        qrCodeChannel.register(alice.getId(), aliceSession, alice.getQrCode());
+        qrCodeChannel.register(alice.getId(), aliceSecondTab, alice.getQrCode());
+
+        qrRefreshScheduler.refreshAllQrCodes();
+
+        String stored = employeesRepository.findById(alice.getId()).orElseThrow().getQrCode();
+        assertThat(stored).isNotEqualTo("QR-ALICE01");
+        assertThat(aliceSession.await(2).get(1)).isEqualTo(QrCodeChannel.ROTATED + ":" + stored);
+        assertThat(aliceSecondTab.await(2).get(1)).isEqualTo(QrCodeChannel.ROTATED + ":" + stored);
+    }
+
+    @Test
+    void pollPushesCodesRotatedOnAnotherNodeOnce() throws Exception {
+        CapturingEmitter aliceSession = new CapturingEmitter();
+        CapturingEmitter bobSession = new CapturingEmitter();
+        qrCodeChannel.register(alice.getId(), aliceSession, alice.getQrCode());
+        qrCodeChannel.register(bob.getId(), bobSession, bob.getQrCode());
+
+        // Başka düğümün yenilemesi: kod değişti ama bu düğümde olay yayınlanmadı
+        Employees rotated = employeesRepository.findById(alice.getId()).orElseThrow();
+        rotated.setQrCode("QR-ALICE02");
+        employeesRepository.save(rotated);
+
+        qrCodeChannel.pollStoredCodes();
+        qrCodeChannel.pollStoredCodes();
+
+        assertThat(aliceSession.await(2)).containsExactly(
+                QrCodeChannel.SNAPSHOT + ":QR-ALICE01", QrCodeChannel.ROTATED + ":QR-ALICE02");
+        Thread.sleep(100);
+        assertThat(aliceSession.await(2)).hasSize(2);
+        assertThat(bobSession.await(1)).containsExactly(QrCodeChannel.SNAPSHOT + ":QR-BOB0001");
+    }
+
+    private static DtoAttandanceEvent qrEvent(String qrCode) {
+        DtoAttandanceEvent event = new DtoAttandanceEvent();
+        event.setQrCode(qrCode);
+        event.setType(DtoAttandanceEvent.Type.CHECK_IN);
+        return event;
+    }
+
+    private static Employees newEmployee(String name, String tcNo, String qrCode) {
+        Employees employee = TestFixtures.employee(Long.parseLong(tcNo), 0, name.toLowerCase());
+        employee.setFirstname(name);
+        employee.setLastname("Test");
+        employee.setQrCode(qrCode);
+        return employee;
+    }
+
+    /** Gönderilen olayları "ad:kod" olarak yakalar. */
+    static final class CapturingEmitter extends SseEmitter {
+
+        private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String name = null;
+            Object data = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    for (String line : text.split("\n")) {
+                        if (line.startsWith("event:")) name = line.substring(6);
+                    }
+                } else {
+                    data = part.getData();
+                }
+            }
+            sent.add(name + ":" + ((Map<?, ?>) data).get("qrCode"));
+        }
+
+        List<String> await(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            synchronized (sent) {
+                assertThat(sent).hasSizeGreaterThanOrEqualTo(count);
+                return new ArrayList<>(sent);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import com.hrmanagement.services.QrCodeService;
+import com.hrmanagement.services.QrMode;
+
+/**
+ * Zaman tabanlı QR kodlarının imza, pencere ve kayma payı kurallarını doğrular.
+ */
+class QrCodeServiceTests {
+
+    private static final long WINDOW_SECONDS = 180;
+
+    // Pencerenin ortası: ±yarım pencere kayma pencere sınırını geçmez
+    private static final Clock START = Clock.fixed(Instant.ofEpochSecond(1_000_000 * WINDOW_SECONDS + 90), ZoneOffset.UTC);
+
+    @Test
+    void validCodeResolvesToItsEmployee() {
+        QrCodeService service = totp("anahtar", START);
+        String code = service.currentCode(42L);
+
+        assertThat(code).startsWith("QR-42-");
+        assertThat(service.resolveEmployeeId(code)).contains(42L);
+        // Aynı pencerede aynı kod
+        assertThat(totp("anahtar", Clock.offset(START, Duration.ofSeconds(80))).currentCode(42L)).isEqualTo(code);
+    }
+
+    @Test
+    void tamperedSignatureOrForeignKeyIsRejected() {
+        QrCodeService service = totp("anahtar", START);
+        String code = service.currentCode(42L);
+        char last = code.charAt(code.length() - 1);
+        String tampered = code.substring(0, code.length() - 1) + (last == '0' ? '1' : '0');
+
+        assertThat(service.resolveEmployeeId(tampered)).isEmpty();
+        assertThat(service.resolveEmployeeId(code.toLowerCase())).isEmpty();
+        assertThat(service.resolveEmployeeId("QR-42")).isEmpty();
+        assertThat(service.resolveEmployeeId("QR-abc-" + code.substring(6))).isEmpty();
+        assertThat(totp("baska-anahtar", START).resolveEmployeeId(code)).isEmpty();
+    }
+
+    @Test
+    void signatureIsBoundToEmployeeId() {
+        QrCodeService service = totp("anahtar", START);
+        String signature = service.currentCode(42L).substring("QR-42-".length());
+
+        assertThat(service.resolveEmployeeId("QR-43-" + signature)).isEmpty();
+        assertThat(service.resolveEmployeeId("QR-042-" + signature)).isEmpty();
+    }
+
+    @Test
+    void codeIsAcceptedWithinSkewAndRejectedAfterwards() {
+        String code = totp("anahtar", START).currentCode(42L);
+        Duration window = Duration.ofSeconds(WINDOW_SECONDS);
+
+        // Bir sonraki ve bir önceki pencere (saat kayması) kabul edilir
+        assertThat(totp("anahtar", Clock.offset(START, window)).resolveEmployeeId(code)).contains(42L);
+        assertThat(totp("anahtar", Clock.offset(START, window.negated())).resolveEmployeeId(code)).contains(42L);
+        // İki pencere sonra süresi dolmuştur
+        assertThat(totp("anahtar", Clock.offset(START, window.multipliedBy(2))).resolveEmployeeId(code)).isEmpty();
+        // Kayma payı 0 ise sadece kendi penceresi
+        QrCodeService strict = new QrCodeService("totp", "anahtar", WINDOW_SECONDS, 0, Clock.offset(START, window));
+        assertThat(strict.resolveEmployeeId(code)).isEmpty();
+    }
+
+    @Test
+    void timeBasedModeRequiresSecretAndStoredModeResolvesNothing() {
+        assertThatThrownBy(() -> new QrCodeService("totp", "", WINDOW_SECONDS, 1, START))
+                .isInstanceOf(IllegalStateException.class);
+
+        QrCodeService stored = new QrCodeService("stored", "", WINDOW_SECONDS, 1, START);
+        assertThat(stored.isTimeBased()).isFalse();
+        assertThat(stored.resolveEmployeeId(totp("anahtar", START).currentCode(42L))).isEmpty();
+        assertThat(stored.generateStoredCode()).matches("QR-[0-9A-F]{8}");
+    }
+
+    @Test
+    void modeIsCaseInsensitiveAndUnknownModeFailsStartup() {
+        assertThat(QrMode.of(" TOTP ")).isEqualTo(QrMode.TOTP);
+        assertThat(QrMode.of("Stored")).isEqualTo(QrMode.STORED);
+        assertThat(QrMode.of((String) null)).isEqualTo(QrMode.STORED);
+        assertThat(new QrCodeService("TOTP", "anahtar", WINDOW_SECONDS, 1, START).isTimeBased()).isTrue();
+        assertThatThrownBy(() -> QrMode.of("totb")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void refreshSchedulerConditionUsesTheSameMode() {
+        ApplicationContextRunner runner = new ApplicationContextRunner().withUserConfiguration(StoredOnly.class);
+        runner.run(context -> assertThat(context).hasSingleBean(StoredOnly.class));
+        runner.withPropertyValues("hr.qr.mode=Stored").run(context -> assertThat(context).hasSingleBean(StoredOnly.class));
+        runner.withPropertyValues("hr.qr.mode=TOTP").run(context -> assertThat(context).doesNotHaveBean(StoredOnly.class));
+    }
+
+    @Configuration
+    @Conditional(QrMode.StoredCondition.class)
+    static class StoredOnly {
+    }
+
+    private static QrCodeService totp(String secret, Clock clock) {
+        return new QrCodeService("totp", secret, WINDOW_SECONDS, 1, clock);
+    }
+}
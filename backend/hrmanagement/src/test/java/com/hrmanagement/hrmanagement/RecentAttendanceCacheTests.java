@@ -0,0 +1,103 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.services.AttendanceChangedEvent;
+import com.hrmanagement.services.RecentAttendanceCache;
+
+/**
+ * Son kayıtlar önbelleğinin olaylarla güncellenmesini, ttl sonrası yeniden yükletmesini
+ * ve çalışan sınırını doğrular.
+ */
+class RecentAttendanceCacheTests {
+
+    private static final long EMPLOYEE = 7L;
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-07-01T10:00:00Z"));
+    private final RecentAttendanceCache cache = new RecentAttendanceCache(3, 2, 60, clock);
+
+    @Test
+    void eventsPublishNewListsWithoutTouchingEarlierReads() {
+        cache.put(EMPLOYEE, cache.stamp(EMPLOYEE), List.of(record(3, DAY.minusDays(1)), record(2, DAY.minusDays(2))));
+        List<DtoAttandance> before = cache.get(EMPLOYEE, 3);
+
+        cache.onAttendanceChanged(AttendanceChangedEvent.saved(record(4, DAY), null));
+        DtoAttandance checkedOut = record(4, DAY);
+        checkedOut.setCheckOutTime(LocalTime.of(17, 0));
+        cache.onAttendanceChanged(AttendanceChangedEvent.saved(checkedOut, record(4, DAY)));
+
+        assertThat(before).extracting(DtoAttandance::getId).containsExactly(3L, 2L);
+        List<DtoAttandance> after = cache.get(EMPLOYEE, 3);
+        assertThat(after).extracting(DtoAttandance::getId).containsExactly(4L, 3L, 2L);
+        assertThat(after.get(0).getCheckOutTime()).isEqualTo(LocalTime.of(17, 0));
+
+        // Liste dolu: yeni kayıt başa girer, en eskisi düşer
+        cache.onAttendanceChanged(AttendanceChangedEvent.saved(record(5, DAY.plusDays(1)), null));
+        assertThat(cache.get(EMPLOYEE, 3)).extracting(DtoAttandance::getId).containsExactly(5L, 4L, 3L);
+
+        // Listedeki kaydın silinmesi girdiyi düşürür
+        cache.onAttendanceChanged(AttendanceChangedEvent.deleted(record(4, DAY)));
+        assertThat(cache.get(EMPLOYEE, 3)).isNull();
+    }
+
+    @Test
+    void entryExpiresAfterTtlEvenIfEventsKeepArriving() {
+        cache.put(EMPLOYEE, cache.stamp(EMPLOYEE), List.of(record(1, DAY)));
+
+        clock.advance(Duration.ofSeconds(59));
+        cache.onAttendanceChanged(AttendanceChangedEvent.saved(record(2, DAY.plusDays(1)), null));
+        assertThat(cache.get(EMPLOYEE, 3)).extracting(DtoAttandance::getId).containsExactly(2L, 1L);
+
+        // Başka düğümün yazmaları olay getirmez: ttl dolunca okuma yeniden yüklemeli
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(EMPLOYEE, 3)).isNull();
+        assertThat(cache.stats()).containsEntry("expirations", 1L);
+
+        cache.put(EMPLOYEE, cache.stamp(EMPLOYEE), List.of(record(3, DAY.plusDays(2))));
+        assertThat(cache.get(EMPLOYEE, 3)).extracting(DtoAttandance::getId).containsExactly(3L);
+    }
+
+    @Test
+    void loadRacingAnEventIsDropped() {
+        long stamp = cache.stamp(EMPLOYEE);
+        cache.onAttendanceChanged(AttendanceChangedEvent.saved(record(2, DAY), null));
+        cache.put(EMPLOYEE, stamp, List.of(record(1, DAY.minusDays(1))));
+        assertThat(cache.get(EMPLOYEE, 3)).isNull();
+    }
+
+    @Test
+    void limitBeyondCapacityAndEmployeeBoundMiss() {
+        cache.put(1L, cache.stamp(1L), List.of(record(1, DAY)));
+        assertThat(cache.get(1L, 4)).isNull();
+
+        clock.advance(Duration.ofSeconds(1));
+        cache.put(2L, cache.stamp(2L), List.of(record(2, DAY)));
+        clock.advance(Duration.ofSeconds(1));
+        cache.put(3L, cache.stamp(3L), List.of(record(3, DAY)));
+
+        // Sınır 2: en eski yüklenen (1) çıkarılır
+        assertThat(cache.get(1L, 1)).isNull();
+        assertThat(cache.get(2L, 1)).hasSize(1);
+        assertThat(cache.get(3L, 1)).hasSize(1);
+        assertThat(cache.stats()).containsEntry("employees", 2);
+    }
+
+    private static DtoAttandance record(long id, LocalDate date) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setId(id);
+        dto.setEmployeeId(EMPLOYEE);
+        dto.setDate(date);
+        dto.setCheckInTime(LocalTime.of(9, 0));
+        return dto;
+    }
+}
@@ -0,0 +1,124 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hrmanagement.dto.DtoEmployees;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IAttandanceServices;
+import com.hrmanagement.services.IEmployeesServices;
+import com.hrmanagement.services.RequesterAuthorization;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Yetki kontrolünün önbellekten (ek sorgusuz) yapıldığını, çalışan güncellenince
+ * önbelleğin hemen geçersiz olduğunu ve TTL'in uygulandığını doğrular.
+ */
+@SpringBootTest
+class RequesterAuthorizationTests {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private RequesterAuthorization requesterAuthorization;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private IEmployeesServices employeesServices;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Employees hr;
+
+    @BeforeEach
+    void setUp() {
+        hr = employeesRepository.save(newEmployee(0, "İnsan Kaynakları", Employees.Role.EMPLOYEE));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void privilegedCallAfterFirstCostsNoRequesterQuery() {
+        // Olmayan kaydı silmek: yetki kontrolü + kayıt araması
+        attandanceServices.deleteRecord(-1L, hr.getId());
+        statistics.clear();
+        attandanceServices.deleteRecord(-1L, hr.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(requesterAuthorization.stats().get("hits")).isNotEqualTo(0L);
+    }
+
+    @Test
+    void departmentChangeIsSeenImmediately() {
+        attandanceServices.deleteRecord(-1L, hr.getId());
+
+        DtoEmployees update = employeesServices.getEmployeeById(hr.getId());
+        update.setDepartment("Yazılım");
+        update.setPassword(null);
+        employeesServices.updateEmployee(hr.getId(), update);
+
+        assertThatThrownBy(() -> attandanceServices.deleteRecord(-1L, hr.getId()))
+                .hasMessageContaining("Yetki hatası");
+    }
+
+    @Test
+    void deletedEmployeeLosesAccess() {
+        attandanceServices.deleteRecord(-1L, hr.getId());
+        employeesServices.deleteEmployee(hr.getId());
+
+        assertThatThrownBy(() -> attandanceServices.deleteRecord(-1L, hr.getId()))
+                .hasMessageContaining("Kullanıcı bulunamadı");
+    }
+
+    @Test
+    void requireHrThrowsTheCallersExceptionType() {
+        Employees developer = employeesRepository.save(newEmployee(1, "Yazılım", Employees.Role.EMPLOYEE));
+
+        assertThat(requesterAuthorization.requireHr(hr.getId(), "Yetki hatası: yasak").isHr()).isTrue();
+        assertThatThrownBy(() -> requesterAuthorization.requireHr(developer.getId(), "Yetki hatası: yasak"))
+                .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("Yetki hatası: yasak");
+        assertThatThrownBy(() -> requesterAuthorization.requireHr(null, "Yetki hatası: yasak"))
+                .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("Yetki hatası: requesterId gerekli");
+        assertThatThrownBy(() -> requesterAuthorization.requireHr(-1L, "Yetki hatası: yasak", RuntimeException::new))
+                .isExactlyInstanceOf(RuntimeException.class).hasMessage("Yetki hatası: Kullanıcı bulunamadı");
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        RequesterAuthorization noTtl = new RequesterAuthorization(employeesRepository, 0, 100);
+        noTtl.find(hr.getId());
+        statistics.clear();
+        assertThat(noTtl.find(hr.getId())).get().matches(RequesterAuthorization.Requester::isHr);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(noTtl.stats()).containsEntry("hits", 0L).containsEntry("expirations", 1L);
+    }
+
+    private static Employees newEmployee(int i, String department, Employees.Role role) {
+        return TestFixtures.employee(60000000000L, i, "yetki", department, role);
+    }
+}
@@ -0,0 +1,119 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hrmanagement.repository.SchedulerLockRepository;
+import com.hrmanagement.services.SchedulerLockService;
+
+/**
+ * Aynı veritabanını paylaşan birden fazla düğümün (ayrı SchedulerLockService örnekleri)
+ * bir işi sadece kira sahibinde çalıştırdığını ve sahibin düşmesinde devrin olduğunu doğrular.
+ */
+@SpringBootTest
+class SchedulerLockTests {
+
+    private static final String JOB = "test-job";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private SchedulerLockRepository lockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        lockRepository.deleteById(JOB);
+    }
+
+    @Test
+    void onlyLeaseHolderRuns() {
+        SchedulerLockService a = node("a");
+        SchedulerLockService b = node("b");
+
+        assertThat(a.tryAcquire(JOB, LEASE)).isTrue();
+        assertThat(b.tryAcquire(JOB, LEASE)).isFalse();
+        // Lider sonraki tetiklemelerde kirayı uzatır
+        assertThat(a.tryAcquire(JOB, LEASE)).isTrue();
+        assertThat(b.tryAcquire(JOB, LEASE)).isFalse();
+        assertThat(lockRepository.findById(JOB).orElseThrow().getLockedBy()).isEqualTo("a");
+    }
+
+    @Test
+    void expiredLeaseFailsOver() throws InterruptedException {
+        SchedulerLockService a = node("a");
+        SchedulerLockService b = node("b");
+
+        assertThat(a.tryAcquire(JOB, Duration.ofMillis(200))).isTrue();
+        assertThat(b.tryAcquire(JOB, LEASE)).isFalse();
+
+        // a uzatmadan düştü
+        Thread.sleep(300);
+        assertThat(b.tryAcquire(JOB, LEASE)).isTrue();
+        assertThat(a.tryAcquire(JOB, LEASE)).isFalse();
+    }
+
+    @Test
+    void releasedLeaseIsTakenImmediately() {
+        SchedulerLockService a = node("a");
+        SchedulerLockService b = node("b");
+
+        List<String> ran = new ArrayList<>();
+        assertThat(a.runLocked(JOB, LEASE, () -> {
+            ran.add("a");
+            assertThat(b.runLocked(JOB, LEASE, () -> ran.add("b"))).isFalse();
+        })).isTrue();
+        assertThat(b.runLocked(JOB, LEASE, () -> ran.add("b"))).isTrue();
+        assertThat(ran).containsExactly("a", "b");
+
+        a.tryAcquire(JOB, LEASE);
+        a.releaseAll();
+        assertThat(b.tryAcquire(JOB, LEASE)).isTrue();
+    }
+
+    @Test
+    void concurrentFirstAcquireHasSingleWinner() throws Exception {
+        int nodes = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < nodes; i++) {
+                SchedulerLockService node = node("node-" + i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return node.tryAcquire(JOB, LEASE);
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    winners++;
+                }
+            }
+            assertThat(winners).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SchedulerLockService node(String id) {
+        return new SchedulerLockService(lockRepository, transactionManager, id);
+    }
+}
@@ -0,0 +1,78 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.hrmanagement.HrmanagementApplication;
+
+/**
+ * Açılış süresi karşılaştırması: ddl-auto=update (her açılışta şema karşılaştırması) ile
+ * Flyway + ddl-auto=none (sadece migration geçmişi okunur). Her mod kendi H2 veritabanını
+ * bir kez kurar, sonra mevcut şema üzerinde tekrar tekrar açılır.
+ *
+ * Çalıştırmak için: mvn test -Dtest=SchemaStartupBenchmarkTests -Dbenchmark=true
+ */
+class SchemaStartupBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaStartupBenchmarkTests.class);
+
+    private static final int RUNS = 7;
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void compareStartup() {
+        String[] update = args("startup_update", "--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=update");
+        String[] flyway = args("startup_flyway", "--spring.jpa.hibernate.ddl-auto=none");
+
+        // Şemayı kur ve JIT'i ısıt
+        start(update);
+        start(flyway);
+
+        List<Long> updateTimes = new ArrayList<>();
+        List<Long> flywayTimes = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            updateTimes.add(start(update));
+            flywayTimes.add(start(flyway));
+        }
+        log.info("[benchmark] açılış ddl-auto=update medyan {} ms {}", median(updateTimes), updateTimes);
+        log.info("[benchmark] açılış flyway + none medyan {} ms {}", median(flywayTimes), flywayTimes);
+
+        // Flyway modu şema karşılaştırmasını atlar; açılışı update modundan yavaş olmamalı
+        assertThat(median(flywayTimes)).isLessThanOrEqualTo(median(updateTimes));
+    }
+
+    private static long start(String[] args) {
+        long started = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HrmanagementApplication.class)
+                .run(args)) {
+            return (System.nanoTime() - started) / 1_000_000;
+        }
+    }
+
+    private static String[] args(String database, String... extra) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:" + database
+                        + ";MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,MONTH,DAY,VALUE"));
+        Collections.addAll(args, extra);
+        return args.toArray(new String[0]);
+    }
+
+    private static long median(List<Long> times) {
+        List<Long> sorted = new ArrayList<>(times);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
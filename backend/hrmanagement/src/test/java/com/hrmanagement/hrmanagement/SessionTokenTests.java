@@ -0,0 +1,245 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.hrmanagement.config.SessionTokenFilter;
+import com.hrmanagement.dto.DtoEmployees;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.IAttandanceServices;
+import com.hrmanagement.services.IEmployeesServices;
+import com.hrmanagement.services.PasswordVerifier;
+import com.hrmanagement.services.SessionTokenService;
+import com.hrmanagement.services.SessionTokenService.Session;
+import com.hrmanagement.services.SessionTokenService.Type;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Girişte verilen imzalı token'ların doğrulanmasını, token ile gelen isteklerde yetki
+ * kontrolünün veritabanına gitmediğini, yenileme akışını ve BCrypt havuzunun sınırını doğrular.
+ */
+@SpringBootTest
+class SessionTokenTests {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private IEmployeesServices employeesServices;
+
+    @Autowired
+    private IAttandanceServices attandanceServices;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Employees hr;
+
+    @BeforeEach
+    void setUp() {
+        hr = employeesRepository.save(newEmployee(0, "İnsan Kaynakları", passwordEncoder.encode("gizli123")));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void loginIssuesTokensThatCarryIdentity() throws Exception {
+        DtoEmployees credentials = new DtoEmployees();
+        credentials.setEmail(hr.getEmail());
+        credentials.setPassword("gizli123");
+
+        DtoEmployees loggedIn = employeesServices.loginEmployees(credentials).get(5, TimeUnit.SECONDS);
+
+        assertThat(loggedIn.getPassword()).isNull();
+        Session session = sessionTokenService.verify(loggedIn.getAccessToken(), Type.ACCESS).orElseThrow();
+        assertThat(session.employeeId()).isEqualTo(hr.getId());
+        assertThat(session.department()).isEqualTo("İnsan Kaynakları");
+        assertThat(session.expiresAtEpochSecond()).isEqualTo(loggedIn.getAccessTokenExpiresAt());
+        // Yenileme token'ı erişim token'ı yerine kullanılamaz
+        assertThat(sessionTokenService.verify(loggedIn.getRefreshToken(), Type.ACCESS)).isEmpty();
+
+        credentials.setPassword("yanlis");
+        assertThat(employeesServices.loginEmployees(credentials).get(5, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void tamperedOrExpiredTokensAreRejected() {
+        Clock start = Clock.fixed(Instant.parse("2026-01-01T09:00:00Z"), ZoneOffset.UTC);
+        SessionTokenService issuer = new SessionTokenService("anahtar", 60, 600, start);
+        String token = issuer.issue(Type.ACCESS, 7L, Employees.Role.HR, "Yazılım");
+
+        assertThat(issuer.verify(token, Type.ACCESS)).get().extracting(Session::role).isEqualTo(Employees.Role.HR);
+        assertThat(new SessionTokenService("baska-anahtar", 60, 600, start).verify(token, Type.ACCESS)).isEmpty();
+        assertThat(issuer.verify("x" + token, Type.ACCESS)).isEmpty();
+        assertThat(issuer.verify("bozuk", Type.ACCESS)).isEmpty();
+
+        Clock later = Clock.offset(start, java.time.Duration.ofSeconds(60));
+        assertThat(new SessionTokenService("anahtar", 60, 600, later).verify(token, Type.ACCESS)).isEmpty();
+    }
+
+    @Test
+    void filterAuthenticatesBearerTokenAndRejectsInvalidOnes() throws Exception {
+        SessionTokenFilter filter = new SessionTokenFilter(sessionTokenService);
+        String token = sessionTokenService.issue(Type.ACCESS, hr.getId(), hr.getRole(), hr.getDepartment());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/attandance/delete/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+                .isInstanceOfSatisfying(Session.class, s -> assertThat(s.employeeId()).isEqualTo(hr.getId()));
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletRequest invalid = new MockHttpServletRequest("DELETE", "/api/attandance/delete/1");
+        invalid.addHeader("Authorization", "Bearer " + token + "x");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain rejectedChain = new MockFilterChain();
+        filter.doFilter(invalid, response, rejectedChain);
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(rejectedChain.getRequest()).isNull();
+
+        // Token'sız istek anonim olarak devam eder
+        MockFilterChain anonymousChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/employees/all"), new MockHttpServletResponse(),
+                anonymousChain);
+        assertThat(anonymousChain.getRequest()).isNotNull();
+
+        // Süresi dolmuş token'la giriş ve yenileme 401 almaz, anonim olarak devam eder
+        for (String path : List.of("/api/employees/login", "/api/employees/refresh")) {
+            MockHttpServletRequest auth = new MockHttpServletRequest("POST", path);
+            auth.addHeader("Authorization", "Bearer " + token + "x");
+            MockHttpServletResponse authResponse = new MockHttpServletResponse();
+            MockFilterChain authChain = new MockFilterChain();
+            filter.doFilter(auth, authResponse, authChain);
+            assertThat(authResponse.getStatus()).isEqualTo(200);
+            assertThat(authChain.getRequest()).isNotNull();
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+    }
+
+    @Test
+    void privilegedCallWithTokenCostsNoRequesterQuery() {
+        authenticate(hr);
+        statistics.clear();
+        // Olmayan kaydı silmek: yalnızca kayıt araması
+        attandanceServices.deleteRecord(-1L, hr.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // Token sahibi başka bir çalışanın kimliğiyle işlem yapamaz
+        Employees other = employeesRepository.save(newEmployee(1, "İnsan Kaynakları", "x"));
+        assertThatThrownBy(() -> attandanceServices.deleteRecord(-1L, other.getId()))
+                .hasMessageContaining("Kullanıcı bulunamadı");
+    }
+
+    @Test
+    void refreshIssuesNewPairWithCurrentDepartment() {
+        DtoEmployees request = new DtoEmployees();
+        request.setRefreshToken(sessionTokenService.issue(Type.REFRESH, hr.getId(), hr.getRole(), hr.getDepartment()));
+
+        hr.setDepartment("Yazılım");
+        employeesRepository.save(hr);
+
+        DtoEmployees refreshed = employeesServices.refreshSession(request);
+        assertThat(sessionTokenService.verify(refreshed.getAccessToken(), Type.ACCESS)).get()
+                .extracting(Session::department).isEqualTo("Yazılım");
+
+        request.setRefreshToken(refreshed.getAccessToken());
+        assertThatThrownBy(() -> employeesServices.refreshSession(request))
+                .hasMessageContaining("Oturum süresi dolmuş");
+    }
+
+    @Test
+    void saturatedVerifierRejectsInsteadOfQueueing() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        PasswordVerifier verifier = new PasswordVerifier(blocking, 1, 1);
+        try {
+            CompletableFuture<Boolean> running = verifier.matches("a", "a");
+            CompletableFuture<Boolean> queued = verifier.matches("a", "b");
+            CompletableFuture<Boolean> rejected = verifier.matches("a", "a");
+
+            assertThat(rejected).isCompletedExceptionally();
+            assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+            assertThat(verifier.rejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isFalse();
+        } finally {
+            release.countDown();
+            verifier.shutdown();
+        }
+    }
+
+    private void authenticate(Employees employee) {
+        Session session = sessionTokenService.verify(
+                sessionTokenService.issue(Type.ACCESS, employee.getId(), employee.getRole(), employee.getDepartment()),
+                Type.ACCESS).orElseThrow();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(session, null, java.util.List.of()));
+    }
+
+    private static Employees newEmployee(int i, String department, String password) {
+        Employees employee = TestFixtures.employee(61000000000L, i, "oturum");
+        employee.setDepartment(department);
+        employee.setPassword(password);
+        return employee;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hrmanagement.hrmanagement;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.AttendanceMonthlySummaryRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.repository.PayrolRepository;
+import com.hrmanagement.repository.PayrollRunChunkRepository;
+import com.hrmanagement.repository.PayrollRunRepository;
+
+/**
+ * Testlerin ortak veri yardımcıları: onaylı çalışan üretimi ve test sonrası temizlik.
+ * Her test sınıfı kendi tcNo aralığını (tcBase) ve e-posta önekini kullanır.
+ */
+@Component
+class TestFixtures {
+
+    @Autowired
+    private PayrollRunChunkRepository chunkRepository;
+
+    @Autowired
+    private PayrollRunRepository runRepository;
+
+    @Autowired
+    private PayrolRepository payrolRepository;
+
+    @Autowired
+    private AttendanceMonthlySummaryRepository summaryRepository;
+
+    @Autowired
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    /** Çalışanları ve onlara bağlı tüm kayıtları, yabancı anahtar sırasıyla siler. */
+    void deleteAll() {
+        chunkRepository.deleteAll();
+        runRepository.deleteAll();
+        payrolRepository.deleteAll();
+        summaryRepository.deleteAllRows();
+        attandanceRepository.deleteAll();
+        employeesRepository.deleteAll();
+    }
+
+    static Employees employee(long tcBase, int i, String emailPrefix) {
+        Employees employee = new Employees();
+        employee.setFirstname("Ad" + i);
+        employee.setLastname("Soyad" + i);
+        employee.setTcNo(String.format("%011d", tcBase + i));
+        employee.setPosition("Uzman");
+        employee.setDepartment("Yazılım");
+        employee.setEmail(emailPrefix + i + "@test.com");
+        employee.setPhoneNumber("5550000000");
+        employee.setPassword("x");
+        employee.setRole(Employees.Role.EMPLOYEE);
+        employee.setStatus(Employees.Status.APPROVED);
+        employee.setCreatedAt(LocalDateTime.now());
+        return employee;
+    }
+
+    static Employees employee(long tcBase, int i, String emailPrefix, String department, Employees.Role role) {
+        Employees employee = employee(tcBase, i, emailPrefix);
+        employee.setDepartment(department);
+        employee.setRole(role);
+        return employee;
+    }
+}
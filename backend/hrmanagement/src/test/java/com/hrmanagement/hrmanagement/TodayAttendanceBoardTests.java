@@ -0,0 +1,168 @@
+package com.hrmanagement.hrmanagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.hrmanagement.dto.DtoAttandance;
+import com.hrmanagement.entities.Attendance;
+import com.hrmanagement.entities.Employees;
+import com.hrmanagement.repository.AttandanceRepository;
+import com.hrmanagement.repository.EmployeesRepository;
+import com.hrmanagement.services.AttendanceChangedEvent;
+import com.hrmanagement.services.TodayAttendanceBoard;
+
+/**
+ * Bugünün panosunun yüklenmesini, olaylarla güncellenmesini, gün dönümünü ve ttl sonrası
+ * başka düğümün yazmalarını görmesini doğrular.
+ */
+@SpringBootTest
+class TodayAttendanceBoardTests {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 1);
+    private static final long TTL_SECONDS = 30;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private AttandanceRepository attandanceRepository;
+
+    @Autowired
+    private EmployeesRepository employeesRepository;
+
+    private final MutableClock clock = new MutableClock(DAY.atTime(10, 0).toInstant(ZoneOffset.UTC));
+    private TodayAttendanceBoard board;
+    private Employees alice;
+    private Employees bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = employeesRepository.save(newEmployee(1));
+        bob = employeesRepository.save(newEmployee(2));
+        board = new TodayAttendanceBoard(attandanceRepository, TTL_SECONDS, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    void loadsOnlyTodaySortedByCheckInDescending() {
+        save(alice, DAY, LocalTime.of(8, 30));
+        save(bob, DAY, LocalTime.of(9, 15));
+        save(alice, DAY.minusDays(1), LocalTime.of(8, 0));
+
+        assertThat(board.isCurrent(DAY)).isTrue();
+        assertThat(board.list()).extracting(DtoAttandance::getEmployeeId).containsExactly(bob.getId(), alice.getId());
+        assertThat(board.get(alice.getId()).getCheckInTime()).isEqualTo(LocalTime.of(8, 30));
+        assertThat(board.get(alice.getId()).getEmployeeName()).isEqualTo("Ad1 Soyad1");
+    }
+
+    @Test
+    void checkInCheckOutAndDeleteEventsUpdateTheBoard() {
+        board.reload();
+        Attendance in = save(alice, DAY, LocalTime.of(9, 0));
+        DtoAttandance checkIn = dto(in);
+        board.onAttendanceChanged(AttendanceChangedEvent.saved(checkIn, null));
+        assertThat(board.get(alice.getId()).getCheckOutTime()).isNull();
+
+        DtoAttandance checkOut = dto(in);
+        checkOut.setEmployeeName(null);
+        checkOut.setCheckOutTime(LocalTime.of(17, 0));
+        checkOut.setHoursWorked(8.0);
+        board.onAttendanceChanged(AttendanceChangedEvent.saved(checkOut, checkIn));
+        assertThat(board.get(alice.getId()).getCheckOutTime()).isEqualTo(LocalTime.of(17, 0));
+        // Olayda ad yoksa panodaki ad korunur
+        assertThat(board.get(alice.getId()).getEmployeeName()).isEqualTo("Ad1 Soyad1");
+
+        // Başka güne taşınan kayıt bugünün panosundan çıkar
+        DtoAttandance moved = dto(in);
+        moved.setDate(DAY.minusDays(1));
+        board.onAttendanceChanged(AttendanceChangedEvent.saved(moved, checkOut));
+        assertThat(board.get(alice.getId())).isNull();
+
+        board.onAttendanceChanged(AttendanceChangedEvent.saved(checkIn, null));
+        board.onAttendanceChanged(AttendanceChangedEvent.deleted(checkIn));
+        assertThat(board.list()).isEmpty();
+    }
+
+    @Test
+    void writesFromAnotherNodeAppearAfterTtl() {
+        assertThat(board.isCurrent(DAY)).isTrue();
+        // Olay yayınlanmadan yazılan kayıt: başka düğümün girişi
+        save(bob, DAY, LocalTime.of(9, 45));
+
+        clock.advance(Duration.ofSeconds(TTL_SECONDS - 1));
+        assertThat(board.isCurrent(DAY)).isTrue();
+        assertThat(board.get(bob.getId())).isNull();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(board.isCurrent(DAY)).isTrue();
+        assertThat(board.get(bob.getId()).getCheckInTime()).isEqualTo(LocalTime.of(9, 45));
+        assertThat(board.stats()).containsEntry("reloads", 2L).containsEntry("secondsSinceLoad", 0L);
+    }
+
+    @Test
+    void isCurrentGuardsOtherAndStaleDays() {
+        save(alice, DAY, LocalTime.of(9, 0));
+        assertThat(board.isCurrent(DAY)).isTrue();
+        assertThat(board.isCurrent(DAY.minusDays(1))).isFalse();
+        assertThat(board.isCurrent(DAY.plusDays(1))).isFalse();
+
+        // Gece yarısı geçti ama rollover henüz çalışmadı: dünün panosu bugüne sunulmaz
+        clock.advance(Duration.ofHours(14));
+        save(bob, DAY.plusDays(1), LocalTime.of(0, 5));
+        assertThat(board.isCurrent(DAY)).isFalse();
+        assertThat(board.isCurrent(DAY.plusDays(1))).isTrue();
+        assertThat(board.list()).extracting(DtoAttandance::getEmployeeId).containsExactly(bob.getId());
+    }
+
+    @Test
+    void rolloverLoadsTheNewDay() {
+        save(alice, DAY, LocalTime.of(9, 0));
+        board.reload();
+        clock.advance(Duration.ofHours(14));
+
+        board.rollover();
+        assertThat(board.stats()).containsEntry("date", DAY.plusDays(1)).containsEntry("size", 0);
+        // Dünün olayı yeni günün panosuna girmez
+        board.onAttendanceChanged(AttendanceChangedEvent.saved(dto(save(bob, DAY, LocalTime.of(10, 0))), null));
+        assertThat(board.isCurrent(DAY.plusDays(1))).isTrue();
+        assertThat(board.list()).isEmpty();
+    }
+
+    private Attendance save(Employees employee, LocalDate date, LocalTime checkIn) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployee(employee);
+        attendance.setDate(date);
+        attendance.setCheckInTime(checkIn);
+        attendance.setStatus("PRESENT");
+        return attandanceRepository.save(attendance);
+    }
+
+    private static DtoAttandance dto(Attendance attendance) {
+        DtoAttandance dto = new DtoAttandance();
+        dto.setId(attendance.getId());
+        dto.setDate(attendance.getDate());
+        dto.setCheckInTime(attendance.getCheckInTime());
+        dto.setEmployeeId(attendance.getEmployee().getId());
+        dto.setEmployeeName(attendance.getEmployee().getFirstname() + " " + attendance.getEmployee().getLastname());
+        dto.setStatus(attendance.getStatus());
+        return dto;
+    }
+
+    private static Employees newEmployee(int i) {
+        return TestFixtures.employee(69000000000L, i, "pano");
+    }
+}
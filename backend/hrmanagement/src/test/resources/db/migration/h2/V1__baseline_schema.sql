@@ -0,0 +1,128 @@
+-- Testlerin H2 (MySQL modu) veritabanı için db/migration/mysql/V1 karşılığı.
+-- Tablolar aynıdır; H2'de gerçek sequence olduğu için *_seq tabloları yerine sequence kullanılır.
+
+CREATE TABLE employees (
+    id BIGINT NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    tc_no VARCHAR(11) NOT NULL,
+    position VARCHAR(255) NOT NULL,
+    department VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role ENUM('ADMIN','EMPLOYEE','HR') NOT NULL,
+    status ENUM('APPROVED','PENDING','REJECTED') NOT NULL,
+    qr_code VARCHAR(255),
+    created_at DATETIME(6),
+    approved_at DATETIME(6),
+    approved_by BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employees_tc_no UNIQUE (tc_no),
+    CONSTRAINT uk_employees_email UNIQUE (email),
+    CONSTRAINT uk_employees_qr_code UNIQUE (qr_code)
+);
+
+CREATE TABLE attendance (
+    id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    check_in_time TIME(0),
+    check_out_time TIME(0),
+    status VARCHAR(255),
+    hours_worked FLOAT(53),
+    employee_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_attendance_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
+
+CREATE TABLE payrolls (
+    id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,
+    base_salary DECIMAL(19,2) NOT NULL,
+    total_work_hours DECIMAL(19,2) NOT NULL,
+    overtime_hours DECIMAL(19,2) NOT NULL,
+    overtime_pay DECIMAL(19,2) NOT NULL,
+    bonus DECIMAL(19,2) NOT NULL,
+    gross_salary DECIMAL(19,2) NOT NULL,
+    deductions DECIMAL(19,2) NOT NULL,
+    net_salary DECIMAL(19,2) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payrolls_employee_period UNIQUE (employee_id, year, month),
+    CONSTRAINT fk_payrolls_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
+
+CREATE TABLE reviews (
+    id BIGINT NOT NULL,
+    review_date DATE NOT NULL,
+    reviewer_name VARCHAR(255) NOT NULL,
+    comments VARCHAR(255) NOT NULL,
+    rating INTEGER,
+    employee_id BIGINT,
+    reviewer_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reviews_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
+
+CREATE TABLE attendance_monthly_summary (
+    id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,
+    total_hours DECIMAL(40,20) NOT NULL,
+    days_present INTEGER NOT NULL,
+    open_records INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_attendance_monthly_summary_period UNIQUE (employee_id, year, month)
+);
+
+CREATE TABLE payroll_runs (
+    id BIGINT NOT NULL,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,
+    status ENUM('COMPLETED','FAILED','RUNNING') NOT NULL,
+    base_salary DECIMAL(25,6),
+    bonus DECIMAL(25,6),
+    extra_deduction DECIMAL(25,6),
+    overtime_multiplier DECIMAL(25,6),
+    income_tax_rate DECIMAL(25,6),
+    standard_monthly_hours INTEGER NOT NULL,
+    chunk_count INTEGER NOT NULL,
+    employee_count INTEGER NOT NULL,
+    requested_by BIGINT,
+    created_at DATETIME(6),
+    finished_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE payroll_run_chunks (
+    id BIGINT NOT NULL,
+    run_id BIGINT NOT NULL,
+    chunk_index INTEGER NOT NULL,
+    first_employee_id BIGINT NOT NULL,
+    last_employee_id BIGINT NOT NULL,
+    status ENUM('DONE','FAILED','PENDING') NOT NULL,
+    processed_count INTEGER NOT NULL,
+    error VARCHAR(1000),
+    finished_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payroll_run_chunks_index UNIQUE (run_id, chunk_index)
+);
+
+CREATE TABLE scheduler_locks (
+    name VARCHAR(64) NOT NULL,
+    locked_until DATETIME(6) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE attendance_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE payrolls_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE reviews_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE attendance_monthly_summary_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE payroll_runs_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE payroll_run_chunks_seq START WITH 1 INCREMENT BY 50;
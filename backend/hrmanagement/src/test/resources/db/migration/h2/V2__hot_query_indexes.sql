@@ -0,0 +1,9 @@
+-- Testlerin H2 veritabanı için db/migration/mysql/V2 ile aynı indeksler.
+
+ALTER TABLE attendance ADD CONSTRAINT uk_attendance_employee_date UNIQUE (employee_id, date);
+
+CREATE INDEX idx_attendance_date_check_in ON attendance (date, check_in_time);
+
+CREATE INDEX idx_employees_status_created_at ON employees (status, created_at);
+
+CREATE INDEX idx_reviews_employee_id ON reviews (employee_id);
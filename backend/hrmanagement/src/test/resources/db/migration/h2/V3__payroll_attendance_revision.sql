@@ -0,0 +1,9 @@
+-- Testlerin H2 veritabanı için db/migration/mysql/V3 ile aynı kolonlar.
+
+ALTER TABLE attendance_monthly_summary ADD COLUMN revision BIGINT DEFAULT 1 NOT NULL;
+
+ALTER TABLE payrolls ADD COLUMN attendance_revision BIGINT;
+ALTER TABLE payrolls ADD COLUMN standard_monthly_hours INTEGER;
+ALTER TABLE payrolls ADD COLUMN overtime_multiplier DECIMAL(25,6);
+ALTER TABLE payrolls ADD COLUMN income_tax_rate DECIMAL(25,6);
+ALTER TABLE payrolls ADD COLUMN extra_deduction DECIMAL(25,6);
@@ -0,0 +1,11 @@
+-- Testlerin H2 veritabanı için db/migration/mysql/V4 ile aynı kolon ve doldurma.
+
+ALTER TABLE attendance_monthly_summary ADD COLUMN worked_seconds BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE attendance_monthly_summary s
+SET worked_seconds = (
+    SELECT COALESCE(SUM(ROUND(a.hours_worked * 3600)), 0)
+    FROM attendance a
+    WHERE a.employee_id = s.employee_id
+      AND EXTRACT(YEAR FROM a.date) = s.year AND EXTRACT(MONTH FROM a.date) = s.month
+);
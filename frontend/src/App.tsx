@@ -11,6 +11,7 @@ import Employees from './pages/Employees'
 import PendingApplications from './pages/PendingApplications'
 import Layout from './components/Layout'
 import { Employee } from './types'
+import { clearSession } from './services/api'
 
 function App() {
   // localStorage'dan başlangıç değerini oku
@@ -35,6 +36,7 @@ function App() {
   const handleLogout = () => {
     setEmployee(null)
     localStorage.removeItem('employee')
+    clearSession()
   }
 
   const updateEmployeeQr = (newQrCode: string) => {
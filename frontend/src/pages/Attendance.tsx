@@ -1,4 +1,4 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import { QRCodeSVG } from 'qrcode.react';
 import { Employee, Attendance as AttendanceType } from '../types';
 import { attendanceService } from '../services/attendanceService';
@@ -13,6 +13,7 @@ interface AttendanceProps {
 function Attendance({ employee, onQrUpdate }: AttendanceProps) {
   const [recentRecords, setRecentRecords] = useState<AttendanceType[]>([]);
   const [allRecords, setAllRecords] = useState<AttendanceType[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>(undefined);
   const [employees, setEmployees] = useState<Employee[]>([]);
   const [loading, setLoading] = useState(false);
   const [message, setMessage] = useState('');
@@ -40,6 +41,10 @@ function Attendance({ employee, onQrUpdate }: AttendanceProps) {
   const [filterEndDate, setFilterEndDate] = useState('');
   const [filterEmployeeId, setFilterEmployeeId] = useState<number | undefined>(undefined);
 
+  // App her render'da yeni callback verir; abonelik yeniden kurulmasın diye ref'te tutulur
+  const onQrUpdateRef = useRef(onQrUpdate);
+  onQrUpdateRef.current = onQrUpdate;
+
   const isHR = employee?.department === 'İnsan Kaynakları' || employee?.role === 'HR' || employee?.role === 'ADMIN';
 
   // Kalan süreyi hesapla (3 dakika = 180 saniye)
@@ -53,7 +58,7 @@ function Attendance({ employee, onQrUpdate }: AttendanceProps) {
     return 180;
   };
 
-  // QR kodunu her dakika yenile
+  // QR kodu sunucudan itilir: bağlanınca güncel kod, backend yeniledikçe yeni kod gelir
   useEffect(() => {
     if (!employee?.id) return;
 
@@ -61,46 +66,19 @@ function Attendance({ employee, onQrUpdate }: AttendanceProps) {
     const initialRemaining = calculateRemainingTime();
     setQrCountdown(initialRemaining);
 
-    const refreshQrCode = async () => {
-      try {
-        const updatedEmployee = await employeeService.regenerateQrCode(employee.id!);
-        if (updatedEmployee.qrCode) {
-          setCurrentQrCode(updatedEmployee.qrCode);
-          onQrUpdate?.(updatedEmployee.qrCode);
-          localStorage.setItem('qrLastRefresh', Date.now().toString());
-        }
-      } catch (err) {
-        console.log('QR kod yenilenemedi', err);
-      }
-    };
-
-    // Backend'den güncel QR kodunu al (sayfa açıldığında)
-    const fetchCurrentQr = async () => {
-      try {
-        const currentEmployee = await employeeService.getById(employee.id!);
-        if (currentEmployee.qrCode) {
-          setCurrentQrCode(currentEmployee.qrCode);
-          onQrUpdate?.(currentEmployee.qrCode);
-        }
-      } catch (err) {
-        console.log('Güncel QR alınamadı', err);
-      }
-    };
-
-    // Sayfa açıldığında güncel QR'ı al
-    fetchCurrentQr();
-
     // İlk yükleme: eğer localStorage'da kayıt yoksa başlat
     if (!localStorage.getItem('qrLastRefresh')) {
       localStorage.setItem('qrLastRefresh', Date.now().toString());
     }
 
-    // Her 3 dakika backend'den güncel QR'ı al (backend zaten yeniliyor)
-    const qrTimer = setInterval(() => {
-      fetchCurrentQr();
-      setQrCountdown(180);
-      localStorage.setItem('qrLastRefresh', Date.now().toString());
-    }, 180000);
+    const source = employeeService.subscribeQrCode(employee.id, (qrCode, rotated) => {
+      setCurrentQrCode(qrCode);
+      onQrUpdateRef.current?.(qrCode);
+      if (rotated) {
+        setQrCountdown(180);
+        localStorage.setItem('qrLastRefresh', Date.now().toString());
+      }
+    });
 
     // Geri sayım
     const countdownTimer = setInterval(() => {
@@ -108,10 +86,30 @@ function Attendance({ employee, onQrUpdate }: AttendanceProps) {
     }, 1000);
 
     return () => {
-      clearInterval(qrTimer);
+      source.close();
       clearInterval(countdownTimer);
     };
-  }, [employee?.id, onQrUpdate]);
+  }, [employee?.id]);
+
+  // Yedek: geri sayım bitince güncel kodu backend'den al. Akış sadece bağlı düğümün
+  // yenilemelerini iletir; kaçırılan bir yenileme en geç bir pencere sonra görünür.
+  useEffect(() => {
+    if (qrCountdown !== 0 || !employee?.id) return;
+
+    const fetchCurrentQr = async () => {
+      try {
+        const currentEmployee = await employeeService.getById(employee.id!);
+        if (currentEmployee.qrCode) {
+          setCurrentQrCode(currentEmployee.qrCode);
+          onQrUpdateRef.current?.(currentEmployee.qrCode);
+          localStorage.setItem('qrLastRefresh', Date.now().toString());
+        }
+      } catch (err) {
+        console.log('Güncel QR alınamadı', err);
+      }
+    };
+    fetchCurrentQr();
+  }, [qrCountdown, employee?.id]);
 
   // Employee QR değiştiğinde güncelle
   useEffect(() => {
@@ -163,19 +161,23 @@ function Attendance({ employee, onQrUpdate }: AttendanceProps) {
     }
   };
 
-  const loadAllRecords = async () => {
+  const loadAllRecords = async (cursor?: string) => {
     setLoading(true);
     try {
-      const data = await attendanceService.searchRecords({
+      const page = await attendanceService.searchRecords({
         employeeId: filterEmployeeId,
         employeeName: filterName || undefined,
         startDate: filterStartDate || undefined,
-        endDate: filterEndDate || undefined
+        endDate: filterEndDate || undefined,
+        cursor
       });
-      setAllRecords(data || []);
+      const rows = page?.content || [];
+      setAllRecords((prev) => (cursor ? [...prev, ...rows] : rows));
+      setNextCursor(page?.hasNext ? page.nextCursor : undefined);
     } catch (err) {
       console.log('Kayıtlar yüklenemedi', err);
       setAllRecords([]);
+      setNextCursor(undefined);
     } finally {
       setLoading(false);
     }
@@ -666,6 +668,17 @@ function Attendance({ employee, onQrUpdate }: AttendanceProps) {
               <button onClick={clearFilters} className="btn-clear">
                 🗑️ Temizle
               </button>
+              <a
+                className="btn-search"
+                href={attendanceService.exportUrl({
+                  requesterId: employee!.id!,
+                  format: 'csv',
+                  startDate: filterStartDate || undefined,
+                  endDate: filterEndDate || undefined
+                })}
+              >
+                ⬇️ CSV
+              </a>
             </div>
           </div>
 
@@ -723,6 +736,11 @@ function Attendance({ employee, onQrUpdate }: AttendanceProps) {
                     ))}
                   </tbody>
                 </table>
+                {nextCursor && (
+                  <button onClick={() => loadAllRecords(nextCursor)} className="btn-search">
+                    ⬇️ Daha Fazla Yükle
+                  </button>
+                )}
               </div>
             )}
           </div>
@@ -1,5 +1,5 @@
 import { useState, useEffect } from 'react';
-import { Employee, Payroll as PayrollType, PayrollGenerateRequest, Attendance } from '../types';
+import { Employee, Payroll as PayrollType, PayrollGenerateRequest, PayrollRun, Attendance } from '../types';
 import { payrollService } from '../services/payrollService';
 import { attendanceService } from '../services/attendanceService';
 import { employeeService } from '../services/employeeService';
@@ -25,6 +25,7 @@ function Payroll({ employee }: PayrollProps) {
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState('');
   const [successMessage, setSuccessMessage] = useState('');
+  const [payrollRun, setPayrollRun] = useState<PayrollRun | null>(null);
 
   // HR/Admin için çalışan listesi
   const [approvedEmployees, setApprovedEmployees] = useState<Employee[]>([]);
@@ -287,6 +288,44 @@ function Payroll({ employee }: PayrollProps) {
     }
   };
 
+  // Toplu bordro arka planda işlenir; bitene kadar durumu saniyede bir yokla
+  useEffect(() => {
+    if (!payrollRun?.active) return;
+    const timer = setTimeout(async () => {
+      try {
+        setPayrollRun(await payrollService.getRun(payrollRun.id));
+      } catch (err) {
+        console.error('Toplu bordro durumu alınamadı:', err);
+      }
+    }, 1000);
+    return () => clearTimeout(timer);
+  }, [payrollRun]);
+
+  const handleStartRun = async (resumeId?: number) => {
+    if (!employee?.id) return;
+
+    if (!resumeId && (!generateForm.baseSalary || generateForm.baseSalary <= 0)) {
+      setError('Lütfen taban maaş giriniz.');
+      return;
+    }
+
+    setError('');
+    try {
+      const run = resumeId
+        ? await payrollService.resumeRun(resumeId, employee.id)
+        : await payrollService.startRun(generateForm, employee.id);
+      setPayrollRun(run);
+    } catch (err: unknown) {
+      console.error('Toplu bordro hatası:', err);
+      let errorMessage = 'Toplu bordro başlatılamadı.';
+      if (err && typeof err === 'object' && 'response' in err) {
+        const axiosErr = err as { response?: { data?: { message?: string } } };
+        errorMessage = axiosErr.response?.data?.message || errorMessage;
+      }
+      setError(errorMessage);
+    }
+  };
+
   const formatCurrency = (value: number | undefined | null) => {
     const numValue = Number(value) || 0;
     return new Intl.NumberFormat('tr-TR', {
@@ -562,6 +601,36 @@ function Payroll({ employee }: PayrollProps) {
           <button onClick={handleGeneratePayroll} className="btn-success" disabled={loading}>
             {loading ? 'Isleniyor...' : 'Bordro Olustur'}
           </button>
+          <button
+            onClick={() => handleStartRun()}
+            className="btn-warning"
+            disabled={loading || !!payrollRun?.active}
+            style={{ marginLeft: '10px' }}
+          >
+            Tüm Çalışanlar İçin Oluştur
+          </button>
+
+          {payrollRun && (
+            <div className="info-box" style={{ marginTop: '15px', flexWrap: 'wrap' }}>
+              <span className="info-icon">📦</span>
+              <strong>Toplu bordro #{payrollRun.id}</strong> - {months[payrollRun.month - 1]} {payrollRun.year}:{' '}
+              {payrollRun.processedEmployees} / {payrollRun.employeeCount} çalışan
+              ({payrollRun.completedChunks} / {payrollRun.chunkCount} parça)
+              {payrollRun.active ? ' işleniyor...' : payrollRun.status === 'COMPLETED' ? ' tamamlandı.' : ' yarıda kaldı.'}
+              {payrollRun.errors.map((e) => (
+                <div key={e} className="negative">{e}</div>
+              ))}
+              {!payrollRun.active && payrollRun.status !== 'COMPLETED' && (
+                <button
+                  onClick={() => handleStartRun(payrollRun.id)}
+                  className="btn-secondary btn-small"
+                  style={{ marginLeft: '10px' }}
+                >
+                  Kaldığı Yerden Devam Et
+                </button>
+              )}
+            </div>
+          )}
         </div>
         )}
       </div>
@@ -1,4 +1,33 @@
-import axios from 'axios';
+import axios, { AxiosError, InternalAxiosRequestConfig } from 'axios';
+
+// Oturum token'ları; çalışan bilgisinden ayrı saklanır
+const SESSION_KEY = 'session';
+
+interface Session {
+  accessToken: string;
+  refreshToken: string;
+}
+
+export const saveSession = (accessToken?: string, refreshToken?: string) => {
+  if (accessToken && refreshToken) {
+    localStorage.setItem(SESSION_KEY, JSON.stringify({ accessToken, refreshToken }));
+  }
+};
+
+export const clearSession = () => {
+  localStorage.removeItem(SESSION_KEY);
+};
+
+const readSession = (): Session | null => {
+  const saved = localStorage.getItem(SESSION_KEY);
+  return saved ? JSON.parse(saved) : null;
+};
+
+// Oturum açan uçlar: eski/geçersiz token gönderilmez, 401 alınca yenileme denenmez
+const AUTH_PATHS = ['/employees/login', '/employees/register', '/employees/refresh'];
+
+const isAuthRequest = (config: InternalAxiosRequestConfig) =>
+  AUTH_PATHS.some((path) => config.url?.startsWith(path));
 
 const api = axios.create({
   baseURL: '/api',
@@ -12,6 +41,11 @@ const api = axios.create({
 // Request interceptor - cache'i devre dışı bırak
 api.interceptors.request.use(
   (config) => {
+    const session = readSession();
+    if (session && !isAuthRequest(config)) {
+      config.headers.Authorization = `Bearer ${session.accessToken}`;
+    }
+
     // GET isteklerinde cache'i önlemek için timestamp ekle
     if (config.method === 'get') {
       config.params = {
@@ -26,10 +60,43 @@ api.interceptors.request.use(
   }
 );
 
-// Response interceptor
+// Aynı anda 401 alan istekler tek bir yenileme isteğini bekler
+let refreshing: Promise<string | null> | null = null;
+
+const refreshAccessToken = (): Promise<string | null> => {
+  if (!refreshing) {
+    const session = readSession();
+    refreshing = (session
+      ? axios.post('/api/employees/refresh', { refreshToken: session.refreshToken })
+          .then((response) => {
+            saveSession(response.data.accessToken, response.data.refreshToken);
+            return response.data.accessToken as string;
+          })
+          .catch(() => {
+            clearSession();
+            return null;
+          })
+      : Promise.resolve(null)
+    ).finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+};
+
+// Response interceptor - erişim token'ı dolduysa bir kez yenileyip isteği tekrarla
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error: AxiosError) => {
+    const config = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+    if (error.response?.status === 401 && config && !config._retried && !isAuthRequest(config)) {
+      config._retried = true;
+      const accessToken = await refreshAccessToken();
+      if (accessToken) {
+        config.headers.Authorization = `Bearer ${accessToken}`;
+        return api(config);
+      }
+    }
     console.error('API Error:', error.response?.data || error.message);
     return Promise.reject(error);
   }
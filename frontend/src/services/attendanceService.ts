@@ -1,5 +1,5 @@
 import api from './api';
-import { Attendance } from '../types';
+import { Attendance, AttendancePage } from '../types';
 
 interface AttendanceRequest {
   employeeId: number;
@@ -77,11 +77,28 @@ export const attendanceService = {
     employeeName?: string;
     startDate?: string;
     endDate?: string;
-  }): Promise<Attendance[]> => {
+    cursor?: string;
+    size?: number;
+  }): Promise<AttendancePage> => {
     const response = await api.get('/attandance/search', { params });
     return response.data;
   },
 
+  // Dışa aktarım dosyası tarayıcı tarafından doğrudan indirilir (akış + gzip)
+  exportUrl: (params: {
+    requesterId: number;
+    format: 'csv' | 'ndjson';
+    startDate?: string;
+    endDate?: string;
+    department?: string;
+  }): string => {
+    const query = new URLSearchParams();
+    Object.entries(params).forEach(([key, value]) => {
+      if (value !== undefined && value !== '') query.append(key, String(value));
+    });
+    return `/api/attandance/export?${query.toString()}`;
+  },
+
   updateRecord: async (id: number, data: Partial<Attendance>, requesterId: number): Promise<Attendance> => {
     const response = await api.put(`/attandance/${id}`, data, { params: { requesterId } });
     return response.data;
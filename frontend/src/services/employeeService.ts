@@ -1,4 +1,4 @@
-import api from './api';
+import api, { saveSession } from './api';
 import { Employee } from '../types';
 
 export const employeeService = {
@@ -9,7 +9,13 @@ export const employeeService = {
 
   login: async (credentials: { email: string; password: string }): Promise<Employee> => {
     const response = await api.post('/employees/login', credentials);
-    return response.data;
+    if (!response.data) {
+      return response.data;
+    }
+    // Token'lar ayrı saklanır, çalışan bilgisiyle birlikte tutulmaz
+    const { accessToken, refreshToken, accessTokenExpiresAt, ...employee } = response.data;
+    saveSession(accessToken, refreshToken);
+    return employee;
   },
 
   getAll: async (): Promise<Employee[]> => {
@@ -60,4 +66,13 @@ export const employeeService = {
     const response = await api.post(`/employees/${id}/regenerate-qr`);
     return response.data;
   },
+
+  // Sunucu bağlanınca güncel kodu ("qr"), kod yenilendikçe yeni kodu ("rotated") iter.
+  // EventSource bağlantı koparsa kendisi yeniden bağlanır.
+  subscribeQrCode: (id: number, onCode: (qrCode: string, rotated: boolean) => void): EventSource => {
+    const source = new EventSource(`/api/employees/${id}/qr-stream`);
+    source.addEventListener('qr', (e) => onCode(JSON.parse((e as MessageEvent).data).qrCode, false));
+    source.addEventListener('rotated', (e) => onCode(JSON.parse((e as MessageEvent).data).qrCode, true));
+    return source;
+  },
 };
@@ -1,5 +1,5 @@
 import api from './api';
-import { Payroll, PayrollGenerateRequest } from '../types';
+import { Payroll, PayrollGenerateRequest, PayrollRun } from '../types';
 
 export const payrollService = {
   generate: async (request: PayrollGenerateRequest): Promise<Payroll> => {
@@ -32,4 +32,20 @@ export const payrollService = {
   delete: async (id: number, requesterId: number): Promise<void> => {
     await api.delete(`/payroll/${id}`, { params: { requesterId } });
   },
+
+  // Toplu bordro: dönemdeki tüm onaylı çalışanlar (employeeId yok sayılır)
+  startRun: async (request: PayrollGenerateRequest, requesterId: number): Promise<PayrollRun> => {
+    const response = await api.post('/payroll/runs', request, { params: { requesterId } });
+    return response.data;
+  },
+
+  getRun: async (id: number): Promise<PayrollRun> => {
+    const response = await api.get(`/payroll/runs/${id}`);
+    return response.data;
+  },
+
+  resumeRun: async (id: number, requesterId: number): Promise<PayrollRun> => {
+    const response = await api.post(`/payroll/runs/${id}/resume`, null, { params: { requesterId } });
+    return response.data;
+  },
 };
@@ -15,6 +15,10 @@ export interface Employee {
   createdAt?: string;
   approvedAt?: string;
   approvedBy?: number;
+  // Yalnızca giriş/yenileme yanıtında gelir
+  accessToken?: string;
+  refreshToken?: string;
+  accessTokenExpiresAt?: number;
 }
 
 // Attendance Types
@@ -30,6 +34,13 @@ export interface Attendance {
   newQrCode?: string; // Giriş/çıkış sonrası yeni QR kodu
 }
 
+export interface AttendancePage {
+  content: Attendance[];
+  size: number;
+  hasNext: boolean;
+  nextCursor?: string;
+}
+
 // Payroll Types
 export interface PayrollGenerateRequest {
   employeeId: number;
@@ -43,9 +54,26 @@ export interface PayrollGenerateRequest {
   baseSalary?: number;
 }
 
+export interface PayrollRun {
+  id: number;
+  year: number;
+  month: number;
+  status: 'RUNNING' | 'COMPLETED' | 'FAILED';
+  active: boolean;
+  employeeCount: number;
+  processedEmployees: number;
+  chunkCount: number;
+  completedChunks: number;
+  failedChunks: number;
+  errors: string[];
+  createdAt: string;
+  finishedAt?: string;
+}
+
 export interface Payroll {
   id: number;
-  employee: Employee;
+  employeeId: number;
+  employeeName: string;
   year: number;
   month: number;
   baseSalary: number;